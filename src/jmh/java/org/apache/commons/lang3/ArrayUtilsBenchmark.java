@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the most frequently used {@link ArrayUtils} methods.
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=ArrayUtilsBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class ArrayUtilsBenchmark {
+
+    /** The length of the input arrays. */
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private int[] ints;
+    private Integer[] objects;
+    private int[] removeIndices;
+    private int[] removeValues;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        ints = new int[size];
+        objects = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = random.nextInt(size);
+            objects[i] = Integer.valueOf(ints[i]);
+        }
+        final int toRemove = Math.max(1, size / 10);
+        removeIndices = new int[toRemove];
+        removeValues = new int[toRemove];
+        for (int i = 0; i < toRemove; i++) {
+            removeIndices[i] = random.nextInt(size);
+            removeValues[i] = ints[random.nextInt(size)];
+        }
+    }
+
+    @Benchmark
+    public int[] removeAll() {
+        return ArrayUtils.removeAll(ints, removeIndices);
+    }
+
+    @Benchmark
+    public int[] removeElements() {
+        return ArrayUtils.removeElements(ints, removeValues);
+    }
+
+    @Benchmark
+    public int[] insert() {
+        return ArrayUtils.insert(size / 2, ints, 1);
+    }
+
+    @Benchmark
+    public int[] addAll() {
+        return ArrayUtils.addAll(ints, removeValues);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return ArrayUtils.indexOf(ints, -1);
+    }
+
+    @Benchmark
+    public int[] toPrimitive() {
+        return ArrayUtils.toPrimitive(objects);
+    }
+
+    @Benchmark
+    public Integer[] toObject() {
+        return ArrayUtils.toObject(ints);
+    }
+
+    @Benchmark
+    public int[] subarray() {
+        return ArrayUtils.subarray(ints, size / 4, size / 2);
+    }
+}
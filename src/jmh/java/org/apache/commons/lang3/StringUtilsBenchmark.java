@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.text.StrReplacer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the most frequently used {@link StringUtils} methods.
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=StringUtilsBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class StringUtilsBenchmark {
+
+    /** The number of words in the input text. */
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    /** The number of search strings handed to replaceEach. */
+    @Param({"4", "256"})
+    public int keys;
+
+    private String text;
+    private String[] searchList;
+    private String[] replacementList;
+    private StrReplacer replacer;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        searchList = new String[keys];
+        replacementList = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            searchList[i] = "${key" + i + "}";
+            replacementList[i] = "value" + i;
+        }
+        final StringBuilder buf = new StringBuilder(size * 8);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                buf.append(' ');
+            }
+            if (random.nextInt(8) == 0) {
+                buf.append(searchList[random.nextInt(keys)]);
+            } else {
+                buf.append(RandomStringUtils.random(1 + random.nextInt(8), 0, 0, true, false, null, random));
+            }
+        }
+        text = buf.toString();
+        replacer = new StrReplacer(searchList, replacementList);
+    }
+
+    @Benchmark
+    public String[] split() {
+        return StringUtils.split(text);
+    }
+
+    @Benchmark
+    public String[] splitByWholeSeparator() {
+        return StringUtils.splitByWholeSeparator(text, " ");
+    }
+
+    @Benchmark
+    public String replace() {
+        return StringUtils.replace(text, searchList[0], replacementList[0]);
+    }
+
+    @Benchmark
+    public String replaceEach() {
+        return StringUtils.replaceEach(text, searchList, replacementList);
+    }
+
+    @Benchmark
+    public String replaceEachPrecompiled() {
+        return replacer.replace(text);
+    }
+
+    @Benchmark
+    public String join() {
+        return StringUtils.join(searchList, ',');
+    }
+
+    @Benchmark
+    public boolean isBlank() {
+        return StringUtils.isBlank(text);
+    }
+
+    @Benchmark
+    public int countMatches() {
+        return StringUtils.countMatches(text, ' ');
+    }
+
+    /**
+     * The crossover between the {@code indexOf} scans of {@link StringUtils#replaceEach(String, String[], String[])}
+     * and a {@link StrReplacer} built for each call, which it switches to for enough search strings
+     * and a long enough text with matches. Search strings and text are random lowercase words.
+     * Once past the thresholds of {@code StringUtils}, both benchmarks build a replacer, so the
+     * crossover is measured by running this with thresholds above the compared sizes.
+     */
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 10, time = 1)
+    @Fork(2)
+    @State(Scope.Benchmark)
+    public static class Crossover {
+
+        /** The length of the text. */
+        @Param({"64", "256", "1024", "4096", "16384"})
+        public int length;
+
+        /** The number of search strings. */
+        @Param({"2", "4", "8", "16", "64"})
+        public int keys;
+
+        /** One word in how many is a search string, 0 for none. */
+        @Param({"0", "100", "3"})
+        public int matchEvery;
+
+        private String text;
+        private String[] searchList;
+        private String[] replacementList;
+
+        @Setup
+        public void setUp() {
+            final Random random = new Random(42);
+            searchList = new String[keys];
+            replacementList = new String[keys];
+            for (int i = 0; i < keys; i++) {
+                searchList[i] = word(random, 4 + random.nextInt(5));
+                replacementList[i] = word(random, 3 + random.nextInt(6)).toUpperCase();
+            }
+            final StringBuilder buf = new StringBuilder(length + 16);
+            while (buf.length() < length) {
+                if (matchEvery > 0 && random.nextInt(matchEvery) == 0) {
+                    buf.append(searchList[random.nextInt(keys)]);
+                } else {
+                    buf.append(word(random, 2 + random.nextInt(8)));
+                }
+                buf.append(' ');
+            }
+            text = buf.substring(0, length);
+        }
+
+        private static String word(final Random random, final int length) {
+            return RandomStringUtils.random(length, 'a', 'z' + 1, false, false, null, random);
+        }
+
+        @Benchmark
+        public String replaceEach() {
+            return StringUtils.replaceEach(text, searchList, replacementList);
+        }
+
+        @Benchmark
+        public String replaceEachWithNewReplacer() {
+            return new StrReplacer(searchList, replacementList).replace(text);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the reflection based builders: {@link EqualsBuilder},
+ * {@link HashCodeBuilder}, {@link CompareToBuilder} and {@link ReflectionToStringBuilder}.
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=ReflectionBuildersBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class ReflectionBuildersBenchmark {
+
+    /** The number of linked beans in the object graph. */
+    @Param({"1", "100"})
+    public int depth;
+
+    private Bean left;
+    private Bean right;
+
+    static class Base {
+        long id;
+        String name;
+        transient int cachedHash;
+    }
+
+    static class Bean extends Base implements Comparable<Bean> {
+        int count;
+        double amount;
+        boolean active;
+        char code;
+        int[] values;
+        Bean next;
+
+        @Override
+        public int compareTo(final Bean other) {
+            // lets reflectionCompare follow next instead of failing on a non comparable field
+            return CompareToBuilder.reflectionCompare(this, other);
+        }
+    }
+
+    private static Bean createGraph(final int depth) {
+        Bean head = null;
+        for (int i = 0; i < depth; i++) {
+            final Bean bean = new Bean();
+            bean.id = i;
+            bean.name = "bean" + i;
+            bean.count = i * 31;
+            bean.amount = i / 3.0;
+            bean.active = (i & 1) == 0;
+            bean.code = (char) ('a' + i % 26);
+            bean.values = new int[] {i, i + 1, i + 2, i + 3};
+            bean.next = head;
+            head = bean;
+        }
+        return head;
+    }
+
+    @Setup
+    public void setUp() {
+        left = createGraph(depth);
+        right = createGraph(depth);
+    }
+
+    @Benchmark
+    public int reflectionHashCode() {
+        return HashCodeBuilder.reflectionHashCode(left);
+    }
+
+    @Benchmark
+    public int reflectionHashCodeCompiled() {
+        return HashCodeBuilder.reflectionHashCode(17, 37, left, false, null, true);
+    }
+
+    @Benchmark
+    public boolean reflectionEquals() {
+        return EqualsBuilder.reflectionEquals(left, right);
+    }
+
+    @Benchmark
+    public boolean reflectionEqualsCompiled() {
+        return new EqualsBuilder().setCompiledReflection(true).reflectionAppend(left, right).isEquals();
+    }
+
+    @Benchmark
+    public boolean reflectionEqualsRecursive() {
+        return new EqualsBuilder().setTestRecursive(true).reflectionAppend(left, right).isEquals();
+    }
+
+    @Benchmark
+    public int reflectionCompare() {
+        return CompareToBuilder.reflectionCompare(left, right);
+    }
+
+    @Benchmark
+    public String reflectionToString() {
+        return ToStringBuilder.reflectionToString(left);
+    }
+
+    @Benchmark
+    public String reflectionToStringRecursive() {
+        return ReflectionToStringBuilder.toString(left, new RecursiveToStringStyle());
+    }
+
+    @Benchmark
+    public String toStringBuilder() {
+        return new ToStringBuilder(left)
+                .append("id", left.id)
+                .append("name", left.name)
+                .append("count", left.count)
+                .append("amount", left.amount)
+                .append("active", left.active)
+                .append("values", left.values)
+                .toString();
+    }
+}
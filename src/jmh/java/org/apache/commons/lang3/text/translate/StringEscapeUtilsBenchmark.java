@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text.translate;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the {@link CharSequenceTranslator}s used by {@link StringEscapeUtils}.
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=StringEscapeUtilsBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class StringEscapeUtilsBenchmark {
+
+    private static final String SPECIALS = "<>&\"'\u00e9 \\\n\t";
+
+    /** The length of the input text. */
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    /** Out of how many characters one needs escaping, 0 for none. */
+    @Param({"0", "20"})
+    public int specialRatio;
+
+    private String plain;
+    private String escapedHtml;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final StringBuilder buf = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            if (specialRatio > 0 && random.nextInt(specialRatio) == 0) {
+                buf.append(SPECIALS.charAt(random.nextInt(SPECIALS.length())));
+            } else {
+                buf.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        plain = buf.toString();
+        escapedHtml = StringEscapeUtils.escapeHtml4(plain);
+    }
+
+    @Benchmark
+    public String escapeHtml4() {
+        return StringEscapeUtils.escapeHtml4(plain);
+    }
+
+    @Benchmark
+    public String unescapeHtml4() {
+        return StringEscapeUtils.unescapeHtml4(escapedHtml);
+    }
+
+    @Benchmark
+    public String escapeXml10() {
+        return StringEscapeUtils.escapeXml10(plain);
+    }
+
+    @Benchmark
+    public String escapeJava() {
+        return StringEscapeUtils.escapeJava(plain);
+    }
+
+    @Benchmark
+    public String escapeJson() {
+        return StringEscapeUtils.escapeJson(plain);
+    }
+
+    @Benchmark
+    public String escapeCsv() {
+        return StringEscapeUtils.escapeCsv(plain);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for {@link FastDateFormat}.
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=FastDateFormatBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class FastDateFormatBenchmark {
+
+    /** The pattern, without commas as JMH 1.19 splits parameter values on them. */
+    @Param({"yyyy-MM-dd'T'HH:mm:ss.SSSZ", "yyyyMMddHHmmssSSS", "EEE dd MMM yyyy HH:mm:ss zzz"})
+    public String pattern;
+
+    @Param({"UTC", "America/New_York"})
+    public String timeZone;
+
+    private FastDateFormat format;
+    private long millis;
+    private String formatted;
+
+    @Setup
+    public void setUp() {
+        format = FastDateFormat.getInstance(pattern, TimeZone.getTimeZone(timeZone), Locale.US);
+        millis = 1480000000123L;
+        formatted = format.format(millis);
+    }
+
+    @Benchmark
+    public String formatMillis() {
+        return format.format(millis);
+    }
+
+    @Benchmark
+    public Date parse() throws ParseException {
+        return format.parse(formatted);
+    }
+
+    @Benchmark
+    public FastDateFormat getInstance() {
+        return FastDateFormat.getInstance(pattern, TimeZone.getTimeZone(timeZone), Locale.US);
+    }
+}
@@ -270,6 +270,21 @@ public int translate(final CharSequence input, final int index, final Writer out
             }
             return Character.codePointCount(input, 0, input.length());
         }
+
+        @Override
+        protected int translatableIndex(final CharSequence input, final int index, final int end) {
+            // the input is translated as a whole, and left alone without any of the search chars
+            if (index == 0 && end == input.length() && StringUtils.containsNone(input, CSV_SEARCH_CHARS)) {
+                return end;
+            }
+            return index;
+        }
+
+        @Override
+        protected int lookahead() {
+            // the input is translated as a whole
+            return -1;
+        }
     }
 
     /* UNESCAPE TRANSLATORS */
@@ -411,6 +426,12 @@ public int translate(final CharSequence input, final int index, final Writer out
             }
             return Character.codePointCount(input, 0, input.length());
         }
+
+        @Override
+        protected int lookahead() {
+            // the input is translated as a whole
+            return -1;
+        }
     }
 
     /* Helper functions */
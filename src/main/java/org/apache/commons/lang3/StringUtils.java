@@ -27,6 +27,8 @@
 import java.util.Objects;
 import java.util.regex.Pattern;
 
+import org.apache.commons.lang3.text.StrReplacer;
+
 /**
  * <p>Operations on {@link java.lang.String} that are
  * {@code null} safe.</p>
@@ -173,6 +175,27 @@ public class StringUtils {
      */
     private static final int PAD_LIMIT = 8192;
 
+    /**
+     * <p>The minimum text length from which {@link #replaceEach(String, String[], String[])}
+     * compiles the search strings into a {@link StrReplacer} once a match is found, rather
+     * than scanning the text for each of them after each match.</p>
+     *
+     * <p>Chosen with {@code StringUtilsBenchmark.Crossover}, comparing the scans with a
+     * replacer built for each call: with 4 or more search strings, the replacer was
+     * 1.5 to 4 times faster on texts of 4096 characters and more, while on texts of 1024
+     * characters with few matches the scans were up to twice as fast.</p>
+     */
+    private static final int REPLACE_EACH_AUTOMATON_TEXT_LENGTH = 4096;
+
+    /**
+     * <p>The minimum number of search strings from which {@link #replaceEach(String, String[], String[])}
+     * compiles them into a {@link StrReplacer}.</p>
+     *
+     * <p>Chosen with {@code StringUtilsBenchmark.Crossover}: with 2 search strings, the
+     * scans and the replacer were about as fast on texts of 4096 characters.</p>
+     */
+    private static final int REPLACE_EACH_AUTOMATON_SEARCH_LENGTH = 4;
+
     /**
      * <p>{@code StringUtils} instances should NOT be constructed in
      * standard programming. Instead, the class should be used as
@@ -5498,6 +5521,11 @@ public static String replaceIgnoreCase(final String text, final String searchStr
      * overloaded method.
      * </p>
      *
+     * <p>
+     * To replace the same search strings in many texts, build a
+     * {@link StrReplacer} once instead.
+     * </p>
+     *
      * <pre>
      *  StringUtils.replaceEach(null, *, *)        = null
      *  StringUtils.replaceEach("", *, *)          = ""
@@ -5690,6 +5718,15 @@ private static String replaceEach(
             return text;
         }
 
+        if (searchLength >= REPLACE_EACH_AUTOMATON_SEARCH_LENGTH && text.length() >= REPLACE_EACH_AUTOMATON_TEXT_LENGTH) {
+            // a single pass over the text, rather than a scan per search string after each match
+            final String result = new StrReplacer(searchList, replacementList).replace(text);
+            if (!repeat) {
+                return result;
+            }
+            return replaceEach(result, searchList, replacementList, repeat, timeToLive - 1);
+        }
+
         int start = 0;
 
         // get a good guess on the size of the result buffer so it doesn't have to double if it goes over a bit
@@ -16,13 +16,10 @@
  */
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Comparator;
 
-import org.apache.commons.lang3.ArrayUtils;
 
 /** 
  * Assists in implementing {@link java.lang.Comparable#compareTo(Object)} methods.
@@ -285,28 +282,26 @@ public static int reflectionCompare(
         if (lhs == null || rhs == null) {
             throw new NullPointerException();
         }
-        Class<?> lhsClazz = lhs.getClass();
+        final Class<?> lhsClazz = lhs.getClass();
         if (!lhsClazz.isInstance(rhs)) {
             throw new ClassCastException();
         }
         final CompareToBuilder compareToBuilder = new CompareToBuilder();
-        reflectionAppend(lhs, rhs, lhsClazz, compareToBuilder, compareTransients, excludeFields);
-        while (lhsClazz.getSuperclass() != null && lhsClazz != reflectUpToClass) {
-            lhsClazz = lhsClazz.getSuperclass();
-            reflectionAppend(lhs, rhs, lhsClazz, compareToBuilder, compareTransients, excludeFields);
-        }
+        reflectionAppend(lhs, rhs, lhsClazz, compareToBuilder, compareTransients, reflectUpToClass, excludeFields);
         return compareToBuilder.toComparison();
     }
 
     /**
      * <p>Appends to <code>builder</code> the comparison of <code>lhs</code>
-     * to <code>rhs</code> using the fields defined in <code>clazz</code>.</p>
+     * to <code>rhs</code> using the fields defined in <code>clazz</code>
+     * and its superclasses up to <code>reflectUpToClass</code>.</p>
      * 
      * @param lhs  left-hand object
      * @param rhs  right-hand object
      * @param clazz  <code>Class</code> that defines fields to be compared
      * @param builder  <code>CompareToBuilder</code> to append to
      * @param useTransients  whether to compare transient fields
+     * @param reflectUpToClass  last superclass for which fields are compared
      * @param excludeFields  fields to exclude
      */
     private static void reflectionAppend(
@@ -315,23 +310,19 @@ private static void reflectionAppend(
         final Class<?> clazz,
         final CompareToBuilder builder,
         final boolean useTransients,
+        final Class<?> reflectUpToClass,
         final String[] excludeFields) {
         
-        final Field[] fields = clazz.getDeclaredFields();
-        AccessibleObject.setAccessible(fields, true);
+        final Field[] fields = ReflectionFieldCache.getFields(clazz, reflectUpToClass, useTransients, false,
+                excludeFields, null);
         for (int i = 0; i < fields.length && builder.comparison == 0; i++) {
             final Field f = fields[i];
-            if (!ArrayUtils.contains(excludeFields, f.getName())
-                && !f.getName().contains("$")
-                && (useTransients || !Modifier.isTransient(f.getModifiers()))
-                && !Modifier.isStatic(f.getModifiers())) {
-                try {
-                    builder.append(f.get(lhs), f.get(rhs));
-                } catch (final IllegalAccessException e) {
-                    // This can't happen. Would get a Security exception instead.
-                    // Throw a runtime exception in case the impossible happens.
-                    throw new InternalError("Unexpected IllegalAccessException");
-                }
+            try {
+                builder.append(f.get(lhs), f.get(rhs));
+            } catch (final IllegalAccessException e) {
+                // This can't happen. Would get a Security exception instead.
+                // Throw a runtime exception in case the impossible happens.
+                throw new InternalError("Unexpected IllegalAccessException");
             }
         }
     }
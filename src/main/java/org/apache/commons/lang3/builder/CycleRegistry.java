@@ -0,0 +1,358 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>
+ * The registry of objects being traversed, used by the reflection methods of
+ * {@link EqualsBuilder}, {@link HashCodeBuilder} and {@link ToStringStyle}
+ * to detect cyclical object references and avoid infinite loops.
+ * </p>
+ *
+ * <p>
+ * Entries are single objects or pairs of objects (<code>right</code> is
+ * <code>null</code> for single objects). They are kept in arrays in the order
+ * they were added; as traversals are nested, the entry to remove is almost
+ * always the last one. Lookups scan the arrays, which allocates nothing and is
+ * faster than hashing for the shallow object graphs seen in practice. Once more
+ * than {@link #INDEX_THRESHOLD} entries are registered, a hash set of the
+ * entries is built and used for lookups as well, so deep graphs are not
+ * traversed in quadratic time.
+ * </p>
+ *
+ * <p>
+ * An identity registry matches objects with <code>==</code>, which cannot be
+ * fooled by the <code>hashCode()</code> or <code>equals()</code> methods being
+ * computed. An equality registry matches objects with <code>hashCode()</code>
+ * and <code>equals()</code>, like a <code>HashMap</code> does.
+ * </p>
+ *
+ * <p>
+ * Adding an entry which is already registered and removing an entry which is
+ * not registered do nothing, so the registry behaves like a set.
+ * </p>
+ *
+ * <p>
+ * A registry only lives while a traversal is in progress: the builders discard
+ * it once its last entry is removed, so a thread does not hold on to it, or to
+ * the objects it references, between traversals.
+ * </p>
+ *
+ * <p>#NotThreadSafe#</p>
+ * @since 3.6
+ */
+final class CycleRegistry {
+
+    /**
+     * The number of entries above which lookups use a hash set.
+     */
+    static final int INDEX_THRESHOLD = 16;
+
+    /**
+     * Whether objects are matched by identity, or else by equality.
+     */
+    private final boolean identity;
+
+    /**
+     * The left objects, or single objects, of the entries.
+     */
+    private Object[] lefts = new Object[INDEX_THRESHOLD];
+
+    /**
+     * The right objects of the entries, <code>null</code> for single objects.
+     */
+    private Object[] rights = new Object[INDEX_THRESHOLD];
+
+    /**
+     * The hash codes of the left objects, only used by equality registries.
+     */
+    private int[] hashes;
+
+    /**
+     * The number of entries.
+     */
+    private int size;
+
+    /**
+     * The hash set of the entries, <code>null</code> while there are few entries.
+     * Holds {@link IdentityPair}s for identity registries and the objects
+     * themselves for equality registries.
+     */
+    private Set<Object> index;
+
+    /**
+     * <p>
+     * Constructor.
+     * </p>
+     *
+     * @param identity whether objects are matched by identity, or else by equality
+     */
+    private CycleRegistry(final boolean identity) {
+        this.identity = identity;
+        if (!identity) {
+            hashes = new int[INDEX_THRESHOLD];
+        }
+    }
+
+    /**
+     * <p>
+     * Creates a registry that matches objects by identity.
+     * </p>
+     *
+     * @return a new empty registry
+     */
+    static CycleRegistry identityRegistry() {
+        return new CycleRegistry(true);
+    }
+
+    /**
+     * <p>
+     * Creates a registry that matches single objects by equality.
+     * </p>
+     *
+     * @return a new empty registry
+     */
+    static CycleRegistry equalityRegistry() {
+        return new CycleRegistry(false);
+    }
+
+    /**
+     * <p>
+     * Returns the number of entries.
+     * </p>
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * <p>
+     * Returns <code>true</code> if there are no entries.
+     * </p>
+     *
+     * @return whether the registry is empty
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * <p>
+     * Returns the left object, or single object, of an entry.
+     * </p>
+     *
+     * @param i the position of the entry, in the order they were added
+     * @return the object
+     */
+    Object getLeft(final int i) {
+        return lefts[i];
+    }
+
+    /**
+     * <p>
+     * Returns the right object of an entry.
+     * </p>
+     *
+     * @param i the position of the entry, in the order they were added
+     * @return the object, <code>null</code> for single objects
+     */
+    Object getRight(final int i) {
+        return rights[i];
+    }
+
+    /**
+     * <p>
+     * Returns <code>true</code> if the registry contains the given object.
+     * </p>
+     *
+     * @param value the object to lookup
+     * @return whether the object is registered
+     */
+    boolean contains(final Object value) {
+        return contains(value, null);
+    }
+
+    /**
+     * <p>
+     * Returns <code>true</code> if the registry contains the given pair of objects.
+     * </p>
+     *
+     * @param left the left object
+     * @param right the right object
+     * @return whether the pair is registered
+     */
+    boolean contains(final Object left, final Object right) {
+        if (index != null) {
+            return index.contains(identity ? new IdentityPair(left, right) : left);
+        }
+        return indexOf(left, right) >= 0;
+    }
+
+    /**
+     * <p>
+     * Registers the given object, unless it is already registered.
+     * </p>
+     *
+     * @param value the object to register
+     */
+    void add(final Object value) {
+        add(value, null);
+    }
+
+    /**
+     * <p>
+     * Registers the given pair of objects, unless it is already registered.
+     * </p>
+     *
+     * @param left the left object
+     * @param right the right object
+     */
+    void add(final Object left, final Object right) {
+        if (contains(left, right)) {
+            return;
+        }
+        if (size == lefts.length) {
+            final int capacity = size * 2;
+            lefts = Arrays.copyOf(lefts, capacity);
+            rights = Arrays.copyOf(rights, capacity);
+            if (hashes != null) {
+                hashes = Arrays.copyOf(hashes, capacity);
+            }
+        }
+        lefts[size] = left;
+        rights[size] = right;
+        if (hashes != null) {
+            hashes[size] = left.hashCode();
+        }
+        size++;
+        if (index != null) {
+            index.add(identity ? new IdentityPair(left, right) : left);
+        } else if (size > INDEX_THRESHOLD) {
+            index = new HashSet<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                index.add(identity ? new IdentityPair(lefts[i], rights[i]) : lefts[i]);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Unregisters the given object, if it is registered.
+     * </p>
+     *
+     * @param value the object to unregister
+     */
+    void remove(final Object value) {
+        remove(value, null);
+    }
+
+    /**
+     * <p>
+     * Unregisters the given pair of objects, if it is registered.
+     * </p>
+     *
+     * @param left the left object
+     * @param right the right object
+     */
+    void remove(final Object left, final Object right) {
+        final int i = indexOf(left, right);
+        if (i < 0) {
+            return;
+        }
+        size--;
+        if (i < size) {
+            // not the last entry, rare as traversals are nested
+            System.arraycopy(lefts, i + 1, lefts, i, size - i);
+            System.arraycopy(rights, i + 1, rights, i, size - i);
+            if (hashes != null) {
+                System.arraycopy(hashes, i + 1, hashes, i, size - i);
+            }
+        }
+        lefts[size] = null;
+        rights[size] = null;
+        if (index != null) {
+            if (size > INDEX_THRESHOLD / 2) {
+                index.remove(identity ? new IdentityPair(left, right) : left);
+            } else {
+                index = null;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Finds the position of an entry, searching from the last one added.
+     * </p>
+     *
+     * @param left the left object
+     * @param right the right object
+     * @return the position, or -1 if not registered
+     */
+    private int indexOf(final Object left, final Object right) {
+        if (identity) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (lefts[i] == left && rights[i] == right) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        if (left == null) {
+            return -1;
+        }
+        final int hash = left.hashCode();
+        for (int i = size - 1; i >= 0; i--) {
+            if (hashes[i] == hash && (lefts[i] == left || left.equals(lefts[i]))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A pair of objects compared by identity, for the hash set of identity registries.
+     */
+    private static final class IdentityPair {
+        private final Object left;
+        private final Object right;
+
+        IdentityPair(final Object left, final Object right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(left) + System.identityHashCode(right);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof IdentityPair)) {
+                return false;
+            }
+            final IdentityPair other = (IdentityPair) obj;
+            return left == other.left && right == other.right;
+        }
+    }
+}
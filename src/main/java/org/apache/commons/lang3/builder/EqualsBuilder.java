@@ -16,14 +16,11 @@
  */
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -93,23 +90,19 @@ public class EqualsBuilder implements Builder<Boolean> {
      *
      * @since 3.0
      */
-    private static final ThreadLocal<Set<Pair<IDKey, IDKey>>> REGISTRY = new ThreadLocal<>();
+    private static final ThreadLocal<CycleRegistry> REGISTRY = new ThreadLocal<>();
 
     /*
      * NOTE: we cannot store the actual objects in a HashSet, as that would use the very hashCode()
      * we are in the process of calculating.
      *
-     * So we generate a one-to-one mapping from the original object to a new object.
-     *
-     * Now HashSet uses equals() to determine if two elements with the same hash code really
-     * are equal, so we also need to ensure that the replacement objects are only equal
-     * if the original objects are identical.
-     *
      * The original implementation (2.4 and before) used the System.identityHashCode()
      * method - however this is not guaranteed to generate unique ids (e.g. LANG-459)
      *
-     * We now use the IDKey helper class (adapted from org.apache.axis.utils.IDKey)
-     * to disambiguate the duplicate ids.
+     * Up to 3.5 the objects were wrapped in the IDKey helper class (adapted from
+     * org.apache.axis.utils.IDKey) to disambiguate the duplicate ids. We now use an
+     * identity CycleRegistry, which compares the objects with == and only allocates
+     * when the object graph is deep.
      */
 
     /**
@@ -118,11 +111,23 @@ public class EqualsBuilder implements Builder<Boolean> {
      * methods in the current thread.
      * </p>
      *
-     * @return Set the registry of objects being traversed
+     * <p>
+     * The returned set is a snapshot, changing it does not change the registry.
+     * </p>
+     *
+     * @return Set the registry of objects being traversed, <code>null</code> if empty
      * @since 3.0
      */
     static Set<Pair<IDKey, IDKey>> getRegistry() {
-        return REGISTRY.get();
+        final CycleRegistry registry = REGISTRY.get();
+        if (registry == null) {
+            return null;
+        }
+        final Set<Pair<IDKey, IDKey>> pairs = new HashSet<>();
+        for (int i = 0; i < registry.size(); i++) {
+            pairs.add(getRegisterPair(registry.getLeft(i), registry.getRight(i)));
+        }
+        return pairs;
     }
 
     /**
@@ -145,8 +150,7 @@ static Pair<IDKey, IDKey> getRegisterPair(final Object lhs, final Object rhs) {
      * <p>
      * Returns <code>true</code> if the registry contains the given object pair.
      * Used by the reflection methods to avoid infinite loops.
-     * Objects might be swapped therefore a check is needed if the object pair
-     * is registered in given or swapped order.
+     * The pair is looked up in the given order.
      * </p>
      *
      * @param lhs <code>this</code> object to lookup in registry
@@ -155,12 +159,8 @@ static Pair<IDKey, IDKey> getRegisterPair(final Object lhs, final Object rhs) {
      * @since 3.0
      */
     static boolean isRegistered(final Object lhs, final Object rhs) {
-        final Set<Pair<IDKey, IDKey>> registry = getRegistry();
-        final Pair<IDKey, IDKey> pair = getRegisterPair(lhs, rhs);
-        final Pair<IDKey, IDKey> swappedPair = Pair.of(pair.getLeft(), pair.getRight());
-
-        return registry != null
-                && (registry.contains(pair) || registry.contains(swappedPair));
+        final CycleRegistry registry = REGISTRY.get();
+        return registry != null && registry.contains(lhs, rhs);
     }
 
     /**
@@ -173,13 +173,12 @@ static boolean isRegistered(final Object lhs, final Object rhs) {
      * @param rhs the other object to register
      */
     private static void register(final Object lhs, final Object rhs) {
-        Set<Pair<IDKey, IDKey>> registry = getRegistry();
+        CycleRegistry registry = REGISTRY.get();
         if (registry == null) {
-            registry = new HashSet<>();
+            registry = CycleRegistry.identityRegistry();
             REGISTRY.set(registry);
         }
-        final Pair<IDKey, IDKey> pair = getRegisterPair(lhs, rhs);
-        registry.add(pair);
+        registry.add(lhs, rhs);
     }
 
     /**
@@ -195,10 +194,9 @@ private static void register(final Object lhs, final Object rhs) {
      * @since 3.0
      */
     private static void unregister(final Object lhs, final Object rhs) {
-        final Set<Pair<IDKey, IDKey>> registry = getRegistry();
+        final CycleRegistry registry = REGISTRY.get();
         if (registry != null) {
-            final Pair<IDKey, IDKey> pair = getRegisterPair(lhs, rhs);
-            registry.remove(pair);
+            registry.remove(lhs, rhs);
             if (registry.isEmpty()) {
                 REGISTRY.remove();
             }
@@ -215,6 +213,7 @@ private static void unregister(final Object lhs, final Object rhs) {
     private boolean testRecursive = false;
     private Class<?> reflectUpToClass = null;
     private String[] excludeFields = null;
+    private boolean compiledReflection = false;
 
     /**
      * <p>Constructor for EqualsBuilder.</p>
@@ -271,6 +270,27 @@ public EqualsBuilder setExcludeFields(final String... excludeFields) {
         this.excludeFields = excludeFields;
         return this;
     }
+
+    /**
+     * <p>Set whether reflective tests read fields through compiled, typed accessors.</p>
+     *
+     * <p>In compiled mode a per-class plan of <code>MethodHandle</code> based accessors is built
+     * on first use and cached. Primitive fields are then passed to the primitive
+     * <code>append</code> methods without being boxed, which makes reflective tests of
+     * classes with many primitive fields faster and allocation free. Building the plan
+     * costs more than a single reflective test, so this is meant for classes that are
+     * compared often. Classes whose fields are not cached, e.g. because they come from a
+     * class loader that cannot see this library, are still read reflectively. The result
+     * is the same in both modes.</p>
+     *
+     * @param compiledReflection whether to use compiled field accessors
+     * @return EqualsBuilder - used to chain calls.
+     * @since 3.6
+     */
+    public EqualsBuilder setCompiledReflection(final boolean compiledReflection) {
+        this.compiledReflection = compiledReflection;
+        return this;
+    }
     
 
     /**
@@ -504,10 +524,6 @@ public EqualsBuilder reflectionAppend(final Object lhs, final Object rhs) {
                 append(lhs, rhs);
             } else {
                 reflectionAppend(lhs, rhs, testClass);
-                while (testClass.getSuperclass() != null && testClass != reflectUpToClass) {
-                    testClass = testClass.getSuperclass();
-                    reflectionAppend(lhs, rhs, testClass);
-                }
             }
         } catch (final IllegalArgumentException e) {
             // In this case, we tried to test a subclass vs. a superclass and
@@ -523,7 +539,7 @@ public EqualsBuilder reflectionAppend(final Object lhs, final Object rhs) {
 
     /**
      * <p>Appends the fields and values defined by the given object of the
-     * given Class.</p>
+     * given Class and its superclasses up to <code>reflectUpToClass</code>.</p>
      *
      * @param lhs  the left hand object
      * @param rhs  the right hand object
@@ -540,22 +556,24 @@ private void reflectionAppend(
 
         try {
             register(lhs, rhs);
-            final Field[] fields = clazz.getDeclaredFields();
-            AccessibleObject.setAccessible(fields, true);
+            final FieldAccessor[] accessors = compiledReflection ? ReflectionFieldCache.getAccessors(clazz,
+                    reflectUpToClass, testTransients, false, excludeFields, EqualsExclude.class) : null;
+            if (accessors != null) {
+                for (int i = 0; i < accessors.length && isEquals; i++) {
+                    accessors[i].appendEquals(this, lhs, rhs);
+                }
+                return;
+            }
+            final Field[] fields = ReflectionFieldCache.getFields(clazz, reflectUpToClass, testTransients, false,
+                    excludeFields, EqualsExclude.class);
             for (int i = 0; i < fields.length && isEquals; i++) {
                 final Field f = fields[i];
-                if (!ArrayUtils.contains(excludeFields, f.getName())
-                    && !f.getName().contains("$")
-                    && (testTransients || !Modifier.isTransient(f.getModifiers()))
-                    && !Modifier.isStatic(f.getModifiers())
-                    && !f.isAnnotationPresent(EqualsExclude.class)) {
-                    try {
-                        append(f.get(lhs), f.get(rhs));
-                    } catch (final IllegalAccessException e) {
-                        //this can't happen. Would get a Security exception instead
-                        //throw a runtime exception in case the impossible happens.
-                        throw new InternalError("Unexpected IllegalAccessException");
-                    }
+                try {
+                    append(f.get(lhs), f.get(rhs));
+                } catch (final IllegalAccessException e) {
+                    //this can't happen. Would get a Security exception instead
+                    //throw a runtime exception in case the impossible happens.
+                    throw new InternalError("Unexpected IllegalAccessException");
                 }
             }
         } finally {
@@ -0,0 +1,474 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * <p>
+ * A typed, compiled accessor for a single field, used by the compiled
+ * reflection mode of {@link EqualsBuilder} and {@link HashCodeBuilder}.
+ * </p>
+ *
+ * <p>
+ * <code>Field.get(Object)</code> boxes primitive values. An accessor reads the
+ * field through a {@link MethodHandle} adapted to the exact primitive type and
+ * passes the value to the matching primitive <code>append</code> overload of
+ * the builder, so no object is allocated per field. If no direct getter can be
+ * created, the handle falls back to the typed getters of {@link Field}, such as
+ * <code>Field.getInt(Object)</code>, which do not box either.
+ * </p>
+ *
+ * <p>
+ * Accessors produce the same results as the <code>Field.get(Object)</code>
+ * based code paths, including the <code>IllegalArgumentException</code>
+ * thrown when the object does not declare the field.
+ * </p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.6
+ */
+abstract class FieldAccessor {
+
+    /**
+     * The lookup used to unreflect accessible fields.
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * The field read by this accessor.
+     */
+    final Field field;
+
+    /**
+     * The getter, of type <code>(Object)T</code> where <code>T</code> is the
+     * primitive type of the field, or <code>Object</code> for reference fields.
+     */
+    final MethodHandle getter;
+
+    /**
+     * <p>
+     * Constructor.
+     * </p>
+     *
+     * @param field the field to read
+     * @param type the type returned by the getter
+     */
+    FieldAccessor(final Field field, final Class<?> type) {
+        this.field = field;
+        this.getter = createGetter(field, type);
+    }
+
+    /**
+     * <p>
+     * Creates the accessor matching the type of the given accessible field.
+     * </p>
+     *
+     * @param field the field to read, must be accessible
+     * @return the accessor
+     */
+    static FieldAccessor of(final Field field) {
+        final Class<?> type = field.getType();
+        if (!type.isPrimitive()) {
+            return new ObjectAccessor(field);
+        } else if (type == int.class) {
+            return new IntAccessor(field);
+        } else if (type == long.class) {
+            return new LongAccessor(field);
+        } else if (type == boolean.class) {
+            return new BooleanAccessor(field);
+        } else if (type == double.class) {
+            return new DoubleAccessor(field);
+        } else if (type == float.class) {
+            return new FloatAccessor(field);
+        } else if (type == char.class) {
+            return new CharAccessor(field);
+        } else if (type == short.class) {
+            return new ShortAccessor(field);
+        } else {
+            return new ByteAccessor(field);
+        }
+    }
+
+    /**
+     * <p>
+     * Creates a getter of type <code>(Object)type</code> for the given field.
+     * </p>
+     *
+     * @param field the field to read
+     * @param type the type returned by the getter
+     * @return the getter
+     */
+    private static MethodHandle createGetter(final Field field, final Class<?> type) {
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+        } catch (final IllegalAccessException e) {
+            handle = createFieldGetter(field, type);
+        }
+        return handle.asType(MethodType.methodType(type, Object.class));
+    }
+
+    /**
+     * <p>
+     * Creates a getter delegating to the typed <code>get</code> methods of
+     * {@link Field}, for fields that cannot be unreflected.
+     * </p>
+     *
+     * @param field the field to read
+     * @param type the type returned by the getter
+     * @return the getter
+     */
+    private static MethodHandle createFieldGetter(final Field field, final Class<?> type) {
+        String name = "get";
+        if (type.isPrimitive()) {
+            final String typeName = type.getName();
+            name += Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+        }
+        try {
+            return LOOKUP.findVirtual(Field.class, name, MethodType.methodType(type, Object.class)).bindTo(field);
+        } catch (final NoSuchMethodException e) {
+            throw new InternalError("Unexpected NoSuchMethodException: " + e.getMessage());
+        } catch (final IllegalAccessException e) {
+            throw new InternalError("Unexpected IllegalAccessException: " + e.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Converts a failure of the getter into the exception
+     * <code>Field.get(Object)</code> would have thrown.
+     * </p>
+     *
+     * @param t the failure
+     * @return the exception to throw
+     */
+    final RuntimeException failure(final Throwable t) {
+        if (t instanceof ClassCastException) {
+            // the object does not declare the field
+            return new IllegalArgumentException("Can not get field " + field + ": " + t.getMessage(), t);
+        }
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        // this can't happen. The typed getters of Field only throw IllegalAccessException,
+        // and the field is accessible
+        throw new InternalError("Unexpected " + t.getClass().getName() + ": " + t.getMessage());
+    }
+
+    /**
+     * <p>
+     * Appends the field values of both objects to the builder.
+     * </p>
+     *
+     * @param builder the builder to append to
+     * @param lhs the left hand object
+     * @param rhs the right hand object
+     */
+    abstract void appendEquals(EqualsBuilder builder, Object lhs, Object rhs);
+
+    /**
+     * <p>
+     * Appends the field value of the object to the builder.
+     * </p>
+     *
+     * @param builder the builder to append to
+     * @param object the object to read
+     */
+    abstract void appendHashCode(HashCodeBuilder builder, Object object);
+
+    private static final class ObjectAccessor extends FieldAccessor {
+        ObjectAccessor(final Field field) {
+            super(field, Object.class);
+        }
+
+        @Override
+        void appendEquals(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            final Object lhsValue;
+            final Object rhsValue;
+            try {
+                lhsValue = getter.invokeExact(lhs);
+                rhsValue = getter.invokeExact(rhs);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(lhsValue, rhsValue);
+        }
+
+        @Override
+        void appendHashCode(final HashCodeBuilder builder, final Object object) {
+            final Object value;
+            try {
+                value = getter.invokeExact(object);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(value);
+        }
+    }
+
+    private static final class IntAccessor extends FieldAccessor {
+        IntAccessor(final Field field) {
+            super(field, int.class);
+        }
+
+        @Override
+        void appendEquals(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            final int lhsValue;
+            final int rhsValue;
+            try {
+                lhsValue = (int) getter.invokeExact(lhs);
+                rhsValue = (int) getter.invokeExact(rhs);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(lhsValue, rhsValue);
+        }
+
+        @Override
+        void appendHashCode(final HashCodeBuilder builder, final Object object) {
+            final int value;
+            try {
+                value = (int) getter.invokeExact(object);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(value);
+        }
+    }
+
+    private static final class LongAccessor extends FieldAccessor {
+        LongAccessor(final Field field) {
+            super(field, long.class);
+        }
+
+        @Override
+        void appendEquals(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            final long lhsValue;
+            final long rhsValue;
+            try {
+                lhsValue = (long) getter.invokeExact(lhs);
+                rhsValue = (long) getter.invokeExact(rhs);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(lhsValue, rhsValue);
+        }
+
+        @Override
+        void appendHashCode(final HashCodeBuilder builder, final Object object) {
+            final long value;
+            try {
+                value = (long) getter.invokeExact(object);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(value);
+        }
+    }
+
+    private static final class BooleanAccessor extends FieldAccessor {
+        BooleanAccessor(final Field field) {
+            super(field, boolean.class);
+        }
+
+        @Override
+        void appendEquals(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            final boolean lhsValue;
+            final boolean rhsValue;
+            try {
+                lhsValue = (boolean) getter.invokeExact(lhs);
+                rhsValue = (boolean) getter.invokeExact(rhs);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(lhsValue, rhsValue);
+        }
+
+        @Override
+        void appendHashCode(final HashCodeBuilder builder, final Object object) {
+            final boolean value;
+            try {
+                value = (boolean) getter.invokeExact(object);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            // same as Boolean.hashCode(), which the Field.get(Object) path appends
+            builder.append(value ? 1231 : 1237);
+        }
+    }
+
+    private static final class DoubleAccessor extends FieldAccessor {
+        DoubleAccessor(final Field field) {
+            super(field, double.class);
+        }
+
+        @Override
+        void appendEquals(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            final double lhsValue;
+            final double rhsValue;
+            try {
+                lhsValue = (double) getter.invokeExact(lhs);
+                rhsValue = (double) getter.invokeExact(rhs);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(lhsValue, rhsValue);
+        }
+
+        @Override
+        void appendHashCode(final HashCodeBuilder builder, final Object object) {
+            final double value;
+            try {
+                value = (double) getter.invokeExact(object);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(value);
+        }
+    }
+
+    private static final class FloatAccessor extends FieldAccessor {
+        FloatAccessor(final Field field) {
+            super(field, float.class);
+        }
+
+        @Override
+        void appendEquals(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            final float lhsValue;
+            final float rhsValue;
+            try {
+                lhsValue = (float) getter.invokeExact(lhs);
+                rhsValue = (float) getter.invokeExact(rhs);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(lhsValue, rhsValue);
+        }
+
+        @Override
+        void appendHashCode(final HashCodeBuilder builder, final Object object) {
+            final float value;
+            try {
+                value = (float) getter.invokeExact(object);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(value);
+        }
+    }
+
+    private static final class CharAccessor extends FieldAccessor {
+        CharAccessor(final Field field) {
+            super(field, char.class);
+        }
+
+        @Override
+        void appendEquals(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            final char lhsValue;
+            final char rhsValue;
+            try {
+                lhsValue = (char) getter.invokeExact(lhs);
+                rhsValue = (char) getter.invokeExact(rhs);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(lhsValue, rhsValue);
+        }
+
+        @Override
+        void appendHashCode(final HashCodeBuilder builder, final Object object) {
+            final char value;
+            try {
+                value = (char) getter.invokeExact(object);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(value);
+        }
+    }
+
+    private static final class ShortAccessor extends FieldAccessor {
+        ShortAccessor(final Field field) {
+            super(field, short.class);
+        }
+
+        @Override
+        void appendEquals(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            final short lhsValue;
+            final short rhsValue;
+            try {
+                lhsValue = (short) getter.invokeExact(lhs);
+                rhsValue = (short) getter.invokeExact(rhs);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(lhsValue, rhsValue);
+        }
+
+        @Override
+        void appendHashCode(final HashCodeBuilder builder, final Object object) {
+            final short value;
+            try {
+                value = (short) getter.invokeExact(object);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(value);
+        }
+    }
+
+    private static final class ByteAccessor extends FieldAccessor {
+        ByteAccessor(final Field field) {
+            super(field, byte.class);
+        }
+
+        @Override
+        void appendEquals(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            final byte lhsValue;
+            final byte rhsValue;
+            try {
+                lhsValue = (byte) getter.invokeExact(lhs);
+                rhsValue = (byte) getter.invokeExact(rhs);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(lhsValue, rhsValue);
+        }
+
+        @Override
+        void appendHashCode(final HashCodeBuilder builder, final Object object) {
+            final byte value;
+            try {
+                value = (byte) getter.invokeExact(object);
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+            builder.append(value);
+        }
+    }
+}
@@ -17,14 +17,11 @@
 
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.Validate;
 
 /**
@@ -118,23 +115,19 @@ public class HashCodeBuilder implements Builder<Integer> {
      *
      * @since 2.3
      */
-    private static final ThreadLocal<Set<IDKey>> REGISTRY = new ThreadLocal<>();
+    private static final ThreadLocal<CycleRegistry> REGISTRY = new ThreadLocal<>();
 
     /*
      * NOTE: we cannot store the actual objects in a HashSet, as that would use the very hashCode()
      * we are in the process of calculating.
      *
-     * So we generate a one-to-one mapping from the original object to a new object.
-     *
-     * Now HashSet uses equals() to determine if two elements with the same hash code really
-     * are equal, so we also need to ensure that the replacement objects are only equal
-     * if the original objects are identical.
-     *
      * The original implementation (2.4 and before) used the System.identityHashCode()
      * method - however this is not guaranteed to generate unique ids (e.g. LANG-459)
      *
-     * We now use the IDKey helper class (adapted from org.apache.axis.utils.IDKey)
-     * to disambiguate the duplicate ids.
+     * Up to 3.5 the objects were wrapped in the IDKey helper class (adapted from
+     * org.apache.axis.utils.IDKey) to disambiguate the duplicate ids. We now use an
+     * identity CycleRegistry, which compares the objects with == and only allocates
+     * when the object graph is deep.
      */
 
     /**
@@ -142,11 +135,23 @@ public class HashCodeBuilder implements Builder<Integer> {
      * Returns the registry of objects being traversed by the reflection methods in the current thread.
      * </p>
      *
-     * @return Set the registry of objects being traversed
+     * <p>
+     * The returned set is a snapshot, changing it does not change the registry.
+     * </p>
+     *
+     * @return Set the registry of objects being traversed, <code>null</code> if empty
      * @since 2.3
      */
     static Set<IDKey> getRegistry() {
-        return REGISTRY.get();
+        final CycleRegistry registry = REGISTRY.get();
+        if (registry == null) {
+            return null;
+        }
+        final Set<IDKey> keys = new HashSet<>();
+        for (int i = 0; i < registry.size(); i++) {
+            keys.add(new IDKey(registry.getLeft(i)));
+        }
+        return keys;
     }
 
     /**
@@ -161,13 +166,14 @@ static Set<IDKey> getRegistry() {
      * @since 2.3
      */
     static boolean isRegistered(final Object value) {
-        final Set<IDKey> registry = getRegistry();
-        return registry != null && registry.contains(new IDKey(value));
+        final CycleRegistry registry = REGISTRY.get();
+        return registry != null && registry.contains(value);
     }
 
     /**
      * <p>
-     * Appends the fields and values defined by the given object of the given <code>Class</code>.
+     * Appends the fields and values defined by the given object of the given <code>Class</code> and its
+     * superclasses up to <code>reflectUpToClass</code>.
      * </p>
      *
      * @param object
@@ -178,32 +184,38 @@ static boolean isRegistered(final Object value) {
      *            the builder to append to
      * @param useTransients
      *            whether to use transient fields
+     * @param reflectUpToClass
+     *            the superclass to reflect up to (inclusive), may be <code>null</code>
+     * @param compiled
+     *            whether to read the fields through compiled accessors
      * @param excludeFields
      *            Collection of String field names to exclude from use in calculation of hash code
      */
     private static void reflectionAppend(final Object object, final Class<?> clazz, final HashCodeBuilder builder, final boolean useTransients,
-            final String[] excludeFields) {
+            final Class<?> reflectUpToClass, final boolean compiled, final String[] excludeFields) {
         if (isRegistered(object)) {
             return;
         }
         try {
             register(object);
-            final Field[] fields = clazz.getDeclaredFields();
-            AccessibleObject.setAccessible(fields, true);
+            final FieldAccessor[] accessors = compiled ? ReflectionFieldCache.getAccessors(clazz, reflectUpToClass,
+                    useTransients, false, excludeFields, HashCodeExclude.class) : null;
+            if (accessors != null) {
+                for (final FieldAccessor accessor : accessors) {
+                    accessor.appendHashCode(builder, object);
+                }
+                return;
+            }
+            final Field[] fields = ReflectionFieldCache.getFields(clazz, reflectUpToClass, useTransients, false,
+                    excludeFields, HashCodeExclude.class);
             for (final Field field : fields) {
-                if (!ArrayUtils.contains(excludeFields, field.getName())
-                    && !field.getName().contains("$")
-                    && (useTransients || !Modifier.isTransient(field.getModifiers()))
-                    && !Modifier.isStatic(field.getModifiers())
-                    && !field.isAnnotationPresent(HashCodeExclude.class)) {
-                    try {
-                        final Object fieldValue = field.get(object);
-                        builder.append(fieldValue);
-                    } catch (final IllegalAccessException e) {
-                        // this can't happen. Would get a Security exception instead
-                        // throw a runtime exception in case the impossible happens.
-                        throw new InternalError("Unexpected IllegalAccessException");
-                    }
+                try {
+                    final Object fieldValue = field.get(object);
+                    builder.append(fieldValue);
+                } catch (final IllegalAccessException e) {
+                    // this can't happen. Would get a Security exception instead
+                    // throw a runtime exception in case the impossible happens.
+                    throw new InternalError("Unexpected IllegalAccessException");
                 }
             }
         } finally {
@@ -354,17 +366,61 @@ public static int reflectionHashCode(final int initialNonZeroOddNumber, final in
      */
     public static <T> int reflectionHashCode(final int initialNonZeroOddNumber, final int multiplierNonZeroOddNumber, final T object,
             final boolean testTransients, final Class<? super T> reflectUpToClass, final String... excludeFields) {
+        return reflectionHashCode(initialNonZeroOddNumber, multiplierNonZeroOddNumber, object, testTransients,
+                reflectUpToClass, false, excludeFields);
+    }
+
+    /**
+     * <p>
+     * Uses reflection to build a valid hash code from the fields of {@code object}, optionally reading the
+     * fields through compiled accessors.
+     * </p>
+     *
+     * <p>
+     * This method behaves like {@link #reflectionHashCode(int, int, Object, boolean, Class, String...)} and
+     * returns the same hash code. If <code>compiled</code> is <code>true</code>, a per-class plan of
+     * <code>MethodHandle</code> based accessors is built on first use and cached. Primitive fields are then
+     * appended without being boxed, which makes the calculation faster and allocation free for classes
+     * whose hash code is computed often. Classes whose fields are not cached, e.g. because they come from a
+     * class loader that cannot see this library, are read reflectively as when <code>compiled</code> is
+     * <code>false</code>.
+     * </p>
+     *
+     * @param <T>
+     *            the type of the object involved
+     * @param initialNonZeroOddNumber
+     *            a non-zero, odd number used as the initial value. This will be the returned
+     *            value if no fields are found to include in the hash code
+     * @param multiplierNonZeroOddNumber
+     *            a non-zero, odd number used as the multiplier
+     * @param object
+     *            the Object to create a <code>hashCode</code> for
+     * @param testTransients
+     *            whether to include transient fields
+     * @param reflectUpToClass
+     *            the superclass to reflect up to (inclusive), may be <code>null</code>
+     * @param compiled
+     *            whether to read the fields through compiled accessors
+     * @param excludeFields
+     *            array of field names to exclude from use in calculation of hash code
+     * @return int hash code
+     * @throws IllegalArgumentException
+     *             if the Object is <code>null</code>
+     * @throws IllegalArgumentException
+     *             if the number is zero or even
+     *
+     * @see HashCodeExclude
+     * @since 3.6
+     */
+    public static <T> int reflectionHashCode(final int initialNonZeroOddNumber, final int multiplierNonZeroOddNumber, final T object,
+            final boolean testTransients, final Class<? super T> reflectUpToClass, final boolean compiled,
+            final String... excludeFields) {
 
         if (object == null) {
             throw new IllegalArgumentException("The object to build a hash code for must not be null");
         }
         final HashCodeBuilder builder = new HashCodeBuilder(initialNonZeroOddNumber, multiplierNonZeroOddNumber);
-        Class<?> clazz = object.getClass();
-        reflectionAppend(object, clazz, builder, testTransients, excludeFields);
-        while (clazz.getSuperclass() != null && clazz != reflectUpToClass) {
-            clazz = clazz.getSuperclass();
-            reflectionAppend(object, clazz, builder, testTransients, excludeFields);
-        }
+        reflectionAppend(object, object.getClass(), builder, testTransients, reflectUpToClass, compiled, excludeFields);
         return builder.toHashCode();
     }
 
@@ -498,12 +554,12 @@ public static int reflectionHashCode(final Object object, final String... exclud
      *            The object to register.
      */
     private static void register(final Object value) {
-        Set<IDKey> registry = getRegistry();
+        CycleRegistry registry = REGISTRY.get();
         if (registry == null) {
-            registry = new HashSet<>();
+            registry = CycleRegistry.identityRegistry();
             REGISTRY.set(registry);
         }
-        registry.add(new IDKey(value));
+        registry.add(value);
     }
 
     /**
@@ -519,9 +575,9 @@ private static void register(final Object value) {
      * @since 2.3
      */
     private static void unregister(final Object value) {
-        final Set<IDKey> registry = getRegistry();
+        final CycleRegistry registry = REGISTRY.get();
         if (registry != null) {
-            registry.remove(new IDKey(value));
+            registry.remove(value);
             if (registry.isEmpty()) {
                 REGISTRY.remove();
             }
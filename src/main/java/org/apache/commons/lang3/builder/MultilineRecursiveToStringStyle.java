@@ -113,6 +113,11 @@ private StringBuilder spacer(final int spaces) {
 
     @Override
     public void appendDetail(final StringBuffer buffer, final String fieldName, final Object value) {
+        super.appendDetail(buffer, fieldName, value);
+    }
+
+    @Override
+    public void appendDetail(final StringBuilder buffer, final String fieldName, final Object value) {
         if (!ClassUtils.isPrimitiveWrapper(value.getClass()) && !String.class.equals(value.getClass())
                 && accept(value.getClass())) {
             spaces += INDENT;
@@ -126,7 +131,7 @@ && accept(value.getClass())) {
     }
 
     @Override
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final Object[] array) {
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final Object[] array) {
         spaces += INDENT;
         resetIndent();
         super.appendDetail(buffer, fieldName, array);
@@ -135,7 +140,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
     }
 
     @Override
-    protected void reflectionAppendArrayDetail(final StringBuffer buffer, final String fieldName, final Object array) {
+    protected void reflectionAppendArrayDetail(final StringBuilder buffer, final String fieldName, final Object array) {
         spaces += INDENT;
         resetIndent();
         super.appendDetail(buffer, fieldName, array);
@@ -144,7 +149,7 @@ protected void reflectionAppendArrayDetail(final StringBuffer buffer, final Stri
     }
 
     @Override
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final long[] array) {
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final long[] array) {
         spaces += INDENT;
         resetIndent();
         super.appendDetail(buffer, fieldName, array);
@@ -153,7 +158,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
     }
 
     @Override
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final int[] array) {
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final int[] array) {
         spaces += INDENT;
         resetIndent();
         super.appendDetail(buffer, fieldName, array);
@@ -162,7 +167,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
     }
 
     @Override
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final short[] array) {
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final short[] array) {
         spaces += INDENT;
         resetIndent();
         super.appendDetail(buffer, fieldName, array);
@@ -171,7 +176,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
     }
 
     @Override
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final byte[] array) {
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final byte[] array) {
         spaces += INDENT;
         resetIndent();
         super.appendDetail(buffer, fieldName, array);
@@ -180,7 +185,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
     }
 
     @Override
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final char[] array) {
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final char[] array) {
         spaces += INDENT;
         resetIndent();
         super.appendDetail(buffer, fieldName, array);
@@ -189,7 +194,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
     }
 
     @Override
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final double[] array) {
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final double[] array) {
         spaces += INDENT;
         resetIndent();
         super.appendDetail(buffer, fieldName, array);
@@ -198,7 +203,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
     }
 
     @Override
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final float[] array) {
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final float[] array) {
         spaces += INDENT;
         resetIndent();
         super.appendDetail(buffer, fieldName, array);
@@ -207,7 +212,7 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
     }
 
     @Override
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final boolean[] array) {
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final boolean[] array) {
         spaces += INDENT;
         resetIndent();
         super.appendDetail(buffer, fieldName, array);
@@ -68,6 +68,11 @@ public RecursiveToStringStyle() {
 
     @Override
     public void appendDetail(final StringBuffer buffer, final String fieldName, final Object value) {
+        super.appendDetail(buffer, fieldName, value);
+    }
+
+    @Override
+    public void appendDetail(final StringBuilder buffer, final String fieldName, final Object value) {
         if (!ClassUtils.isPrimitiveWrapper(value.getClass()) &&
             !String.class.equals(value.getClass()) &&
             accept(value.getClass())) {
@@ -78,10 +83,10 @@ public void appendDetail(final StringBuffer buffer, final String fieldName, fina
     }
 
     @Override
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final Collection<?> coll) {
-        appendClassName(buffer, coll);
-        appendIdentityHashCode(buffer, coll);
-        appendDetail(buffer, fieldName, coll.toArray());
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final Collection<?> coll) {
+        callAppendClassName(buffer, coll);
+        callAppendIdentityHashCode(buffer, coll);
+        callAppendDetail(buffer, fieldName, coll.toArray());
     }
     
     /**
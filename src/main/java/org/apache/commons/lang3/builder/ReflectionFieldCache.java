@@ -0,0 +1,379 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * <p>
+ * Caches the fields used by the reflection based builders
+ * ({@link EqualsBuilder}, {@link HashCodeBuilder}, {@link CompareToBuilder}
+ * and {@link ReflectionToStringBuilder}).
+ * </p>
+ *
+ * <p>
+ * Calling <code>Class.getDeclaredFields()</code> copies the field array, and
+ * <code>AccessibleObject.setAccessible</code> and annotation lookups are
+ * expensive on fresh <code>Field</code> copies. This class computes the
+ * accessible, filtered fields of a class hierarchy once per combination of
+ * leaf class, stop class, transient/static handling, excluded field names and
+ * exclusion annotation, and reuses them afterwards.
+ * </p>
+ *
+ * <p>
+ * The cache is attached to the classes themselves through {@link ClassValue},
+ * so it never prevents a class loader from being garbage collected, e.g. when
+ * an application is redeployed. Filtered fields are only cached for classes
+ * whose class loader can see this class; otherwise the cache entry would pin
+ * the class loader of this library to a longer lived class.
+ * </p>
+ *
+ * <p>
+ * The arrays returned by this class are shared and must not be modified.
+ * </p>
+ *
+ * <p>#ThreadSafe#</p>
+ * @since 3.6
+ */
+final class ReflectionFieldCache {
+
+    /**
+     * The maximum number of distinct filter combinations cached per class.
+     * Callers building exclusion lists dynamically fall back to computing the
+     * fields on each call instead of growing the cache without bound.
+     */
+    private static final int MAX_FILTERS_PER_CLASS = 32;
+
+    /**
+     * The accessible declared fields, per class.
+     */
+    private static final ClassValue<Field[]> DECLARED_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(final Class<?> type) {
+            final Field[] fields = type.getDeclaredFields();
+            AccessibleObject.setAccessible(fields, true);
+            return fields;
+        }
+    };
+
+    /**
+     * The filtered fields of the class hierarchy, per leaf class and filter.
+     * The value is <code>null</code> for classes that must not reference this library.
+     */
+    private static final ClassValue<ConcurrentMap<Filter, Entry>> FILTERED_FIELDS =
+            new ClassValue<ConcurrentMap<Filter, Entry>>() {
+        @Override
+        protected ConcurrentMap<Filter, Entry> computeValue(final Class<?> type) {
+            return isVisible(type) ? new ConcurrentHashMap<Filter, Entry>() : null;
+        }
+    };
+
+    /**
+     * <p>
+     * <code>ReflectionFieldCache</code> instances should NOT be constructed.
+     * </p>
+     */
+    private ReflectionFieldCache() {
+        super();
+    }
+
+    /**
+     * <p>
+     * Returns the declared fields of the given class, already made accessible.
+     * </p>
+     *
+     * @param clazz the class to query
+     * @return the shared array of declared fields, must not be modified
+     */
+    static Field[] getDeclaredFields(final Class<?> clazz) {
+        return DECLARED_FIELDS.get(clazz);
+    }
+
+    /**
+     * <p>
+     * Returns the accessible fields of <code>clazz</code> and its superclasses
+     * up to and including <code>reflectUpToClass</code>, in the order the
+     * reflection builders visit them: the fields of the leaf class first,
+     * followed by those of its superclasses.
+     * </p>
+     *
+     * <p>
+     * Fields of inner classes (containing <code>$</code>) are always skipped.
+     * </p>
+     *
+     * @param clazz the leaf class
+     * @param reflectUpToClass the superclass to reflect up to (inclusive), may be <code>null</code>
+     * @param useTransients whether to include transient fields
+     * @param useStatics whether to include static fields
+     * @param excludeFields the field names to exclude, may be <code>null</code>
+     * @param excludeAnnotation fields carrying this annotation are excluded, may be <code>null</code>
+     * @return the shared array of fields, must not be modified
+     */
+    static Field[] getFields(final Class<?> clazz, final Class<?> reflectUpToClass, final boolean useTransients,
+            final boolean useStatics, final String[] excludeFields, final Class<? extends Annotation> excludeAnnotation) {
+        final Filter filter = newFilter(clazz, reflectUpToClass, useTransients, useStatics, excludeFields,
+                excludeAnnotation);
+        final Entry entry = getEntry(clazz, filter);
+        return entry != null ? entry.fields : collectFields(clazz, filter);
+    }
+
+    /**
+     * <p>
+     * Returns typed accessors for the fields returned by
+     * {@link #getFields(Class, Class, boolean, boolean, String[], Class)}, in the same order.
+     * The accessors are compiled on first use and then shared.
+     * </p>
+     *
+     * <p>
+     * Returns <code>null</code> if the fields of <code>clazz</code> cannot be
+     * cached for this filter, as compiling accessors on each call costs more
+     * than reading the fields through <code>Field.get</code>.
+     * </p>
+     *
+     * @param clazz the leaf class
+     * @param reflectUpToClass the superclass to reflect up to (inclusive), may be <code>null</code>
+     * @param useTransients whether to include transient fields
+     * @param useStatics whether to include static fields
+     * @param excludeFields the field names to exclude, may be <code>null</code>
+     * @param excludeAnnotation fields carrying this annotation are excluded, may be <code>null</code>
+     * @return the shared array of accessors, must not be modified, or <code>null</code>
+     *  if the fields are not cached
+     */
+    static FieldAccessor[] getAccessors(final Class<?> clazz, final Class<?> reflectUpToClass,
+            final boolean useTransients, final boolean useStatics, final String[] excludeFields,
+            final Class<? extends Annotation> excludeAnnotation) {
+        final Entry entry = getEntry(clazz, newFilter(clazz, reflectUpToClass, useTransients, useStatics,
+                excludeFields, excludeAnnotation));
+        return entry != null ? entry.getAccessors() : null;
+    }
+
+    /**
+     * <p>
+     * Creates the filter for the given settings.
+     * </p>
+     *
+     * @param clazz the leaf class
+     * @param reflectUpToClass the superclass to reflect up to (inclusive), may be <code>null</code>
+     * @param useTransients whether to include transient fields
+     * @param useStatics whether to include static fields
+     * @param excludeFields the field names to exclude, may be <code>null</code>
+     * @param excludeAnnotation fields carrying this annotation are excluded, may be <code>null</code>
+     * @return the filter
+     */
+    private static Filter newFilter(final Class<?> clazz, final Class<?> reflectUpToClass, final boolean useTransients,
+            final boolean useStatics, final String[] excludeFields, final Class<? extends Annotation> excludeAnnotation) {
+        // a stop class outside the hierarchy behaves like null, and must not be kept alive by the cache
+        final Class<?> upToClass = reflectUpToClass != null && reflectUpToClass.isAssignableFrom(clazz)
+                ? reflectUpToClass : null;
+        return new Filter(upToClass, useTransients, useStatics, excludeFields, excludeAnnotation);
+    }
+
+    /**
+     * <p>
+     * Looks up, or computes and caches, the cache entry for the given filter.
+     * </p>
+     *
+     * @param clazz the leaf class
+     * @param filter the filter to apply
+     * @return the cache entry, or <code>null</code> if it cannot be cached
+     */
+    private static Entry getEntry(final Class<?> clazz, final Filter filter) {
+        final ConcurrentMap<Filter, Entry> cache = FILTERED_FIELDS.get(clazz);
+        if (cache == null) {
+            return null;
+        }
+        Entry entry = cache.get(filter);
+        if (entry == null) {
+            if (cache.size() >= MAX_FILTERS_PER_CLASS) {
+                return null;
+            }
+            entry = new Entry(collectFields(clazz, filter));
+            final Entry previous = cache.putIfAbsent(filter.copy(), entry);
+            if (previous != null) {
+                entry = previous;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * <p>
+     * Tests whether this library is loaded by the class loader of the given
+     * class or by one of its ancestors.
+     * </p>
+     *
+     * @param clazz the class to test
+     * @return <code>true</code> if entries for <code>clazz</code> may reference this library
+     */
+    private static boolean isVisible(final Class<?> clazz) {
+        final ClassLoader own = ReflectionFieldCache.class.getClassLoader();
+        if (own == null) {
+            return true;
+        }
+        try {
+            for (ClassLoader loader = clazz.getClassLoader(); loader != null; loader = loader.getParent()) {
+                if (loader == own) {
+                    return true;
+                }
+            }
+        } catch (final SecurityException e) {
+            // not allowed to walk the class loader hierarchy, do not cache
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * Walks the class hierarchy and collects the fields accepted by the filter.
+     * </p>
+     *
+     * @param clazz the leaf class
+     * @param filter the filter to apply
+     * @return the accepted fields
+     */
+    private static Field[] collectFields(final Class<?> clazz, final Filter filter) {
+        final List<Field> accepted = new ArrayList<>();
+        Class<?> current = clazz;
+        addFields(current, filter, accepted);
+        while (current.getSuperclass() != null && current != filter.upToClass) {
+            current = current.getSuperclass();
+            addFields(current, filter, accepted);
+        }
+        return accepted.toArray(new Field[accepted.size()]);
+    }
+
+    /**
+     * <p>
+     * Adds the declared fields of a single class accepted by the filter.
+     * </p>
+     *
+     * @param clazz the class to query
+     * @param filter the filter to apply
+     * @param accepted the list to add to
+     */
+    private static void addFields(final Class<?> clazz, final Filter filter, final List<Field> accepted) {
+        for (final Field field : getDeclaredFields(clazz)) {
+            if (filter.accept(field)) {
+                accepted.add(field);
+            }
+        }
+    }
+
+    /**
+     * The fields accepted by a filter, and their accessors once compiled.
+     */
+    private static final class Entry {
+        private final Field[] fields;
+        private volatile FieldAccessor[] accessors;
+
+        Entry(final Field[] fields) {
+            this.fields = fields;
+        }
+
+        FieldAccessor[] getAccessors() {
+            FieldAccessor[] result = accessors;
+            if (result == null) {
+                // racing threads compile equivalent accessors, any of them may win
+                result = new FieldAccessor[fields.length];
+                for (int i = 0; i < fields.length; i++) {
+                    result[i] = FieldAccessor.of(fields[i]);
+                }
+                accessors = result;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The combination of settings that determines which fields are used.
+     */
+    private static final class Filter {
+        private final Class<?> upToClass;
+        private final boolean useTransients;
+        private final boolean useStatics;
+        private final String[] excludeFields;
+        private final Class<? extends Annotation> excludeAnnotation;
+        private final int hashCode;
+
+        Filter(final Class<?> upToClass, final boolean useTransients, final boolean useStatics,
+                final String[] excludeFields, final Class<? extends Annotation> excludeAnnotation) {
+            this.upToClass = upToClass;
+            this.useTransients = useTransients;
+            this.useStatics = useStatics;
+            this.excludeFields = excludeFields;
+            this.excludeAnnotation = excludeAnnotation;
+            int hash = upToClass == null ? 0 : upToClass.hashCode();
+            hash = 31 * hash + (useTransients ? 1 : 0);
+            hash = 31 * hash + (useStatics ? 1 : 0);
+            hash = 31 * hash + Arrays.hashCode(excludeFields);
+            hash = 31 * hash + (excludeAnnotation == null ? 0 : excludeAnnotation.hashCode());
+            this.hashCode = hash;
+        }
+
+        /**
+         * Copies this filter so that later changes to the caller's exclusion array
+         * do not affect the cache key.
+         *
+         * @return a filter safe to store
+         */
+        Filter copy() {
+            return new Filter(upToClass, useTransients, useStatics, ArrayUtils.clone(excludeFields), excludeAnnotation);
+        }
+
+        boolean accept(final Field field) {
+            final int modifiers = field.getModifiers();
+            return field.getName().indexOf(ClassUtils.INNER_CLASS_SEPARATOR_CHAR) == -1
+                && (useTransients || !Modifier.isTransient(modifiers))
+                && (useStatics || !Modifier.isStatic(modifiers))
+                && !ArrayUtils.contains(excludeFields, field.getName())
+                && (excludeAnnotation == null || !field.isAnnotationPresent(excludeAnnotation));
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Filter)) {
+                return false;
+            }
+            final Filter other = (Filter) obj;
+            return hashCode == other.hashCode
+                && upToClass == other.upToClass
+                && useTransients == other.useTransients
+                && useStatics == other.useStatics
+                && excludeAnnotation == other.excludeAnnotation
+                && Arrays.equals(excludeFields, other.excludeFields);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
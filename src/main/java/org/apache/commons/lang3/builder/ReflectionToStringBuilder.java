@@ -17,7 +17,6 @@
 
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -27,6 +26,7 @@
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.Validate;
 
 /**
  * <p>
@@ -456,6 +456,31 @@ public ReflectionToStringBuilder(final Object object, final ToStringStyle style,
         super(checkNotNull(object), style, buffer);
     }
 
+    /**
+     * <p>
+     * Constructor writing the output to an <code>Appendable</code>, see
+     * {@link ToStringBuilder#ToStringBuilder(Object, ToStringStyle, Appendable)}.
+     * Call {@link #toAppendable()} to complete the output.
+     * </p>
+     *
+     * <p>
+     * If the style is <code>null</code>, the default style is used.
+     * </p>
+     *
+     * @param object
+     *            the Object to build a <code>toString</code> for
+     * @param style
+     *            the style of the <code>toString</code> to create, may be <code>null</code>
+     * @param appendable
+     *            the <code>Appendable</code> to write to, not <code>null</code>
+     * @throws IllegalArgumentException
+     *             if the Object or the <code>Appendable</code> passed in is <code>null</code>
+     * @since 3.6
+     */
+    public ReflectionToStringBuilder(final Object object, final ToStringStyle style, final Appendable appendable) {
+        super(checkNotNull(object), style, appendable);
+    }
+
     /**
      * Constructor.
      *
@@ -479,7 +504,13 @@ public <T> ReflectionToStringBuilder(
             final T object, final ToStringStyle style, final StringBuffer buffer,
             final Class<? super T> reflectUpToClass, final boolean outputTransients, final boolean outputStatics) {
         super(checkNotNull(object), style, buffer);
-        this.setUpToClass(reflectUpToClass);
+        try {
+            this.setUpToClass(reflectUpToClass);
+        } catch (final IllegalArgumentException e) {
+            // the style registered the object, and this builder is never returned
+            ToStringStyle.unregister(object);
+            throw e;
+        }
         this.setAppendTransients(outputTransients);
         this.setAppendStatics(outputStatics);
     }
@@ -538,27 +569,36 @@ protected void appendFieldsIn(final Class<?> clazz) {
             this.reflectionAppendArray(this.getObject());
             return;
         }
-        final Field[] fields = clazz.getDeclaredFields();
-        AccessibleObject.setAccessible(fields, true);
-        for (final Field field : fields) {
-            final String fieldName = field.getName();
+        for (final Field field : ReflectionFieldCache.getDeclaredFields(clazz)) {
             if (this.accept(field)) {
-                try {
-                    // Warning: Field.get(Object) creates wrappers objects
-                    // for primitive types.
-                    final Object fieldValue = this.getValue(field);
-                    this.append(fieldName, fieldValue);
-                } catch (final IllegalAccessException ex) {
-                    //this can't happen. Would get a Security exception
-                    // instead
-                    //throw a runtime exception in case the impossible
-                    // happens.
-                    throw new InternalError("Unexpected IllegalAccessException: " + ex.getMessage());
-                }
+                this.appendField(field);
             }
         }
     }
 
+    /**
+     * <p>
+     * Appends the name and value of the given field.
+     * </p>
+     *
+     * @param field
+     *            The field to append
+     */
+    private void appendField(final Field field) {
+        try {
+            // Warning: Field.get(Object) creates wrappers objects
+            // for primitive types.
+            final Object fieldValue = this.getValue(field);
+            this.append(field.getName(), fieldValue);
+        } catch (final IllegalAccessException ex) {
+            //this can't happen. Would get a Security exception
+            // instead
+            //throw a runtime exception in case the impossible
+            // happens.
+            throw new InternalError("Unexpected IllegalAccessException: " + ex.getMessage());
+        }
+    }
+
     /**
      * @return Returns the excludeFieldNames.
      */
@@ -630,7 +670,12 @@ public boolean isAppendTransients() {
      * @return this
      */
     public ReflectionToStringBuilder reflectionAppendArray(final Object array) {
-        this.getStyle().reflectionAppendArrayDetail(this.getStringBuffer(), null, array);
+        final StringBuilder stringBuilder = this.getStringBuilder();
+        if (stringBuilder != null) {
+            this.getStyle().reflectionAppendArrayDetail(stringBuilder, null, array);
+        } else {
+            this.getStyle().reflectionAppendArrayDetail(this.getStringBuffer(), null, array);
+        }
         return this;
     }
 
@@ -707,13 +752,73 @@ public String toString() {
         if (this.getObject() == null) {
             return this.getStyle().getNullText();
         }
-        Class<?> clazz = this.getObject().getClass();
+        this.validateToString();
+        if (!this.isAppendableComplete()) {
+            this.appendAllFields();
+        }
+        return super.toString();
+    }
+
+    /**
+     * <p>
+     * Completes the output written to the <code>Appendable</code> given to the
+     * constructor, without building a <code>String</code>.
+     * </p>
+     *
+     * @return the <code>Appendable</code> given to the constructor
+     * @throws IllegalStateException if this builder does not write to an <code>Appendable</code>
+     * @since 3.6
+     */
+    @Override
+    public Appendable toAppendable() {
+        Validate.validState(this.getAppendable() != null, "This builder does not write to an Appendable");
+        if (!this.isAppendableComplete()) {
+            this.appendAllFields();
+        }
+        return super.toAppendable();
+    }
+
+    /**
+     * <p>
+     * Appends the fields of the object and of its superclasses, up to {@link #getUpToClass()}.
+     * </p>
+     */
+    private void appendAllFields() {
+        try {
+            appendAllFieldsIn(this.getObject().getClass());
+        } catch (final RuntimeException | Error e) {
+            // an abandoned traversal must not leave the object in the registry, where any
+            // equal object the thread formats later would be taken for a cycle
+            ToStringStyle.unregister(this.getObject());
+            throw e;
+        }
+    }
+
+    /**
+     * <p>
+     * Appends the fields of the given class and its superclasses up to {@link #getUpToClass()}.
+     * </p>
+     *
+     * @param objectClass
+     *            the class of the object
+     */
+    private void appendAllFieldsIn(final Class<?> objectClass) {
+        Class<?> clazz = objectClass;
+        if (this.getClass() == ReflectionToStringBuilder.class && !clazz.isArray()) {
+            // accept(Field), appendFieldsIn(Class) and getValue(Field) are not overridden,
+            // so the filtered fields of the whole hierarchy can be reused
+            final Field[] fields = ReflectionFieldCache.getFields(clazz, this.getUpToClass(),
+                    this.isAppendTransients(), this.isAppendStatics(), this.excludeFieldNames, ToStringExclude.class);
+            for (final Field field : fields) {
+                this.appendField(field);
+            }
+            return;
+        }
         this.appendFieldsIn(clazz);
         while (clazz.getSuperclass() != null && clazz != this.getUpToClass()) {
             clazz = clazz.getSuperclass();
             this.appendFieldsIn(clazz);
         }
-        return super.toString();
     }
 
 }
@@ -16,7 +16,11 @@
  */
 package org.apache.commons.lang3.builder;
 
+import java.io.IOException;
+
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 
 /**
  * <p>Assists in implementing {@link Object#toString()} methods.</p>
@@ -202,9 +206,34 @@ public static <T> String reflectionToString(
     //----------------------------------------------------------------------------
 
     /**
-     * Current toString buffer, not null.
+     * The number of characters above which the buffer is written to the
+     * <code>Appendable</code>, if there is one.
+     */
+    private static final int APPENDABLE_FLUSH_SIZE = 512;
+
+    /**
+     * Current toString buffer, <code>null</code> while {@link #stringBuilder} is used.
+     */
+    private StringBuffer buffer;
+    /**
+     * Current toString buffer when the style supports <code>StringBuilder</code>s,
+     * <code>null</code> once {@link #getStringBuffer()} has been called.
+     */
+    private StringBuilder stringBuilder;
+    /**
+     * The destination of the output, <code>null</code> if it is only kept in the buffer.
+     */
+    private final Appendable appendable;
+    /**
+     * The length of the <code>Appendable</code> when this builder started writing to it,
+     * if it is a <code>CharSequence</code>.
+     */
+    private final int appendableStart;
+    /**
+     * The length of the <code>Appendable</code> once the output is complete, if it is a
+     * <code>CharSequence</code>, <code>0</code> otherwise, and <code>-1</code> before.
      */
-    private final StringBuffer buffer;
+    private int appendableEnd = -1;
     /**
      * The object being output, may be null.
      */
@@ -252,14 +281,64 @@ public ToStringBuilder(final Object object, ToStringStyle style, StringBuffer bu
         if (style == null) {
             style = getDefaultStyle();
         }
-        if (buffer == null) {
-            buffer = new StringBuffer(512);
+        this.appendable = null;
+        this.appendableStart = 0;
+        this.style = style;
+        this.object = object;
+
+        if (buffer == null && style.isStringBuilderSupported()) {
+            this.stringBuilder = new StringBuilder(512);
+            style.appendStart(stringBuilder, object);
+        } else {
+            if (buffer == null) {
+                buffer = new StringBuffer(512);
+            }
+            this.buffer = buffer;
+            style.appendStart(buffer, object);
         }
-        this.buffer = buffer;
+    }
+
+    /**
+     * <p>Constructs a builder for the specified object which writes its output
+     * to an <code>Appendable</code>, such as a <code>StringBuilder</code> or a
+     * <code>Writer</code>.</p>
+     *
+     * <p>The style still appends to a <code>StringBuilder</code>, or a
+     * <code>StringBuffer</code> if it only supports those, which only holds
+     * the output that has not been written to the <code>Appendable</code> yet.
+     * The last characters are held back so that the style can remove the last
+     * field separator; styles which inspect the buffer beyond that should not be
+     * used with an <code>Appendable</code>.</p>
+     *
+     * <p>Call {@link #toAppendable()} to complete the output.
+     * <code>IOException</code>s thrown by the <code>Appendable</code> are
+     * rethrown unchecked by the <code>append</code> methods.</p>
+     *
+     * <p>If the style is <code>null</code>, the default style is used.</p>
+     *
+     * @param object  the Object to build a <code>toString</code> for, not recommended to be null
+     * @param style  the style of the <code>toString</code> to create, null uses the default style
+     * @param appendable  the <code>Appendable</code> to write to, not null
+     * @throws IllegalArgumentException if the <code>Appendable</code> is <code>null</code>
+     * @since 3.6
+     */
+    public ToStringBuilder(final Object object, ToStringStyle style, final Appendable appendable) {
+        Validate.isTrue(appendable != null, "The Appendable must not be null");
+        if (style == null) {
+            style = getDefaultStyle();
+        }
+        this.appendable = appendable;
+        this.appendableStart = appendable instanceof CharSequence ? ((CharSequence) appendable).length() : 0;
         this.style = style;
         this.object = object;
 
-        style.appendStart(buffer, object);
+        if (style.isStringBuilderSupported()) {
+            this.stringBuilder = new StringBuilder(APPENDABLE_FLUSH_SIZE * 2);
+            style.appendStart(stringBuilder, object);
+        } else {
+            this.buffer = new StringBuffer(APPENDABLE_FLUSH_SIZE * 2);
+            style.appendStart(buffer, object);
+        }
     }
 
     //----------------------------------------------------------------------------
@@ -272,7 +351,11 @@ public ToStringBuilder(final Object object, ToStringStyle style, StringBuffer bu
      * @return this
      */
     public ToStringBuilder append(final boolean value) {
-        style.append(buffer, null, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, value);
+        } else {
+            style.append(buffer(), null, value);
+        }
         return this;
     }
 
@@ -286,7 +369,11 @@ public ToStringBuilder append(final boolean value) {
      * @return this
      */
     public ToStringBuilder append(final boolean[] array) {
-        style.append(buffer, null, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, array, null);
+        } else {
+            style.append(buffer(), null, array, null);
+        }
         return this;
     }
 
@@ -300,7 +387,11 @@ public ToStringBuilder append(final boolean[] array) {
      * @return this
      */
     public ToStringBuilder append(final byte value) {
-        style.append(buffer, null, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, value);
+        } else {
+            style.append(buffer(), null, value);
+        }
         return this;
     }
 
@@ -314,7 +405,11 @@ public ToStringBuilder append(final byte value) {
      * @return this
      */
     public ToStringBuilder append(final byte[] array) {
-        style.append(buffer, null, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, array, null);
+        } else {
+            style.append(buffer(), null, array, null);
+        }
         return this;
     }
 
@@ -328,7 +423,11 @@ public ToStringBuilder append(final byte[] array) {
      * @return this
      */
     public ToStringBuilder append(final char value) {
-        style.append(buffer, null, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, value);
+        } else {
+            style.append(buffer(), null, value);
+        }
         return this;
     }
 
@@ -342,7 +441,11 @@ public ToStringBuilder append(final char value) {
      * @return this
      */
     public ToStringBuilder append(final char[] array) {
-        style.append(buffer, null, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, array, null);
+        } else {
+            style.append(buffer(), null, array, null);
+        }
         return this;
     }
 
@@ -356,7 +459,11 @@ public ToStringBuilder append(final char[] array) {
      * @return this
      */
     public ToStringBuilder append(final double value) {
-        style.append(buffer, null, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, value);
+        } else {
+            style.append(buffer(), null, value);
+        }
         return this;
     }
 
@@ -370,7 +477,11 @@ public ToStringBuilder append(final double value) {
      * @return this
      */
     public ToStringBuilder append(final double[] array) {
-        style.append(buffer, null, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, array, null);
+        } else {
+            style.append(buffer(), null, array, null);
+        }
         return this;
     }
 
@@ -384,7 +495,11 @@ public ToStringBuilder append(final double[] array) {
      * @return this
      */
     public ToStringBuilder append(final float value) {
-        style.append(buffer, null, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, value);
+        } else {
+            style.append(buffer(), null, value);
+        }
         return this;
     }
 
@@ -398,7 +513,11 @@ public ToStringBuilder append(final float value) {
      * @return this
      */
     public ToStringBuilder append(final float[] array) {
-        style.append(buffer, null, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, array, null);
+        } else {
+            style.append(buffer(), null, array, null);
+        }
         return this;
     }
 
@@ -412,7 +531,11 @@ public ToStringBuilder append(final float[] array) {
      * @return this
      */
     public ToStringBuilder append(final int value) {
-        style.append(buffer, null, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, value);
+        } else {
+            style.append(buffer(), null, value);
+        }
         return this;
     }
 
@@ -426,7 +549,11 @@ public ToStringBuilder append(final int value) {
      * @return this
      */
     public ToStringBuilder append(final int[] array) {
-        style.append(buffer, null, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, array, null);
+        } else {
+            style.append(buffer(), null, array, null);
+        }
         return this;
     }
 
@@ -440,7 +567,11 @@ public ToStringBuilder append(final int[] array) {
      * @return this
      */
     public ToStringBuilder append(final long value) {
-        style.append(buffer, null, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, value);
+        } else {
+            style.append(buffer(), null, value);
+        }
         return this;
     }
 
@@ -454,7 +585,11 @@ public ToStringBuilder append(final long value) {
      * @return this
      */
     public ToStringBuilder append(final long[] array) {
-        style.append(buffer, null, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, array, null);
+        } else {
+            style.append(buffer(), null, array, null);
+        }
         return this;
     }
 
@@ -468,7 +603,11 @@ public ToStringBuilder append(final long[] array) {
      * @return this
      */
     public ToStringBuilder append(final Object obj) {
-        style.append(buffer, null, obj, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, obj, null);
+        } else {
+            style.append(buffer(), null, obj, null);
+        }
         return this;
     }
 
@@ -482,7 +621,11 @@ public ToStringBuilder append(final Object obj) {
      * @return this
      */
     public ToStringBuilder append(final Object[] array) {
-        style.append(buffer, null, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, array, null);
+        } else {
+            style.append(buffer(), null, array, null);
+        }
         return this;
     }
 
@@ -496,7 +639,11 @@ public ToStringBuilder append(final Object[] array) {
      * @return this
      */
     public ToStringBuilder append(final short value) {
-        style.append(buffer, null, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, value);
+        } else {
+            style.append(buffer(), null, value);
+        }
         return this;
     }
 
@@ -510,7 +657,11 @@ public ToStringBuilder append(final short value) {
      * @return this
      */
     public ToStringBuilder append(final short[] array) {
-        style.append(buffer, null, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), null, array, null);
+        } else {
+            style.append(buffer(), null, array, null);
+        }
         return this;
     }
 
@@ -523,7 +674,11 @@ public ToStringBuilder append(final short[] array) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final boolean value) {
-        style.append(buffer, fieldName, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, value);
+        } else {
+            style.append(buffer(), fieldName, value);
+        }
         return this;
     }
 
@@ -536,7 +691,11 @@ public ToStringBuilder append(final String fieldName, final boolean value) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final boolean[] array) {
-        style.append(buffer, fieldName, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, null);
+        } else {
+            style.append(buffer(), fieldName, array, null);
+        }
         return this;
     }
 
@@ -556,7 +715,11 @@ public ToStringBuilder append(final String fieldName, final boolean[] array) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final boolean[] array, final boolean fullDetail) {
-        style.append(buffer, fieldName, array, Boolean.valueOf(fullDetail));
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, Boolean.valueOf(fullDetail));
+        } else {
+            style.append(buffer(), fieldName, array, Boolean.valueOf(fullDetail));
+        }
         return this;
     }
 
@@ -569,7 +732,11 @@ public ToStringBuilder append(final String fieldName, final boolean[] array, fin
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final byte value) {
-        style.append(buffer, fieldName, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, value);
+        } else {
+            style.append(buffer(), fieldName, value);
+        }
         return this;
     }
 
@@ -581,7 +748,11 @@ public ToStringBuilder append(final String fieldName, final byte value) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final byte[] array) {
-        style.append(buffer, fieldName, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, null);
+        } else {
+            style.append(buffer(), fieldName, array, null);
+        }
         return this;
     }
 
@@ -601,7 +772,11 @@ public ToStringBuilder append(final String fieldName, final byte[] array) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final byte[] array, final boolean fullDetail) {
-        style.append(buffer, fieldName, array, Boolean.valueOf(fullDetail));
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, Boolean.valueOf(fullDetail));
+        } else {
+            style.append(buffer(), fieldName, array, Boolean.valueOf(fullDetail));
+        }
         return this;
     }
 
@@ -614,7 +789,11 @@ public ToStringBuilder append(final String fieldName, final byte[] array, final
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final char value) {
-        style.append(buffer, fieldName, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, value);
+        } else {
+            style.append(buffer(), fieldName, value);
+        }
         return this;
     }
 
@@ -627,7 +806,11 @@ public ToStringBuilder append(final String fieldName, final char value) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final char[] array) {
-        style.append(buffer, fieldName, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, null);
+        } else {
+            style.append(buffer(), fieldName, array, null);
+        }
         return this;
     }
 
@@ -647,7 +830,11 @@ public ToStringBuilder append(final String fieldName, final char[] array) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final char[] array, final boolean fullDetail) {
-        style.append(buffer, fieldName, array, Boolean.valueOf(fullDetail));
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, Boolean.valueOf(fullDetail));
+        } else {
+            style.append(buffer(), fieldName, array, Boolean.valueOf(fullDetail));
+        }
         return this;
     }
 
@@ -660,7 +847,11 @@ public ToStringBuilder append(final String fieldName, final char[] array, final
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final double value) {
-        style.append(buffer, fieldName, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, value);
+        } else {
+            style.append(buffer(), fieldName, value);
+        }
         return this;
     }
 
@@ -673,7 +864,11 @@ public ToStringBuilder append(final String fieldName, final double value) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final double[] array) {
-        style.append(buffer, fieldName, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, null);
+        } else {
+            style.append(buffer(), fieldName, array, null);
+        }
         return this;
     }
 
@@ -693,7 +888,11 @@ public ToStringBuilder append(final String fieldName, final double[] array) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final double[] array, final boolean fullDetail) {
-        style.append(buffer, fieldName, array, Boolean.valueOf(fullDetail));
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, Boolean.valueOf(fullDetail));
+        } else {
+            style.append(buffer(), fieldName, array, Boolean.valueOf(fullDetail));
+        }
         return this;
     }
 
@@ -706,7 +905,11 @@ public ToStringBuilder append(final String fieldName, final double[] array, fina
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final float value) {
-        style.append(buffer, fieldName, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, value);
+        } else {
+            style.append(buffer(), fieldName, value);
+        }
         return this;
     }
 
@@ -719,7 +922,11 @@ public ToStringBuilder append(final String fieldName, final float value) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final float[] array) {
-        style.append(buffer, fieldName, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, null);
+        } else {
+            style.append(buffer(), fieldName, array, null);
+        }
         return this;
     }
 
@@ -739,7 +946,11 @@ public ToStringBuilder append(final String fieldName, final float[] array) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final float[] array, final boolean fullDetail) {
-        style.append(buffer, fieldName, array, Boolean.valueOf(fullDetail));
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, Boolean.valueOf(fullDetail));
+        } else {
+            style.append(buffer(), fieldName, array, Boolean.valueOf(fullDetail));
+        }
         return this;
     }
 
@@ -752,7 +963,11 @@ public ToStringBuilder append(final String fieldName, final float[] array, final
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final int value) {
-        style.append(buffer, fieldName, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, value);
+        } else {
+            style.append(buffer(), fieldName, value);
+        }
         return this;
     }
 
@@ -765,7 +980,11 @@ public ToStringBuilder append(final String fieldName, final int value) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final int[] array) {
-        style.append(buffer, fieldName, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, null);
+        } else {
+            style.append(buffer(), fieldName, array, null);
+        }
         return this;
     }
 
@@ -785,7 +1004,11 @@ public ToStringBuilder append(final String fieldName, final int[] array) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final int[] array, final boolean fullDetail) {
-        style.append(buffer, fieldName, array, Boolean.valueOf(fullDetail));
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, Boolean.valueOf(fullDetail));
+        } else {
+            style.append(buffer(), fieldName, array, Boolean.valueOf(fullDetail));
+        }
         return this;
     }
 
@@ -798,7 +1021,11 @@ public ToStringBuilder append(final String fieldName, final int[] array, final b
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final long value) {
-        style.append(buffer, fieldName, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, value);
+        } else {
+            style.append(buffer(), fieldName, value);
+        }
         return this;
     }
 
@@ -811,7 +1038,11 @@ public ToStringBuilder append(final String fieldName, final long value) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final long[] array) {
-        style.append(buffer, fieldName, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, null);
+        } else {
+            style.append(buffer(), fieldName, array, null);
+        }
         return this;
     }
 
@@ -831,7 +1062,11 @@ public ToStringBuilder append(final String fieldName, final long[] array) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final long[] array, final boolean fullDetail) {
-        style.append(buffer, fieldName, array, Boolean.valueOf(fullDetail));
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, Boolean.valueOf(fullDetail));
+        } else {
+            style.append(buffer(), fieldName, array, Boolean.valueOf(fullDetail));
+        }
         return this;
     }
 
@@ -844,7 +1079,11 @@ public ToStringBuilder append(final String fieldName, final long[] array, final
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final Object obj) {
-        style.append(buffer, fieldName, obj, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, obj, null);
+        } else {
+            style.append(buffer(), fieldName, obj, null);
+        }
         return this;
     }
 
@@ -859,7 +1098,11 @@ public ToStringBuilder append(final String fieldName, final Object obj) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final Object obj, final boolean fullDetail) {
-        style.append(buffer, fieldName, obj, Boolean.valueOf(fullDetail));
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, obj, Boolean.valueOf(fullDetail));
+        } else {
+            style.append(buffer(), fieldName, obj, Boolean.valueOf(fullDetail));
+        }
         return this;
     }
 
@@ -872,7 +1115,11 @@ public ToStringBuilder append(final String fieldName, final Object obj, final bo
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final Object[] array) {
-        style.append(buffer, fieldName, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, null);
+        } else {
+            style.append(buffer(), fieldName, array, null);
+        }
         return this;
     }
 
@@ -892,7 +1139,11 @@ public ToStringBuilder append(final String fieldName, final Object[] array) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final Object[] array, final boolean fullDetail) {
-        style.append(buffer, fieldName, array, Boolean.valueOf(fullDetail));
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, Boolean.valueOf(fullDetail));
+        } else {
+            style.append(buffer(), fieldName, array, Boolean.valueOf(fullDetail));
+        }
         return this;
     }
 
@@ -905,7 +1156,11 @@ public ToStringBuilder append(final String fieldName, final Object[] array, fina
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final short value) {
-        style.append(buffer, fieldName, value);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, value);
+        } else {
+            style.append(buffer(), fieldName, value);
+        }
         return this;
     }
 
@@ -918,7 +1173,11 @@ public ToStringBuilder append(final String fieldName, final short value) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final short[] array) {
-        style.append(buffer, fieldName, array, null);
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, null);
+        } else {
+            style.append(buffer(), fieldName, array, null);
+        }
         return this;
     }
 
@@ -938,7 +1197,11 @@ public ToStringBuilder append(final String fieldName, final short[] array) {
      * @return this
      */
     public ToStringBuilder append(final String fieldName, final short[] array, final boolean fullDetail) {
-        style.append(buffer, fieldName, array, Boolean.valueOf(fullDetail));
+        if (stringBuilder != null) {
+            style.append(stringBuilder(), fieldName, array, Boolean.valueOf(fullDetail));
+        } else {
+            style.append(buffer(), fieldName, array, Boolean.valueOf(fullDetail));
+        }
         return this;
     }
 
@@ -952,7 +1215,11 @@ public ToStringBuilder append(final String fieldName, final short[] array, final
      * @since 2.0
      */
     public ToStringBuilder appendAsObjectToString(final Object srcObject) {
-        ObjectUtils.identityToString(this.getStringBuffer(), srcObject);
+        if (stringBuilder != null) {
+            ObjectUtils.identityToString(stringBuilder, srcObject);
+        } else {
+            ObjectUtils.identityToString(buffer, srcObject);
+        }
         return this;
     }
 
@@ -972,7 +1239,11 @@ public ToStringBuilder appendAsObjectToString(final Object srcObject) {
      */
     public ToStringBuilder appendSuper(final String superToString) {
         if (superToString != null) {
-            style.appendSuper(buffer, superToString);
+            if (stringBuilder != null) {
+                style.appendSuper(stringBuilder(), superToString);
+            } else {
+                style.appendSuper(buffer(), superToString);
+            }
         }
         return this;
     }
@@ -1006,7 +1277,11 @@ public ToStringBuilder appendSuper(final String superToString) {
      */
     public ToStringBuilder appendToString(final String toString) {
         if (toString != null) {
-            style.appendToString(buffer, toString);
+            if (stringBuilder != null) {
+                style.appendToString(stringBuilder(), toString);
+            } else {
+                style.appendToString(buffer(), toString);
+            }
         }
         return this;
     }
@@ -1024,12 +1299,95 @@ public Object getObject() {
     /**
      * <p>Gets the <code>StringBuffer</code> being populated.</p>
      *
+     * <p>When writing to an <code>Appendable</code>, the buffer only holds
+     * the output that has not been written to it yet.</p>
+     *
+     * <p>If the output was being appended to an unsynchronized
+     * <code>StringBuilder</code>, it is copied to a new <code>StringBuffer</code>,
+     * which the rest of the output is then appended to.</p>
+     *
      * @return the <code>StringBuffer</code> being populated
      */
     public StringBuffer getStringBuffer() {
+        if (stringBuilder != null) {
+            buffer = new StringBuffer(stringBuilder);
+            stringBuilder = null;
+        }
         return buffer;
     }
 
+    /**
+     * <p>Gets the <code>StringBuilder</code> being populated, if the style
+     * supports <code>StringBuilder</code>s and {@link #getStringBuffer()}
+     * has not been called.</p>
+     *
+     * @return the <code>StringBuilder</code> being populated, or <code>null</code>
+     */
+    StringBuilder getStringBuilder() {
+        return stringBuilder;
+    }
+
+    /**
+     * <p>Gets the <code>Appendable</code> the output is written to.</p>
+     *
+     * @return the <code>Appendable</code>, <code>null</code> if the output is only
+     *  kept in the <code>StringBuffer</code>
+     * @since 3.6
+     */
+    public Appendable getAppendable() {
+        return appendable;
+    }
+
+    /**
+     * <p>Gets the buffer for the style to append to, first writing the
+     * output it holds to the <code>Appendable</code> when it gets large.</p>
+     *
+     * @return the <code>StringBuffer</code> being populated
+     */
+    private StringBuffer buffer() {
+        if (appendable != null && buffer.length() > APPENDABLE_FLUSH_SIZE) {
+            // hold back what the style may remove as the last field separator
+            flush(style.getFieldSeparator().length());
+        }
+        return buffer;
+    }
+
+    /**
+     * <p>Gets the <code>StringBuilder</code> for the style to append to, first writing
+     * the output it holds to the <code>Appendable</code> when it gets large.</p>
+     *
+     * @return the <code>StringBuilder</code> being populated
+     */
+    private StringBuilder stringBuilder() {
+        if (appendable != null && stringBuilder.length() > APPENDABLE_FLUSH_SIZE) {
+            flush(style.getFieldSeparator().length());
+        }
+        return stringBuilder;
+    }
+
+    /**
+     * <p>Writes the buffer to the <code>Appendable</code>.</p>
+     *
+     * @param keep  the number of trailing characters to keep in the buffer
+     */
+    private void flush(final int keep) {
+        final int end = (stringBuilder != null ? stringBuilder.length() : buffer.length()) - keep;
+        if (end > 0) {
+            try {
+                if (stringBuilder != null) {
+                    appendable.append(stringBuilder, 0, end);
+                    stringBuilder.delete(0, end);
+                } else {
+                    // a single copy rather than synchronizing on every character
+                    appendable.append(buffer.substring(0, end));
+                    buffer.delete(0, end);
+                }
+            } catch (final IOException ioe) {
+                ExceptionUtils.rethrow(ioe);
+            }
+        }
+    }
+
     //----------------------------------------------------------------------------
 
     /**
@@ -1050,16 +1408,103 @@ public ToStringStyle getStyle() {
      *
      * <p>If the object is <code>null</code>, return the style's <code>nullText</code></p>
      *
+     * <p>When writing to an <code>Appendable</code>, this method returns the text
+     * this builder wrote to it, and can only be used if it is a <code>CharSequence</code>
+     * such as a <code>StringBuilder</code>. Use {@link #toAppendable()} for other
+     * <code>Appendable</code>s, like <code>Writer</code>s. Once the output is complete,
+     * calling this method again returns the same text without writing anything.</p>
+     *
      * @return the String <code>toString</code>
+     * @throws IllegalStateException if this builder writes to an <code>Appendable</code>
+     *  that is not a <code>CharSequence</code>
      */
     @Override
     public String toString() {
-        if (this.getObject() == null) {
-            this.getStringBuffer().append(this.getStyle().getNullText());
+        if (appendable != null) {
+            validateToString();
+            completeAppendable();
+            return ((CharSequence) appendable).subSequence(appendableStart, appendableEnd).toString();
+        }
+        appendEnd();
+        if (stringBuilder != null) {
+            return stringBuilder.toString();
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * <p>Completes the output written to the <code>Appendable</code> given
+     * to the constructor, without building a <code>String</code>.</p>
+     *
+     * <p>This method appends the end of data indicator, unless this method or
+     * {@link #toString()} already completed the output.</p>
+     *
+     * <p>If the object is <code>null</code>, the style's <code>nullText</code> is written.</p>
+     *
+     * @return the <code>Appendable</code> given to the constructor
+     * @throws IllegalStateException if this builder does not write to an <code>Appendable</code>
+     * @since 3.6
+     */
+    public Appendable toAppendable() {
+        Validate.validState(appendable != null, "This builder does not write to an Appendable");
+        completeAppendable();
+        return appendable;
+    }
+
+    /**
+     * <p>Checks that {@link #toString()} can return the output, which it cannot
+     * when it is written to an <code>Appendable</code> that is not a
+     * <code>CharSequence</code>.</p>
+     *
+     * @throws IllegalStateException if the output cannot be returned
+     */
+    void validateToString() {
+        Validate.validState(appendable == null || appendable instanceof CharSequence,
+                "Use toAppendable() to complete the output written to a %s", appendable == null ? null
+                        : appendable.getClass().getName());
+    }
+
+    /**
+     * <p>Returns whether the output written to the <code>Appendable</code> is complete.</p>
+     *
+     * @return <code>true</code> once {@link #toString()} or {@link #toAppendable()}
+     *  completed the output written to the <code>Appendable</code>
+     */
+    boolean isAppendableComplete() {
+        return appendableEnd >= 0;
+    }
+
+    /**
+     * <p>Appends the end of data indicator and writes the buffer to the
+     * <code>Appendable</code>, unless that was already done.</p>
+     */
+    private void completeAppendable() {
+        if (appendableEnd < 0) {
+            appendEnd();
+            appendableEnd = appendable instanceof CharSequence ? ((CharSequence) appendable).length() : 0;
+        }
+    }
+
+    /**
+     * <p>Appends the end of data indicator, or the style's <code>nullText</code>
+     * if the object is <code>null</code>, and writes the buffer to the
+     * <code>Appendable</code> if there is one.</p>
+     */
+    private void appendEnd() {
+        if (stringBuilder != null) {
+            if (this.getObject() == null) {
+                stringBuilder.append(this.getStyle().getNullText());
+            } else {
+                style.appendEnd(stringBuilder, this.getObject());
+            }
+        } else if (this.getObject() == null) {
+            buffer.append(this.getStyle().getNullText());
         } else {
-            style.appendEnd(this.getStringBuffer(), this.getObject());
+            style.appendEnd(buffer, this.getObject());
+        }
+        if (appendable != null) {
+            flush(0);
         }
-        return this.getStringBuffer().toString();
     }
 
     /**
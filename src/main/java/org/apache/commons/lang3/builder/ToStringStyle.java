@@ -18,6 +18,8 @@
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Map;
 import java.util.WeakHashMap;
@@ -60,6 +62,16 @@
  * }
  * </pre>
  *
+ * <p>Each method taking a <code>StringBuffer</code> has a twin taking an
+ * unsynchronized <code>StringBuilder</code>, which {@link ToStringBuilder}
+ * uses when it is not given a <code>StringBuffer</code>. The
+ * <code>StringBuffer</code> methods append what their <code>StringBuilder</code>
+ * twin writes, so a subclass overriding both should not call one from the
+ * other. A subclass which overrides a <code>StringBuffer</code> method without
+ * overriding its <code>StringBuilder</code> twin keeps working, as
+ * <code>ToStringBuilder</code> then only uses the <code>StringBuffer</code>
+ * methods, and these are still the ones called for each part of the output.</p>
+ *
  * @since 1.0
  */
 public abstract class ToStringStyle implements Serializable {
@@ -163,7 +175,7 @@ public abstract class ToStringStyle implements Serializable {
      * to detect cyclical object references and avoid infinite loops.
      * </p>
      */
-    private static final ThreadLocal<WeakHashMap<Object, Object>> REGISTRY =
+    private static final ThreadLocal<CycleRegistry> REGISTRY =
         new ThreadLocal<>();
     /*
      * Note that objects of this class are generally shared between threads, so
@@ -173,6 +185,10 @@ public abstract class ToStringStyle implements Serializable {
      * should call toString() which will clean up.
      * 
      * See LANG-792
+     * 
+     * Objects are matched by equality, as they were when the registry was a WeakHashMap.
+     * Unlike the map, the registry holds them strongly: it is discarded once empty, and
+     * ReflectionToStringBuilder unregisters its object when a traversal throws.
      */
 
     /**
@@ -181,10 +197,22 @@ public abstract class ToStringStyle implements Serializable {
      * methods in the current thread.
      * </p>
      *
-     * @return Set the registry of objects being traversed
+     * <p>
+     * The returned map is a snapshot, changing it does not change the registry.
+     * </p>
+     *
+     * @return Set the registry of objects being traversed, <code>null</code> if empty
      */
     static Map<Object, Object> getRegistry() {
-        return REGISTRY.get();
+        final CycleRegistry registry = REGISTRY.get();
+        if (registry == null) {
+            return null;
+        }
+        final Map<Object, Object> m = new WeakHashMap<>();
+        for (int i = 0; i < registry.size(); i++) {
+            m.put(registry.getLeft(i), null);
+        }
+        return m;
     }
 
     /**
@@ -199,8 +227,8 @@ static Map<Object, Object> getRegistry() {
      *             object.
      */
     static boolean isRegistered(final Object value) {
-        final Map<Object, Object> m = getRegistry();
-        return m != null && m.containsKey(value);
+        final CycleRegistry registry = REGISTRY.get();
+        return registry != null && registry.contains(value);
     }
 
     /**
@@ -214,11 +242,12 @@ static boolean isRegistered(final Object value) {
      */
     static void register(final Object value) {
         if (value != null) {
-            final Map<Object, Object> m = getRegistry();
-            if (m == null) {
-                REGISTRY.set(new WeakHashMap<>());
+            CycleRegistry registry = REGISTRY.get();
+            if (registry == null) {
+                registry = CycleRegistry.equalityRegistry();
+                REGISTRY.set(registry);
             }
-            getRegistry().put(value, null);
+            registry.add(value);
         }
     }
 
@@ -236,16 +265,73 @@ static void register(final Object value) {
      */
     static void unregister(final Object value) {
         if (value != null) {
-            final Map<Object, Object> m = getRegistry();
-            if (m != null) {
-                m.remove(value);
-                if (m.isEmpty()) {
+            final CycleRegistry registry = REGISTRY.get();
+            if (registry != null) {
+                registry.remove(value);
+                if (registry.isEmpty()) {
                     REGISTRY.remove();
                 }
             }
         }
     }
 
+    /**
+     * <p>
+     * Whether the methods taking a <code>StringBuilder</code> of each style class
+     * can be used, cached per class.
+     * </p>
+     */
+    private static final ClassValue<Boolean> STRING_BUILDER_SUPPORT = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            try {
+                for (Class<?> c = type; c != ToStringStyle.class; c = c.getSuperclass()) {
+                    for (final Method method : c.getDeclaredMethods()) {
+                        final Class<?>[] types = method.getParameterTypes();
+                        if (types.length == 0 || types[0] != StringBuffer.class
+                                || Modifier.isPrivate(method.getModifiers())
+                                || Modifier.isStatic(method.getModifiers())) {
+                            continue;
+                        }
+                        types[0] = StringBuilder.class;
+                        try {
+                            c.getDeclaredMethod(method.getName(), types);
+                        } catch (final NoSuchMethodException e) {
+                            return Boolean.FALSE;
+                        }
+                    }
+                }
+                return Boolean.TRUE;
+            } catch (final SecurityException e) {
+                return Boolean.FALSE;
+            }
+        }
+    };
+
+    /**
+     * <p>
+     * Returns <code>true</code> if the methods taking a <code>StringBuilder</code>
+     * can be used instead of the ones taking a <code>StringBuffer</code>, that is
+     * if every <code>StringBuffer</code> method overridden by a subclass has its
+     * <code>StringBuilder</code> twin overridden in the same class.
+     * </p>
+     *
+     * @return whether the <code>StringBuilder</code> methods can be used
+     */
+    boolean isStringBuilderSupported() {
+        Boolean supported = stringBuilderSupported;
+        if (supported == null) {
+            supported = STRING_BUILDER_SUPPORT.get(getClass());
+            stringBuilderSupported = supported;
+        }
+        return supported.booleanValue();
+    }
+
+    /**
+     * The value of {@link #isStringBuilderSupported()}, looked up on first use.
+     */
+    private transient Boolean stringBuilderSupported;
+
     /**
      * Whether to use the field names, the default is <code>true</code>.
      */
@@ -369,7 +455,24 @@ protected ToStringStyle() {
      * @since 2.0
      */
     public void appendSuper(final StringBuffer buffer, final String superToString) {
-        appendToString(buffer, superToString);
+        final StringBuilder builder = new StringBuilder(buffer);
+        appendSuper(builder, superToString);
+        buffer.setLength(0);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the superclass toString.</p>
+     * <p>NOTE: It assumes that the toString has been created from the same ToStringStyle. </p>
+     *
+     * <p>A <code>null</code> <code>superToString</code> is ignored.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param superToString  the <code>super.toString()</code>
+     * @since 3.6
+     */
+    public void appendSuper(final StringBuilder buffer, final String superToString) {
+        callAppendToString(buffer, superToString);
     }
 
     /**
@@ -383,16 +486,33 @@ public void appendSuper(final StringBuffer buffer, final String superToString) {
      * @since 2.0
      */
     public void appendToString(final StringBuffer buffer, final String toString) {
+        final StringBuilder builder = new StringBuilder(buffer);
+        appendToString(builder, toString);
+        buffer.setLength(0);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> another toString.</p>
+     * <p>NOTE: It assumes that the toString has been created from the same ToStringStyle. </p>
+     *
+     * <p>A <code>null</code> <code>toString</code> is ignored.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param toString  the additional <code>toString</code>
+     * @since 3.6
+     */
+    public void appendToString(final StringBuilder buffer, final String toString) {
         if (toString != null) {
             final int pos1 = toString.indexOf(contentStart) + contentStart.length();
             final int pos2 = toString.lastIndexOf(contentEnd);
             if (pos1 != pos2 && pos1 >= 0 && pos2 >= 0) {
                 final String data = toString.substring(pos1, pos2);
                 if (fieldSeparatorAtStart) {
-                    removeLastFieldSeparator(buffer);
+                    callRemoveLastFieldSeparator(buffer);
                 }
                 buffer.append(data);
-                appendFieldSeparator(buffer);
+                callAppendFieldSeparator(buffer);
             }
         }
     }
@@ -404,12 +524,25 @@ public void appendToString(final StringBuffer buffer, final String toString) {
      * @param object  the <code>Object</code> to build a <code>toString</code> for
      */
     public void appendStart(final StringBuffer buffer, final Object object) {
+        final StringBuilder builder = new StringBuilder();
+        appendStart(builder, object);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the start of data indicator.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param object  the <code>Object</code> to build a <code>toString</code> for
+     * @since 3.6
+     */
+    public void appendStart(final StringBuilder buffer, final Object object) {
         if (object != null) {
-            appendClassName(buffer, object);
-            appendIdentityHashCode(buffer, object);
-            appendContentStart(buffer);
+            callAppendClassName(buffer, object);
+            callAppendIdentityHashCode(buffer, object);
+            callAppendContentStart(buffer);
             if (fieldSeparatorAtStart) {
-                appendFieldSeparator(buffer);
+                callAppendFieldSeparator(buffer);
             }
         }
     }
@@ -422,10 +555,25 @@ public void appendStart(final StringBuffer buffer, final Object object) {
      *  <code>toString</code> for.
      */
     public void appendEnd(final StringBuffer buffer, final Object object) {
+        final StringBuilder builder = new StringBuilder(buffer);
+        appendEnd(builder, object);
+        buffer.setLength(0);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the end of data indicator.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param object  the <code>Object</code> to build a
+     *  <code>toString</code> for.
+     * @since 3.6
+     */
+    public void appendEnd(final StringBuilder buffer, final Object object) {
         if (this.fieldSeparatorAtEnd == false) {
-            removeLastFieldSeparator(buffer);
+            callRemoveLastFieldSeparator(buffer);
         }
-        appendContentEnd(buffer);
+        callAppendContentEnd(buffer);
         unregister(object);
     }
 
@@ -436,6 +584,19 @@ public void appendEnd(final StringBuffer buffer, final Object object) {
      * @since 2.0
      */
     protected void removeLastFieldSeparator(final StringBuffer buffer) {
+        final StringBuilder builder = new StringBuilder(buffer);
+        removeLastFieldSeparator(builder);
+        buffer.setLength(0);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Remove the last field separator from the buffer.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @since 3.6
+     */
+    protected void removeLastFieldSeparator(final StringBuilder buffer) {
         final int len = buffer.length();
         final int sepLen = fieldSeparator.length();
         if (len > 0 && sepLen > 0 && len >= sepLen) {
@@ -466,16 +627,34 @@ protected void removeLastFieldSeparator(final StringBuffer buffer) {
      *  for summary info, <code>null</code> for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final Object value, final Boolean fullDetail) {
-        appendFieldStart(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, value, fullDetail);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> an <code>Object</code>
+     * value, printing the full <code>toString</code> of the
+     * <code>Object</code> passed in.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param value  the value to add to the <code>toString</code>
+     * @param fullDetail  <code>true</code> for detail, <code>false</code>
+     *  for summary info, <code>null</code> for style decides
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final Object value, final Boolean fullDetail) {
+        callAppendFieldStart(buffer, fieldName);
 
         if (value == null) {
-            appendNullText(buffer, fieldName);
+            callAppendNullText(buffer, fieldName);
 
         } else {
-            appendInternal(buffer, fieldName, value, isFullDetail(fullDetail));
+            callAppendInternal(buffer, fieldName, value, isFullDetail(fullDetail));
         }
 
-        appendFieldEnd(buffer, fieldName);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -498,9 +677,35 @@ public void append(final StringBuffer buffer, final String fieldName, final Obje
      * @param detail  output detail or not
      */
     protected void appendInternal(final StringBuffer buffer, final String fieldName, final Object value, final boolean detail) {
+        final StringBuilder builder = new StringBuilder();
+        appendInternal(builder, fieldName, value, detail);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> an <code>Object</code>,
+     * correctly interpreting its type.</p>
+     *
+     * <p>This method performs the main lookup by Class type to correctly
+     * route arrays, <code>Collections</code>, <code>Maps</code> and
+     * <code>Objects</code> to the appropriate method.</p>
+     *
+     * <p>Either detail or summary views can be specified.</p>
+     *
+     * <p>If a cycle is detected, an object will be appended with the
+     * <code>Object.toString()</code> format.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @param detail  output detail or not
+     * @since 3.6
+     */
+    protected void appendInternal(final StringBuilder buffer, final String fieldName, final Object value, final boolean detail) {
         if (isRegistered(value)
             && !(value instanceof Number || value instanceof Boolean || value instanceof Character)) {
-           appendCyclicObject(buffer, fieldName, value);
+           callAppendCyclicObject(buffer, fieldName, value);
            return;
         }
 
@@ -509,86 +714,86 @@ protected void appendInternal(final StringBuffer buffer, final String fieldName,
         try {
             if (value instanceof Collection<?>) {
                 if (detail) {
-                    appendDetail(buffer, fieldName, (Collection<?>) value);
+                    callAppendDetail(buffer, fieldName, (Collection<?>) value);
                 } else {
-                    appendSummarySize(buffer, fieldName, ((Collection<?>) value).size());
+                    callAppendSummarySize(buffer, fieldName, ((Collection<?>) value).size());
                 }
 
             } else if (value instanceof Map<?, ?>) {
                 if (detail) {
-                    appendDetail(buffer, fieldName, (Map<?, ?>) value);
+                    callAppendDetail(buffer, fieldName, (Map<?, ?>) value);
                 } else {
-                    appendSummarySize(buffer, fieldName, ((Map<?, ?>) value).size());
+                    callAppendSummarySize(buffer, fieldName, ((Map<?, ?>) value).size());
                 }
 
             } else if (value instanceof long[]) {
                 if (detail) {
-                    appendDetail(buffer, fieldName, (long[]) value);
+                    callAppendDetail(buffer, fieldName, (long[]) value);
                 } else {
-                    appendSummary(buffer, fieldName, (long[]) value);
+                    callAppendSummary(buffer, fieldName, (long[]) value);
                 }
 
             } else if (value instanceof int[]) {
                 if (detail) {
-                    appendDetail(buffer, fieldName, (int[]) value);
+                    callAppendDetail(buffer, fieldName, (int[]) value);
                 } else {
-                    appendSummary(buffer, fieldName, (int[]) value);
+                    callAppendSummary(buffer, fieldName, (int[]) value);
                 }
 
             } else if (value instanceof short[]) {
                 if (detail) {
-                    appendDetail(buffer, fieldName, (short[]) value);
+                    callAppendDetail(buffer, fieldName, (short[]) value);
                 } else {
-                    appendSummary(buffer, fieldName, (short[]) value);
+                    callAppendSummary(buffer, fieldName, (short[]) value);
                 }
 
             } else if (value instanceof byte[]) {
                 if (detail) {
-                    appendDetail(buffer, fieldName, (byte[]) value);
+                    callAppendDetail(buffer, fieldName, (byte[]) value);
                 } else {
-                    appendSummary(buffer, fieldName, (byte[]) value);
+                    callAppendSummary(buffer, fieldName, (byte[]) value);
                 }
 
             } else if (value instanceof char[]) {
                 if (detail) {
-                    appendDetail(buffer, fieldName, (char[]) value);
+                    callAppendDetail(buffer, fieldName, (char[]) value);
                 } else {
-                    appendSummary(buffer, fieldName, (char[]) value);
+                    callAppendSummary(buffer, fieldName, (char[]) value);
                 }
 
             } else if (value instanceof double[]) {
                 if (detail) {
-                    appendDetail(buffer, fieldName, (double[]) value);
+                    callAppendDetail(buffer, fieldName, (double[]) value);
                 } else {
-                    appendSummary(buffer, fieldName, (double[]) value);
+                    callAppendSummary(buffer, fieldName, (double[]) value);
                 }
 
             } else if (value instanceof float[]) {
                 if (detail) {
-                    appendDetail(buffer, fieldName, (float[]) value);
+                    callAppendDetail(buffer, fieldName, (float[]) value);
                 } else {
-                    appendSummary(buffer, fieldName, (float[]) value);
+                    callAppendSummary(buffer, fieldName, (float[]) value);
                 }
 
             } else if (value instanceof boolean[]) {
                 if (detail) {
-                    appendDetail(buffer, fieldName, (boolean[]) value);
+                    callAppendDetail(buffer, fieldName, (boolean[]) value);
                 } else {
-                    appendSummary(buffer, fieldName, (boolean[]) value);
+                    callAppendSummary(buffer, fieldName, (boolean[]) value);
                 }
 
             } else if (value.getClass().isArray()) {
                 if (detail) {
-                    appendDetail(buffer, fieldName, (Object[]) value);
+                    callAppendDetail(buffer, fieldName, (Object[]) value);
                 } else {
-                    appendSummary(buffer, fieldName, (Object[]) value);
+                    callAppendSummary(buffer, fieldName, (Object[]) value);
                 }
 
             } else {
                 if (detail) {
-                    appendDetail(buffer, fieldName, value);
+                    callAppendDetail(buffer, fieldName, value);
                 } else {
-                    appendSummary(buffer, fieldName, value);
+                    callAppendSummary(buffer, fieldName, value);
                 }
             }
         } finally {
@@ -609,6 +814,24 @@ protected void appendInternal(final StringBuffer buffer, final String fieldName,
      * @since 2.2
      */
     protected void appendCyclicObject(final StringBuffer buffer, final String fieldName, final Object value) {
+        final StringBuilder builder = new StringBuilder();
+        appendCyclicObject(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> an <code>Object</code>
+     * value that has been detected to participate in a cycle. This
+     * implementation will print the standard string value of the value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>,
+     *  not <code>null</code>
+     *
+     * @since 3.6
+     */
+    protected void appendCyclicObject(final StringBuilder buffer, final String fieldName, final Object value) {
        ObjectUtils.identityToString(buffer, value);
     }
 
@@ -622,6 +845,22 @@ protected void appendCyclicObject(final StringBuffer buffer, final String fieldN
      *  not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final Object value) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> an <code>Object</code>
+     * value, printing the full detail of the <code>Object</code>.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final Object value) {
         buffer.append(value);
     }
 
@@ -634,6 +873,21 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  <code>toString</code>, not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final Collection<?> coll) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, coll);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>Collection</code>.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param coll  the <code>Collection</code> to add to the
+     *  <code>toString</code>, not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final Collection<?> coll) {
         buffer.append(coll);
     }
 
@@ -646,6 +900,21 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final Map<?, ?> map) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, map);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>Map</code>.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param map  the <code>Map</code> to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final Map<?, ?> map) {
         buffer.append(map);
     }
 
@@ -659,6 +928,22 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not <code>null</code>
      */
     protected void appendSummary(final StringBuffer buffer, final String fieldName, final Object value) {
+        final StringBuilder builder = new StringBuilder();
+        appendSummary(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> an <code>Object</code>
+     * value, printing a summary of the <code>Object</code>.</P>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendSummary(final StringBuilder buffer, final String fieldName, final Object value) {
         buffer.append(summaryObjectStartText);
         buffer.append(getShortClassName(value.getClass()));
         buffer.append(summaryObjectEndText);
@@ -675,9 +960,24 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      * @param value  the value to add to the <code>toString</code>
      */
     public void append(final StringBuffer buffer, final String fieldName, final long value) {
-        appendFieldStart(buffer, fieldName);
-        appendDetail(buffer, fieldName, value);
-        appendFieldEnd(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>long</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final long value) {
+        callAppendFieldStart(buffer, fieldName);
+        callAppendDetail(buffer, fieldName, value);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -689,6 +989,21 @@ public void append(final StringBuffer buffer, final String fieldName, final long
      * @param value  the value to add to the <code>toString</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final long value) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>long</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final long value) {
         buffer.append(value);
     }
 
@@ -703,9 +1018,24 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      * @param value  the value to add to the <code>toString</code>
      */
     public void append(final StringBuffer buffer, final String fieldName, final int value) {
-        appendFieldStart(buffer, fieldName);
-        appendDetail(buffer, fieldName, value);
-        appendFieldEnd(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> an <code>int</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final int value) {
+        callAppendFieldStart(buffer, fieldName);
+        callAppendDetail(buffer, fieldName, value);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -717,6 +1047,21 @@ public void append(final StringBuffer buffer, final String fieldName, final int
      * @param value  the value to add to the <code>toString</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final int value) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> an <code>int</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final int value) {
         buffer.append(value);
     }
 
@@ -731,9 +1076,24 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      * @param value  the value to add to the <code>toString</code>
      */
     public void append(final StringBuffer buffer, final String fieldName, final short value) {
-        appendFieldStart(buffer, fieldName);
-        appendDetail(buffer, fieldName, value);
-        appendFieldEnd(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>short</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final short value) {
+        callAppendFieldStart(buffer, fieldName);
+        callAppendDetail(buffer, fieldName, value);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -745,6 +1105,21 @@ public void append(final StringBuffer buffer, final String fieldName, final shor
      * @param value  the value to add to the <code>toString</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final short value) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>short</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final short value) {
         buffer.append(value);
     }
 
@@ -759,132 +1134,282 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      * @param value  the value to add to the <code>toString</code>
      */
     public void append(final StringBuffer buffer, final String fieldName, final byte value) {
-        appendFieldStart(buffer, fieldName);
-        appendDetail(buffer, fieldName, value);
-        appendFieldEnd(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, value);
+        buffer.append(builder);
     }
 
     /**
      * <p>Append to the <code>toString</code> a <code>byte</code>
      * value.</p>
      *
-     * @param buffer  the <code>StringBuffer</code> to populate
-     * @param fieldName  the field name, typically not used as already appended
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
      * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
      */
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final byte value) {
-        buffer.append(value);
+    public void append(final StringBuilder buffer, final String fieldName, final byte value) {
+        callAppendFieldStart(buffer, fieldName);
+        callAppendDetail(buffer, fieldName, value);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
-    //----------------------------------------------------------------------------
-
     /**
-     * <p>Append to the <code>toString</code> a <code>char</code>
+     * <p>Append to the <code>toString</code> a <code>byte</code>
      * value.</p>
      *
      * @param buffer  the <code>StringBuffer</code> to populate
-     * @param fieldName  the field name
+     * @param fieldName  the field name, typically not used as already appended
      * @param value  the value to add to the <code>toString</code>
      */
-    public void append(final StringBuffer buffer, final String fieldName, final char value) {
-        appendFieldStart(buffer, fieldName);
-        appendDetail(buffer, fieldName, value);
-        appendFieldEnd(buffer, fieldName);
+    protected void appendDetail(final StringBuffer buffer, final String fieldName, final byte value) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, value);
+        buffer.append(builder);
     }
 
     /**
-     * <p>Append to the <code>toString</code> a <code>char</code>
+     * <p>Append to the <code>toString</code> a <code>byte</code>
      * value.</p>
      *
-     * @param buffer  the <code>StringBuffer</code> to populate
+     * @param buffer  the <code>StringBuilder</code> to populate
      * @param fieldName  the field name, typically not used as already appended
      * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
      */
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final char value) {
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final byte value) {
         buffer.append(value);
     }
 
     //----------------------------------------------------------------------------
 
     /**
-     * <p>Append to the <code>toString</code> a <code>double</code>
+     * <p>Append to the <code>toString</code> a <code>char</code>
      * value.</p>
      *
      * @param buffer  the <code>StringBuffer</code> to populate
      * @param fieldName  the field name
      * @param value  the value to add to the <code>toString</code>
      */
-    public void append(final StringBuffer buffer, final String fieldName, final double value) {
-        appendFieldStart(buffer, fieldName);
-        appendDetail(buffer, fieldName, value);
-        appendFieldEnd(buffer, fieldName);
+    public void append(final StringBuffer buffer, final String fieldName, final char value) {
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, value);
+        buffer.append(builder);
     }
 
     /**
-     * <p>Append to the <code>toString</code> a <code>double</code>
+     * <p>Append to the <code>toString</code> a <code>char</code>
      * value.</p>
      *
-     * @param buffer  the <code>StringBuffer</code> to populate
-     * @param fieldName  the field name, typically not used as already appended
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
      * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
      */
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final double value) {
-        buffer.append(value);
+    public void append(final StringBuilder buffer, final String fieldName, final char value) {
+        callAppendFieldStart(buffer, fieldName);
+        callAppendDetail(buffer, fieldName, value);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
-    //----------------------------------------------------------------------------
-
     /**
-     * <p>Append to the <code>toString</code> a <code>float</code>
+     * <p>Append to the <code>toString</code> a <code>char</code>
      * value.</p>
      *
      * @param buffer  the <code>StringBuffer</code> to populate
-     * @param fieldName  the field name
+     * @param fieldName  the field name, typically not used as already appended
      * @param value  the value to add to the <code>toString</code>
      */
-    public void append(final StringBuffer buffer, final String fieldName, final float value) {
-        appendFieldStart(buffer, fieldName);
-        appendDetail(buffer, fieldName, value);
-        appendFieldEnd(buffer, fieldName);
+    protected void appendDetail(final StringBuffer buffer, final String fieldName, final char value) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, value);
+        buffer.append(builder);
     }
 
     /**
-     * <p>Append to the <code>toString</code> a <code>float</code>
+     * <p>Append to the <code>toString</code> a <code>char</code>
      * value.</p>
      *
-     * @param buffer  the <code>StringBuffer</code> to populate
+     * @param buffer  the <code>StringBuilder</code> to populate
      * @param fieldName  the field name, typically not used as already appended
      * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
      */
-    protected void appendDetail(final StringBuffer buffer, final String fieldName, final float value) {
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final char value) {
         buffer.append(value);
     }
 
     //----------------------------------------------------------------------------
 
     /**
-     * <p>Append to the <code>toString</code> a <code>boolean</code>
+     * <p>Append to the <code>toString</code> a <code>double</code>
      * value.</p>
      *
      * @param buffer  the <code>StringBuffer</code> to populate
      * @param fieldName  the field name
      * @param value  the value to add to the <code>toString</code>
      */
-    public void append(final StringBuffer buffer, final String fieldName, final boolean value) {
-        appendFieldStart(buffer, fieldName);
-        appendDetail(buffer, fieldName, value);
-        appendFieldEnd(buffer, fieldName);
+    public void append(final StringBuffer buffer, final String fieldName, final double value) {
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, value);
+        buffer.append(builder);
     }
 
     /**
-     * <p>Append to the <code>toString</code> a <code>boolean</code>
+     * <p>Append to the <code>toString</code> a <code>double</code>
      * value.</p>
      *
-     * @param buffer  the <code>StringBuffer</code> to populate
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final double value) {
+        callAppendFieldStart(buffer, fieldName);
+        callAppendDetail(buffer, fieldName, value);
+        callAppendFieldEnd(buffer, fieldName);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>double</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuffer</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>
+     */
+    protected void appendDetail(final StringBuffer buffer, final String fieldName, final double value) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>double</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final double value) {
+        buffer.append(value);
+    }
+
+    //----------------------------------------------------------------------------
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>float</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuffer</code> to populate
+     * @param fieldName  the field name
+     * @param value  the value to add to the <code>toString</code>
+     */
+    public void append(final StringBuffer buffer, final String fieldName, final float value) {
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>float</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final float value) {
+        callAppendFieldStart(buffer, fieldName);
+        callAppendDetail(buffer, fieldName, value);
+        callAppendFieldEnd(buffer, fieldName);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>float</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuffer</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>
+     */
+    protected void appendDetail(final StringBuffer buffer, final String fieldName, final float value) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>float</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final float value) {
+        buffer.append(value);
+    }
+
+    //----------------------------------------------------------------------------
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>boolean</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuffer</code> to populate
+     * @param fieldName  the field name
+     * @param value  the value to add to the <code>toString</code>
+     */
+    public void append(final StringBuffer buffer, final String fieldName, final boolean value) {
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>boolean</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final boolean value) {
+        callAppendFieldStart(buffer, fieldName);
+        callAppendDetail(buffer, fieldName, value);
+        callAppendFieldEnd(buffer, fieldName);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>boolean</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuffer</code> to populate
      * @param fieldName  the field name, typically not used as already appended
      * @param value  the value to add to the <code>toString</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final boolean value) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, value);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>boolean</code>
+     * value.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param value  the value to add to the <code>toString</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final boolean value) {
         buffer.append(value);
     }
 
@@ -899,19 +1424,36 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  for summary info, <code>null</code> for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final Object[] array, final Boolean fullDetail) {
-        appendFieldStart(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, array, fullDetail);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> an <code>Object</code>
+     * array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param array  the array to add to the toString
+     * @param fullDetail  <code>true</code> for detail, <code>false</code>
+     *  for summary info, <code>null</code> for style decides
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final Object[] array, final Boolean fullDetail) {
+        callAppendFieldStart(buffer, fieldName);
 
         if (array == null) {
-            appendNullText(buffer, fieldName);
+            callAppendNullText(buffer, fieldName);
 
         } else if (isFullDetail(fullDetail)) {
-            appendDetail(buffer, fieldName, array);
+            callAppendDetail(buffer, fieldName, array);
 
         } else {
-            appendSummary(buffer, fieldName, array);
+            callAppendSummary(buffer, fieldName, array);
         }
 
-        appendFieldEnd(buffer, fieldName);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     //----------------------------------------------------------------------------
@@ -926,6 +1468,22 @@ public void append(final StringBuffer buffer, final String fieldName, final Obje
      *  not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final Object[] array) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the detail of an
+     * <code>Object</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final Object[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
             final Object item = array[i];
@@ -933,10 +1491,10 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
                 buffer.append(arraySeparator);
             }
             if (item == null) {
-                appendNullText(buffer, fieldName);
+                callAppendNullText(buffer, fieldName);
 
             } else {
-                appendInternal(buffer, fieldName, item, arrayContentDetail);
+                callAppendInternal(buffer, fieldName, item, arrayContentDetail);
             }
         }
         buffer.append(arrayEnd);
@@ -952,6 +1510,21 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      * @since 2.0
      */
     protected void reflectionAppendArrayDetail(final StringBuffer buffer, final String fieldName, final Object array) {
+        final StringBuilder builder = new StringBuilder();
+        reflectionAppendArrayDetail(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the detail of an array type.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void reflectionAppendArrayDetail(final StringBuilder buffer, final String fieldName, final Object array) {
         buffer.append(arrayStart);
         final int length = Array.getLength(array);
         for (int i = 0; i < length; i++) {
@@ -960,10 +1533,10 @@ protected void reflectionAppendArrayDetail(final StringBuffer buffer, final Stri
                 buffer.append(arraySeparator);
             }
             if (item == null) {
-                appendNullText(buffer, fieldName);
+                callAppendNullText(buffer, fieldName);
 
             } else {
-                appendInternal(buffer, fieldName, item, arrayContentDetail);
+                callAppendInternal(buffer, fieldName, item, arrayContentDetail);
             }
         }
         buffer.append(arrayEnd);
@@ -979,7 +1552,23 @@ protected void reflectionAppendArrayDetail(final StringBuffer buffer, final Stri
      *  not <code>null</code>
      */
     protected void appendSummary(final StringBuffer buffer, final String fieldName, final Object[] array) {
-        appendSummarySize(buffer, fieldName, array.length);
+        final StringBuilder builder = new StringBuilder();
+        appendSummary(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a summary of an
+     * <code>Object</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendSummary(final StringBuilder buffer, final String fieldName, final Object[] array) {
+        callAppendSummarySize(buffer, fieldName, array.length);
     }
 
     //----------------------------------------------------------------------------
@@ -995,19 +1584,36 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, <code>null</code> for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final long[] array, final Boolean fullDetail) {
-        appendFieldStart(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, array, fullDetail);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>long</code>
+     * array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param array  the array to add to the <code>toString</code>
+     * @param fullDetail  <code>true</code> for detail, <code>false</code>
+     *  for summary info, <code>null</code> for style decides
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final long[] array, final Boolean fullDetail) {
+        callAppendFieldStart(buffer, fieldName);
 
         if (array == null) {
-            appendNullText(buffer, fieldName);
+            callAppendNullText(buffer, fieldName);
 
         } else if (isFullDetail(fullDetail)) {
-            appendDetail(buffer, fieldName, array);
+            callAppendDetail(buffer, fieldName, array);
 
         } else {
-            appendSummary(buffer, fieldName, array);
+            callAppendSummary(buffer, fieldName, array);
         }
 
-        appendFieldEnd(buffer, fieldName);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -1020,12 +1626,28 @@ public void append(final StringBuffer buffer, final String fieldName, final long
      *  not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final long[] array) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the detail of a
+     * <code>long</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final long[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
-            appendDetail(buffer, fieldName, array[i]);
+            callAppendDetail(buffer, fieldName, array[i]);
         }
         buffer.append(arrayEnd);
     }
@@ -1040,7 +1662,23 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not <code>null</code>
      */
     protected void appendSummary(final StringBuffer buffer, final String fieldName, final long[] array) {
-        appendSummarySize(buffer, fieldName, array.length);
+        final StringBuilder builder = new StringBuilder();
+        appendSummary(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a summary of a
+     * <code>long</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendSummary(final StringBuilder buffer, final String fieldName, final long[] array) {
+        callAppendSummarySize(buffer, fieldName, array.length);
     }
 
     //----------------------------------------------------------------------------
@@ -1056,19 +1694,36 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, <code>null</code> for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final int[] array, final Boolean fullDetail) {
-        appendFieldStart(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, array, fullDetail);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> an <code>int</code>
+     * array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param array  the array to add to the <code>toString</code>
+     * @param fullDetail  <code>true</code> for detail, <code>false</code>
+     *  for summary info, <code>null</code> for style decides
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final int[] array, final Boolean fullDetail) {
+        callAppendFieldStart(buffer, fieldName);
 
         if (array == null) {
-            appendNullText(buffer, fieldName);
+            callAppendNullText(buffer, fieldName);
 
         } else if (isFullDetail(fullDetail)) {
-            appendDetail(buffer, fieldName, array);
+            callAppendDetail(buffer, fieldName, array);
 
         } else {
-            appendSummary(buffer, fieldName, array);
+            callAppendSummary(buffer, fieldName, array);
         }
 
-        appendFieldEnd(buffer, fieldName);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -1081,12 +1736,28 @@ public void append(final StringBuffer buffer, final String fieldName, final int[
      *  not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final int[] array) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the detail of an
+     * <code>int</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final int[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
-            appendDetail(buffer, fieldName, array[i]);
+            callAppendDetail(buffer, fieldName, array[i]);
         }
         buffer.append(arrayEnd);
     }
@@ -1101,7 +1772,23 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not <code>null</code>
      */
     protected void appendSummary(final StringBuffer buffer, final String fieldName, final int[] array) {
-        appendSummarySize(buffer, fieldName, array.length);
+        final StringBuilder builder = new StringBuilder();
+        appendSummary(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a summary of an
+     * <code>int</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendSummary(final StringBuilder buffer, final String fieldName, final int[] array) {
+        callAppendSummarySize(buffer, fieldName, array.length);
     }
 
     //----------------------------------------------------------------------------
@@ -1117,19 +1804,36 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, <code>null</code> for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final short[] array, final Boolean fullDetail) {
-        appendFieldStart(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, array, fullDetail);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>short</code>
+     * array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param array  the array to add to the <code>toString</code>
+     * @param fullDetail  <code>true</code> for detail, <code>false</code>
+     *  for summary info, <code>null</code> for style decides
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final short[] array, final Boolean fullDetail) {
+        callAppendFieldStart(buffer, fieldName);
 
         if (array == null) {
-            appendNullText(buffer, fieldName);
+            callAppendNullText(buffer, fieldName);
 
         } else if (isFullDetail(fullDetail)) {
-            appendDetail(buffer, fieldName, array);
+            callAppendDetail(buffer, fieldName, array);
 
         } else {
-            appendSummary(buffer, fieldName, array);
+            callAppendSummary(buffer, fieldName, array);
         }
 
-        appendFieldEnd(buffer, fieldName);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -1142,12 +1846,28 @@ public void append(final StringBuffer buffer, final String fieldName, final shor
      *  not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final short[] array) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the detail of a
+     * <code>short</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final short[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
-            appendDetail(buffer, fieldName, array[i]);
+            callAppendDetail(buffer, fieldName, array[i]);
         }
         buffer.append(arrayEnd);
     }
@@ -1162,7 +1882,23 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not <code>null</code>
      */
     protected void appendSummary(final StringBuffer buffer, final String fieldName, final short[] array) {
-        appendSummarySize(buffer, fieldName, array.length);
+        final StringBuilder builder = new StringBuilder();
+        appendSummary(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a summary of a
+     * <code>short</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendSummary(final StringBuilder buffer, final String fieldName, final short[] array) {
+        callAppendSummarySize(buffer, fieldName, array.length);
     }
 
     //----------------------------------------------------------------------------
@@ -1178,19 +1914,36 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, <code>null</code> for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final byte[] array, final Boolean fullDetail) {
-        appendFieldStart(buffer, fieldName);
-
-        if (array == null) {
-            appendNullText(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, array, fullDetail);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>byte</code>
+     * array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param array  the array to add to the <code>toString</code>
+     * @param fullDetail  <code>true</code> for detail, <code>false</code>
+     *  for summary info, <code>null</code> for style decides
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final byte[] array, final Boolean fullDetail) {
+        callAppendFieldStart(buffer, fieldName);
+
+        if (array == null) {
+            callAppendNullText(buffer, fieldName);
 
         } else if (isFullDetail(fullDetail)) {
-            appendDetail(buffer, fieldName, array);
+            callAppendDetail(buffer, fieldName, array);
 
         } else {
-            appendSummary(buffer, fieldName, array);
+            callAppendSummary(buffer, fieldName, array);
         }
 
-        appendFieldEnd(buffer, fieldName);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -1203,12 +1956,28 @@ public void append(final StringBuffer buffer, final String fieldName, final byte
      *  not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final byte[] array) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the detail of a
+     * <code>byte</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final byte[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
-            appendDetail(buffer, fieldName, array[i]);
+            callAppendDetail(buffer, fieldName, array[i]);
         }
         buffer.append(arrayEnd);
     }
@@ -1223,7 +1992,23 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not <code>null</code>
      */
     protected void appendSummary(final StringBuffer buffer, final String fieldName, final byte[] array) {
-        appendSummarySize(buffer, fieldName, array.length);
+        final StringBuilder builder = new StringBuilder();
+        appendSummary(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a summary of a
+     * <code>byte</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendSummary(final StringBuilder buffer, final String fieldName, final byte[] array) {
+        callAppendSummarySize(buffer, fieldName, array.length);
     }
 
     //----------------------------------------------------------------------------
@@ -1239,19 +2024,36 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, <code>null</code> for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final char[] array, final Boolean fullDetail) {
-        appendFieldStart(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, array, fullDetail);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>char</code>
+     * array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param array  the array to add to the <code>toString</code>
+     * @param fullDetail  <code>true</code> for detail, <code>false</code>
+     *  for summary info, <code>null</code> for style decides
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final char[] array, final Boolean fullDetail) {
+        callAppendFieldStart(buffer, fieldName);
 
         if (array == null) {
-            appendNullText(buffer, fieldName);
+            callAppendNullText(buffer, fieldName);
 
         } else if (isFullDetail(fullDetail)) {
-            appendDetail(buffer, fieldName, array);
+            callAppendDetail(buffer, fieldName, array);
 
         } else {
-            appendSummary(buffer, fieldName, array);
+            callAppendSummary(buffer, fieldName, array);
         }
 
-        appendFieldEnd(buffer, fieldName);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -1264,12 +2066,28 @@ public void append(final StringBuffer buffer, final String fieldName, final char
      *  not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final char[] array) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the detail of a
+     * <code>char</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final char[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
-            appendDetail(buffer, fieldName, array[i]);
+            callAppendDetail(buffer, fieldName, array[i]);
         }
         buffer.append(arrayEnd);
     }
@@ -1284,7 +2102,23 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not <code>null</code>
      */
     protected void appendSummary(final StringBuffer buffer, final String fieldName, final char[] array) {
-        appendSummarySize(buffer, fieldName, array.length);
+        final StringBuilder builder = new StringBuilder();
+        appendSummary(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a summary of a
+     * <code>char</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendSummary(final StringBuilder buffer, final String fieldName, final char[] array) {
+        callAppendSummarySize(buffer, fieldName, array.length);
     }
 
     //----------------------------------------------------------------------------
@@ -1300,19 +2134,36 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, <code>null</code> for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final double[] array, final Boolean fullDetail) {
-        appendFieldStart(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, array, fullDetail);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>double</code>
+     * array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param array  the array to add to the toString
+     * @param fullDetail  <code>true</code> for detail, <code>false</code>
+     *  for summary info, <code>null</code> for style decides
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final double[] array, final Boolean fullDetail) {
+        callAppendFieldStart(buffer, fieldName);
 
         if (array == null) {
-            appendNullText(buffer, fieldName);
+            callAppendNullText(buffer, fieldName);
 
         } else if (isFullDetail(fullDetail)) {
-            appendDetail(buffer, fieldName, array);
+            callAppendDetail(buffer, fieldName, array);
 
         } else {
-            appendSummary(buffer, fieldName, array);
+            callAppendSummary(buffer, fieldName, array);
         }
 
-        appendFieldEnd(buffer, fieldName);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -1325,12 +2176,28 @@ public void append(final StringBuffer buffer, final String fieldName, final doub
      *  not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final double[] array) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the detail of a
+     * <code>double</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final double[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
-            appendDetail(buffer, fieldName, array[i]);
+            callAppendDetail(buffer, fieldName, array[i]);
         }
         buffer.append(arrayEnd);
     }
@@ -1345,7 +2212,23 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not <code>null</code>
      */
     protected void appendSummary(final StringBuffer buffer, final String fieldName, final double[] array) {
-        appendSummarySize(buffer, fieldName, array.length);
+        final StringBuilder builder = new StringBuilder();
+        appendSummary(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a summary of a
+     * <code>double</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendSummary(final StringBuilder buffer, final String fieldName, final double[] array) {
+        callAppendSummarySize(buffer, fieldName, array.length);
     }
 
     //----------------------------------------------------------------------------
@@ -1361,19 +2244,36 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, <code>null</code> for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final float[] array, final Boolean fullDetail) {
-        appendFieldStart(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, array, fullDetail);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>float</code>
+     * array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param array  the array to add to the toString
+     * @param fullDetail  <code>true</code> for detail, <code>false</code>
+     *  for summary info, <code>null</code> for style decides
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final float[] array, final Boolean fullDetail) {
+        callAppendFieldStart(buffer, fieldName);
 
         if (array == null) {
-            appendNullText(buffer, fieldName);
+            callAppendNullText(buffer, fieldName);
 
         } else if (isFullDetail(fullDetail)) {
-            appendDetail(buffer, fieldName, array);
+            callAppendDetail(buffer, fieldName, array);
 
         } else {
-            appendSummary(buffer, fieldName, array);
+            callAppendSummary(buffer, fieldName, array);
         }
 
-        appendFieldEnd(buffer, fieldName);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -1386,12 +2286,28 @@ public void append(final StringBuffer buffer, final String fieldName, final floa
      *  not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final float[] array) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the detail of a
+     * <code>float</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final float[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
-            appendDetail(buffer, fieldName, array[i]);
+            callAppendDetail(buffer, fieldName, array[i]);
         }
         buffer.append(arrayEnd);
     }
@@ -1406,7 +2322,23 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not <code>null</code>
      */
     protected void appendSummary(final StringBuffer buffer, final String fieldName, final float[] array) {
-        appendSummarySize(buffer, fieldName, array.length);
+        final StringBuilder builder = new StringBuilder();
+        appendSummary(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a summary of a
+     * <code>float</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendSummary(final StringBuilder buffer, final String fieldName, final float[] array) {
+        callAppendSummarySize(buffer, fieldName, array.length);
     }
 
     //----------------------------------------------------------------------------
@@ -1422,19 +2354,36 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, <code>null</code> for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final boolean[] array, final Boolean fullDetail) {
-        appendFieldStart(buffer, fieldName);
+        final StringBuilder builder = new StringBuilder();
+        append(builder, fieldName, array, fullDetail);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a <code>boolean</code>
+     * array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @param array  the array to add to the toString
+     * @param fullDetail  <code>true</code> for detail, <code>false</code>
+     *  for summary info, <code>null</code> for style decides
+     * @since 3.6
+     */
+    public void append(final StringBuilder buffer, final String fieldName, final boolean[] array, final Boolean fullDetail) {
+        callAppendFieldStart(buffer, fieldName);
 
         if (array == null) {
-            appendNullText(buffer, fieldName);
+            callAppendNullText(buffer, fieldName);
 
         } else if (isFullDetail(fullDetail)) {
-            appendDetail(buffer, fieldName, array);
+            callAppendDetail(buffer, fieldName, array);
 
         } else {
-            appendSummary(buffer, fieldName, array);
+            callAppendSummary(buffer, fieldName, array);
         }
 
-        appendFieldEnd(buffer, fieldName);
+        callAppendFieldEnd(buffer, fieldName);
     }
 
     /**
@@ -1447,12 +2396,28 @@ public void append(final StringBuffer buffer, final String fieldName, final bool
      *  not <code>null</code>
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final boolean[] array) {
+        final StringBuilder builder = new StringBuilder();
+        appendDetail(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the detail of a
+     * <code>boolean</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendDetail(final StringBuilder buffer, final String fieldName, final boolean[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
-            appendDetail(buffer, fieldName, array[i]);
+            callAppendDetail(buffer, fieldName, array[i]);
         }
         buffer.append(arrayEnd);
     }
@@ -1467,7 +2432,23 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not <code>null</code>
      */
     protected void appendSummary(final StringBuffer buffer, final String fieldName, final boolean[] array) {
-        appendSummarySize(buffer, fieldName, array.length);
+        final StringBuilder builder = new StringBuilder();
+        appendSummary(builder, fieldName, array);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a summary of a
+     * <code>boolean</code> array.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param array  the array to add to the <code>toString</code>,
+     *  not <code>null</code>
+     * @since 3.6
+     */
+    protected void appendSummary(final StringBuilder buffer, final String fieldName, final boolean[] array) {
+        callAppendSummarySize(buffer, fieldName, array.length);
     }
 
     //----------------------------------------------------------------------------
@@ -1479,6 +2460,19 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      * @param object  the <code>Object</code> whose name to output
      */
     protected void appendClassName(final StringBuffer buffer, final Object object) {
+        final StringBuilder builder = new StringBuilder();
+        appendClassName(builder, object);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the class name.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param object  the <code>Object</code> whose name to output
+     * @since 3.6
+     */
+    protected void appendClassName(final StringBuilder buffer, final Object object) {
         if (useClassName && object != null) {
             register(object);
             if (useShortClassName) {
@@ -1496,6 +2490,19 @@ protected void appendClassName(final StringBuffer buffer, final Object object) {
      * @param object  the <code>Object</code> whose id to output
      */
     protected void appendIdentityHashCode(final StringBuffer buffer, final Object object) {
+        final StringBuilder builder = new StringBuilder();
+        appendIdentityHashCode(builder, object);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append the {@link System#identityHashCode(java.lang.Object)}.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param object  the <code>Object</code> whose id to output
+     * @since 3.6
+     */
+    protected void appendIdentityHashCode(final StringBuilder buffer, final Object object) {
         if (this.isUseIdentityHashCode() && object!=null) {
             register(object);
             buffer.append('@');
@@ -1509,6 +2516,18 @@ protected void appendIdentityHashCode(final StringBuffer buffer, final Object ob
      * @param buffer  the <code>StringBuffer</code> to populate
      */
     protected void appendContentStart(final StringBuffer buffer) {
+        final StringBuilder builder = new StringBuilder();
+        appendContentStart(builder);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the content start.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @since 3.6
+     */
+    protected void appendContentStart(final StringBuilder buffer) {
         buffer.append(contentStart);
     }
 
@@ -1518,6 +2537,18 @@ protected void appendContentStart(final StringBuffer buffer) {
      * @param buffer  the <code>StringBuffer</code> to populate
      */
     protected void appendContentEnd(final StringBuffer buffer) {
+        final StringBuilder builder = new StringBuilder();
+        appendContentEnd(builder);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the content end.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @since 3.6
+     */
+    protected void appendContentEnd(final StringBuilder buffer) {
         buffer.append(contentEnd);
     }
 
@@ -1530,6 +2561,21 @@ protected void appendContentEnd(final StringBuffer buffer) {
      * @param fieldName  the field name, typically not used as already appended
      */
     protected void appendNullText(final StringBuffer buffer, final String fieldName) {
+        final StringBuilder builder = new StringBuilder();
+        appendNullText(builder, fieldName);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> an indicator for <code>null</code>.</p>
+     *
+     * <p>The default indicator is <code>'&lt;null&gt;'</code>.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @since 3.6
+     */
+    protected void appendNullText(final StringBuilder buffer, final String fieldName) {
         buffer.append(nullText);
     }
 
@@ -1539,6 +2585,18 @@ protected void appendNullText(final StringBuffer buffer, final String fieldName)
      * @param buffer  the <code>StringBuffer</code> to populate
      */
     protected void appendFieldSeparator(final StringBuffer buffer) {
+        final StringBuilder builder = new StringBuilder();
+        appendFieldSeparator(builder);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the field separator.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @since 3.6
+     */
+    protected void appendFieldSeparator(final StringBuilder buffer) {
         buffer.append(fieldSeparator);
     }
 
@@ -1549,6 +2607,19 @@ protected void appendFieldSeparator(final StringBuffer buffer) {
      * @param fieldName  the field name
      */
     protected void appendFieldStart(final StringBuffer buffer, final String fieldName) {
+        final StringBuilder builder = new StringBuilder();
+        appendFieldStart(builder, fieldName);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the field start.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name
+     * @since 3.6
+     */
+    protected void appendFieldStart(final StringBuilder buffer, final String fieldName) {
         if (useFieldNames && fieldName != null) {
             buffer.append(fieldName);
             buffer.append(fieldNameValueSeparator);
@@ -1562,7 +2633,20 @@ protected void appendFieldStart(final StringBuffer buffer, final String fieldNam
      * @param fieldName  the field name, typically not used as already appended
      */
     protected void appendFieldEnd(final StringBuffer buffer, final String fieldName) {
-        appendFieldSeparator(buffer);
+        final StringBuilder builder = new StringBuilder();
+        appendFieldEnd(builder, fieldName);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> the field end.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @since 3.6
+     */
+    protected void appendFieldEnd(final StringBuilder buffer, final String fieldName) {
+        callAppendFieldSeparator(buffer);
     }
 
     /**
@@ -1581,6 +2665,28 @@ protected void appendFieldEnd(final StringBuffer buffer, final String fieldName)
      * @param size  the size to append
      */
     protected void appendSummarySize(final StringBuffer buffer, final String fieldName, final int size) {
+        final StringBuilder builder = new StringBuilder();
+        appendSummarySize(builder, fieldName, size);
+        buffer.append(builder);
+    }
+
+    /**
+     * <p>Append to the <code>toString</code> a size summary.</p>
+     *
+     * <p>The size summary is used to summarize the contents of
+     * <code>Collections</code>, <code>Maps</code> and arrays.</p>
+     *
+     * <p>The output consists of a prefix, the passed in size
+     * and a suffix.</p>
+     *
+     * <p>The default format is <code>'&lt;size=n&gt;'</code>.</p>
+     *
+     * @param buffer  the <code>StringBuilder</code> to populate
+     * @param fieldName  the field name, typically not used as already appended
+     * @param size  the size to append
+     * @since 3.6
+     */
+    protected void appendSummarySize(final StringBuilder buffer, final String fieldName, final int size) {
         buffer.append(sizeStartText);
         buffer.append(size);
         buffer.append(sizeEndText);
@@ -2131,6 +3237,616 @@ protected void setSummaryObjectEndText(String summaryObjectEndText) {
         this.summaryObjectEndText = summaryObjectEndText;
     }
 
+    //----------------------------------------------------------------------------
+    // The StringBuilder methods call the methods a subclass may override through
+    // these, so that the StringBuffer versions overridden by a style which does
+    // not support StringBuilders are still called: they append to a new
+    // StringBuffer, or to a copy of the output when they may remove some of it.
+
+    /**
+     * <p>Calls {@link #appendToString(StringBuilder, String)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendToString(final StringBuilder buffer, final String toString) {
+        if (isStringBuilderSupported()) {
+            appendToString(buffer, toString);
+        } else {
+            final StringBuffer legacy = new StringBuffer(buffer);
+            appendToString(legacy, toString);
+            buffer.setLength(0);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #removeLastFieldSeparator(StringBuilder)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callRemoveLastFieldSeparator(final StringBuilder buffer) {
+        if (isStringBuilderSupported()) {
+            removeLastFieldSeparator(buffer);
+        } else {
+            final StringBuffer legacy = new StringBuffer(buffer);
+            removeLastFieldSeparator(legacy);
+            buffer.setLength(0);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendInternal(StringBuilder, String, Object, boolean)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendInternal(final StringBuilder buffer, final String fieldName, final Object value, final boolean detail) {
+        if (isStringBuilderSupported()) {
+            appendInternal(buffer, fieldName, value, detail);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendInternal(legacy, fieldName, value, detail);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendCyclicObject(StringBuilder, String, Object)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendCyclicObject(final StringBuilder buffer, final String fieldName, final Object value) {
+        if (isStringBuilderSupported()) {
+            appendCyclicObject(buffer, fieldName, value);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendCyclicObject(legacy, fieldName, value);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, Object)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final Object value) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, value);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, value);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, Collection)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final Collection<?> coll) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, coll);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, coll);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, Map<?,)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final Map<?, ?> map) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, map);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, map);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendSummary(StringBuilder, String, Object)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendSummary(final StringBuilder buffer, final String fieldName, final Object value) {
+        if (isStringBuilderSupported()) {
+            appendSummary(buffer, fieldName, value);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendSummary(legacy, fieldName, value);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, long)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final long value) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, value);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, value);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, int)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final int value) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, value);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, value);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, short)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final short value) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, value);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, value);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, byte)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final byte value) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, value);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, value);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, char)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final char value) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, value);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, value);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, double)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final double value) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, value);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, value);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, float)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final float value) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, value);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, value);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, boolean)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final boolean value) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, value);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, value);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, Object[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final Object[] array) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendSummary(StringBuilder, String, Object[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendSummary(final StringBuilder buffer, final String fieldName, final Object[] array) {
+        if (isStringBuilderSupported()) {
+            appendSummary(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendSummary(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, long[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final long[] array) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendSummary(StringBuilder, String, long[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendSummary(final StringBuilder buffer, final String fieldName, final long[] array) {
+        if (isStringBuilderSupported()) {
+            appendSummary(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendSummary(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, int[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final int[] array) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendSummary(StringBuilder, String, int[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendSummary(final StringBuilder buffer, final String fieldName, final int[] array) {
+        if (isStringBuilderSupported()) {
+            appendSummary(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendSummary(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, short[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final short[] array) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendSummary(StringBuilder, String, short[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendSummary(final StringBuilder buffer, final String fieldName, final short[] array) {
+        if (isStringBuilderSupported()) {
+            appendSummary(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendSummary(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, byte[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final byte[] array) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendSummary(StringBuilder, String, byte[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendSummary(final StringBuilder buffer, final String fieldName, final byte[] array) {
+        if (isStringBuilderSupported()) {
+            appendSummary(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendSummary(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, char[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final char[] array) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendSummary(StringBuilder, String, char[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendSummary(final StringBuilder buffer, final String fieldName, final char[] array) {
+        if (isStringBuilderSupported()) {
+            appendSummary(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendSummary(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, double[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final double[] array) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendSummary(StringBuilder, String, double[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendSummary(final StringBuilder buffer, final String fieldName, final double[] array) {
+        if (isStringBuilderSupported()) {
+            appendSummary(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendSummary(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, float[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final float[] array) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendSummary(StringBuilder, String, float[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendSummary(final StringBuilder buffer, final String fieldName, final float[] array) {
+        if (isStringBuilderSupported()) {
+            appendSummary(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendSummary(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendDetail(StringBuilder, String, boolean[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendDetail(final StringBuilder buffer, final String fieldName, final boolean[] array) {
+        if (isStringBuilderSupported()) {
+            appendDetail(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendDetail(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendSummary(StringBuilder, String, boolean[])}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendSummary(final StringBuilder buffer, final String fieldName, final boolean[] array) {
+        if (isStringBuilderSupported()) {
+            appendSummary(buffer, fieldName, array);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendSummary(legacy, fieldName, array);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendClassName(StringBuilder, Object)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendClassName(final StringBuilder buffer, final Object object) {
+        if (isStringBuilderSupported()) {
+            appendClassName(buffer, object);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendClassName(legacy, object);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendIdentityHashCode(StringBuilder, Object)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendIdentityHashCode(final StringBuilder buffer, final Object object) {
+        if (isStringBuilderSupported()) {
+            appendIdentityHashCode(buffer, object);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendIdentityHashCode(legacy, object);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendContentStart(StringBuilder)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendContentStart(final StringBuilder buffer) {
+        if (isStringBuilderSupported()) {
+            appendContentStart(buffer);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendContentStart(legacy);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendContentEnd(StringBuilder)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendContentEnd(final StringBuilder buffer) {
+        if (isStringBuilderSupported()) {
+            appendContentEnd(buffer);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendContentEnd(legacy);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendNullText(StringBuilder, String)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendNullText(final StringBuilder buffer, final String fieldName) {
+        if (isStringBuilderSupported()) {
+            appendNullText(buffer, fieldName);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendNullText(legacy, fieldName);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendFieldSeparator(StringBuilder)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendFieldSeparator(final StringBuilder buffer) {
+        if (isStringBuilderSupported()) {
+            appendFieldSeparator(buffer);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendFieldSeparator(legacy);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendFieldStart(StringBuilder, String)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendFieldStart(final StringBuilder buffer, final String fieldName) {
+        if (isStringBuilderSupported()) {
+            appendFieldStart(buffer, fieldName);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendFieldStart(legacy, fieldName);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendFieldEnd(StringBuilder, String)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendFieldEnd(final StringBuilder buffer, final String fieldName) {
+        if (isStringBuilderSupported()) {
+            appendFieldEnd(buffer, fieldName);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendFieldEnd(legacy, fieldName);
+            buffer.append(legacy);
+        }
+    }
+
+    /**
+     * <p>Calls {@link #appendSummarySize(StringBuilder, String, int)}, or its <code>StringBuffer</code>
+     * twin if this style does not support <code>StringBuilder</code>s.</p>
+     */
+    final void callAppendSummarySize(final StringBuilder buffer, final String fieldName, final int size) {
+        if (isStringBuilderSupported()) {
+            appendSummarySize(buffer, fieldName, size);
+        } else {
+            final StringBuffer legacy = new StringBuffer();
+            appendSummarySize(legacy, fieldName, size);
+            buffer.append(legacy);
+        }
+    }
+
     //----------------------------------------------------------------------------
 
     /**
@@ -2399,7 +4115,7 @@ private static final class JsonToStringStyle extends ToStringStyle {
         }
 
         @Override
-        public void append(final StringBuffer buffer, final String fieldName,
+        public void append(final StringBuilder buffer, final String fieldName,
                            final Object[] array, final Boolean fullDetail) {
 
             if (fieldName == null) {
@@ -2415,7 +4131,7 @@ public void append(final StringBuffer buffer, final String fieldName,
         }
 
         @Override
-        public void append(final StringBuffer buffer, final String fieldName, final long[] array,
+        public void append(final StringBuilder buffer, final String fieldName, final long[] array,
                            final Boolean fullDetail) {
 
             if (fieldName == null) {
@@ -2431,7 +4147,7 @@ public void append(final StringBuffer buffer, final String fieldName, final long
         }
 
         @Override
-        public void append(final StringBuffer buffer, final String fieldName, final int[] array,
+        public void append(final StringBuilder buffer, final String fieldName, final int[] array,
                            final Boolean fullDetail) {
 
             if (fieldName == null) {
@@ -2447,7 +4163,7 @@ public void append(final StringBuffer buffer, final String fieldName, final int[
         }
 
         @Override
-        public void append(final StringBuffer buffer, final String fieldName,
+        public void append(final StringBuilder buffer, final String fieldName,
                            final short[] array, final Boolean fullDetail) {
 
             if (fieldName == null) {
@@ -2463,7 +4179,7 @@ public void append(final StringBuffer buffer, final String fieldName,
         }
 
         @Override
-        public void append(final StringBuffer buffer, final String fieldName, final byte[] array,
+        public void append(final StringBuilder buffer, final String fieldName, final byte[] array,
                            final Boolean fullDetail) {
 
             if (fieldName == null) {
@@ -2479,7 +4195,7 @@ public void append(final StringBuffer buffer, final String fieldName, final byte
         }
 
         @Override
-        public void append(final StringBuffer buffer, final String fieldName, final char[] array,
+        public void append(final StringBuilder buffer, final String fieldName, final char[] array,
                            final Boolean fullDetail) {
 
             if (fieldName == null) {
@@ -2495,7 +4211,7 @@ public void append(final StringBuffer buffer, final String fieldName, final char
         }
 
         @Override
-        public void append(final StringBuffer buffer, final String fieldName,
+        public void append(final StringBuilder buffer, final String fieldName,
                            final double[] array, final Boolean fullDetail) {
 
             if (fieldName == null) {
@@ -2511,7 +4227,7 @@ public void append(final StringBuffer buffer, final String fieldName,
         }
 
         @Override
-        public void append(final StringBuffer buffer, final String fieldName,
+        public void append(final StringBuilder buffer, final String fieldName,
                            final float[] array, final Boolean fullDetail) {
 
             if (fieldName == null) {
@@ -2527,7 +4243,7 @@ public void append(final StringBuffer buffer, final String fieldName,
         }
 
         @Override
-        public void append(final StringBuffer buffer, final String fieldName,
+        public void append(final StringBuilder buffer, final String fieldName,
                            final boolean[] array, final Boolean fullDetail) {
 
             if (fieldName == null) {
@@ -2543,7 +4259,7 @@ public void append(final StringBuffer buffer, final String fieldName,
         }
 
         @Override
-        public void append(final StringBuffer buffer, final String fieldName, final Object value,
+        public void append(final StringBuilder buffer, final String fieldName, final Object value,
                            final Boolean fullDetail) {
 
             if (fieldName == null) {
@@ -2559,12 +4275,12 @@ public void append(final StringBuffer buffer, final String fieldName, final Obje
         }
 
         @Override
-        protected void appendDetail(final StringBuffer buffer, final String fieldName, final char value) {
+        protected void appendDetail(final StringBuilder buffer, final String fieldName, final char value) {
             appendValueAsString(buffer, String.valueOf(value));
         }
 
         @Override
-        protected void appendDetail(final StringBuffer buffer, final String fieldName, final Object value) {
+        protected void appendDetail(final StringBuilder buffer, final String fieldName, final Object value) {
 
             if (value == null) {
                 appendNullText(buffer, fieldName);
@@ -2601,17 +4317,17 @@ private boolean isJsonObject(final String valueAsString) {
         }
 
         /**
-         * Appends the given String in parenthesis to the given StringBuffer.
+         * Appends the given String in parenthesis to the given StringBuilder.
          * 
-         * @param buffer the StringBuffer to append the value to.
+         * @param buffer the StringBuilder to append the value to.
          * @param value the value to append.
          */
-        private void appendValueAsString(final StringBuffer buffer, final String value) {
+        private void appendValueAsString(final StringBuilder buffer, final String value) {
             buffer.append("\"" + value + "\"");
         }
 
         @Override
-        protected void appendFieldStart(final StringBuffer buffer, final String fieldName) {
+        protected void appendFieldStart(final StringBuilder buffer, final String fieldName) {
 
             if (fieldName == null) {
                 throw new UnsupportedOperationException(
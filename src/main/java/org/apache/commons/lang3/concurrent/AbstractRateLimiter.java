@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Base class for rate limiters handing out a number of permits per period of time.
+ * It implements waiting for permits, so that concrete implementations only acquire
+ * permits without blocking, and tell when permits will be available.
+ *
+ * @since 3.6
+ */
+public abstract class AbstractRateLimiter implements RateLimiter {
+    /** Stores the period for this rate limiter. */
+    private final long period;
+
+    /** The time unit for the period. */
+    private final TimeUnit unit;
+
+    /** The period in nanoseconds. */
+    private final long periodNanos;
+
+    /** The number of permits per period. */
+    private final int limit;
+
+    /**
+     * Creates a new instance of {@code AbstractRateLimiter} and initializes it with
+     * the given time period and the limit.
+     *
+     * @param timePeriod the time period
+     * @param timeUnit the unit for the period
+     * @param limit the number of permits per period
+     * @throws IllegalArgumentException if the period or the limit is less or equals 0
+     */
+    protected AbstractRateLimiter(final long timePeriod, final TimeUnit timeUnit, final int limit) {
+        Validate.inclusiveBetween(1, Long.MAX_VALUE, timePeriod, "Time period must be greater than 0!");
+        Validate.inclusiveBetween(1, Integer.MAX_VALUE, limit, "Limit must be greater than 0!");
+        this.period = timePeriod;
+        this.unit = timeUnit;
+        this.periodNanos = timeUnit.toNanos(timePeriod);
+        this.limit = limit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean tryAcquire(final int permits) {
+        checkPermits(permits);
+        return acquirePermits(permits, System.nanoTime());
+    }
+
+    /**
+     * {@inheritDoc} This implementation sleeps until the permits are due to be
+     * available, and tries again, until the permits are acquired or the timeout is
+     * over.
+     */
+    @Override
+    public boolean tryAcquire(final int permits, final long timeout, final TimeUnit unit)
+            throws InterruptedException {
+        checkPermits(permits);
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            final long now = System.nanoTime();
+            if (acquirePermits(permits, now)) {
+                return true;
+            }
+            final long wait = nanosUntilAvailable(permits, now);
+            if (wait > deadline - now || deadline - now <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Checks the number of permits of an acquire operation.
+     *
+     * @param permits the number of permits
+     * @throws IllegalArgumentException if the number is less than 1 or more than
+     * {@link #getMaxPermits()}
+     */
+    private void checkPermits(final int permits) {
+        Validate.inclusiveBetween(1, getMaxPermits(), permits,
+                "Permits must be between 1 and the maximum permits of the limiter!");
+    }
+
+    /**
+     * Acquires the given number of permits if they are available, without blocking.
+     *
+     * @param permits the number of permits, between 1 and {@link #getMaxPermits()}
+     * @param now the current time, as returned by {@link System#nanoTime()}
+     * @return <strong>true</strong> if the permits were acquired; <strong>false</strong>
+     * otherwise
+     */
+    protected abstract boolean acquirePermits(int permits, long now);
+
+    /**
+     * Returns the time until the given number of permits are due to be available, if
+     * no other permit is acquired meanwhile.
+     *
+     * @param permits the number of permits, between 1 and {@link #getMaxPermits()}
+     * @param now the current time, as returned by {@link System#nanoTime()}
+     * @return the time in nanoseconds, 0 if the permits are available now
+     */
+    protected abstract long nanosUntilAvailable(int permits, long now);
+
+    /**
+     * Returns the maximum number of permits which can be acquired at once. This
+     * implementation returns the limit.
+     *
+     * @return the maximum number of permits
+     */
+    public int getMaxPermits() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of permits per period.
+     *
+     * @return the limit
+     */
+    public final int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the time period. Only a given number of permits can be acquired
+     * in this period.
+     *
+     * @return the time period
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    /**
+     * Returns the time unit. This is the unit used by {@link #getPeriod()}.
+     *
+     * @return the time unit
+     */
+    public TimeUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the time period in nanoseconds.
+     *
+     * @return the time period in nanoseconds
+     */
+    protected final long getPeriodNanos() {
+        return periodNanos;
+    }
+}
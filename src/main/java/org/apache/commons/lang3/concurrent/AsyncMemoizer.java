@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * <p>
+ * An asynchronous counterpart of {@link Memoizer}: the result of a calculation is
+ * computed with an {@code Executor} and cached, and {@link #compute(Object)} returns
+ * its {@link ListenableFutureTask} at once, without waiting for it.
+ * </p>
+ * <p>
+ * Concurrent calls for the same argument share a single computation. Callers can wait
+ * for the result with {@code get()}, or add listeners and chain further computations
+ * to it without holding a thread. A computation which fails or is cancelled is removed
+ * from the cache once it completes, so the next call for its argument computes it again.
+ * Cancelling the returned task cancels it for all the callers sharing it.
+ * </p>
+ *
+ * @param <I>
+ *            the type of the input to the calculation
+ * @param <O>
+ *            the type of the output of the calculation
+ *
+ * @since 3.6
+ */
+public class AsyncMemoizer<I, O> implements Computable<I, ListenableFutureTask<O>> {
+
+    private final ConcurrentMap<I, ListenableFutureTask<O>> cache = new ConcurrentHashMap<>();
+    private final Computable<I, O> computable;
+    private final Executor executor;
+
+    /**
+     * <p>
+     * Constructs an AsyncMemoizer for the provided Computable calculation, run with the
+     * provided executor.
+     * </p>
+     *
+     * @param computable
+     *            the computation whose results should be memorized (must not be <b>null</b>)
+     * @param executor
+     *            the executor running the computations (must not be <b>null</b>)
+     * @throws NullPointerException
+     *             if the computable or the executor is <b>null</b>
+     */
+    public AsyncMemoizer(final Computable<I, O> computable, final Executor executor) {
+        if (computable == null) {
+            throw new NullPointerException("Computable must not be null!");
+        }
+        if (executor == null) {
+            throw new NullPointerException("Executor must not be null!");
+        }
+        this.computable = computable;
+        this.executor = executor;
+    }
+
+    /**
+     * <p>
+     * This method returns the task of the calculation, starting it with the executor if
+     * it is not cached.
+     * </p>
+     *
+     * @param arg
+     *            the argument for the calculation
+     * @return the task of the calculation, complete or not
+     * @throws RejectedExecutionException
+     *             thrown if the executor does not accept the calculation
+     */
+    @Override
+    public ListenableFutureTask<O> compute(final I arg) {
+        ListenableFutureTask<O> future = cache.get(arg);
+        if (future != null) {
+            return future;
+        }
+        final ListenableFutureTask<O> task = new ListenableFutureTask<>(new Callable<O>() {
+
+            @Override
+            public O call() throws InterruptedException {
+                return computable.compute(arg);
+            }
+        });
+        future = cache.putIfAbsent(arg, task);
+        if (future != null) {
+            return future;
+        }
+        task.addListener(new Runnable() {
+
+            @Override
+            public void run() {
+                if (isFailed(task)) {
+                    cache.remove(arg, task);
+                }
+            }
+        }, ListenableFutureTask.DIRECT_EXECUTOR);
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            // callers may already have the task from the cache
+            task.setException(e);
+            cache.remove(arg, task);
+            throw e;
+        }
+        return task;
+    }
+
+    /**
+     * Checks whether a complete task failed or was cancelled.
+     *
+     * @param task the complete task
+     * @return true if the task did not complete normally
+     */
+    private static boolean isFailed(final ListenableFutureTask<?> task) {
+        if (task.isCancelled()) {
+            return true;
+        }
+        try {
+            task.get();
+            return false;
+        } catch (final ExecutionException e) {
+            return true;
+        } catch (final InterruptedException e) {
+            // not possible as the task is complete
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the cached task of an argument, so that it is computed again on the next
+     * call. Callers already holding the task are not affected.
+     * </p>
+     *
+     * @param arg
+     *            the argument for the calculation
+     */
+    public void invalidate(final I arg) {
+        cache.remove(arg);
+    }
+
+    /**
+     * <p>
+     * Gets the number of cached tasks, complete or not.
+     * </p>
+     *
+     * @return the number of cached tasks
+     */
+    public int size() {
+        return cache.size();
+    }
+}
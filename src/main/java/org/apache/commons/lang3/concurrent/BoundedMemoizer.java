@@ -0,0 +1,549 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * A {@link Memoizer} whose cache is bounded: results can be limited in number,
+ * can expire, and can be refreshed ahead of their expiry.
+ * </p>
+ * <p>
+ * As with {@code Memoizer}, concurrent calls for the same argument share a single
+ * computation, and an exception thrown by the computation is cached unless
+ * recalculation is enabled. In addition the following options can be set with the
+ * nested {@code Builder} class:
+ * </p>
+ * <ul>
+ * <li>A maximum size. When more results are cached, results are evicted with a
+ * clock policy: each result has a reference bit, set when it is used, and a hand
+ * sweeping over the results clears the bits of the used results and evicts the
+ * others. This approximates evicting the least recently used results, without the
+ * lock a strict LRU order would need on every call.</li>
+ * <li>An expiry after write. A result is computed again once this time has passed
+ * since it was computed.</li>
+ * <li>An expiry after access. A result is computed again once it has not been used
+ * for this time.</li>
+ * <li>A refresh after write, with an {@code Executor}. A result used after this
+ * time is computed again in the background, and the current result is returned
+ * until the new one is available. Results which are often used are so refreshed
+ * before they expire, and callers do not wait for them.</li>
+ * </ul>
+ * <p>
+ * Expired results are removed when they are used, or evicted when the cache is full.
+ * Times are measured with {@link System#nanoTime()}.
+ * </p>
+ *
+ * <pre>
+ * BoundedMemoizer&lt;String, Permissions&gt; permissions = new BoundedMemoizer.Builder&lt;String, Permissions&gt;()
+ *     .computable(resolver)
+ *     .maximumSize(10000)
+ *     .expireAfterWrite(10, TimeUnit.MINUTES)
+ *     .refreshAfterWrite(1, TimeUnit.MINUTES, executor)
+ *     .build();
+ * </pre>
+ *
+ * @param <I>
+ *            the type of the input to the calculation
+ * @param <O>
+ *            the type of the output of the calculation
+ *
+ * @since 3.6
+ */
+public class BoundedMemoizer<I, O> implements Computable<I, O> {
+
+    private final ConcurrentMap<I, Entry<O>> cache = new ConcurrentHashMap<>();
+    private final Computable<I, O> computable;
+    private final boolean recalculate;
+    private final int maximumSize;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final long refreshAfterWriteNanos;
+    private final Executor refreshExecutor;
+    private final AtomicLong evictions = new AtomicLong();
+    /**
+     * The position of the sweep over the entries, guarded by this.
+     */
+    private Iterator<Map.Entry<I, Entry<O>>> hand;
+
+    /**
+     * Creates a new instance of {@code BoundedMemoizer} and initializes it
+     * from the specified {@code Builder} object.
+     *
+     * @param builder the {@code Builder} object
+     */
+    private BoundedMemoizer(final Builder<I, O> builder) {
+        computable = builder.computable;
+        recalculate = builder.recalculate;
+        maximumSize = builder.maximumSize;
+        expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        refreshAfterWriteNanos = builder.refreshAfterWriteNanos;
+        refreshExecutor = builder.refreshExecutor;
+    }
+
+    /**
+     * <p>
+     * This method will return the result of the calculation and cache it, if it
+     * is not cached or its cached result has expired.
+     * </p>
+     * <p>
+     * As in {@link Memoizer#compute(Object)}, exceptions that occur during the
+     * computation are cached unless recalculation is enabled.
+     * </p>
+     *
+     * @param arg
+     *            the argument for the calculation
+     * @return the result of the calculation
+     * @throws InterruptedException
+     *             thrown if the calculation is interrupted
+     */
+    @Override
+    public O compute(final I arg) throws InterruptedException {
+        while (true) {
+            final long now = System.nanoTime();
+            Entry<O> entry = cache.get(arg);
+            if (entry != null && isExpired(entry, now)) {
+                cache.remove(arg, entry);
+                entry = null;
+            }
+            if (entry == null) {
+                final Entry<O> created = new Entry<>(newCallable(arg));
+                entry = cache.putIfAbsent(arg, created);
+                if (entry == null) {
+                    entry = created;
+                    evict();
+                    created.future.run();
+                }
+            } else {
+                if (expireAfterAccessNanos > 0) {
+                    entry.accessTime = now;
+                }
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                refreshIfNeeded(arg, entry, now);
+            }
+            try {
+                return entry.future.get();
+            } catch (final CancellationException e) {
+                cache.remove(arg, entry);
+            } catch (final ExecutionException e) {
+                if (recalculate) {
+                    cache.remove(arg, entry);
+                }
+
+                throw Memoizer.launderException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Creates the callable computing the result of an argument.
+     *
+     * @param arg the argument for the calculation
+     * @return the callable
+     */
+    private Callable<O> newCallable(final I arg) {
+        return new Callable<O>() {
+
+            @Override
+            public O call() throws InterruptedException {
+                return computable.compute(arg);
+            }
+        };
+    }
+
+    /**
+     * Checks whether a computed entry has expired. Entries being computed do not expire.
+     *
+     * @param entry the entry
+     * @param now the current time in nanoseconds
+     * @return true if the entry has expired
+     */
+    private boolean isExpired(final Entry<O> entry, final long now) {
+        if (!entry.future.isDone()) {
+            return false;
+        }
+        return expireAfterWriteNanos > 0 && now - entry.writeTime >= expireAfterWriteNanos
+            || expireAfterAccessNanos > 0 && now - entry.accessTime >= expireAfterAccessNanos;
+    }
+
+    /**
+     * Starts computing an entry again in the background if it is due for refresh and
+     * not being refreshed already. The entry is replaced once the new result is
+     * computed; if the computation fails, the entry is kept.
+     *
+     * @param arg the argument for the calculation
+     * @param entry the cached entry
+     * @param now the current time in nanoseconds
+     */
+    private void refreshIfNeeded(final I arg, final Entry<O> entry, final long now) {
+        if (refreshAfterWriteNanos <= 0 || !entry.future.isDone() || now - entry.writeTime < refreshAfterWriteNanos
+            || !entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        final Entry<O> refreshed = new Entry<>(newCallable(arg));
+        try {
+            refreshExecutor.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    refreshed.future.run();
+                    try {
+                        refreshed.future.get();
+                    } catch (final InterruptedException e) {
+                        // keep the current result, and let the executor see the interruption
+                        entry.refreshing.set(false);
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (final ExecutionException | CancellationException e) {
+                        // keep the current result, and try again on a later call
+                        entry.refreshing.set(false);
+                        return;
+                    }
+                    refreshed.referenced = entry.referenced;
+                    cache.replace(arg, entry, refreshed);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Evicts entries until the cache is not over its maximum size.
+     */
+    private void evict() {
+        if (maximumSize == 0 || cache.size() <= maximumSize) {
+            return;
+        }
+        synchronized (this) {
+            // after two turns of the hand every entry has been cleared once,
+            // evict regardless so that concurrent use cannot make the sweep endless
+            int budget = 2 * cache.size();
+            while (cache.size() > maximumSize) {
+                if (hand == null || !hand.hasNext()) {
+                    hand = cache.entrySet().iterator();
+                    if (!hand.hasNext()) {
+                        return;
+                    }
+                }
+                final Map.Entry<I, Entry<O>> mapEntry = hand.next();
+                final Entry<O> entry = mapEntry.getValue();
+                if ((entry.referenced || !entry.future.isDone()) && budget-- > 0) {
+                    entry.referenced = false;
+                } else if (cache.remove(mapEntry.getKey(), entry)) {
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the cached result of an argument, so that it is computed again on the
+     * next call.
+     * </p>
+     *
+     * @param arg
+     *            the argument for the calculation
+     */
+    public void invalidate(final I arg) {
+        cache.remove(arg);
+    }
+
+    /**
+     * <p>
+     * Removes all the cached results.
+     * </p>
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * <p>
+     * Gets the number of cached results, including expired results which have not
+     * been removed yet and results being computed.
+     * </p>
+     *
+     * @return the number of cached results
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * <p>
+     * Gets the number of results evicted because the cache was full.
+     * </p>
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * <p>
+     * A cached computation, with its times and its reference bit.
+     * </p>
+     *
+     * @param <O> the type of the output of the calculation
+     */
+    private static final class Entry<O> {
+        private final FutureTask<O> future;
+        /**
+         * The time the result was computed, set before the result is made available.
+         */
+        private volatile long writeTime;
+        /**
+         * The time the result was last used, only kept up to date with an expiry after access.
+         */
+        private volatile long accessTime;
+        private volatile boolean referenced;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        /**
+         * Constructs an entry which has not been used or computed yet.
+         *
+         * @param callable the computation
+         */
+        Entry(final Callable<O> callable) {
+            this.future = new FutureTask<O>(callable) {
+
+                @Override
+                protected void set(final O result) {
+                    computed();
+                    super.set(result);
+                }
+
+                @Override
+                protected void setException(final Throwable t) {
+                    computed();
+                    super.setException(t);
+                }
+            };
+        }
+
+        /**
+         * Records the time of the computation, before its result is set.
+         */
+        private void computed() {
+            final long now = System.nanoTime();
+            writeTime = now;
+            accessTime = now;
+        }
+    }
+
+    /**
+     * <p>
+     * A <em>builder</em> class for creating instances of {@code
+     * BoundedMemoizer}.
+     * </p>
+     * <p>
+     * Using this builder class instances of {@code BoundedMemoizer} can be
+     * created and initialized. The class provides methods that correspond to
+     * the configuration options supported by {@code BoundedMemoizer}. Only the
+     * computable is mandatory; an option which is not set does not bound the
+     * cache. The final {@link #build()} method creates the new instance and
+     * resets the builder.
+     * </p>
+     *
+     * @param <I>
+     *            the type of the input to the calculation
+     * @param <O>
+     *            the type of the output of the calculation
+     */
+    public static class Builder<I, O>
+        implements org.apache.commons.lang3.builder.Builder<BoundedMemoizer<I, O>> {
+
+        /** The computation whose results are memorized. */
+        private Computable<I, O> computable;
+
+        /** The recalculate flag. */
+        private boolean recalculate;
+
+        /** The maximum size. */
+        private int maximumSize;
+
+        /** The expiry after write. */
+        private long expireAfterWriteNanos;
+
+        /** The expiry after access. */
+        private long expireAfterAccessNanos;
+
+        /** The refresh after write. */
+        private long refreshAfterWriteNanos;
+
+        /** The executor of refreshes. */
+        private Executor refreshExecutor;
+
+        /**
+         * Sets the computation whose results are memorized.
+         *
+         * @param computable the computation (must not be <b>null</b>)
+         * @return a reference to this {@code Builder}
+         * @throws NullPointerException if the computable is <b>null</b>
+         */
+        public Builder<I, O> computable(final Computable<I, O> computable) {
+            if (computable == null) {
+                throw new NullPointerException("Computable must not be null!");
+            }
+
+            this.computable = computable;
+            return this;
+        }
+
+        /**
+         * Sets whether a computation which threw an exception is recalculated on
+         * subsequent calls, rather than the cached exception thrown again.
+         *
+         * @param recalculate the recalculate flag
+         * @return a reference to this {@code Builder}
+         */
+        public Builder<I, O> recalculate(final boolean recalculate) {
+            this.recalculate = recalculate;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached results.
+         *
+         * @param maximumSize the maximum size (must be greater than 0)
+         * @return a reference to this {@code Builder}
+         * @throws IllegalArgumentException if the size is not positive
+         */
+        public Builder<I, O> maximumSize(final int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("Maximum size must be greater than 0: " + maximumSize);
+            }
+
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the time after which a result expires once computed.
+         *
+         * @param duration the time (must be greater than 0)
+         * @param unit the unit of the time (must not be <b>null</b>)
+         * @return a reference to this {@code Builder}
+         * @throws IllegalArgumentException if the time is not positive
+         */
+        public Builder<I, O> expireAfterWrite(final long duration, final TimeUnit unit) {
+            expireAfterWriteNanos = toNanos("Expire after write", duration, unit);
+            return this;
+        }
+
+        /**
+         * Sets the time after which a result expires once last used.
+         *
+         * @param duration the time (must be greater than 0)
+         * @param unit the unit of the time (must not be <b>null</b>)
+         * @return a reference to this {@code Builder}
+         * @throws IllegalArgumentException if the time is not positive
+         */
+        public Builder<I, O> expireAfterAccess(final long duration, final TimeUnit unit) {
+            expireAfterAccessNanos = toNanos("Expire after access", duration, unit);
+            return this;
+        }
+
+        /**
+         * Sets the time after which a result is computed again in the background
+         * when it is used, and the executor running these computations.
+         *
+         * @param duration the time (must be greater than 0)
+         * @param unit the unit of the time (must not be <b>null</b>)
+         * @param executor the executor of the refreshes (must not be <b>null</b>)
+         * @return a reference to this {@code Builder}
+         * @throws IllegalArgumentException if the time is not positive
+         * @throws NullPointerException if the executor is <b>null</b>
+         */
+        public Builder<I, O> refreshAfterWrite(final long duration, final TimeUnit unit, final Executor executor) {
+            if (executor == null) {
+                throw new NullPointerException("Refresh executor must not be null!");
+            }
+
+            refreshAfterWriteNanos = toNanos("Refresh after write", duration, unit);
+            refreshExecutor = executor;
+            return this;
+        }
+
+        /**
+         * Converts a positive time to nanoseconds.
+         *
+         * @param option the name of the option, for the exception message
+         * @param duration the time
+         * @param unit the unit of the time
+         * @return the time in nanoseconds
+         * @throws IllegalArgumentException if the time is not positive
+         */
+        private static long toNanos(final String option, final long duration, final TimeUnit unit) {
+            if (duration <= 0) {
+                throw new IllegalArgumentException(option + " must be greater than 0: " + duration);
+            }
+            return unit.toNanos(duration);
+        }
+
+        /**
+         * Resets this builder. All configuration options are set to default
+         * values.
+         */
+        public void reset() {
+            computable = null;
+            recalculate = false;
+            maximumSize = 0;
+            expireAfterWriteNanos = 0;
+            expireAfterAccessNanos = 0;
+            refreshAfterWriteNanos = 0;
+            refreshExecutor = null;
+        }
+
+        /**
+         * Creates a new {@code BoundedMemoizer} with all configuration
+         * options that have been specified by calling methods on this builder.
+         * After creating the memoizer {@link #reset()} is called.
+         *
+         * @return the new {@code BoundedMemoizer}
+         * @throws NullPointerException if no computable has been set
+         */
+        @Override
+        public BoundedMemoizer<I, O> build() {
+            if (computable == null) {
+                throw new NullPointerException("Computable must not be null!");
+            }
+            final BoundedMemoizer<I, O> memoizer = new BoundedMemoizer<>(this);
+            reset();
+            return memoizer;
+        }
+    }
+}
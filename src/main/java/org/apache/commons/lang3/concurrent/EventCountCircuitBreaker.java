@@ -132,6 +132,15 @@
  * <li>The handling of check intervals is a bit simplistic. Therefore, there is no
  * guarantee that the circuit breaker is triggered at a specific point in time; there may
  * be some delay (less than a check interval).</li>
+ * <li>Under high event rates on many processors, the counter of events becomes a point of
+ * contention: every event replaces it with a compare-and-set operation, which many
+ * threads retry. For such use cases the circuit breaker can be created in
+ * <em>striped</em> mode. Then the events of a check interval are counted with a
+ * {@link StripedCounter}, which threads update without contending, and the threshold is
+ * checked against its sum once every few events of a thread, so that the circuit breaker
+ * may open after up to an eighth more events than the threshold; no object is created
+ * per event. At the end of a check interval, events reported concurrently with the start
+ * of the next interval may be missed.</li>
  * </ul>
  * @since 3.5
  */
@@ -143,6 +152,12 @@ public class EventCountCircuitBreaker extends AbstractCircuitBreaker<Integer> {
     /** Stores information about the current check interval. */
     private final AtomicReference<CheckIntervalData> checkIntervalData;
 
+    /** Stores the current check interval in striped mode, otherwise <b>null</b>. */
+    private final AtomicReference<StripedCheckInterval> stripedCheckInterval;
+
+    /** The number of events of a cell of the striped counter between two checks of its sum. */
+    private final int stripedCheckStep;
+
     /** The threshold for opening the circuit breaker. */
     private final int openingThreshold;
 
@@ -174,8 +189,43 @@ public class EventCountCircuitBreaker extends AbstractCircuitBreaker<Integer> {
     public EventCountCircuitBreaker(final int openingThreshold, final long openingInterval,
                                     final TimeUnit openingUnit, final int closingThreshold, final long closingInterval,
                                     final TimeUnit closingUnit) {
+        this(openingThreshold, openingInterval, openingUnit, closingThreshold, closingInterval, closingUnit,
+                false);
+    }
+
+    /**
+     * Creates a new instance of {@code EventCountCircuitBreaker} and initializes all properties for
+     * opening and closing it based on threshold values for events occurring in specific
+     * intervals, optionally in striped mode. In striped mode the events are counted with
+     * a {@link StripedCounter}, which is meant for high event rates on many processors.
+     *
+     * @param openingThreshold the threshold for opening the circuit breaker; if this
+     * number of events is received in the time span determined by the opening interval,
+     * the circuit breaker is opened
+     * @param openingInterval the interval for opening the circuit breaker
+     * @param openingUnit the {@code TimeUnit} defining the opening interval
+     * @param closingThreshold the threshold for closing the circuit breaker; if the
+     * number of events received in the time span determined by the closing interval goes
+     * below this threshold, the circuit breaker is closed again
+     * @param closingInterval the interval for closing the circuit breaker
+     * @param closingUnit the {@code TimeUnit} defining the closing interval
+     * @param striped whether the events are counted with a striped counter
+     * @since 3.6
+     */
+    public EventCountCircuitBreaker(final int openingThreshold, final long openingInterval,
+                                    final TimeUnit openingUnit, final int closingThreshold, final long closingInterval,
+                                    final TimeUnit closingUnit, final boolean striped) {
         super();
         checkIntervalData = new AtomicReference<>(new CheckIntervalData(0, 0));
+        if (striped) {
+            final StripedCheckInterval interval = new StripedCheckInterval(0);
+            stripedCheckInterval = new AtomicReference<>(interval);
+            // the cells overshoot the threshold by at most an eighth before the sum is checked
+            stripedCheckStep = Math.max(1, openingThreshold / (8 * interval.events.getCellCount()));
+        } else {
+            stripedCheckInterval = null;
+            stripedCheckStep = 0;
+        }
         this.openingThreshold = openingThreshold;
         this.openingInterval = openingUnit.toNanos(openingInterval);
         this.closingThreshold = closingThreshold;
@@ -255,6 +305,17 @@ public long getClosingInterval() {
         return closingInterval;
     }
 
+    /**
+     * Returns a flag whether this circuit breaker counts the events with a striped
+     * counter.
+     *
+     * @return a flag whether this circuit breaker is in striped mode
+     * @since 3.6
+     */
+    public boolean isStriped() {
+        return stripedCheckInterval != null;
+    }
+
     /**
      * {@inheritDoc} This implementation checks the internal event counter against the
      * threshold values and the check intervals. This may cause a state change of this
@@ -295,7 +356,7 @@ public boolean incrementAndCheckState() {
     @Override
     public void open() {
         super.open();
-        checkIntervalData.set(new CheckIntervalData(0, now()));
+        startNewCheckInterval();
     }
 
     /**
@@ -307,7 +368,7 @@ public void open() {
     @Override
     public void close() {
         super.close();
-        checkIntervalData.set(new CheckIntervalData(0, now()));
+        startNewCheckInterval();
     }
 
     /**
@@ -318,6 +379,9 @@ public void close() {
      * @return a flag whether the circuit breaker is now closed
      */
     private boolean performStateCheck(final int increment) {
+        if (stripedCheckInterval != null) {
+            return performStripedStateCheck(increment);
+        }
         CheckIntervalData currentData;
         CheckIntervalData nextData;
         State currentState;
@@ -362,7 +426,61 @@ private boolean updateCheckIntervalData(final CheckIntervalData currentData,
      */
     private void changeStateAndStartNewCheckInterval(final State newState) {
         changeState(newState);
-        checkIntervalData.set(new CheckIntervalData(0, now()));
+        startNewCheckInterval();
+    }
+
+    /**
+     * Starts a new check interval with no events.
+     */
+    private void startNewCheckInterval() {
+        if (stripedCheckInterval != null) {
+            stripedCheckInterval.set(new StripedCheckInterval(now()));
+        } else {
+            checkIntervalData.set(new CheckIntervalData(0, now()));
+        }
+    }
+
+    /**
+     * Checks the state of this circuit breaker in striped mode, and executes a state
+     * transition if necessary. The transitions are the same as in
+     * {@link #performStateCheck(int)}, but the current check interval is only replaced
+     * when it is finished or the circuit breaker opens, and the events are added to its
+     * striped counter. Its sum is checked against the opening threshold once every
+     * {@link #stripedCheckStep} events of a cell. The thread replacing the interval is the
+     * one changing the state, so that concurrent transitions do not discard events twice.
+     *
+     * @param increment the increment for the internal counter
+     * @return a flag whether the circuit breaker is now closed
+     */
+    private boolean performStripedStateCheck(final int increment) {
+        final long time = now();
+        StripedCheckInterval interval = stripedCheckInterval.get();
+
+        if (time - interval.start > stateStrategy(state.get()).fetchCheckInterval(this)) {
+            final StripedCheckInterval next = new StripedCheckInterval(time);
+            if (stripedCheckInterval.compareAndSet(interval, next)) {
+                // as in StateStrategyOpen, the finished interval decides whether to close
+                if (isOpen(state.get()) && interval.events.sum() < getClosingThreshold()) {
+                    changeState(State.CLOSED);
+                }
+            }
+            interval = stripedCheckInterval.get();
+        }
+
+        if (increment != 0) {
+            if (isOpen(state.get())) {
+                interval.events.add(increment);
+            } else {
+                final long cell = interval.events.addAndGetCell(increment);
+                // as in StateStrategyClosed, too many events in the interval open the breaker
+                if (cell / stripedCheckStep != (cell - increment) / stripedCheckStep
+                        && interval.events.sum() > getOpeningThreshold()
+                        && stripedCheckInterval.compareAndSet(interval, new StripedCheckInterval(time))) {
+                    changeState(State.OPEN);
+                }
+            }
+        }
+        return !isOpen(state.get());
     }
 
     /**
@@ -476,6 +594,27 @@ public CheckIntervalData increment(final int delta) {
         }
     }
 
+    /**
+     * A check interval in striped mode. The counter is updated by the events of the
+     * interval, and the object is replaced when a new interval starts.
+     */
+    private static class StripedCheckInterval {
+        /** The start time of the check interval. */
+        private final long start;
+
+        /** The counter for events. */
+        private final StripedCounter events = new StripedCounter();
+
+        /**
+         * Creates a new instance of {@code StripedCheckInterval}.
+         *
+         * @param intervalStart the start time of the check interval
+         */
+        StripedCheckInterval(final long intervalStart) {
+            start = intervalStart;
+        }
+    }
+
     /**
      * Internally used class for executing check logic based on the current state of the
      * circuit breaker. Having this logic extracted into special classes avoids complex
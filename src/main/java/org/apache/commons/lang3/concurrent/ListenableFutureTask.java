@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * <p>
+ * A {@code FutureTask} which runs listeners when it completes, so that callers can
+ * react to its result without a thread blocked in {@link #get()}.
+ * </p>
+ * <p>
+ * A listener is a {@code Runnable} given with the {@code Executor} to run it with. It is
+ * run once the task completes normally, exceptionally or by cancellation, or at once if
+ * the task is already complete. Computations can be chained with
+ * {@link #then(Computable, Executor)}:
+ * </p>
+ *
+ * <pre>
+ * ListenableFutureTask&lt;Account&gt; account = accounts.compute(id);
+ * ListenableFutureTask&lt;Balance&gt; balance = account.then(balanceLookup, executor);
+ * </pre>
+ *
+ * @param <V> the type of the result of the task
+ * @since 3.6
+ */
+public class ListenableFutureTask<V> extends FutureTask<V> {
+
+    /**
+     * An executor running the commands in the calling thread, for listeners which
+     * are quick to run.
+     */
+    static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(final Runnable command) {
+            command.run();
+        }
+    };
+
+    /**
+     * The listeners and their executors, or null once the task is complete; guarded by this.
+     */
+    private List<Listener> listeners = new ArrayList<>(2);
+
+    /**
+     * <p>
+     * Creates a task which runs the specified {@code Callable}.
+     * </p>
+     *
+     * @param callable the callable task
+     * @throws NullPointerException if the callable is null
+     */
+    public ListenableFutureTask(final Callable<V> callable) {
+        super(callable);
+    }
+
+    /**
+     * <p>
+     * Adds a listener, run with the specified executor once this task is complete, or at
+     * once if it is already complete.
+     * </p>
+     *
+     * @param listener the listener (must not be <b>null</b>)
+     * @param executor the executor running the listener (must not be <b>null</b>)
+     * @throws NullPointerException if the listener or the executor is <b>null</b>
+     */
+    public void addListener(final Runnable listener, final Executor executor) {
+        if (listener == null) {
+            throw new NullPointerException("Listener must not be null!");
+        }
+        if (executor == null) {
+            throw new NullPointerException("Executor must not be null!");
+        }
+        synchronized (this) {
+            if (listeners != null) {
+                listeners.add(new Listener(listener, executor));
+                return;
+            }
+        }
+        executor.execute(listener);
+    }
+
+    /**
+     * <p>
+     * Creates a task computing a result from the result of this task, run with the
+     * specified executor once this task is complete. If this task fails, or is cancelled,
+     * the returned task fails with the same exception, or a {@code CancellationException}.
+     * </p>
+     *
+     * @param function the computation of the new result (must not be <b>null</b>)
+     * @param executor the executor running the computation (must not be <b>null</b>)
+     * @param <R> the type of the new result
+     * @return the task of the new result
+     * @throws NullPointerException if the function or the executor is <b>null</b>
+     */
+    public <R> ListenableFutureTask<R> then(final Computable<? super V, R> function, final Executor executor) {
+        if (function == null) {
+            throw new NullPointerException("Function must not be null!");
+        }
+        final ListenableFutureTask<R> next = new ListenableFutureTask<>(new Callable<R>() {
+
+            @Override
+            public R call() throws Exception {
+                final V result;
+                try {
+                    result = get();
+                } catch (final ExecutionException e) {
+                    throw launderException(e.getCause());
+                }
+                return function.compute(result);
+            }
+        });
+        addListener(next, executor);
+        return next;
+    }
+
+    /**
+     * <p>
+     * Gets the exception to complete a task with, from the cause of a failure.
+     * </p>
+     *
+     * @param throwable the cause
+     * @return the cause if it is an exception, or the cause is thrown if it is an error
+     */
+    private static Exception launderException(final Throwable throwable) {
+        if (throwable instanceof Exception) {
+            return (Exception) throwable;
+        } else if (throwable instanceof Error) {
+            throw (Error) throwable;
+        } else {
+            return new IllegalStateException("Unchecked exception", throwable);
+        }
+    }
+
+    /**
+     * <p>
+     * Completes this task with the specified exception, unless it is already complete.
+     * Visible to the package so that a task which could not be started, such as one
+     * rejected by its executor, does not leave its callers waiting.
+     * </p>
+     *
+     * @param throwable the cause of the failure
+     */
+    @Override
+    protected void setException(final Throwable throwable) {
+        super.setException(throwable);
+    }
+
+    /**
+     * <p>
+     * Runs the listeners, once this task is complete. A listener whose executor throws
+     * an exception, such as a {@code RejectedExecutionException}, does not prevent the
+     * others from running; a task created by {@link #then(Computable, Executor)} fails
+     * with that exception.
+     * </p>
+     */
+    @Override
+    protected void done() {
+        final List<Listener> completed;
+        synchronized (this) {
+            completed = listeners;
+            listeners = null;
+        }
+        for (final Listener listener : completed) {
+            listener.execute();
+        }
+    }
+
+    /**
+     * A listener and the executor to run it with.
+     */
+    private static final class Listener {
+        private final Runnable runnable;
+        private final Executor executor;
+
+        /**
+         * Creates a listener.
+         *
+         * @param runnable the listener
+         * @param executor the executor running the listener
+         */
+        Listener(final Runnable runnable, final Executor executor) {
+            this.runnable = runnable;
+            this.executor = executor;
+        }
+
+        /**
+         * Runs the listener with its executor.
+         */
+        void execute() {
+            try {
+                executor.execute(runnable);
+            } catch (final RuntimeException e) {
+                if (runnable instanceof ListenableFutureTask) {
+                    ((ListenableFutureTask<?>) runnable).setException(e);
+                }
+            }
+        }
+    }
+}
@@ -153,7 +153,7 @@ public O call() throws InterruptedException {
      *            the throwable to laundered
      * @return a RuntimeException, Error or an IllegalStateException
      */
-    private RuntimeException launderException(final Throwable throwable) {
+    static RuntimeException launderException(final Throwable throwable) {
         if (throwable instanceof RuntimeException) {
             return (RuntimeException) throwable;
         } else if (throwable instanceof Error) {
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * An interface describing a <em>rate limiter</em>, a component which hands out a
+ * limited number of permits per period of time.
+ * </p>
+ * <p>
+ * Like {@link TimedSemaphore}, a rate limiter can be used to limit the load produced
+ * by a process, for example the calls made to a remote service. Permits are never
+ * released: they become available again as time passes, in a way which depends on the
+ * concrete implementation.
+ * </p>
+ *
+ * @since 3.6
+ */
+public interface RateLimiter {
+    /**
+     * Tries to acquire a permit. This method does not block: if no permit is
+     * available, it returns <strong>false</strong> at once.
+     *
+     * @return <strong>true</strong> if a permit was acquired; <strong>false</strong>
+     * otherwise
+     */
+    boolean tryAcquire();
+
+    /**
+     * Tries to acquire the given number of permits at once. This method does not
+     * block: if not enough permits are available, none is acquired and it returns
+     * <strong>false</strong> at once.
+     *
+     * @param permits the number of permits
+     * @return <strong>true</strong> if the permits were acquired; <strong>false</strong>
+     * otherwise
+     * @throws IllegalArgumentException if the number of permits is less than 1 or
+     * more than this limiter can ever hand out at once
+     */
+    boolean tryAcquire(int permits);
+
+    /**
+     * Tries to acquire the given number of permits at once, waiting for them at most
+     * the given time. If the permits cannot be available before the timeout, this
+     * method returns <strong>false</strong> without waiting.
+     *
+     * @param permits the number of permits
+     * @param timeout the maximum time to wait for the permits
+     * @param unit the unit of the timeout
+     * @return <strong>true</strong> if the permits were acquired; <strong>false</strong>
+     * otherwise
+     * @throws InterruptedException if the thread gets interrupted while waiting
+     * @throws IllegalArgumentException if the number of permits is less than 1 or
+     * more than this limiter can ever hand out at once
+     */
+    boolean tryAcquire(int permits, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Returns the number of permits which can currently be acquired. As other threads
+     * may acquire permits at any time, there is no guarantee that they can still be
+     * acquired afterwards.
+     *
+     * @return the number of available permits
+     */
+    int getAvailablePermits();
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * A rate limiter implementing the <em>sliding window counter</em> algorithm.
+ * </p>
+ * <p>
+ * {@link TimedSemaphore} counts the permits of fixed periods, and releases all of
+ * them at the end of a period, so that up to twice the limit can be acquired around
+ * the end of a period. This limiter also counts the permits of fixed periods, but
+ * estimates the permits acquired in the last period of time, a window sliding with
+ * the current time: it adds to the permits of the current period the permits of the
+ * previous period, weighted by the part of the window which overlaps the previous
+ * period. Permits are acquired as long as this estimate stays within the limit, so
+ * they become available again gradually. The periods are computed from
+ * {@link System#nanoTime()} when permits are acquired, so no timer thread is needed.
+ * </p>
+ * <p>
+ * The counter of the current period is updated with compare-and-set operations, and
+ * replaced once per period, so the limiter can be used by many threads without
+ * locking.
+ * </p>
+ *
+ * @since 3.6
+ */
+public class SlidingWindowRateLimiter extends AbstractRateLimiter {
+    /**
+     * The flag set on the counter of a period once it is over, so that it is not
+     * updated any longer.
+     */
+    private static final int CLOSED = Integer.MIN_VALUE;
+
+    /** The start of the first period. */
+    private final long startNanos;
+
+    /** The current period. */
+    private final AtomicReference<Window> window;
+
+    /**
+     * Creates a new instance of {@code SlidingWindowRateLimiter} and initializes it
+     * with the given time period and the limit.
+     *
+     * @param timePeriod the time period
+     * @param timeUnit the unit for the period
+     * @param limit the number of permits per period
+     * @throws IllegalArgumentException if the period or the limit is less or equals 0
+     */
+    public SlidingWindowRateLimiter(final long timePeriod, final TimeUnit timeUnit, final int limit) {
+        super(timePeriod, timeUnit, limit);
+        startNanos = System.nanoTime();
+        window = new AtomicReference<>(new Window(0, 0));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean acquirePermits(final int permits, final long now) {
+        while (true) {
+            final Window current = currentWindow(now);
+            final int count = current.count.get();
+            if (count < 0) {
+                // the period just ended
+                continue;
+            }
+            if (current.estimate(count, now) + permits > getLimit()) {
+                return false;
+            }
+            if (current.count.compareAndSet(count, count + permits)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected long nanosUntilAvailable(final int permits, final long now) {
+        final Window current = currentWindow(now);
+        final int count = current.count.get() & ~CLOSED;
+        final long periodNanos = getPeriodNanos();
+        final long elapsed = now - startNanos - current.index * periodNanos;
+        if (count + permits > getLimit()) {
+            // wait for the next period, where the count of this period is weighted
+            return periodNanos - elapsed;
+        }
+        if (current.previous == 0) {
+            return 0;
+        }
+        // the weight of the previous period decreases linearly to 0 at the end of this period
+        final double weight = (double) (getLimit() - count - permits) / current.previous;
+        return Math.max(0, (long) Math.ceil((1 - weight) * periodNanos) - elapsed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getAvailablePermits() {
+        final long now = System.nanoTime();
+        final Window current = currentWindow(now);
+        final double estimate = current.estimate(current.count.get() & ~CLOSED, now);
+        return (int) Math.max(0, getLimit() - (long) Math.ceil(estimate));
+    }
+
+    /**
+     * Returns the window of the current period, replacing the window of an earlier
+     * period if needed.
+     *
+     * @param now the current time, as returned by {@link System#nanoTime()}
+     * @return the current window
+     */
+    private Window currentWindow(final long now) {
+        final long index = (now - startNanos) / getPeriodNanos();
+        while (true) {
+            final Window current = window.get();
+            if (current.index >= index) {
+                return current;
+            }
+            // close the counter, so that no permit is counted once its value is taken
+            int count;
+            do {
+                count = current.count.get();
+            } while (count >= 0 && !current.count.compareAndSet(count, count | CLOSED));
+            final int previous = index == current.index + 1 ? count & ~CLOSED : 0;
+            final Window next = new Window(index, previous);
+            if (window.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * The counter of a period, and the count of the previous period.
+     */
+    private final class Window {
+        /** The number of the period. */
+        private final long index;
+
+        /** The number of permits acquired in the previous period. */
+        private final int previous;
+
+        /** The number of permits acquired in this period, or'ed with {@link #CLOSED} once it is over. */
+        private final AtomicInteger count = new AtomicInteger();
+
+        /**
+         * Creates the window of a period.
+         *
+         * @param index the number of the period
+         * @param previous the number of permits acquired in the previous period
+         */
+        Window(final long index, final int previous) {
+            this.index = index;
+            this.previous = previous;
+        }
+
+        /**
+         * Estimates the number of permits acquired in the last period of time.
+         *
+         * @param current the number of permits acquired in this period
+         * @param now the current time, as returned by {@link System#nanoTime()}
+         * @return the estimated number of permits
+         */
+        double estimate(final int current, final long now) {
+            final long periodNanos = getPeriodNanos();
+            final long elapsed = now - startNanos - index * periodNanos;
+            return previous * (1 - (double) elapsed / periodNanos) + current;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * A counter which many threads can update at once without contending on a single
+ * variable.
+ * </p>
+ * <p>
+ * An {@code AtomicLong} updated by many threads becomes a point of contention: every
+ * update invalidates the cache line of the other processors, and compare-and-set loops
+ * retry. A {@code StripedCounter} spreads the updates over a number of cells, about one
+ * per processor, each on its own cache line. A thread always updates the same cell, so
+ * threads on different processors rarely update the same cache line. Reading the count
+ * sums the cells.
+ * </p>
+ * <p>
+ * The sum is not an atomic snapshot: updates made while the cells are summed may or may
+ * not be included. Updates which happened before {@link #sum()} was called are always
+ * included. This makes the class suited to statistics, such as event counts, which are
+ * updated often and read seldom; an {@code AtomicLong} is better when the value controls
+ * the synchronization of threads.
+ * </p>
+ *
+ * @since 3.6
+ */
+public class StripedCounter {
+
+    /**
+     * The number of longs between two cells, so that each cell is on its own cache line.
+     */
+    private static final int PADDING = 8;
+
+    /**
+     * The maximum number of cells.
+     */
+    private static final int MAX_CELLS = 64;
+
+    /**
+     * The cells, {@link #PADDING} longs apart.
+     */
+    private final AtomicLongArray cells;
+
+    /**
+     * The number of cells minus one, the number of cells being a power of two.
+     */
+    private final int mask;
+
+    /**
+     * <p>
+     * Creates a new counter with a count of zero and a cell for each available processor.
+     * </p>
+     */
+    public StripedCounter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * <p>
+     * Creates a new counter with a count of zero and the specified number of cells. The
+     * number is rounded up to a power of two, and at most 64 cells are created.
+     * </p>
+     *
+     * @param cellCount the number of cells, usually the number of threads updating the counter
+     * @throws IllegalArgumentException if the number of cells is not positive
+     */
+    public StripedCounter(final int cellCount) {
+        if (cellCount <= 0) {
+            throw new IllegalArgumentException("Cell count must be greater than 0: " + cellCount);
+        }
+        final int count = Integer.highestOneBit(Math.min(cellCount, MAX_CELLS) - 1) << 1;
+        mask = Math.max(1, count) - 1;
+        cells = new AtomicLongArray((mask + 1) * PADDING);
+    }
+
+    /**
+     * Gets the index of the cell of the current thread.
+     *
+     * @return the index in {@link #cells}
+     */
+    private int cell() {
+        // Fibonacci hashing spreads the consecutive ids of threads over the cells
+        final long id = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return ((int) (id >>> 32) & mask) * PADDING;
+    }
+
+    /**
+     * <p>
+     * Adds a value to the count.
+     * </p>
+     *
+     * @param delta the value to add
+     */
+    public void add(final long delta) {
+        cells.getAndAdd(cell(), delta);
+    }
+
+    /**
+     * Adds a value to the cell of the current thread, for callers which only look at the
+     * whole count once in a while.
+     *
+     * @param delta the value to add
+     * @return the new value of the cell
+     */
+    long addAndGetCell(final long delta) {
+        return cells.addAndGet(cell(), delta);
+    }
+
+    /**
+     * Gets the number of cells.
+     *
+     * @return the number of cells, a power of two
+     */
+    int getCellCount() {
+        return mask + 1;
+    }
+
+    /**
+     * <p>
+     * Adds one to the count.
+     * </p>
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * <p>
+     * Gets the count, the sum of the values added since the counter was created or reset.
+     * </p>
+     *
+     * @return the count
+     */
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    /**
+     * <p>
+     * Sets the count to zero. Values added while the counter is reset may be lost.
+     * </p>
+     */
+    public void reset() {
+        for (int i = 0; i <= mask; i++) {
+            cells.set(i * PADDING, 0);
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the count and sets it to zero. Unlike {@link #reset()}, no value is lost: each
+     * value is either included in the returned count or kept in the new count.
+     * </p>
+     *
+     * @return the count before it was set to zero
+     */
+    public long sumThenReset() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.getAndSet(i * PADDING, 0);
+        }
+        return sum;
+    }
+
+    /**
+     * <p>
+     * Returns the count as a string.
+     * </p>
+     *
+     * @return the decimal count
+     */
+    @Override
+    public String toString() {
+        return Long.toString(sum());
+    }
+}
@@ -22,6 +22,8 @@
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * <p>
@@ -95,7 +97,9 @@
  * corresponding period to monitor this interval. The {@code
  * ScheduledExecutorService} to be used for this purpose can be provided at
  * construction time. Alternatively the class creates an internal executor
- * service.
+ * service. A semaphore can also do without a timer: then a period ends when
+ * the semaphore is used after the end of the period, as measured with
+ * {@link System#nanoTime()}, and no thread is needed.
  * </p>
  * <p>
  * Client code that uses {@code TimedSemaphore} has to call the
@@ -134,6 +138,13 @@
  * created by the semaphore at construction time, it is also shut down.
  * resources. After that {@link #acquire()} must not be called any more.
  * </p>
+ * <p>
+ * The period and the number of permits acquired in it are kept together in a
+ * single atomic variable, so that permits are acquired with compare-and-set
+ * operations, and many threads can use the semaphore without contending on a
+ * lock. A thread only takes the lock of the semaphore to wait in
+ * {@link #acquire()} when the limit is reached.
+ * </p>
  *
  * @since 3.0
  */
@@ -160,29 +171,33 @@ public class TimedSemaphore {
     /** A flag whether the executor service was created by this object. */
     private final boolean ownExecutor;
 
-    /** A future object representing the timer task. */
-    private ScheduledFuture<?> task; // @GuardedBy("this")
+    /** The period in nanoseconds, if the periods end without a timer, otherwise 0. */
+    private final long periodNanos;
 
-    /** Stores the total number of invocations of the acquire() method. */
-    private long totalAcquireCount; // @GuardedBy("this")
+    /** The start of the first period, if the periods end without a timer. */
+    private final long startNanos;
+
+    /** A future object representing the timer task. */
+    private volatile ScheduledFuture<?> task; // @GuardedBy("this") when written
 
     /**
-     * The counter for the periods. This counter is increased every time a
-     * period ends.
+     * The number of the current period in the upper 32 bits, and the number of
+     * permits acquired in it in the lower 32 bits.
      */
-    private long periodCount; // @GuardedBy("this")
+    private final AtomicLong state = new AtomicLong();
 
-    /** The limit. */
-    private int limit; // @GuardedBy("this")
+    /** The statistics of the periods which ended. */
+    private final AtomicReference<Statistics> statistics =
+            new AtomicReference<>(new Statistics(0, 0, 0, 0));
 
-    /** The current counter. */
-    private int acquireCount;  // @GuardedBy("this")
+    /** The limit. */
+    private volatile int limit;
 
-    /** The number of invocations of acquire() in the last period. */
-    private int lastCallsPerPeriod; // @GuardedBy("this")
+    /** The number of threads waiting in acquire(). */
+    private volatile int waiters; // @GuardedBy("this") when written
 
     /** A flag whether shutdown() was called. */
-    private boolean shutdown;  // @GuardedBy("this")
+    private volatile boolean shutdown; // @GuardedBy("this") when written
 
     /**
      * Creates a new instance of {@link TimedSemaphore} and initializes it with
@@ -220,17 +235,58 @@ public TimedSemaphore(final ScheduledExecutorService service, final long timePer
             executorService = service;
             ownExecutor = false;
         } else {
-            final ScheduledThreadPoolExecutor s = new ScheduledThreadPoolExecutor(
-                    THREAD_POOL_SIZE);
-            s.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
-            s.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
-            executorService = s;
+            executorService = createExecutorService();
             ownExecutor = true;
         }
+        periodNanos = 0;
+        startNanos = System.nanoTime();
+
+        setLimit(limit);
+    }
+
+    /**
+     * Creates a new instance of {@link TimedSemaphore} and initializes it with
+     * the given time period and the limit, and whether a timer ends the periods.
+     * Without a timer, a period ends when the semaphore is used after the end
+     * of the period, measured with {@link System#nanoTime()}, so no executor
+     * service is needed and {@link #getExecutorService()} returns <b>null</b>.
+     *
+     * @param timePeriod the time period
+     * @param timeUnit the unit for the period
+     * @param limit the limit for the semaphore
+     * @param timer whether a periodic task of an internal executor service ends
+     * the periods
+     * @throws IllegalArgumentException if the period is less or equals 0
+     * @since 3.6
+     */
+    public TimedSemaphore(final long timePeriod, final TimeUnit timeUnit, final int limit,
+            final boolean timer) {
+        Validate.inclusiveBetween(1, Long.MAX_VALUE, timePeriod, "Time period must be greater than 0!");
+
+        period = timePeriod;
+        unit = timeUnit;
+
+        executorService = timer ? createExecutorService() : null;
+        ownExecutor = timer;
+        periodNanos = timer ? 0 : timeUnit.toNanos(timePeriod);
+        startNanos = System.nanoTime();
 
         setLimit(limit);
     }
 
+    /**
+     * Creates the internal executor service, if none is provided.
+     *
+     * @return the executor service
+     */
+    private static ScheduledExecutorService createExecutorService() {
+        final ScheduledThreadPoolExecutor s = new ScheduledThreadPoolExecutor(
+                THREAD_POOL_SIZE);
+        s.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+        s.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return s;
+    }
+
     /**
      * Returns the limit enforced by this semaphore. The limit determines how
      * many invocations of {@link #acquire()} are allowed within the monitored
@@ -238,7 +294,7 @@ public TimedSemaphore(final ScheduledExecutorService service, final long timePer
      *
      * @return the limit
      */
-    public final synchronized int getLimit() {
+    public final int getLimit() {
         return limit;
     }
 
@@ -252,7 +308,7 @@ public final synchronized int getLimit() {
      *
      * @param limit the limit
      */
-    public final synchronized void setLimit(final int limit) {
+    public final void setLimit(final int limit) {
         this.limit = limit;
     }
 
@@ -284,7 +340,7 @@ public synchronized void shutdown() {
      *
      * @return a flag whether a shutdown has been performed
      */
-    public synchronized boolean isShutdown() {
+    public boolean isShutdown() {
         return shutdown;
     }
 
@@ -299,16 +355,28 @@ public synchronized boolean isShutdown() {
      * @throws InterruptedException if the thread gets interrupted
      * @throws IllegalStateException if this semaphore is already shut down
      */
-    public synchronized void acquire() throws InterruptedException {
+    public void acquire() throws InterruptedException {
         prepareAcquire();
+        if (acquirePermit()) {
+            return;
+        }
 
-        boolean canPass;
-        do {
-            canPass = acquirePermit();
-            if (!canPass) {
-                wait();
+        synchronized (this) {
+            waiters++;
+            try {
+                while (!acquirePermit()) {
+                    if (periodNanos > 0) {
+                        // no timer wakes this thread up, so wait until the end of the period
+                        final long elapsed = System.nanoTime() - startNanos;
+                        TimeUnit.NANOSECONDS.timedWait(this, periodNanos - elapsed % periodNanos);
+                    } else {
+                        wait();
+                    }
+                }
+            } finally {
+                waiters--;
             }
-        } while (!canPass);
+        }
     }
 
     /**
@@ -322,7 +390,7 @@ public synchronized void acquire() throws InterruptedException {
      * @throws IllegalStateException if this semaphore is already shut down
      * @since 3.5
      */
-    public synchronized boolean tryAcquire() {
+    public boolean tryAcquire() {
         prepareAcquire();
         return acquirePermit();
     }
@@ -337,8 +405,9 @@ public synchronized boolean tryAcquire() {
      * @return the number of non-blocking invocations of the {@link #acquire()}
      * method
      */
-    public synchronized int getLastAcquiresPerPeriod() {
-        return lastCallsPerPeriod;
+    public int getLastAcquiresPerPeriod() {
+        currentState();
+        return statistics.get().lastCallsPerPeriod;
     }
 
     /**
@@ -347,8 +416,8 @@ public synchronized int getLastAcquiresPerPeriod() {
      *
      * @return the current number of {@link #acquire()} invocations
      */
-    public synchronized int getAcquireCount() {
-        return acquireCount;
+    public int getAcquireCount() {
+        return acquireCount(currentState());
     }
 
     /**
@@ -362,7 +431,7 @@ public synchronized int getAcquireCount() {
      * @return the current number of available {@link #acquire()} calls in the
      * current period
      */
-    public synchronized int getAvailablePermits() {
+    public int getAvailablePermits() {
         return getLimit() - getAcquireCount();
     }
 
@@ -375,9 +444,11 @@ public synchronized int getAvailablePermits() {
      * @return the average number of {@link #acquire()} invocations per time
      * unit
      */
-    public synchronized double getAverageCallsPerPeriod() {
-        return periodCount == 0 ? 0 : (double) totalAcquireCount
-                / (double) periodCount;
+    public double getAverageCallsPerPeriod() {
+        currentState();
+        final Statistics stats = statistics.get();
+        return stats.periodCount == 0 ? 0 : (double) stats.totalAcquireCount
+                / (double) stats.periodCount;
     }
 
     /**
@@ -403,7 +474,8 @@ public TimeUnit getUnit() {
     /**
      * Returns the executor service used by this instance.
      *
-     * @return the executor service
+     * @return the executor service, or <b>null</b> if the periods end without
+     * a timer
      */
     protected ScheduledExecutorService getExecutorService() {
         return executorService;
@@ -428,43 +500,185 @@ public void run() {
     /**
      * The current time period is finished. This method is called by the timer
      * used internally to monitor the time period. It resets the counter and
-     * releases the threads waiting for this barrier.
+     * releases the threads waiting for this barrier. If the periods end
+     * without a timer, it only ends the period if its time is over.
      */
-    synchronized void endOfPeriod() {
-        lastCallsPerPeriod = acquireCount;
-        totalAcquireCount += acquireCount;
-        periodCount++;
-        acquireCount = 0;
-        notifyAll();
+    void endOfPeriod() {
+        while (true) {
+            final long current = state.get();
+            final int next = periodNanos > 0 ? elapsedPeriods() : periodNumber(current) + 1;
+            if (next == periodNumber(current) || rollOver(current, next)) {
+                return;
+            }
+        }
     }
 
     /**
      * Prepares an acquire operation. Checks for the current state and starts the internal
-     * timer if necessary. This method must be called with the lock of this object held.
+     * timer if necessary.
      */
     private void prepareAcquire() {
         if (isShutdown()) {
             throw new IllegalStateException("TimedSemaphore is shut down!");
         }
 
-        if (task == null) {
-            task = startTimer();
+        if (task == null && periodNanos == 0) {
+            synchronized (this) {
+                if (task == null) {
+                    task = startTimer();
+                }
+            }
         }
     }
 
     /**
      * Internal helper method for acquiring a permit. This method checks whether currently
      * a permit can be acquired and - if so - increases the internal counter. The return
-     * value indicates whether a permit could be acquired. This method must be called with
-     * the lock of this object held.
+     * value indicates whether a permit could be acquired.
      *
      * @return a flag whether a permit could be acquired
      */
     private boolean acquirePermit() {
-        if (getLimit() <= NO_LIMIT || acquireCount < getLimit()) {
-            acquireCount++;
-            return true;
+        while (true) {
+            final long current = currentState();
+            final int count = acquireCount(current);
+            final int currentLimit = getLimit();
+            if (currentLimit > NO_LIMIT && count >= currentLimit) {
+                return false;
+            }
+            // without a limit the counter stops at its maximum rather than overflow into the period
+            if (count == Integer.MAX_VALUE || state.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gets the state of the current period, ending the periods whose time is over
+     * if there is no timer.
+     *
+     * @return the state, with the number of the period and the acquire count
+     */
+    private long currentState() {
+        while (true) {
+            final long current = state.get();
+            if (periodNanos == 0) {
+                return current;
+            }
+            final int elapsed = elapsedPeriods();
+            if (elapsed == periodNumber(current)) {
+                return current;
+            }
+            rollOver(current, elapsed);
+        }
+    }
+
+    /**
+     * Gets the number of periods since this semaphore was created, if there is no timer.
+     *
+     * @return the number of the current period, truncated to an int
+     */
+    private int elapsedPeriods() {
+        return (int) ((System.nanoTime() - startNanos) / periodNanos);
+    }
+
+    /**
+     * Ends the current period, if the state has not changed, and releases the
+     * threads waiting in {@link #acquire()}.
+     *
+     * @param current the state of the period to end
+     * @param next the number of the new period
+     * @return a flag whether the period was ended by this call
+     */
+    private boolean rollOver(final long current, final int next) {
+        if (!state.compareAndSet(current, (long) next << 32)) {
+            return false;
+        }
+        final int ended = next - periodNumber(current);
+        final int count = acquireCount(current);
+        Statistics stats;
+        do {
+            stats = statistics.get();
+        } while (!statistics.compareAndSet(stats, stats.add(next, ended, count)));
+
+        if (waiters > 0) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of the period of a state.
+     *
+     * @param state the state
+     * @return the number of the period
+     */
+    private static int periodNumber(final long state) {
+        return (int) (state >>> 32);
+    }
+
+    /**
+     * Gets the acquire count of a state.
+     *
+     * @param state the state
+     * @return the number of permits acquired in the period
+     */
+    private static int acquireCount(final long state) {
+        return (int) state;
+    }
+
+    /**
+     * The statistics of the ended periods. Instances are immutable, so they can
+     * be replaced atomically.
+     */
+    private static final class Statistics {
+        /** The number of the period following the last ended period. */
+        private final int period;
+
+        /** The number of invocations of acquire() in the last period. */
+        private final int lastCallsPerPeriod;
+
+        /** Stores the total number of invocations of the acquire() method. */
+        private final long totalAcquireCount;
+
+        /**
+         * The counter for the periods. This counter is increased every time a
+         * period ends.
+         */
+        private final long periodCount;
+
+        /**
+         * Creates statistics.
+         *
+         * @param period the number of the period following the last ended period
+         * @param lastCallsPerPeriod the acquire count of the last period
+         * @param totalAcquireCount the total acquire count
+         * @param periodCount the number of ended periods
+         */
+        Statistics(final int period, final int lastCallsPerPeriod, final long totalAcquireCount,
+                final long periodCount) {
+            this.period = period;
+            this.lastCallsPerPeriod = lastCallsPerPeriod;
+            this.totalAcquireCount = totalAcquireCount;
+            this.periodCount = periodCount;
+        }
+
+        /**
+         * Adds the periods ended by a roll over. Roll overs may be added out of
+         * order, so the last period is only replaced by a later one.
+         *
+         * @param next the number of the new period
+         * @param ended the number of ended periods
+         * @param count the acquire count of the first ended period
+         * @return the new statistics
+         */
+        Statistics add(final int next, final int ended, final int count) {
+            final boolean later = next - period > 0;
+            return new Statistics(later ? next : period,
+                    later ? (ended == 1 ? count : 0) : lastCallsPerPeriod,
+                    totalAcquireCount + count, periodCount + ended);
         }
-        return false;
     }
 }
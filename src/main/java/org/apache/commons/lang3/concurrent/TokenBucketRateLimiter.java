@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * <p>
+ * A rate limiter implementing the <em>token bucket</em> algorithm.
+ * </p>
+ * <p>
+ * The bucket holds up to a given capacity of permits, and is refilled continuously
+ * with the given number of permits per period: with a limit of 100 permits per
+ * second, a permit is added every 10 milliseconds. Permits can so be acquired in
+ * bursts up to the capacity, while on average the limit is never exceeded; unlike
+ * {@link TimedSemaphore}, there is no time at which all permits become available at
+ * once. The refill is computed from {@link System#nanoTime()} when permits are
+ * acquired, so no timer thread is needed.
+ * </p>
+ * <p>
+ * The bucket is kept as a single time: the time at which it would be full again.
+ * Acquiring permits moves this time forward with a compare-and-set operation, so
+ * the limiter can be used by many threads without locking.
+ * </p>
+ *
+ * <pre>
+ * // 100 calls per second, in bursts of up to 20 calls
+ * RateLimiter limiter = new TokenBucketRateLimiter(1, TimeUnit.SECONDS, 100, 20);
+ * if (limiter.tryAcquire(1, 50, TimeUnit.MILLISECONDS)) {
+ *     callService();
+ * }
+ * </pre>
+ *
+ * @since 3.6
+ */
+public class TokenBucketRateLimiter extends AbstractRateLimiter {
+    /** The capacity of the bucket. */
+    private final int capacity;
+
+    /** The time to refill one permit, in nanoseconds. */
+    private final double nanosPerPermit;
+
+    /** The time to refill the whole bucket, in nanoseconds. */
+    private final long capacityNanos;
+
+    /**
+     * The time at which the bucket is full again; a time in the past means that the
+     * bucket is full.
+     */
+    private final AtomicLong fullTime;
+
+    /**
+     * Creates a new instance of {@code TokenBucketRateLimiter} with a bucket holding
+     * the permits of one period.
+     *
+     * @param timePeriod the time period
+     * @param timeUnit the unit for the period
+     * @param limit the number of permits per period, and the capacity of the bucket
+     * @throws IllegalArgumentException if the period or the limit is less or equals 0
+     */
+    public TokenBucketRateLimiter(final long timePeriod, final TimeUnit timeUnit, final int limit) {
+        this(timePeriod, timeUnit, limit, limit);
+    }
+
+    /**
+     * Creates a new instance of {@code TokenBucketRateLimiter}. The bucket is full
+     * at first.
+     *
+     * @param timePeriod the time period
+     * @param timeUnit the unit for the period
+     * @param limit the number of permits per period
+     * @param capacity the maximum number of permits in the bucket
+     * @throws IllegalArgumentException if the period, the limit or the capacity is less
+     * or equals 0
+     */
+    public TokenBucketRateLimiter(final long timePeriod, final TimeUnit timeUnit, final int limit,
+            final int capacity) {
+        super(timePeriod, timeUnit, limit);
+        Validate.inclusiveBetween(1, Integer.MAX_VALUE, capacity, "Capacity must be greater than 0!");
+        this.capacity = capacity;
+        this.nanosPerPermit = (double) getPeriodNanos() / limit;
+        this.capacityNanos = costOf(capacity);
+        this.fullTime = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Returns the time to refill a number of permits.
+     *
+     * @param permits the number of permits
+     * @return the time in nanoseconds
+     */
+    private long costOf(final int permits) {
+        return (long) (permits * nanosPerPermit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean acquirePermits(final int permits, final long now) {
+        final long cost = costOf(permits);
+        while (true) {
+            final long full = fullTime.get();
+            final long next = (full - now > 0 ? full : now) + cost;
+            if (next - now > capacityNanos) {
+                return false;
+            }
+            if (fullTime.compareAndSet(full, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected long nanosUntilAvailable(final int permits, final long now) {
+        final long full = fullTime.get();
+        final long next = (full - now > 0 ? full : now) + costOf(permits);
+        return Math.max(0, next - now - capacityNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getAvailablePermits() {
+        final long refilled = capacityNanos - Math.max(0, fullTime.get() - System.nanoTime());
+        int permits = (int) Math.min(capacity, (long) (refilled / nanosPerPermit));
+        // the division may round down below the permits acquirePermits() would grant
+        if (permits < capacity && costOf(permits + 1) <= refilled) {
+            permits++;
+        }
+        return permits;
+    }
+
+    /**
+     * Returns the maximum number of permits which can be acquired at once, the
+     * capacity of the bucket.
+     *
+     * @return the capacity
+     */
+    @Override
+    public int getMaxPermits() {
+        return capacity;
+    }
+
+    /**
+     * Returns the capacity of the bucket.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import java.util.Arrays;
+
+/**
+ * Replaces all occurrences of several search strings within a String,
+ * in a single pass over the text.
+ * <p>
+ * The replacer is built once from the search and replacement lists, and can
+ * then be used to replace any number of texts. It gives the same results as
+ * {@link org.apache.commons.lang3.StringUtils#replaceEach(String, String[], String[])}
+ * and {@link org.apache.commons.lang3.StringUtils#replaceEachRepeatedly(String, String[], String[])}:
+ * the match starting first in the text is replaced, the search string coming first in the list
+ * wins when several matches start at the same index, and the search continues after the replaced
+ * text. A {@code null} or empty search string, or a {@code null} replacement, is ignored.
+ * <p>
+ * The search strings are compiled into an Aho-Corasick automaton, so replacing takes
+ * time proportional to the length of the text rather than to the length of the text times
+ * the number of search strings. This makes a difference when there are many search strings.
+ * When the search strings use few enough distinct characters, the automaton is compiled into
+ * a table, so that each character of the text takes a single lookup.
+ * <pre>
+ * StrReplacer replacer = new StrReplacer(new String[]{"a", "b"}, new String[]{"b", "c"});
+ * replacer.replace("aabbcc")            = "bbcccc"
+ * replacer.replaceRepeatedly("aabbcc")  = "cccccc"
+ * </pre>
+ * <p>
+ * This class is immutable and thread-safe.
+ * <p>#ThreadSafe#</p>
+ *
+ * @since 3.6
+ */
+public final class StrReplacer {
+
+    /**
+     * The maximum number of distinct first characters of the search strings for which
+     * the characters which cannot start a match are skipped before moving the automaton.
+     */
+    private static final int SKIP_MAX_FIRST_CHARS = 8;
+    /**
+     * The characters from which the automaton is not compiled into a table.
+     */
+    private static final int TABLE_MAX_CHAR = 0x800;
+    /**
+     * The maximum number of cells of the table the automaton is compiled into.
+     */
+    private static final int TABLE_MAX_SIZE = 1 << 16;
+
+    /**
+     * The replacements, indexed like the search strings.
+     */
+    private final String[] replacements;
+    /**
+     * The lengths of the search strings.
+     */
+    private final int[] searchLengths;
+    /**
+     * The index in {@link #transitionChars} of the first transition of each state,
+     * with a last entry holding the total number of transitions.
+     */
+    private final int[] transitionStarts;
+    /**
+     * The characters of the transitions of all the states, sorted within each state.
+     */
+    private final char[] transitionChars;
+    /**
+     * The target states of the transitions, indexed like {@link #transitionChars}.
+     */
+    private final int[] transitionTargets;
+    /**
+     * The failure transition of each state, to the state of its longest proper suffix.
+     */
+    private final int[] failures;
+    /**
+     * The length of the prefix matched by each state.
+     */
+    private final int[] depths;
+    /**
+     * The index of the longest search string ending at each state, or -1.
+     */
+    private final int[] outputs;
+    /**
+     * The class of each character, its column in {@link #table}, 0 standing for the
+     * characters found in no search string; {@code null} if there is no table.
+     */
+    private final int[] charClasses;
+    /**
+     * The state reached from each state on each character class, a row per state,
+     * {@code null} if the automaton is too large to compile into a table.
+     */
+    private final int[] table;
+    /**
+     * The number of character classes, the length of a row of {@link #table}.
+     */
+    private final int tableWidth;
+    /**
+     * A bit for each first character of the search strings, indexed by its lowest 6 bits,
+     * to skip quickly the characters which cannot start a match; all bits are set if
+     * there are too many first characters for skipping to pay.
+     */
+    private final long firstChars;
+    /**
+     * The number of characters added to the text by replacing once each search string
+     * longer than its replacement, used to size the result.
+     */
+    private final int increase;
+
+    /**
+     * Constructs a replacer.
+     *
+     * @param searchList  the Strings to search for, no-op if null
+     * @param replacementList  the Strings to replace them with, no-op if null
+     * @throws IllegalArgumentException if the lengths of the arrays are not the same
+     *  (null is ok, and/or size 0)
+     */
+    public StrReplacer(final String[] searchList, final String[] replacementList) {
+        final int searchLength = searchList == null ? 0 : searchList.length;
+        final int replacementLength = replacementList == null ? 0 : replacementList.length;
+        if (searchLength != replacementLength && searchLength != 0 && replacementLength != 0) {
+            throw new IllegalArgumentException("Search and Replace array lengths don't match: "
+                + searchLength
+                + " vs "
+                + replacementLength);
+        }
+        final int length = Math.min(searchLength, replacementLength);
+        replacements = length == 0 ? new String[0] : replacementList.clone();
+        searchLengths = new int[length];
+
+        // build the trie, as sorted lists of children, state 0 being the root
+        int capacity = 1;
+        for (int i = 0; i < length; i++) {
+            if (searchList[i] != null && replacements[i] != null) {
+                capacity += searchList[i].length();
+            }
+        }
+        final char[] labels = new char[capacity];
+        final int[] firstChildren = new int[capacity];
+        final int[] nextSiblings = new int[capacity];
+        final int[] terminals = new int[capacity];
+        Arrays.fill(terminals, -1);
+        int states = 1;
+        int extra = 0;
+        for (int i = 0; i < length; i++) {
+            final String search = searchList[i];
+            if (search == null || replacements[i] == null) {
+                continue;
+            }
+            searchLengths[i] = search.length();
+            extra += 3 * Math.max(0, replacements[i].length() - search.length()); // assume 3 matches
+            int state = 0;
+            for (int j = 0; j < search.length(); j++) {
+                final char c = search.charAt(j);
+                // 0 stands for no state, as the root is nobody's child or sibling
+                int previous = 0;
+                int child = firstChildren[state];
+                while (child != 0 && labels[child] < c) {
+                    previous = child;
+                    child = nextSiblings[child];
+                }
+                if (child == 0 || labels[child] != c) {
+                    final int added = states++;
+                    labels[added] = c;
+                    nextSiblings[added] = child;
+                    if (previous == 0) {
+                        firstChildren[state] = added;
+                    } else {
+                        nextSiblings[previous] = added;
+                    }
+                    child = added;
+                }
+                state = child;
+            }
+            if (state != 0 && terminals[state] < 0) {
+                // the first of duplicate search strings wins
+                terminals[state] = i;
+            }
+        }
+        increase = extra;
+
+        // flatten the children into a single transition table
+        transitionStarts = new int[states + 1];
+        transitionChars = new char[states - 1];
+        transitionTargets = new int[states - 1];
+        int transition = 0;
+        for (int state = 0; state < states; state++) {
+            transitionStarts[state] = transition;
+            for (int child = firstChildren[state]; child != 0; child = nextSiblings[child]) {
+                transitionChars[transition] = labels[child];
+                transitionTargets[transition++] = child;
+            }
+        }
+        transitionStarts[states] = transition;
+        // skipping is only worth it when few characters can start a match
+        long mask = -1L;
+        if (transitionStarts[1] <= SKIP_MAX_FIRST_CHARS) {
+            mask = 0;
+            for (int j = 0; j < transitionStarts[1]; j++) {
+                mask |= 1L << transitionChars[j];
+            }
+        }
+        firstChars = mask;
+
+        // compute the failure transitions breadth first, so that shorter suffixes are done first
+        failures = new int[states];
+        depths = new int[states];
+        outputs = new int[states];
+        outputs[0] = -1;
+        final int[] queue = new int[states];
+        int tail = 1;
+        for (int head = 0; head < tail; head++) {
+            final int state = queue[head];
+            for (int j = transitionStarts[state]; j < transitionStarts[state + 1]; j++) {
+                final int target = transitionTargets[j];
+                depths[target] = depths[state] + 1;
+                failures[target] = state == 0 ? 0 : next(failures[state], transitionChars[j]);
+                final int terminal = terminals[target];
+                outputs[target] = terminal >= 0 ? terminal : outputs[failures[target]];
+                queue[tail++] = target;
+            }
+        }
+
+        // compile the automaton into a table, so that each character takes a single lookup
+        int maxChar = -1;
+        for (final char c : transitionChars) {
+            maxChar = Math.max(maxChar, c);
+        }
+        int[] classes = null;
+        int width = 1;
+        if (maxChar < TABLE_MAX_CHAR) {
+            classes = new int[maxChar + 1];
+            for (final char c : transitionChars) {
+                if (classes[c] == 0) {
+                    classes[c] = width++;
+                }
+            }
+        }
+        if (classes != null && (long) states * width <= TABLE_MAX_SIZE) {
+            charClasses = classes;
+            tableWidth = width;
+            table = new int[states * width];
+            // breadth first, the row of the failure state is complete before it is copied
+            for (int head = 0; head < states; head++) {
+                final int state = queue[head];
+                if (state != 0) {
+                    System.arraycopy(table, failures[state] * width, table, state * width, width);
+                }
+                for (int j = transitionStarts[state]; j < transitionStarts[state + 1]; j++) {
+                    table[state * width + classes[transitionChars[j]]] = transitionTargets[j];
+                }
+            }
+        } else {
+            charClasses = null;
+            tableWidth = 0;
+            table = null;
+        }
+    }
+
+    /**
+     * Finds the target of the transition from a state on a character.
+     *
+     * @param state  the state
+     * @param c  the character
+     * @return the target state, or -1 if there is no such transition
+     */
+    private int transition(final int state, final char c) {
+        final int from = transitionStarts[state];
+        final int to = transitionStarts[state + 1];
+        if (to - from == 1) {
+            return transitionChars[from] == c ? transitionTargets[from] : -1;
+        }
+        final int i = Arrays.binarySearch(transitionChars, from, to, c);
+        return i >= 0 ? transitionTargets[i] : -1;
+    }
+
+    /**
+     * Moves the automaton on a character, following the failure transitions as needed.
+     *
+     * @param state  the current state
+     * @param c  the character
+     * @return the new state
+     */
+    private int next(int state, final char c) {
+        while (true) {
+            final int target = transition(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = failures[state];
+        }
+    }
+
+    /**
+     * Moves the automaton on a character, with the table if there is one.
+     *
+     * @param state  the current state
+     * @param c  the character
+     * @return the new state
+     */
+    private int step(final int state, final char c) {
+        if (table != null) {
+            return table[state * tableWidth + (c < charClasses.length ? charClasses[c] : 0)];
+        }
+        return next(state, c);
+    }
+
+    /**
+     * Replaces all occurrences of the search strings within a String.
+     *
+     * @param text  the text to search and replace in, no-op if null
+     * @return the text with any replacements processed, the same instance if nothing was replaced,
+     *  {@code null} if null String input
+     */
+    public String replace(final String text) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        final StringBuilder buf = replaceOnce(text);
+        return buf == null ? text : buf.toString();
+    }
+
+    /**
+     * Replaces all occurrences of the search strings within a String, over and over until
+     * none is found, like {@link org.apache.commons.lang3.StringUtils#replaceEachRepeatedly(String, String[], String[])}.
+     *
+     * @param text  the text to search and replace in, no-op if null
+     * @return the text with any replacements processed, {@code null} if null String input
+     * @throws IllegalStateException if the search is repeating and there is an endless loop
+     *  due to outputs of one being inputs to another
+     */
+    public String replaceRepeatedly(final String text) {
+        String result = text;
+        for (int timeToLive = replacements.length;; timeToLive--) {
+            if (result == null || result.isEmpty()) {
+                return result;
+            }
+            if (timeToLive < 0) {
+                throw new IllegalStateException("Aborting to protect against StackOverflowError - " +
+                                                "output of one loop is the input of another");
+            }
+            final StringBuilder buf = replaceOnce(result);
+            if (buf == null) {
+                return result;
+            }
+            result = buf.toString();
+        }
+    }
+
+    /**
+     * Replaces all occurrences of the search strings within a String, in one pass.
+     *
+     * @param text  the text to search and replace in, not null
+     * @return the replaced text, or {@code null} if nothing was replaced
+     */
+    private StringBuilder replaceOnce(final String text) {
+        final int length = text.length();
+        StringBuilder buf = null;
+        int copied = 0;
+        int state = 0;
+        int matchStart = -1;
+        int match = -1;
+        int i = 0;
+        while (true) {
+            if (state == 0 && match < 0) {
+                while (i < length && (firstChars & 1L << text.charAt(i)) == 0) {
+                    i++;
+                }
+            }
+            if (i < length) {
+                state = step(state, text.charAt(i++));
+                final int output = outputs[state];
+                if (output >= 0) {
+                    final int start = i - searchLengths[output];
+                    if (match < 0 || start < matchStart || start == matchStart && output < match) {
+                        matchStart = start;
+                        match = output;
+                    }
+                }
+                // a match is final once no partial match can start at or before it
+                if (match < 0 || i - depths[state] <= matchStart) {
+                    continue;
+                }
+            } else if (match < 0) {
+                break;
+            }
+            if (buf == null) {
+                buf = new StringBuilder(length + Math.min(increase, length / 5));
+            }
+            buf.append(text, copied, matchStart).append(replacements[match]);
+            copied = i = matchStart + searchLengths[match];
+            state = 0;
+            match = -1;
+        }
+        if (buf != null) {
+            buf.append(text, copied, length);
+        }
+        return buf;
+    }
+}
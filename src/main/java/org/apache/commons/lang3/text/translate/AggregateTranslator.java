@@ -30,6 +30,8 @@
 public class AggregateTranslator extends CharSequenceTranslator {
 
     private final CharSequenceTranslator[] translators;
+    /** Whether {@link #translatableIndex(CharSequence, int, int)} may ask the translators. */
+    private final boolean scanAhead = inheritsTranslate(AggregateTranslator.class);
 
     /**
      * Specify the translators to be used at creation time. 
@@ -56,4 +58,47 @@ public int translate(final CharSequence input, final int index, final Writer out
         return 0;
     }
 
+    /**
+     * The longest lookahead of the translators.
+     * {@inheritDoc}
+     */
+    @Override
+    protected int lookahead() {
+        int result = 0;
+        for (final CharSequenceTranslator translator : translators) {
+            final int lookahead = translator.lookahead();
+            if (lookahead < 0) {
+                return lookahead;
+            }
+            result = Math.max(result, lookahead);
+        }
+        return result;
+    }
+
+    /**
+     * The first index which any of the translators may translate.
+     * {@inheritDoc}
+     */
+    @Override
+    protected int translatableIndex(final CharSequence input, final int index, final int end) {
+        if (!scanAhead) {
+            return index;
+        }
+        if (index >= end) {
+            return end;
+        }
+        // check the current position first, so that a translator which does not scan ahead
+        // does not make the others scan the rest of the input at every position
+        for (final CharSequenceTranslator translator : translators) {
+            if (translator.translatableIndex(input, index, index + 1) == index) {
+                return index;
+            }
+        }
+        int result = end;
+        for (final CharSequenceTranslator translator : translators) {
+            result = translator.translatableIndex(input, index + 1, result);
+        }
+        return result;
+    }
+
 }
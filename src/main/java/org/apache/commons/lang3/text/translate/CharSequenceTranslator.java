@@ -17,8 +17,12 @@
 package org.apache.commons.lang3.text.translate;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import java.util.Locale;
 
 /**
@@ -32,6 +36,16 @@ public abstract class CharSequenceTranslator {
 
     static final char[] HEX_DIGITS = new char[] {'0','1','2','3','4','5','6','7','8','9','A','B','C','D','E','F'};
 
+    /**
+     * The lookahead of translators which do not declare one, see {@link #lookahead()}.
+     */
+    static final int DEFAULT_LOOKAHEAD = 256;
+
+    /**
+     * The number of chars read from a Reader at a time by {@link #translateStream(Reader, Writer)}.
+     */
+    private static final int READ_SIZE = 8192;
+
     /**
      * Translate a set of codepoints, represented by an int index into a CharSequence, 
      * into another set of codepoints. The number of codepoints consumed must be returned, 
@@ -49,15 +63,21 @@ public abstract class CharSequenceTranslator {
     /**
      * Helper for non-Writer usage. 
      * @param input CharSequence to be translated
-     * @return String output of translation
+     * @return String output of translation, the input itself if it is a String
+     *  none of which this translator may translate
      */
     public final String translate(final CharSequence input) {
         if (input == null) {
             return null;
         }
+        final int len = input.length();
+        final int first = translatableIndex(input, 0, len);
+        if (first >= len) {
+            return input.toString();
+        }
         try {
-            final StringWriter writer = new StringWriter(input.length() * 2);
-            translate(input, writer);
+            final StringWriter writer = new StringWriter(len * 2);
+            translate(input, first, len, writer);
             return writer.toString();
         } catch (final IOException ioe) {
             // this should never ever happen while writing to a StringWriter
@@ -80,10 +100,231 @@ public final void translate(final CharSequence input, final Writer out) throws I
         if (input == null) {
             return;
         }
-        int pos = 0;
         final int len = input.length();
-        while (pos < len) {
-            final int consumed = translate(input, pos, out);
+        translate(input, translatableIndex(input, 0, len), len, out);
+    }
+
+    /**
+     * Translate the text read from a Reader onto a Writer, holding no more than a
+     * bounded window of it in memory, so that input of any size can be translated.
+     * The window is slid over the input, and a position is only translated once
+     * {@link #lookahead()} chars from it are in the window, or the end of the input is.
+     * When the translator looks at the last char of the window anyway, as the unescapers
+     * do for escapes with many leading zeros or 'u' chars, the output for that position
+     * is discarded and it is translated again once the window has been extended, so
+     * that the output is always the same as translating the whole input at once.
+     * The window then grows to hold such an escape.
+     *
+     * <p>Translators which need the whole input, such as the CSV translators of
+     * {@link org.apache.commons.lang3.StringEscapeUtils}, do not stream: the whole
+     * Reader is read into memory before it is translated.</p>
+     *
+     * <p>Neither the Reader nor the Writer is closed.</p>
+     *
+     * @param in Reader to read the text to translate from
+     * @param out Writer to translate the text to
+     * @throws IOException if the Reader or the Writer produces an IOException
+     * @since 3.6
+     */
+    public final void translateStream(final Reader in, final Writer out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("The Writer must not be null");
+        }
+        if (in == null) {
+            return;
+        }
+        final int lookahead = lookahead();
+        if (lookahead < 0) {
+            final StringBuilder input = new StringBuilder();
+            final char[] chunk = new char[READ_SIZE];
+            int n;
+            while ((n = in.read(chunk)) >= 0) {
+                input.append(chunk, 0, n);
+            }
+            translate(input, out);
+            return;
+        }
+        // a surrogate pair is always looked at as a whole, and a translator keeping
+        // to its lookahead never looks at the last char of the window
+        final int margin = Math.max(lookahead, 2) + 1;
+        final Window window = new Window(READ_SIZE + margin);
+        while (!window.eof) {
+            window.fill(in);
+            final int end = window.eof ? window.limit : window.limit - margin;
+            final int pos = translate(window, translatableIndex(window, 0, end), end, window.output);
+            final StringBuffer output = window.output.getBuffer();
+            out.write(output.toString());
+            output.setLength(0);
+            window.slide(pos);
+        }
+    }
+
+    /**
+     * The part of the input held by {@link #translateStream(Reader, Writer)}, which
+     * tells when a translator looks at its last char, and the output translated from it.
+     */
+    private static final class Window implements CharSequence {
+        /** The output of the translation of the window. */
+        final StringWriter output = new StringWriter(READ_SIZE);
+        /** The chars of the window. */
+        char[] chars;
+        /** The number of chars in the window. */
+        int limit;
+        /** Whether the window holds the end of the input. */
+        boolean eof;
+        /** Whether the last char was looked at since the flag was last cleared. */
+        boolean touchedEnd;
+
+        /**
+         * Creates an empty window.
+         *
+         * @param capacity the number of chars read into the window at most
+         */
+        Window(final int capacity) {
+            chars = new char[capacity];
+        }
+
+        /**
+         * Reads chars until the window is full or the end of the input.
+         *
+         * @param in Reader to read the text from
+         * @throws IOException if the Reader produces an IOException
+         */
+        void fill(final Reader in) throws IOException {
+            while (limit < chars.length) {
+                final int n = in.read(chars, limit, chars.length - limit);
+                if (n < 0) {
+                    eof = true;
+                    return;
+                }
+                limit += n;
+            }
+        }
+
+        /**
+         * Moves the chars from an index to the start of the window, growing it
+         * when nothing could be moved out of it.
+         *
+         * @param pos int index of the first char to keep
+         */
+        void slide(final int pos) {
+            limit -= pos;
+            if (pos == 0 && limit == chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            } else {
+                System.arraycopy(chars, pos, chars, 0, limit);
+            }
+        }
+
+        /**
+         * Translates a position, unless the translator looks at the last char of
+         * the window before the end of the input, as it may then consume more
+         * chars than are in the window.
+         *
+         * @param translator the translator
+         * @param index int representing the current point of translation
+         * @return int count of codepoints consumed, negative to translate the
+         *  position again once the window has been extended
+         * @throws IOException never, as the output is a StringWriter
+         */
+        int translate(final CharSequenceTranslator translator, final int index) throws IOException {
+            if (eof) {
+                return translator.translate(this, index, output);
+            }
+            final StringBuffer buffer = output.getBuffer();
+            final int mark = buffer.length();
+            touchedEnd = false;
+            try {
+                final int consumed = translator.translate(this, index, output);
+                if (!touchedEnd) {
+                    return consumed;
+                }
+            } catch (final RuntimeException e) {
+                // such as running out of chars in the middle of an escape
+                if (!touchedEnd) {
+                    throw e;
+                }
+            }
+            buffer.setLength(mark);
+            return -1;
+        }
+
+        @Override
+        public int length() {
+            return limit;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= limit) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+            if (index == limit - 1) {
+                touchedEnd = true;
+            }
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || end > limit || start > end) {
+                throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + limit);
+            }
+            if (end == limit && start < end) {
+                touchedEnd = true;
+            }
+            return new String(chars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            touchedEnd = limit > 0;
+            return new String(chars, 0, limit);
+        }
+    }
+
+    /**
+     * Translates the positions of an input before an end index onto a Writer, from the start.
+     * Translating a position may consume chars past the end index.
+     *
+     * @param input CharSequence that is being translated
+     * @param first int index of the first position which may be translated
+     * @param end int index of the end of the positions to translate, exclusive
+     * @param out Writer to translate the text to
+     * @return int index of the first char not consumed
+     * @throws IOException if and only if the Writer produces an IOException
+     */
+    private int translate(final CharSequence input, final int first, final int end, final Writer out)
+            throws IOException {
+        final int len = input.length();
+        int pos = 0;
+        int next = first;
+        while (pos < end) {
+            if (next < pos) {
+                next = translatableIndex(input, pos, end);
+            }
+            if (next > pos) {
+                // copy the chars this translator leaves alone in bulk
+                int runEnd = next;
+                if (runEnd < len && Character.isLowSurrogate(input.charAt(runEnd))
+                        && Character.isHighSurrogate(input.charAt(runEnd - 1))) {
+                    // a surrogate pair is never split
+                    runEnd++;
+                }
+                write(input, pos, runEnd, out);
+                pos = runEnd;
+                continue;
+            }
+            final int consumed;
+            if (input instanceof Window) {
+                consumed = ((Window) input).translate(this, pos);
+                if (consumed < 0) {
+                    // translated again with more of the input
+                    return pos;
+                }
+            } else {
+                consumed = translate(input, pos, out);
+            }
             if (consumed == 0) {
                 // inlined implementation of Character.toChars(Character.codePointAt(input, pos))
                 // avoids allocating temp char arrays and duplicate checks
@@ -105,6 +346,106 @@ public final void translate(final CharSequence input, final Writer out) throws I
                 pos += Character.charCount(Character.codePointAt(input, pos));
             }
         }
+        return pos;
+    }
+
+    /**
+     * Writes a run of chars of an input onto a Writer, without copying them first where possible.
+     *
+     * @param input CharSequence to write from
+     * @param start int index of the first char to write
+     * @param end int index of the end of the run, exclusive
+     * @param out Writer to write the chars to
+     * @throws IOException if and only if the Writer produces an IOException
+     */
+    private static void write(final CharSequence input, final int start, final int end, final Writer out)
+            throws IOException {
+        if (input instanceof String) {
+            out.write((String) input, start, end - start);
+        } else if (input instanceof Window) {
+            out.write(((Window) input).chars, start, end - start);
+        } else if (input instanceof CharBuffer && ((CharBuffer) input).hasArray()) {
+            final CharBuffer buffer = (CharBuffer) input;
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position() + start, end - start);
+        } else {
+            out.append(input, start, end);
+        }
+    }
+
+    /**
+     * Finds the first index, from {@code index} and before {@code end}, at which this
+     * translator may consume codepoints. {@link #translate(CharSequence, Writer)} copies
+     * the chars before that index as they are, in bulk, and returns the input itself
+     * from {@link #translate(CharSequence)} when there is no such index at all.
+     *
+     * <p>The default implementation returns {@code index}, so that
+     * {@link #translate(CharSequence, int, Writer)} is called at every position.
+     * Translators which only act on known characters override it to scan ahead for them.
+     * They stop scanning ahead when a subclass overrides one of the {@code translate}
+     * methods, as it may then consume other characters.</p>
+     *
+     * @param input CharSequence that is being translated
+     * @param index int representing the current point of translation
+     * @param end int representing the end of the scan, exclusive
+     * @return int index of the first position which may be translated, {@code end} if none
+     * @since 3.6
+     */
+    protected int translatableIndex(final CharSequence input, final int index, final int end) {
+        return index;
+    }
+
+    /**
+     * Tells whether this translator uses the {@code translate(CharSequence, int, Writer)}
+     * and {@code translate(int, Writer)} methods of the given class, that is whether no
+     * class between them overrides either of these methods. Translators scanning ahead
+     * in {@link #translatableIndex(CharSequence, int, int)} only do so when this holds.
+     *
+     * @param type the class whose translate methods the scan ahead relies on
+     * @return whether no subclass of {@code type} overrides these methods
+     */
+    final boolean inheritsTranslate(final Class<? extends CharSequenceTranslator> type) {
+        try {
+            for (Class<?> c = getClass(); c != type; c = c.getSuperclass()) {
+                for (final Method method : c.getDeclaredMethods()) {
+                    if (method.getName().equals("translate") && isTranslateOverride(method.getParameterTypes())) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } catch (final SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Tells whether a {@code translate} method with the given parameter types overrides
+     * {@code translate(CharSequence, int, Writer)} or {@code translate(int, Writer)}.
+     *
+     * @param types the parameter types of the method
+     * @return whether it is one of the overrides
+     */
+    private static boolean isTranslateOverride(final Class<?>[] types) {
+        if (types.length == 3) {
+            return types[0] == CharSequence.class && types[1] == int.class && types[2] == Writer.class;
+        }
+        return types.length == 2 && types[0] == int.class && types[1] == Writer.class;
+    }
+
+    /**
+     * Returns the number of chars, from and including the one at the index being translated,
+     * which {@link #translate(CharSequence, int, Writer)} may look at to decide what to consume.
+     * {@link #translateStream(Reader, Writer)} keeps that many chars ahead in its window.
+     *
+     * <p>The default implementation returns a generous bound, which translators looking
+     * at a few chars can lower, and translators looking further must raise. A negative
+     * value means the translator needs the whole input.</p>
+     *
+     * @return int number of chars looked at, negative for the whole input
+     * @since 3.6
+     */
+    protected int lookahead() {
+        return DEFAULT_LOOKAHEAD;
     }
 
     /**
@@ -48,4 +48,37 @@ public final int translate(final CharSequence input, final int index, final Writ
      */
     public abstract boolean translate(int codepoint, Writer out) throws IOException;
 
+    /**
+     * The two chars of a surrogate pair at most.
+     * {@inheritDoc}
+     */
+    @Override
+    protected int lookahead() {
+        return 2;
+    }
+
+    /**
+     * Finds the first index of a codepoint which is in, or out of, a range, for translators
+     * which only translate such codepoints. Surrogates are always reported, as the codepoint
+     * they are part of is not looked at.
+     *
+     * @param input CharSequence that is being translated
+     * @param index int representing the current point of translation
+     * @param end int representing the end of the scan, exclusive
+     * @param below int value representing the lowest codepoint boundary
+     * @param above int value representing the highest codepoint boundary
+     * @param between whether to look for codepoints between the boundaries or outside them
+     * @return int index of the first codepoint found, {@code end} if none
+     */
+    static int indexOfRange(final CharSequence input, final int index, final int end,
+            final int below, final int above, final boolean between) {
+        for (int i = index; i < end; i++) {
+            final char c = input.charAt(i);
+            if (Character.isSurrogate(c) || (c >= below && c <= above) == between) {
+                return i;
+            }
+        }
+        return end;
+    }
+
 }
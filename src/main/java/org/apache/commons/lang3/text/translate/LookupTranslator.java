@@ -18,50 +18,105 @@
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Translates a value using a lookup table.
  *
+ * <p>The keys of the lookup table are compiled into a trie, so that finding the
+ * longest key at a position of the input neither allocates nor hashes.</p>
+ *
  * @since 3.0
  */
 public class LookupTranslator extends CharSequenceTranslator {
 
-    private final HashMap<String, String> lookupMap;
-    private final HashSet<Character> prefixSet;
-    private final int shortest;
+    /**
+     * The characters of the transitions of each node of the trie, sorted. Node 0 is the root.
+     */
+    private final char[][] transitionChars;
+    /**
+     * The target nodes of the transitions of each node of the trie.
+     */
+    private final int[][] transitionTargets;
+    /**
+     * The translation of the key ending at each node, or null.
+     */
+    private final String[] values;
+    /**
+     * The first characters of the keys, as a bit set.
+     */
+    private final long[] prefixSet;
     private final int longest;
+    /** Whether {@link #translatableIndex(CharSequence, int, int)} may scan for the keys. */
+    private final boolean scanAhead = inheritsTranslate(LookupTranslator.class);
 
     /**
      * Define the lookup table to be used in translation
      *
-     * Note that, as of Lang 3.1, the key to the lookup table is converted to a
-     * java.lang.String. This is because we need the key to support hashCode and
-     * equals(Object), allowing it to be the key for a HashMap. See LANG-882.
+     * Note that, as of Lang 3.1, the keys and values of the lookup table are
+     * converted to java.lang.String when the translator is built, so changing a
+     * mutable CharSequence afterwards has no effect. See LANG-882.
      *
      * @param lookup CharSequence[][] table of size [*][2]
      */
     public LookupTranslator(final CharSequence[]... lookup) {
-        lookupMap = new HashMap<>();
-        prefixSet = new HashSet<>();
-        int _shortest = Integer.MAX_VALUE;
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<String> nodeValues = new ArrayList<>();
+        trie.add(new TreeMap<Character, Integer>());
+        nodeValues.add(null);
+        char maxPrefix = 0;
         int _longest = 0;
         if (lookup != null) {
             for (final CharSequence[] seq : lookup) {
-                this.lookupMap.put(seq[0].toString(), seq[1].toString());
-                this.prefixSet.add(seq[0].charAt(0));
-                final int sz = seq[0].length();
-                if (sz < _shortest) {
-                    _shortest = sz;
+                final String key = seq[0].toString();
+                int node = 0;
+                for (int i = 0; i < key.length(); i++) {
+                    final Character c = Character.valueOf(key.charAt(i));
+                    Integer next = trie.get(node).get(c);
+                    if (next == null) {
+                        next = Integer.valueOf(trie.size());
+                        trie.add(new TreeMap<Character, Integer>());
+                        nodeValues.add(null);
+                        trie.get(node).put(c, next);
+                    }
+                    node = next.intValue();
+                }
+                // a later entry for the same key replaces the earlier one
+                nodeValues.set(node, seq[1].toString());
+                if (key.charAt(0) > maxPrefix) {
+                    maxPrefix = key.charAt(0);
                 }
+                final int sz = key.length();
                 if (sz > _longest) {
                     _longest = sz;
                 }
             }
         }
-        shortest = _shortest;
         longest = _longest;
+
+        final int nodes = trie.size();
+        transitionChars = new char[nodes][];
+        transitionTargets = new int[nodes][];
+        values = nodeValues.toArray(new String[nodes]);
+        for (int node = 0; node < nodes; node++) {
+            final TreeMap<Character, Integer> transitions = trie.get(node);
+            transitionChars[node] = new char[transitions.size()];
+            transitionTargets[node] = new int[transitions.size()];
+            int i = 0;
+            for (final Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                transitionChars[node][i] = transition.getKey().charValue();
+                transitionTargets[node][i] = transition.getValue().intValue();
+                i++;
+            }
+        }
+        prefixSet = new long[(maxPrefix >> 6) + 1];
+        for (final char c : transitionChars[0]) {
+            prefixSet[c >> 6] |= 1L << c;
+        }
     }
 
     /**
@@ -70,22 +125,68 @@ public LookupTranslator(final CharSequence[]... lookup) {
     @Override
     public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
         // check if translation exists for the input at position index
-        if (prefixSet.contains(input.charAt(index))) {
-            int max = longest;
-            if (index + longest > input.length()) {
-                max = input.length() - index;
+        if (!isPrefix(input.charAt(index))) {
+            return 0;
+        }
+        int max = longest;
+        if (index + longest > input.length()) {
+            max = input.length() - index;
+        }
+        // implement greedy algorithm by keeping the longest match
+        String result = null;
+        int consumed = 0;
+        int node = 0;
+        for (int i = 0; i < max; i++) {
+            final char[] chars = transitionChars[node];
+            final int t = Arrays.binarySearch(chars, input.charAt(index + i));
+            if (t < 0) {
+                break;
+            }
+            node = transitionTargets[node][t];
+            if (values[node] != null) {
+                result = values[node];
+                consumed = i + 1;
             }
-            // implement greedy algorithm by trying maximum match first
-            for (int i = max; i >= shortest; i--) {
-                final CharSequence subSeq = input.subSequence(index, index + i);
-                final String result = lookupMap.get(subSeq.toString());
+        }
+        if (result != null) {
+            out.write(result);
+        }
+        return consumed;
+    }
 
-                if (result != null) {
-                    out.write(result);
-                    return i;
-                }
+    /**
+     * The first index at which a key of the lookup table starts.
+     * {@inheritDoc}
+     */
+    @Override
+    protected int translatableIndex(final CharSequence input, final int index, final int end) {
+        if (!scanAhead) {
+            return index;
+        }
+        for (int i = index; i < end; i++) {
+            if (isPrefix(input.charAt(i))) {
+                return i;
             }
         }
-        return 0;
+        return end;
+    }
+
+    /**
+     * The longest key of the lookup table.
+     * {@inheritDoc}
+     */
+    @Override
+    protected int lookahead() {
+        return longest;
+    }
+
+    /**
+     * Tests whether a key of the lookup table starts with a character.
+     *
+     * @param c the character
+     * @return whether the character is the first of a key
+     */
+    private boolean isPrefix(final char c) {
+        return (c >> 6) < prefixSet.length && (prefixSet[c >> 6] & 1L << c) != 0;
     }
 }
@@ -29,6 +29,8 @@ public class NumericEntityEscaper extends CodePointTranslator {
     private final int below;
     private final int above;
     private final boolean between;
+    /** Whether {@link #translatableIndex(CharSequence, int, int)} may scan for the range. */
+    private final boolean scanAhead = inheritsTranslate(NumericEntityEscaper.class);
 
     /**
      * <p>Constructs a <code>NumericEntityEscaper</code> for the specified range. This is
@@ -95,6 +97,18 @@ public static NumericEntityEscaper outsideOf(final int codepointLow, final int c
         return new NumericEntityEscaper(codepointLow, codepointHigh, false);
     }
 
+    /**
+     * The first index of a codepoint this escaper escapes.
+     * {@inheritDoc}
+     */
+    @Override
+    protected int translatableIndex(final CharSequence input, final int index, final int end) {
+        if (!scanAhead) {
+            return index;
+        }
+        return indexOfRange(input, index, end, below, above, between);
+    }
+
     /**
      * {@inheritDoc}
      */
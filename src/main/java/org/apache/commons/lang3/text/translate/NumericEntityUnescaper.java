@@ -135,4 +135,13 @@ public int translate(final CharSequence input, final int index, final Writer out
         }
         return 0;
     }
+
+    /**
+     * An entity such as {@code &#x10FFFF;}, leaving room for some leading zeros.
+     * {@inheritDoc}
+     */
+    @Override
+    protected int lookahead() {
+        return 32;
+    }
 }
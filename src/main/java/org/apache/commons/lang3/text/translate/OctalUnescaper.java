@@ -76,4 +76,13 @@ private boolean isOctalDigit(final char ch) {
     private boolean isZeroToThree(final char ch) {
         return ch >= '0' && ch <= '3';
     }
+
+    /**
+     * A backslash followed by up to three octal digits.
+     * {@inheritDoc}
+     */
+    @Override
+    protected int lookahead() {
+        return 4;
+    }
 }
@@ -29,6 +29,8 @@ public class UnicodeEscaper extends CodePointTranslator {
     private final int below;
     private final int above;
     private final boolean between;
+    /** Whether {@link #translatableIndex(CharSequence, int, int)} may scan for the range. */
+    private final boolean scanAhead = inheritsTranslate(UnicodeEscaper.class);
 
     /**
      * <p>Constructs a <code>UnicodeEscaper</code> for all characters. </p>
@@ -95,6 +97,18 @@ public static UnicodeEscaper between(final int codepointLow, final int codepoint
         return new UnicodeEscaper(codepointLow, codepointHigh, true);
     }
 
+    /**
+     * The first index of a codepoint this escaper escapes.
+     * {@inheritDoc}
+     */
+    @Override
+    protected int translatableIndex(final CharSequence input, final int index, final int end) {
+        if (!scanAhead) {
+            return index;
+        }
+        return indexOfRange(input, index, end, below, above, between);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -61,4 +61,13 @@ public int translate(final CharSequence input, final int index, final Writer out
         }
         return 0;
     }
+
+    /**
+     * A backslash, a few 'u' chars, an optional '+' and four hex digits.
+     * {@inheritDoc}
+     */
+    @Override
+    protected int lookahead() {
+        return 32;
+    }
 }
@@ -23,6 +23,9 @@
  * Helper subclass to CharSequenceTranslator to remove unpaired surrogates.
  */
 public class UnicodeUnpairedSurrogateRemover extends CodePointTranslator {
+    /** Whether {@link #translatableIndex(CharSequence, int, int)} may scan for surrogates. */
+    private final boolean scanAhead = inheritsTranslate(UnicodeUnpairedSurrogateRemover.class);
+
     /**
      * Implementation of translate that throws out unpaired surrogates. 
      * {@inheritDoc}
@@ -36,5 +39,17 @@ public boolean translate(final int codepoint, final Writer out) throws IOExcepti
         // It's not a surrogate. Don't translate it.
         return false;
     }
+
+    /**
+     * The first index of a surrogate, paired or not.
+     * {@inheritDoc}
+     */
+    @Override
+    protected int translatableIndex(final CharSequence input, final int index, final int end) {
+        if (!scanAhead) {
+            return index;
+        }
+        return indexOfRange(input, index, end, Character.MIN_SURROGATE, Character.MAX_SURROGATE, true);
+    }
 }
 
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>A task processing a range of a batch of dates, split in halves until the ranges
+ * are small enough, so that the halves can run in parallel in a {@code ForkJoinPool}.</p>
+ *
+ * @since 3.6
+ */
+abstract class BatchTask extends RecursiveAction {
+
+    /**
+     * Required for serialization support.
+     *
+     * @see java.io.Serializable
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The size of the ranges which are not split further.
+     */
+    static final int THRESHOLD = 1024;
+
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructs a task for a range.
+     *
+     * @param from  the start of the range, inclusive
+     * @param to  the end of the range, exclusive
+     */
+    BatchTask(final int from, final int to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Processes a range sequentially.
+     *
+     * @param from  the start of the range, inclusive
+     * @param to  the end of the range, exclusive
+     */
+    protected abstract void compute(int from, int to);
+
+    /**
+     * Creates a task for part of the range of this task.
+     *
+     * @param from  the start of the range, inclusive
+     * @param to  the end of the range, exclusive
+     * @return the task
+     */
+    protected abstract BatchTask split(int from, int to);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void compute() {
+        if (to - from <= THRESHOLD) {
+            compute(from, to);
+        } else {
+            final int middle = (from + to) >>> 1;
+            invokeAll(split(from, middle), split(middle, to));
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.io.IOException;
+import java.text.FieldPosition;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+/**
+ * <p>A {@link DatePrinter} for timestamps which mostly increase by a few milliseconds
+ * from one call to the next, such as the timestamps of log records.</p>
+ *
+ * <p>The text of the current second is kept, so formatting a timestamp of that
+ * second only formats its milliseconds fields and copies the rest of the text.
+ * Formatting a timestamp of another second formats it fully, like
+ * {@link FastDateFormat} does, and makes it the current second.</p>
+ * <code>
+ *     private static final CachingDatePrinter PRINTER =
+ *         new CachingDatePrinter("yyyy-MM-dd HH:mm:ss,SSS", null, null);
+ * </code>
+ *
+ * <p>Calendars are formatted without caching, as they may be in another time zone
+ * or have other settings.</p>
+ *
+ * <p>This class is thread-safe. The current second is an immutable object which
+ * is replaced as a whole, so no locking is needed.</p>
+ *
+ * @since 3.6
+ */
+public class CachingDatePrinter implements DatePrinter {
+
+    /**
+     * The printer formatting the seconds.
+     */
+    private final FastDatePrinter printer;
+    /**
+     * The text of the last formatted second.
+     */
+    private volatile CachedSecond current;
+
+    /**
+     * <p>Constructs a new CachingDatePrinter.</p>
+     *
+     * @param pattern {@link java.text.SimpleDateFormat} compatible pattern, not null
+     * @param timeZone the time zone to format dates in, null means the default time zone
+     * @param locale the locale whose date format symbols should be used, null means the default locale
+     * @throws IllegalArgumentException if pattern is invalid
+     */
+    public CachingDatePrinter(final String pattern, final TimeZone timeZone, final Locale locale) {
+        printer = new FastDatePrinter(pattern, timeZone == null ? TimeZone.getDefault() : timeZone,
+            locale == null ? Locale.getDefault() : locale);
+    }
+
+    /**
+     * <p>Gets the text of the second of the specified millis, formatting it if needed.</p>
+     *
+     * @param second the seconds since the epoch
+     * @return the text of the second
+     */
+    private CachedSecond getSecond(final long second) {
+        CachedSecond cached = current;
+        if (cached == null || cached.second != second) {
+            cached = new CachedSecond(second, printer.formatAroundMilliseconds(second * 1000));
+            current = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * <p>Formats the specified millis into the supplied buffer.</p>
+     *
+     * @param millis the millis to format
+     * @param buf the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified buffer
+     */
+    private <B extends Appendable> B appendTo(final long millis, final B buf) {
+        long second = millis / 1000;
+        if (second * 1000 > millis) {
+            second--;
+        }
+        final String[] text = getSecond(second).text;
+        final int millisecond = (int) (millis - second * 1000);
+        try {
+            buf.append(text[0]);
+            for (int i = 1; i < text.length; i++) {
+                printer.appendMillisecond(buf, i - 1, millisecond);
+                buf.append(text[i]);
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.rethrow(ioe);
+        }
+        return buf;
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DatePrinter#format(long)
+     */
+    @Override
+    public String format(final long millis) {
+        return appendTo(millis, new StringBuilder(printer.getMaxLengthEstimate())).toString();
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DatePrinter#format(java.util.Date)
+     */
+    @Override
+    public String format(final Date date) {
+        return format(date.getTime());
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DatePrinter#format(java.util.Calendar)
+     */
+    @Override
+    public String format(final Calendar calendar) {
+        return printer.format(calendar);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated Use {@link #format(long, Appendable)}.
+     */
+    @Deprecated
+    @Override
+    public StringBuffer format(final long millis, final StringBuffer buf) {
+        return appendTo(millis, buf);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated Use {@link #format(Date, Appendable)}.
+     */
+    @Deprecated
+    @Override
+    public StringBuffer format(final Date date, final StringBuffer buf) {
+        return appendTo(date.getTime(), buf);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated Use {@link #format(Calendar, Appendable)}.
+     */
+    @Deprecated
+    @Override
+    public StringBuffer format(final Calendar calendar, final StringBuffer buf) {
+        return printer.format(calendar, buf);
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DatePrinter#format(long, java.lang.Appendable)
+     */
+    @Override
+    public <B extends Appendable> B format(final long millis, final B buf) {
+        return appendTo(millis, buf);
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DatePrinter#format(java.util.Date, java.lang.Appendable)
+     */
+    @Override
+    public <B extends Appendable> B format(final Date date, final B buf) {
+        return appendTo(date.getTime(), buf);
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DatePrinter#format(java.util.Calendar, java.lang.Appendable)
+     */
+    @Override
+    public <B extends Appendable> B format(final Calendar calendar, final B buf) {
+        return printer.format(calendar, buf);
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DatePrinter#format(java.lang.Object, java.lang.StringBuffer, java.text.FieldPosition)
+     */
+    @Override
+    public StringBuffer format(final Object obj, final StringBuffer toAppendTo, final FieldPosition pos) {
+        if (obj instanceof Date) {
+            return format((Date) obj, toAppendTo);
+        } else if (obj instanceof Calendar) {
+            return format((Calendar) obj, toAppendTo);
+        } else if (obj instanceof Long) {
+            return format(((Long) obj).longValue(), toAppendTo);
+        } else {
+            throw new IllegalArgumentException("Unknown class: " +
+                (obj == null ? "<null>" : obj.getClass().getName()));
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DatePrinter#getPattern()
+     */
+    @Override
+    public String getPattern() {
+        return printer.getPattern();
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DatePrinter#getTimeZone()
+     */
+    @Override
+    public TimeZone getTimeZone() {
+        return printer.getTimeZone();
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DatePrinter#getLocale()
+     */
+    @Override
+    public Locale getLocale() {
+        return printer.getLocale();
+    }
+
+    /**
+     * <p>Gets a debugging string version of this printer.</p>
+     *
+     * @return a debugging string
+     */
+    @Override
+    public String toString() {
+        return "CachingDatePrinter[" + printer.getPattern() + "," + printer.getLocale() + ","
+            + printer.getTimeZone().getID() + "]";
+    }
+
+    /**
+     * <p>The text of a second, immutable so that it can be shared between threads.</p>
+     */
+    private static final class CachedSecond {
+        /**
+         * The seconds since the epoch.
+         */
+        final long second;
+        /**
+         * The text before, between and after the millisecond fields.
+         */
+        final String[] text;
+
+        /**
+         * Constructs the text of a second.
+         *
+         * @param second the seconds since the epoch
+         * @param text the text before, between and after the millisecond fields
+         */
+        CachedSecond(final long second, final String[] text) {
+            this.second = second;
+            this.text = text;
+        }
+    }
+}
@@ -78,6 +78,12 @@ public class DateUtils {
      */
     public static final int SEMI_MONTH = 1001;
 
+    /**
+     * The dates within this many milliseconds of the epoch are modified arithmetically,
+     * about 100,000 years.
+     */
+    private static final long MAX_ARITHMETIC_MILLIS = 100000L * 366 * MILLIS_PER_DAY;
+
     private static final int[][] fields = {
             {Calendar.MILLISECOND},
             {Calendar.SECOND},
@@ -358,6 +364,7 @@ public static Date parseDateStrictly(final String str, final Locale locale, fina
      * @throws IllegalArgumentException if the date string or pattern array is null
      * @throws ParseException if none of the date patterns were suitable
      * @see java.util.Calendar#isLenient()
+     * @see MultiPatternDateParser
      */
     private static Date parseDateWithLeniency(
             final String str, final Locale locale, final String[] parsePatterns, final boolean lenient) throws ParseException {
@@ -372,17 +379,12 @@ private static Date parseDateWithLeniency(
         calendar.setLenient(lenient);
 
         for (final String parsePattern : parsePatterns) {
-            final FastDateParser fdp = new FastDateParser(parsePattern, tz, lcl);
-            calendar.clear();
-            try {
-                if (fdp.parse(str, pos, calendar) && pos.getIndex()==str.length()) {
-                    return calendar.getTime();
-                }
-            }
-            catch(final IllegalArgumentException ignore) {
-                // leniency is preventing calendar from being set
+            // the parsers are cached by pattern, time zone and locale; leniency is set on the calendar
+            final DateParser parser = FastDateFormat.getInstance(parsePattern, tz, lcl);
+            final Date date = MultiPatternDateParser.parseFully(parser, str, pos, calendar);
+            if (date != null) {
+                return date;
             }
-            pos.setIndex(0);
         }
         throw new ParseException("Unable to parse the date: " + str, -1);
     }
@@ -955,6 +957,147 @@ public static Date ceiling(final Object date, final int field) {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Rounds a date given in milliseconds since the epoch, leaving the field specified
+     * as the most significant field, like {@link #round(Calendar, int)} does for a
+     * calendar in the specified time zone.</p>
+     *
+     * <p>For the fields up to a day, the date is rounded arithmetically when the offset
+     * of the time zone does not change within a day of the date, without creating a
+     * {@code Calendar}. This makes rounding many dates, for instance to bucket them by
+     * hour, much cheaper.</p>
+     *
+     * @param millis  the date to work with, in milliseconds since the epoch
+     * @param field  the field from {@code Calendar} or <code>SEMI_MONTH</code>
+     * @param timeZone  the time zone to round the date in, not null
+     * @return the rounded date, in milliseconds since the epoch
+     * @throws IllegalArgumentException if the time zone is <code>null</code> or the field is not supported
+     * @throws ArithmeticException if the year is over 280 million
+     * @see #round(Calendar, int)
+     * @since 3.6
+     */
+    public static long round(final long millis, final int field, final TimeZone timeZone) {
+        return modify(millis, field, timeZone, ModifyType.ROUND);
+    }
+
+    /**
+     * <p>Truncates a date given in milliseconds since the epoch, leaving the field specified
+     * as the most significant field, like {@link #truncate(Calendar, int)} does for a
+     * calendar in the specified time zone.</p>
+     *
+     * <p>For the fields up to a day, the date is truncated arithmetically when the offset
+     * of the time zone does not change within a day of the date, without creating a
+     * {@code Calendar}.</p>
+     *
+     * @param millis  the date to work with, in milliseconds since the epoch
+     * @param field  the field from {@code Calendar} or <code>SEMI_MONTH</code>
+     * @param timeZone  the time zone to truncate the date in, not null
+     * @return the truncated date, in milliseconds since the epoch
+     * @throws IllegalArgumentException if the time zone is <code>null</code> or the field is not supported
+     * @throws ArithmeticException if the year is over 280 million
+     * @see #truncate(Calendar, int)
+     * @since 3.6
+     */
+    public static long truncate(final long millis, final int field, final TimeZone timeZone) {
+        return modify(millis, field, timeZone, ModifyType.TRUNCATE);
+    }
+
+    /**
+     * <p>Gets the ceiling of a date given in milliseconds since the epoch, leaving the field
+     * specified as the most significant field, like {@link #ceiling(Calendar, int)} does for
+     * a calendar in the specified time zone.</p>
+     *
+     * <p>For the fields up to a day, the ceiling is computed arithmetically when the offset
+     * of the time zone does not change within a day of the date, without creating a
+     * {@code Calendar}.</p>
+     *
+     * @param millis  the date to work with, in milliseconds since the epoch
+     * @param field  the field from {@code Calendar} or <code>SEMI_MONTH</code>
+     * @param timeZone  the time zone to compute the ceiling in, not null
+     * @return the ceiling date, in milliseconds since the epoch
+     * @throws IllegalArgumentException if the time zone is <code>null</code> or the field is not supported
+     * @throws ArithmeticException if the year is over 280 million
+     * @see #ceiling(Calendar, int)
+     * @since 3.6
+     */
+    public static long ceiling(final long millis, final int field, final TimeZone timeZone) {
+        return modify(millis, field, timeZone, ModifyType.CEILING);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Internal calculation method for dates in milliseconds since the epoch.</p>
+     *
+     * <p>The fields up to a day are units of fixed length in local time, so the date can
+     * be computed arithmetically when the offset of the time zone is the same for the date,
+     * for the result, and for a day around them. Otherwise, as around daylight saving time
+     * changes, the fields of a calendar are modified.</p>
+     *
+     * @param millis  the date, in milliseconds since the epoch
+     * @param field  the field constant
+     * @param timeZone  the time zone, not null
+     * @param modType  type to truncate, round or ceiling
+     * @return the modified date, in milliseconds since the epoch
+     * @throws ArithmeticException if the year is over 280 million
+     */
+    private static long modify(final long millis, final int field, final TimeZone timeZone, final ModifyType modType) {
+        if (timeZone == null) {
+            throw new IllegalArgumentException("The time zone must not be null");
+        }
+        final long unit = getFixedUnit(field);
+        final boolean inRange = millis > -MAX_ARITHMETIC_MILLIS && millis < MAX_ARITHMETIC_MILLIS;
+        if (field == Calendar.MILLISECOND && inRange) {
+            return millis;
+        }
+        if (unit > 0 && inRange) {
+            final int offset = timeZone.getOffset(millis);
+            long remainder = (millis + offset) % unit;
+            if (remainder < 0) {
+                remainder += unit;
+            }
+            long result = millis - remainder;
+            // rounding only looks at the next field, which is half way at half the unit
+            if (modType == ModifyType.CEILING || modType == ModifyType.ROUND && remainder >= unit / 2) {
+                result += unit;
+            }
+            if (timeZone.getOffset(Math.min(millis, result) - MILLIS_PER_DAY) == offset
+                    && timeZone.getOffset(result) == offset
+                    && timeZone.getOffset(Math.max(millis, result) + MILLIS_PER_DAY) == offset) {
+                return result;
+            }
+        }
+        final Calendar calendar = Calendar.getInstance(timeZone);
+        calendar.setTimeInMillis(millis);
+        modify(calendar, field, modType);
+        return calendar.getTimeInMillis();
+    }
+
+    /**
+     * <p>Gets the length of a field which is a unit of fixed length in local time.</p>
+     *
+     * @param field  the field constant
+     * @return the length of the field in milliseconds, or zero if it is not fixed
+     */
+    private static long getFixedUnit(final int field) {
+        switch (field) {
+        case Calendar.SECOND:
+            return MILLIS_PER_SECOND;
+        case Calendar.MINUTE:
+            return MILLIS_PER_MINUTE;
+        case Calendar.HOUR_OF_DAY:
+        case Calendar.HOUR:
+            return MILLIS_PER_HOUR;
+        case Calendar.AM_PM:
+            return MILLIS_PER_DAY / 2;
+        case Calendar.DATE:
+            return MILLIS_PER_DAY;
+        default:
+            // milliseconds are never modified
+            return 0;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * <p>Internal calculation method.</p>
@@ -1643,6 +1786,65 @@ public static long getFragmentInDays(final Calendar calendar, final int fragment
         return getFragment(calendar, fragment, TimeUnit.DAYS);
     }
     
+    /**
+     * <p>Returns the number of units within the fragment of a date given in
+     * milliseconds since the epoch, in the specified time zone.
+     * Like {@link #getFragmentInMilliseconds(Calendar, int)} and the other
+     * {@code getFragmentIn} methods, for any unit.</p>
+     *
+     * <p>For the fragments up to a day, the number is computed arithmetically
+     * from the offset of the time zone, without creating a {@code Calendar}.</p>
+     *
+     * @param millis  the date to work with, in milliseconds since the epoch
+     * @param fragment  the {@code Calendar} field part of date to calculate
+     * @param unit  the time unit
+     * @param timeZone  the time zone, not null
+     * @return number of units within the fragment of the date
+     * @throws IllegalArgumentException if the unit or time zone is <code>null</code> or
+     * fragment is not supported
+     * @since 3.6
+     */
+    public static long getFragment(final long millis, final int fragment, final TimeUnit unit, final TimeZone timeZone) {
+        if (unit == null) {
+            throw new IllegalArgumentException("The unit must not be null");
+        }
+        if (timeZone == null) {
+            throw new IllegalArgumentException("The time zone must not be null");
+        }
+        final long length;
+        switch (fragment) {
+            case Calendar.DAY_OF_YEAR:
+            case Calendar.DATE:
+                length = MILLIS_PER_DAY;
+                break;
+            case Calendar.HOUR_OF_DAY:
+                length = MILLIS_PER_HOUR;
+                break;
+            case Calendar.MINUTE:
+                length = MILLIS_PER_MINUTE;
+                break;
+            case Calendar.SECOND:
+                length = MILLIS_PER_SECOND;
+                break;
+            case Calendar.MILLISECOND:
+                return 0;
+            default:
+                // years and months have a variable number of days
+                length = 0;
+                break;
+        }
+        if (length == 0 || millis <= -MAX_ARITHMETIC_MILLIS || millis >= MAX_ARITHMETIC_MILLIS) {
+            final Calendar calendar = Calendar.getInstance(timeZone);
+            calendar.setTimeInMillis(millis);
+            return getFragment(calendar, fragment, unit);
+        }
+        long remainder = (millis + timeZone.getOffset(millis)) % length;
+        if (remainder < 0) {
+            remainder += length;
+        }
+        return unit.convert(remainder, TimeUnit.MILLISECONDS);
+    }
+
     /**
      * Gets a Date fragment for any unit.
      * 
@@ -1794,6 +1996,43 @@ public static int truncatedCompareTo(final Date date1, final Date date2, final i
         return truncatedDate1.compareTo(truncatedDate2);
     }
 
+    /**
+     * Determines if two dates given in milliseconds since the epoch are equal up to
+     * no more than the specified most significant field, in the specified time zone.
+     *
+     * @param millis1 the first date, in milliseconds since the epoch
+     * @param millis2 the second date, in milliseconds since the epoch
+     * @param field the field from <code>Calendar</code>
+     * @param timeZone the time zone, not <code>null</code>
+     * @return <code>true</code> if equal; otherwise <code>false</code>
+     * @throws IllegalArgumentException if the time zone is <code>null</code>
+     * @see #truncate(long, int, TimeZone)
+     * @see #truncatedEquals(Date, Date, int)
+     * @since 3.6
+     */
+    public static boolean truncatedEquals(final long millis1, final long millis2, final int field, final TimeZone timeZone) {
+        return truncatedCompareTo(millis1, millis2, field, timeZone) == 0;
+    }
+
+    /**
+     * Determines how two dates given in milliseconds since the epoch compare up to
+     * no more than the specified most significant field, in the specified time zone.
+     *
+     * @param millis1 the first date, in milliseconds since the epoch
+     * @param millis2 the second date, in milliseconds since the epoch
+     * @param field the field from <code>Calendar</code>
+     * @param timeZone the time zone, not <code>null</code>
+     * @return a negative integer, zero, or a positive integer as the first
+     * date is less than, equal to, or greater than the second.
+     * @throws IllegalArgumentException if the time zone is <code>null</code>
+     * @see #truncate(long, int, TimeZone)
+     * @see #truncatedCompareTo(Date, Date, int)
+     * @since 3.6
+     */
+    public static int truncatedCompareTo(final long millis1, final long millis2, final int field, final TimeZone timeZone) {
+        return Long.compare(truncate(millis1, field, timeZone), truncate(millis2, field, timeZone));
+    }
+
 
     //-----------------------------------------------------------------------
     /**
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.io.IOException;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+/**
+ * <p>Formats durations with a format compiled once, in the pattern language of
+ * {@link DurationFormatUtils}.</p>
+ *
+ * <p>{@link DurationFormatUtils#formatDuration(long, String, boolean)} parses its format
+ * on every call. A DurationFormatter parses it when it is constructed, and then formats
+ * with arithmetic only, directly into an {@code Appendable} if required:</p>
+ * <code>
+ *     private static final DurationFormatter FORMATTER = new DurationFormatter("H:mm:ss.SSS", true);
+ *     ...
+ *     FORMATTER.format(elapsedMillis, builder);
+ * </code>
+ *
+ * <p>As with {@code formatDuration}, the days and lower fields of the format are used;
+ * months and years are always zero.</p>
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @since 3.6
+ */
+public final class DurationFormatter {
+
+    /**
+     * The field of literal text.
+     */
+    private static final char LITERAL = 0;
+
+    /**
+     * The format.
+     */
+    private final String format;
+    /**
+     * Whether to left-pad numbers with zeros.
+     */
+    private final boolean padWithZeros;
+    /**
+     * The field of each token, as its pattern letter, or {@link #LITERAL}.
+     */
+    private final char[] fields;
+    /**
+     * The minimum width of each field token, or zero for no padding.
+     */
+    private final int[] widths;
+    /**
+     * The text of each literal token.
+     */
+    private final String[] literals;
+    private final boolean hasDays;
+    private final boolean hasHours;
+    private final boolean hasMinutes;
+    private final boolean hasSeconds;
+
+    /**
+     * <p>Constructs a new DurationFormatter.</p>
+     *
+     * @param format  the way in which to format durations, not null
+     * @param padWithZeros  whether to pad the left hand side of numbers with 0's
+     * @throws IllegalArgumentException if the format has an unmatched quote
+     * @throws NullPointerException if the format is null
+     */
+    public DurationFormatter(final String format, final boolean padWithZeros) {
+        this.format = format;
+        this.padWithZeros = padWithZeros;
+        final DurationFormatUtils.Token[] tokens = DurationFormatUtils.lexx(format);
+        fields = new char[tokens.length];
+        widths = new int[tokens.length];
+        literals = new String[tokens.length];
+        boolean lastOutputSeconds = false;
+        for (int i = 0; i < tokens.length; i++) {
+            final Object value = tokens[i].getValue();
+            final int count = tokens[i].getCount();
+            if (value instanceof StringBuilder) {
+                fields[i] = LITERAL;
+                literals[i] = value.toString();
+                continue;
+            }
+            fields[i] = ((String) value).charAt(0);
+            if (fields[i] == 'S' && lastOutputSeconds) {
+                // ensure at least 3 digits are displayed even if padding is not selected
+                widths[i] = padWithZeros ? Math.max(3, count) : 3;
+            } else {
+                widths[i] = padWithZeros ? count : 0;
+            }
+            lastOutputSeconds = fields[i] == 's';
+        }
+        hasDays = contains('d');
+        hasHours = contains('H');
+        hasMinutes = contains('m');
+        hasSeconds = contains('s');
+    }
+
+    /**
+     * Checks whether the format has a field.
+     *
+     * @param field  the pattern letter of the field
+     * @return true if the format has the field
+     */
+    private boolean contains(final char field) {
+        for (final char f : fields) {
+            if (f == field) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>Formats a duration.</p>
+     *
+     * @param durationMillis  the duration to format
+     * @return the formatted duration, not null
+     * @throws IllegalArgumentException if durationMillis is negative
+     */
+    public String format(final long durationMillis) {
+        return format(durationMillis, new StringBuilder(format.length() + 16)).toString();
+    }
+
+    /**
+     * <p>Formats a duration into the supplied {@code Appendable}.</p>
+     *
+     * @param durationMillis  the duration to format
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified buffer
+     * @throws IllegalArgumentException if durationMillis is negative
+     */
+    public <B extends Appendable> B format(final long durationMillis, final B buf) {
+        Validate.inclusiveBetween(0, Long.MAX_VALUE, durationMillis, "durationMillis must not be negative");
+
+        long days = 0;
+        long hours = 0;
+        long minutes = 0;
+        long seconds = 0;
+        long milliseconds = durationMillis;
+        if (hasDays) {
+            days = milliseconds / DateUtils.MILLIS_PER_DAY;
+            milliseconds -= days * DateUtils.MILLIS_PER_DAY;
+        }
+        if (hasHours) {
+            hours = milliseconds / DateUtils.MILLIS_PER_HOUR;
+            milliseconds -= hours * DateUtils.MILLIS_PER_HOUR;
+        }
+        if (hasMinutes) {
+            minutes = milliseconds / DateUtils.MILLIS_PER_MINUTE;
+            milliseconds -= minutes * DateUtils.MILLIS_PER_MINUTE;
+        }
+        if (hasSeconds) {
+            seconds = milliseconds / DateUtils.MILLIS_PER_SECOND;
+            milliseconds -= seconds * DateUtils.MILLIS_PER_SECOND;
+        }
+
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                switch (fields[i]) {
+                case LITERAL:
+                    buf.append(literals[i]);
+                    break;
+                case 'd':
+                    appendPadded(buf, days, widths[i]);
+                    break;
+                case 'H':
+                    appendPadded(buf, hours, widths[i]);
+                    break;
+                case 'm':
+                    appendPadded(buf, minutes, widths[i]);
+                    break;
+                case 's':
+                    appendPadded(buf, seconds, widths[i]);
+                    break;
+                case 'S':
+                    appendPadded(buf, milliseconds, widths[i]);
+                    break;
+                default:
+                    // years and months
+                    appendPadded(buf, 0, widths[i]);
+                    break;
+                }
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.rethrow(ioe);
+        }
+        return buf;
+    }
+
+    /**
+     * Appends the decimal digits of a value, left-padded with zeros.
+     *
+     * @param buf  the buffer to append to
+     * @param value  the value, not negative
+     * @param width  the minimum number of digits
+     * @throws IOException if an I/O error occurs
+     */
+    private static void appendPadded(final Appendable buf, final long value, final int width) throws IOException {
+        int digits = 1;
+        long divisor = 1;
+        while (digits < 19 && value / divisor >= 10) {
+            divisor *= 10;
+            digits++;
+        }
+        for (int i = digits; i < width; i++) {
+            buf.append('0');
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buf.append((char) ('0' + value / divisor % 10));
+        }
+    }
+
+    /**
+     * <p>Gets the format.</p>
+     *
+     * @return the format
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * <p>Gets whether numbers are left-padded with zeros.</p>
+     *
+     * @return true if numbers are padded
+     */
+    public boolean isPadWithZeros() {
+        return padWithZeros;
+    }
+
+    /**
+     * <p>Gets a debugging string version of this formatter.</p>
+     *
+     * @return a debugging string
+     */
+    @Override
+    public String toString() {
+        return "DurationFormatter[" + format + (padWithZeros ? ",padded" : "") + "]";
+    }
+}
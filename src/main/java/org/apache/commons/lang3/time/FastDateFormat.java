@@ -25,6 +25,7 @@
 import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * <p>FastDateFormat is a fast and thread-safe version of
@@ -369,6 +370,75 @@ public static FastDateFormat getDateTimeInstance(
         return cache.getDateTimeInstance(dateStyle, timeStyle, timeZone, locale);
     }
 
+    // Cache
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Sets the maximum number of formatters cached by the {@code getInstance} methods.</p>
+     *
+     * <p>The cache is unbounded by default. An application which creates formatters from
+     * user supplied patterns, time zones or locales should bound it. When the cache is full,
+     * formatters which have not been requested recently are evicted.</p>
+     *
+     * <p>Only the formatters of {@code FastDateFormat} are bounded. The patterns of the
+     * date and time styles, a few per locale, stay cached.</p>
+     *
+     * @param maximumSize  the maximum number of formatters, zero or negative for no maximum
+     * @since 3.6
+     */
+    public static void setCacheMaximumSize(final int maximumSize) {
+        cache.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * <p>Gets the maximum number of formatters cached by the {@code getInstance} methods.</p>
+     *
+     * @return the maximum number of formatters, zero for no maximum
+     * @since 3.6
+     */
+    public static int getCacheMaximumSize() {
+        return cache.getMaximumSize();
+    }
+
+    /**
+     * <p>Gets the number of formatters currently cached.</p>
+     *
+     * @return the number of cached formatters
+     * @since 3.6
+     */
+    public static int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * <p>Gets the number of {@code getInstance} requests which found the formatter in the cache.</p>
+     *
+     * @return the number of cache hits
+     * @since 3.6
+     */
+    public static long getCacheHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * <p>Gets the number of {@code getInstance} requests which created a new formatter.</p>
+     *
+     * @return the number of cache misses
+     * @since 3.6
+     */
+    public static long getCacheMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * <p>Gets the number of formatters evicted from the cache because it was full.</p>
+     *
+     * @return the number of evictions
+     * @since 3.6
+     */
+    public static long getCacheEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
     // Constructor
     //-----------------------------------------------------------------------
     /**
@@ -575,6 +645,78 @@ public Object parseObject(final String source, final ParsePosition pos) {
         return parser.parseObject(source, pos);
     }
 
+    // Batches
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Formats a batch of millisecond {@code long} values.</p>
+     *
+     * @param millis  the millis to format, not null
+     * @return the formatted dates
+     * @see FastDatePrinter#format(long[])
+     * @since 3.6
+     */
+    public String[] format(final long[] millis) {
+        return printer.format(millis);
+    }
+
+    /**
+     * <p>Formats a batch of millisecond {@code long} values, splitting large batches
+     * into parts formatted in parallel by a {@code ForkJoinPool}.</p>
+     *
+     * @param millis  the millis to format, not null
+     * @param pool  the pool to format the parts of the batch in, not null
+     * @return the formatted dates
+     * @see FastDatePrinter#format(long[], ForkJoinPool)
+     * @since 3.6
+     */
+    public String[] format(final long[] millis, final ForkJoinPool pool) {
+        return printer.format(millis, pool);
+    }
+
+    /**
+     * <p>Formats a batch of millisecond {@code long} values into the
+     * supplied {@code Appendable}, separated by the specified separator.</p>
+     *
+     * @param millis  the millis to format, not null
+     * @param separator  the text to append between the dates, null means none
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified buffer
+     * @see FastDatePrinter#format(long[], CharSequence, Appendable)
+     * @since 3.6
+     */
+    public <B extends Appendable> B format(final long[] millis, final CharSequence separator, final B buf) {
+        return printer.format(millis, separator, buf);
+    }
+
+    /**
+     * <p>Parses a batch of date strings into milliseconds since the epoch.</p>
+     *
+     * @param sources  the date strings to parse, its elements not null
+     * @return the parsed dates, as milliseconds since the epoch
+     * @throws ParseException if one of the strings cannot be parsed
+     * @see FastDateParser#parse(CharSequence[])
+     * @since 3.6
+     */
+    public long[] parse(final CharSequence[] sources) throws ParseException {
+        return parser.parse(sources);
+    }
+
+    /**
+     * <p>Parses a batch of date strings into milliseconds since the epoch, splitting
+     * large batches into parts parsed in parallel by a {@code ForkJoinPool}.</p>
+     *
+     * @param sources  the date strings to parse, its elements not null
+     * @param pool  the pool to parse the parts of the batch in, not null
+     * @return the parsed dates, as milliseconds since the epoch
+     * @throws ParseException if one of the strings cannot be parsed
+     * @see FastDateParser#parse(CharSequence[], ForkJoinPool)
+     * @since 3.6
+     */
+    public long[] parse(final CharSequence[] sources, final ForkJoinPool pool) throws ParseException {
+        return parser.parse(sources, pool);
+    }
+
     // Accessors
     //-----------------------------------------------------------------------
     /**
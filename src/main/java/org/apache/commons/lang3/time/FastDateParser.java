@@ -23,12 +23,13 @@
 import java.text.ParseException;
 import java.text.ParsePosition;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +37,8 @@
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -89,7 +92,8 @@ public class FastDateParser implements DateParser, Serializable {
     private final int startYear;
 
     // derived fields
-    private transient List<StrategyAndWidth> patterns;
+    private transient Strategy[] strategies;
+    private transient int[] maxWidths;
 
     // comparator used to sort regex alternatives
     // alternatives should be ordered longer first, and shorter last. ('february' before 'feb')
@@ -160,7 +164,7 @@ else if(locale.equals(JAPANESE_IMPERIAL)) {
      * @param definingCalendar the {@link java.util.Calendar} instance used to initialize this FastDateParser
      */
     private void init(final Calendar definingCalendar) {
-        patterns = new ArrayList<>();
+        final List<StrategyAndWidth> patterns = new ArrayList<>();
 
         final StrategyParser fm = new StrategyParser(definingCalendar);
         for(;;) {
@@ -170,6 +174,15 @@ private void init(final Calendar definingCalendar) {
             }
             patterns.add(field);
         }
+
+        // resolve the field widths once, rather than looking ahead on each parse
+        strategies = new Strategy[patterns.size()];
+        maxWidths = new int[patterns.size()];
+        for (int i = 0; i < strategies.length; i++) {
+            final StrategyAndWidth strategyAndWidth = patterns.get(i);
+            strategies[i] = strategyAndWidth.strategy;
+            maxWidths[i] = strategyAndWidth.getMaxWidth(i + 1 < strategies.length ? patterns.get(i + 1) : null);
+        }
     }
 
     // helper classes to parse the format string
@@ -187,13 +200,11 @@ private static class StrategyAndWidth {
             this.width = width;
         }
 
-        int getMaxWidth(final ListIterator<StrategyAndWidth> lt) {
-            if(!strategy.isNumber() || !lt.hasNext()) {
+        int getMaxWidth(final StrategyAndWidth next) {
+            if(!strategy.isNumber() || next == null) {
                 return 0;
             }
-            final Strategy nextStrategy = lt.next().strategy;
-            lt.previous();
-            return nextStrategy.isNumber() ?width :0;
+            return next.strategy.isNumber() ?width :0;
        }
     }
 
@@ -360,17 +371,28 @@ public Date parse(final String source) throws ParseException {
         final ParsePosition pp = new ParsePosition(0);
         final Date date= parse(source, pp);
         if (date == null) {
-            // Add a note re supported date range
-            if (locale.equals(JAPANESE_IMPERIAL)) {
-                throw new ParseException(
-                        "(The " +locale + " locale does not support dates before 1868 AD)\n" +
-                                "Unparseable date: \""+source, pp.getErrorIndex());
-            }
-            throw new ParseException("Unparseable date: "+source, pp.getErrorIndex());
+            throw parseFailure(source, pp);
         }
         return date;
     }
 
+    /**
+     * Creates the exception thrown when a source cannot be parsed.
+     *
+     * @param source the source which cannot be parsed
+     * @param pp the position whose error index is the offset of the failed field
+     * @return the exception to throw
+     */
+    private ParseException parseFailure(final String source, final ParsePosition pp) {
+        // Add a note re supported date range
+        if (locale.equals(JAPANESE_IMPERIAL)) {
+            return new ParseException(
+                    "(The " +locale + " locale does not support dates before 1868 AD)\n" +
+                            "Unparseable date: \""+source, pp.getErrorIndex());
+        }
+        return new ParseException("Unparseable date: "+source, pp.getErrorIndex());
+    }
+
     /* (non-Javadoc)
      * @see org.apache.commons.lang3.time.DateParser#parseObject(java.lang.String, java.text.ParsePosition)
      */
@@ -415,17 +437,142 @@ public Date parse(final String source, final ParsePosition pos) {
      */
     @Override
     public boolean parse(final String source, final ParsePosition pos, final Calendar calendar) {
-        final ListIterator<StrategyAndWidth> lt = patterns.listIterator();
-        while (lt.hasNext()) {
-            final StrategyAndWidth strategyAndWidth = lt.next();
-            final int maxWidth = strategyAndWidth.getMaxWidth(lt);
-            if (!strategyAndWidth.strategy.parse(this, calendar, source, pos, maxWidth)) {
+        for (int i = 0; i < strategies.length; i++) {
+            if (!strategies[i].parse(this, calendar, source, pos, maxWidths[i])) {
                 return false;
             }
         }
         return true;
     }
 
+    // Batches
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Parses a batch of date strings into milliseconds since the epoch.</p>
+     *
+     * <p>Each string is parsed like {@link #parse(String)} does, reusing a single
+     * {@code Calendar} and {@code ParsePosition} for the whole batch.</p>
+     *
+     * @param sources  the date strings to parse, its elements not null
+     * @return the parsed dates, as milliseconds since the epoch
+     * @throws ParseException if one of the strings cannot be parsed,
+     *  the first one in the batch which cannot be
+     * @throws NullPointerException if the array or one of its elements is null
+     * @since 3.6
+     */
+    public long[] parse(final CharSequence[] sources) throws ParseException {
+        final long[] result = new long[sources.length];
+        final ParsePosition pp = new ParsePosition(0);
+        final int index = parse(sources, 0, sources.length, result, pp);
+        if (index < sources.length) {
+            throw parseFailure(sources[index].toString(), pp);
+        }
+        return result;
+    }
+
+    /**
+     * <p>Parses a batch of date strings into milliseconds since the epoch, splitting
+     * large batches into parts parsed in parallel by a {@code ForkJoinPool}.</p>
+     *
+     * @param sources  the date strings to parse, its elements not null
+     * @param pool  the pool to parse the parts of the batch in, not null
+     * @return the parsed dates, as milliseconds since the epoch
+     * @throws ParseException if one of the strings cannot be parsed,
+     *  the first one in the batch which cannot be
+     * @throws NullPointerException if the array, one of its elements or the pool is null
+     * @see #parse(CharSequence[])
+     * @since 3.6
+     */
+    public long[] parse(final CharSequence[] sources, final ForkJoinPool pool) throws ParseException {
+        final long[] result = new long[sources.length];
+        final AtomicInteger failed = new AtomicInteger(sources.length);
+        pool.invoke(new ParseTask(sources, result, failed, 0, sources.length));
+        final int index = failed.get();
+        if (index < sources.length) {
+            // parse the first failure again, for the offset of its failed field
+            final ParsePosition pp = new ParsePosition(0);
+            parse(sources, index, index + 1, result, pp);
+            throw parseFailure(sources[index].toString(), pp);
+        }
+        return result;
+    }
+
+    /**
+     * Parses a range of a batch of date strings, stopping at the first string which
+     * cannot be parsed.
+     *
+     * @param sources  the date strings to parse
+     * @param from  the start of the range, inclusive
+     * @param to  the end of the range, exclusive
+     * @param result  the array to store the parsed dates into
+     * @param pp  the position to use, its error index is set if a string cannot be parsed
+     * @return the index of the first string which cannot be parsed, or {@code to}
+     */
+    private int parse(final CharSequence[] sources, final int from, final int to, final long[] result,
+            final ParsePosition pp) {
+        final Calendar cal = Calendar.getInstance(timeZone, locale);
+        for (int i = from; i < to; i++) {
+            cal.clear();
+            pp.setIndex(0);
+            pp.setErrorIndex(-1);
+            if (!parse(sources[i].toString(), pp, cal)) {
+                return i;
+            }
+            result[i] = cal.getTimeInMillis();
+        }
+        return to;
+    }
+
+    /**
+     * A task parsing a range of a batch of date strings, recording the index of
+     * the first string which cannot be parsed.
+     */
+    private final class ParseTask extends BatchTask {
+        private static final long serialVersionUID = 1L;
+
+        private final CharSequence[] sources;
+        private final long[] result;
+        private final AtomicInteger failed;
+
+        /**
+         * Constructs a task.
+         *
+         * @param sources  the date strings to parse
+         * @param result  the array to store the parsed dates into
+         * @param failed  the lowest index which cannot be parsed, or the length of the batch
+         * @param from  the start of the range, inclusive
+         * @param to  the end of the range, exclusive
+         */
+        ParseTask(final CharSequence[] sources, final long[] result, final AtomicInteger failed,
+                final int from, final int to) {
+            super(from, to);
+            this.sources = sources;
+            this.result = result;
+            this.failed = failed;
+        }
+
+        @Override
+        protected void compute(final int from, final int to) {
+            if (from >= failed.get()) {
+                // an earlier string cannot be parsed already
+                return;
+            }
+            final int index = parse(sources, from, to, result, new ParsePosition(0));
+            if (index == to) {
+                return;
+            }
+            int current = failed.get();
+            while (index < current && !failed.compareAndSet(current, index)) {
+                current = failed.get();
+            }
+        }
+
+        @Override
+        protected BatchTask split(final int from, final int to) {
+            return new ParseTask(sources, result, failed, from, to);
+        }
+    }
+
     // Support for strategies
     //-----------------------------------------------------------------------
 
@@ -478,6 +625,180 @@ private static Map<String, Integer> appendDisplayNames(final Calendar cal, final
         return values;
     }
 
+    /**
+     * Parse the decimal digits of a region of the source, without creating a substring.
+     * @param source The text to parse
+     * @param begin The index of the first digit
+     * @param end The index after the last digit
+     * @return The value of the digits
+     * @throws NumberFormatException if the value does not fit in an int
+     */
+    private static int parseInt(final String source, final int begin, final int end) {
+        if (end - begin > 9) {
+            // may not fit in an int, let Integer report it
+            return Integer.parseInt(source.substring(begin, end));
+        }
+        int value = 0;
+        for (int i = begin; i < end; i++) {
+            value = value * 10 + Character.digit(source.charAt(i), 10);
+        }
+        return value;
+    }
+
+    /**
+     * Test whether a region of the source is made of ASCII digits, like {@code \d} in a regular expression.
+     * @param source The text to parse
+     * @param begin The index of the first digit
+     * @param count The number of digits
+     * @return true, if the region is in the source and holds only ASCII digits
+     */
+    private static boolean isAsciiDigits(final String source, final int begin, final int count) {
+        if (begin + count > source.length()) {
+            return false;
+        }
+        for (int i = begin; i < begin + count; i++) {
+            final char c = source.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A case insensitive prefix tree of the names of a text field, used to find the longest
+     * name at a position of the source without running a regular expression.
+     * Chars are compared like a case insensitive Unicode regular expression compares them.
+     */
+    private static final class CaseInsensitiveTrie {
+        /**
+         * The folded chars of the transitions of all nodes, those of each node being
+         * consecutive and sorted. Node 0 is the root.
+         */
+        private final char[] transitionChars;
+        /**
+         * The target nodes of the transitions.
+         */
+        private final int[] transitionTargets;
+        /**
+         * The index of the first transition of each node, followed by the number of transitions.
+         */
+        private final int[] transitionOffsets;
+        /**
+         * Whether a name ends at each node.
+         */
+        private final boolean[] terminals;
+
+        /**
+         * Build the trie of some names
+         * @param names The names, none containing surrogates
+         */
+        private CaseInsensitiveTrie(final Collection<String> names) {
+            final String[] folded = new String[names.size()];
+            int chars = 0;
+            int n = 0;
+            for (final String name : names) {
+                final char[] f = name.toCharArray();
+                for (int i = 0; i < f.length; i++) {
+                    f[i] = fold(f[i]);
+                }
+                folded[n++] = new String(f);
+                chars += f.length;
+            }
+            // in sorted order, the names sharing a prefix are consecutive, so the nodes of the
+            // previous name are those of the common prefix, and children are added in char order
+            Arrays.sort(folded);
+            final char[] nodeChars = new char[chars + 1];
+            final int[] parents = new int[chars + 1];
+            final boolean[] ends = new boolean[chars + 1];
+            int nodes = 1;
+            int[] path = new int[16];
+            String previous = "";
+            for (final String name : folded) {
+                if (path.length <= name.length()) {
+                    path = Arrays.copyOf(path, name.length() + 1);
+                }
+                int i = 0;
+                while (i < previous.length() && i < name.length() && previous.charAt(i) == name.charAt(i)) {
+                    i++;
+                }
+                for (; i < name.length(); i++) {
+                    nodeChars[nodes] = name.charAt(i);
+                    parents[nodes] = path[i];
+                    path[i + 1] = nodes++;
+                }
+                ends[path[name.length()]] = true;
+                previous = name;
+            }
+            // group the transitions by node, keeping them in char order
+            transitionOffsets = new int[nodes + 1];
+            for (int node = 1; node < nodes; node++) {
+                transitionOffsets[parents[node] + 1]++;
+            }
+            for (int node = 0; node < nodes; node++) {
+                transitionOffsets[node + 1] += transitionOffsets[node];
+            }
+            final int[] next = Arrays.copyOf(transitionOffsets, nodes);
+            transitionChars = new char[nodes - 1];
+            transitionTargets = new int[nodes - 1];
+            for (int node = 1; node < nodes; node++) {
+                final int t = next[parents[node]]++;
+                transitionChars[t] = nodeChars[node];
+                transitionTargets[t] = node;
+            }
+            terminals = Arrays.copyOf(ends, nodes);
+        }
+
+        /**
+         * Build the trie of some names, unless they hold surrogates, which a regular expression
+         * compares as code points
+         * @param names The names
+         * @return The trie, or null if a name contains a surrogate
+         */
+        static CaseInsensitiveTrie of(final Collection<String> names) {
+            for (final String name : names) {
+                for (int i = 0; i < name.length(); i++) {
+                    if (Character.isSurrogate(name.charAt(i))) {
+                        return null;
+                    }
+                }
+            }
+            return new CaseInsensitiveTrie(names);
+        }
+
+        /**
+         * Fold the case of a char, the way a case insensitive Unicode regular expression does
+         * @param c The char
+         * @return The folded char
+         */
+        private static char fold(final char c) {
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+
+        /**
+         * Find the longest name at a position of the source
+         * @param source The text to parse
+         * @param index The position of the name
+         * @return The length of the longest name, or -1 if none matches
+         */
+        int longestMatch(final String source, final int index) {
+            int node = 0;
+            int longest = terminals[0] ? 0 : -1;
+            for (int i = index; i < source.length(); i++) {
+                final int t = Arrays.binarySearch(transitionChars, transitionOffsets[node],
+                        transitionOffsets[node + 1], fold(source.charAt(i)));
+                if (t < 0) {
+                    break;
+                }
+                node = transitionTargets[t];
+                if (terminals[node]) {
+                    longest = i + 1 - index;
+                }
+            }
+            return longest;
+        }
+    }
+
     /**
      * Adjust dates to be within appropriate century
      * @param twoDigitYear The year to adjust
@@ -533,16 +854,34 @@ boolean isNumber() {
 
         @Override
         boolean parse(final FastDateParser parser, final Calendar calendar, final String source, final ParsePosition pos, final int maxWidth) {
-            final Matcher matcher = pattern.matcher(source.substring(pos.getIndex()));
-            if (!matcher.lookingAt()) {
-                pos.setErrorIndex(pos.getIndex());
+            final int index = pos.getIndex();
+            final int length = matchLength(source, index);
+            if (length < 0) {
+                pos.setErrorIndex(index);
                 return false;
             }
-            pos.setIndex(pos.getIndex() + matcher.end(1));
-            setCalendar(parser, calendar, matcher.group(1));
+            pos.setIndex(index + length);
+            setCalendar(parser, calendar, source.substring(index, index + length));
             return true;
         }
 
+        /**
+         * Match the field at a position of the source.
+         * The default implementation runs the regular expression of the strategy.
+         *
+         * @param source The text to parse
+         * @param index The position of the field
+         * @return The length of the field, or -1 if it does not match
+         */
+        int matchLength(final String source, final int index) {
+            final Matcher matcher = pattern.matcher(source);
+            matcher.region(index, source.length());
+            if (!matcher.lookingAt()) {
+                return -1;
+            }
+            return matcher.end(1) - index;
+        }
+
         abstract void setCalendar(FastDateParser parser, Calendar cal, String value);
     }
 
@@ -691,6 +1030,7 @@ private static class CaseInsensitiveTextStrategy extends PatternStrategy {
         private final int field;
         final Locale locale;
         private final Map<String, Integer> lKeyValues;
+        private final CaseInsensitiveTrie trie;
 
         /**
          * Construct a Strategy that parses a Text field
@@ -705,9 +1045,20 @@ private static class CaseInsensitiveTextStrategy extends PatternStrategy {
             final StringBuilder regex = new StringBuilder();
             regex.append("((?iu)");
             lKeyValues = appendDisplayNames(definingCalendar, locale, field, regex);
-            regex.setLength(regex.length()-1);
-            regex.append(")");
-            createPattern(regex);
+            trie = CaseInsensitiveTrie.of(lKeyValues.keySet());
+            if (trie == null) {
+                regex.setLength(regex.length()-1);
+                regex.append(")");
+                createPattern(regex);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int matchLength(final String source, final int index) {
+            return trie == null ? super.matchLength(source, index) : trie.longestMatch(source, index);
         }
 
         /**
@@ -776,7 +1127,7 @@ boolean parse(final FastDateParser parser, final Calendar calendar, final String
                 return false;
             }
 
-            final int value = Integer.parseInt(source.substring(pos.getIndex(), idx));
+            final int value = parseInt(source, pos.getIndex(), idx);
             pos.setIndex(idx);
 
             calendar.set(field, modify(parser, value));
@@ -814,6 +1165,7 @@ static class TimeZoneStrategy extends PatternStrategy {
 
         private final Locale locale;
         private final Map<String, TzInfo> tzNames= new HashMap<>();
+        private final CaseInsensitiveTrie trie;
 
         private static class TzInfo {
             TimeZone zone;
@@ -874,13 +1226,44 @@ private static class TzInfo {
                     }
                 }
             }
-            // order the regex alternatives with longer strings first, greedy
-            // match will ensure longest string will be consumed
-            for (final String zoneName : sorted) {
-                simpleQuote(sb.append('|'), zoneName);
+            trie = CaseInsensitiveTrie.of(sorted);
+            if (trie == null) {
+                // order the regex alternatives with longer strings first, greedy
+                // match will ensure longest string will be consumed
+                for (final String zoneName : sorted) {
+                    simpleQuote(sb.append('|'), zoneName);
+                }
+                sb.append(")");
+                createPattern(sb);
             }
-            sb.append(")");
-            createPattern(sb);
+        }
+
+        /**
+         * Matches an RFC 822 time zone, a GMT offset or a time zone name, in this order,
+         * like the regular expression {@code [+-]\d{4}|GMT[+-]\d{1,2}:\d{2}|names...} does.
+         * {@inheritDoc}
+         */
+        @Override
+        int matchLength(final String source, final int index) {
+            if (trie == null) {
+                return super.matchLength(source, index);
+            }
+            final char first = index < source.length() ? source.charAt(index) : 0;
+            if ((first == '+' || first == '-') && isAsciiDigits(source, index + 1, 4)) {
+                return 5;
+            }
+            if (source.regionMatches(true, index, "GMT", 0, 3) && index + 3 < source.length()
+                    && (source.charAt(index + 3) == '+' || source.charAt(index + 3) == '-')) {
+                // one or two hour digits
+                for (int hours = 2; hours >= 1; hours--) {
+                    final int colon = index + 4 + hours;
+                    if (isAsciiDigits(source, index + 4, hours) && colon < source.length()
+                            && source.charAt(colon) == ':' && isAsciiDigits(source, colon + 1, 2)) {
+                        return colon + 3 - index;
+                    }
+                }
+            }
+            return trie.longestMatch(source, index);
         }
 
         /**
@@ -905,12 +1288,40 @@ void setCalendar(final FastDateParser parser, final Calendar cal, final String v
     private static class ISO8601TimeZoneStrategy extends PatternStrategy {
         // Z, +hh, -hh, +hhmm, -hhmm, +hh:mm or -hh:mm 
 
+        private final int tokenLen;
+
         /**
          * Construct a Strategy that parses a TimeZone
-         * @param pattern The Pattern
+         * @param tokenLen The number of X in the pattern: 1 for +hh, 2 for +hhmm, 3 for +hh:mm
+         */
+        ISO8601TimeZoneStrategy(final int tokenLen) {
+            this.tokenLen = tokenLen;
+        }
+
+        /**
+         * {@inheritDoc}
          */
-        ISO8601TimeZoneStrategy(final String pattern) {
-            createPattern(pattern);
+        @Override
+        int matchLength(final String source, final int index) {
+            if (index >= source.length()) {
+                return -1;
+            }
+            final char first = source.charAt(index);
+            if (first == 'Z') {
+                return 1;
+            }
+            if ((first != '+' && first != '-') || !isAsciiDigits(source, index + 1, 2)) {
+                return -1;
+            }
+            switch (tokenLen) {
+            case 1:
+                return 3;
+            case 2:
+                return isAsciiDigits(source, index + 3, 2) ? 5 : -1;
+            default:
+                return index + 3 < source.length() && source.charAt(index + 3) == ':'
+                        && isAsciiDigits(source, index + 4, 2) ? 6 : -1;
+            }
         }
         
         /**
@@ -925,9 +1336,9 @@ void setCalendar(final FastDateParser parser, final Calendar cal, final String v
             }
         }
         
-        private static final Strategy ISO_8601_1_STRATEGY = new ISO8601TimeZoneStrategy("(Z|(?:[+-]\\d{2}))");
-        private static final Strategy ISO_8601_2_STRATEGY = new ISO8601TimeZoneStrategy("(Z|(?:[+-]\\d{2}\\d{2}))");
-        private static final Strategy ISO_8601_3_STRATEGY = new ISO8601TimeZoneStrategy("(Z|(?:[+-]\\d{2}(?::)\\d{2}))");
+        private static final Strategy ISO_8601_1_STRATEGY = new ISO8601TimeZoneStrategy(1);
+        private static final Strategy ISO_8601_2_STRATEGY = new ISO8601TimeZoneStrategy(2);
+        private static final Strategy ISO_8601_3_STRATEGY = new ISO8601TimeZoneStrategy(3);
 
         /**
          * Factory method for ISO8601TimeZoneStrategies.
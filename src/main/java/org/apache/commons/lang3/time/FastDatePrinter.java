@@ -25,11 +25,14 @@
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Locale;
+import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
@@ -134,6 +137,36 @@ public class FastDatePrinter implements DatePrinter, Serializable {
      * The estimated maximum length.
      */
     private transient int mMaxLengthEstimate;
+    /**
+     * The rules, if they can all be applied to dates computed without a {@code Calendar},
+     * and the time zone has a fixed offset; otherwise {@code null}.
+     */
+    private transient FixedOffsetRule[] mFixedOffsetRules;
+    /**
+     * The fixed offset of the time zone, if {@link #mFixedOffsetRules} is not {@code null}.
+     */
+    private transient int mFixedOffset;
+    /**
+     * The rules of the millisecond fields, in pattern order.
+     */
+    private transient NumberRule[] mMillisecondRules;
+    /**
+     * The fields of the last day formatted without a {@code Calendar}.
+     */
+    private transient volatile DateFields mLastDate;
+
+    /**
+     * The earliest millis formatted without a {@code Calendar}, 1600-01-01T00:00:00Z,
+     * safely after the Gregorian cutover of {@code GregorianCalendar}.
+     */
+    private static final long FIXED_OFFSET_MIN_MILLIS = -11676096000000L;
+    /**
+     * The millis from which dates are formatted with a {@code Calendar} again, 10000-01-01T00:00:00Z.
+     */
+    private static final long FIXED_OFFSET_MAX_MILLIS = 253402300800000L;
+    private static final int MILLIS_PER_MINUTE = 60 * 1000;
+    private static final int MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+    private static final int MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
 
     // Constructor
     //-----------------------------------------------------------------------
@@ -168,6 +201,46 @@ private void init() {
         }
 
         mMaxLengthEstimate = len;
+
+        final List<NumberRule> millisecondRules = new ArrayList<>();
+        for (final Rule rule : mRules) {
+            if (isMillisecondRule(rule)) {
+                millisecondRules.add((NumberRule) rule);
+            }
+        }
+        mMillisecondRules = millisecondRules.toArray(new NumberRule[millisecondRules.size()]);
+
+        mFixedOffsetRules = null;
+        if (isFixedOffset(mTimeZone) && newCalendar().getClass() == GregorianCalendar.class) {
+            final FixedOffsetRule[] rules = new FixedOffsetRule[mRules.length];
+            for (int i = 0; i < mRules.length; i++) {
+                if (!(mRules[i] instanceof FixedOffsetRule) || !((FixedOffsetRule) mRules[i]).isFixedOffsetSupported()) {
+                    return;
+                }
+                rules[i] = (FixedOffsetRule) mRules[i];
+            }
+            mFixedOffset = mTimeZone.getRawOffset();
+            mFixedOffsetRules = rules;
+        }
+    }
+
+    /**
+     * <p>Returns whether a time zone always has the same offset, so that the fields of
+     * a date can be computed arithmetically.</p>
+     *
+     * @param timeZone the time zone
+     * @return true for UTC, GMT and custom offsets such as GMT+02:00
+     */
+    private static boolean isFixedOffset(final TimeZone timeZone) {
+        if (timeZone.useDaylightTime()) {
+            return false;
+        }
+        if (timeZone instanceof SimpleTimeZone) {
+            return true;
+        }
+        final String id = timeZone.getID();
+        return id.equals("UTC") || id.equals("GMT") || id.equals("Etc/UTC") || id.equals("Etc/GMT")
+            || id.startsWith("GMT+") || id.startsWith("GMT-") || id.startsWith("Etc/GMT+") || id.startsWith("Etc/GMT-");
     }
 
     // Parse the pattern
@@ -441,9 +514,7 @@ String format(final Object obj) {
      */
     @Override
     public String format(final long millis) {
-        final Calendar c = newCalendar();
-        c.setTimeInMillis(millis);
-        return applyRulesToString(c);
+        return applyRules(millis, new StringBuilder(mMaxLengthEstimate)).toString();
     }
 
     /**
@@ -468,9 +539,7 @@ private Calendar newCalendar() {
      */
     @Override
     public String format(final Date date) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return applyRulesToString(c);
+        return format(date.getTime());
     }
 
     /* (non-Javadoc)
@@ -486,9 +555,7 @@ public String format(final Calendar calendar) {
      */
     @Override
     public StringBuffer format(final long millis, final StringBuffer buf) {
-        final Calendar c = newCalendar();
-        c.setTimeInMillis(millis);
-        return (StringBuffer) applyRules(c, (Appendable)buf);
+        return applyRules(millis, buf);
     }
 
     /* (non-Javadoc)
@@ -496,9 +563,7 @@ public StringBuffer format(final long millis, final StringBuffer buf) {
      */
     @Override
     public StringBuffer format(final Date date, final StringBuffer buf) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return (StringBuffer) applyRules(c, (Appendable)buf);
+        return applyRules(date.getTime(), buf);
     }
 
     /* (non-Javadoc)
@@ -515,9 +580,7 @@ public StringBuffer format(final Calendar calendar, final StringBuffer buf) {
      */
     @Override
     public <B extends Appendable> B format(final long millis, final B buf) {
-        final Calendar c = newCalendar();
-        c.setTimeInMillis(millis);
-        return applyRules(c, buf);
+        return applyRules(millis, buf);
     }
 
     /* (non-Javadoc)
@@ -525,9 +588,7 @@ public <B extends Appendable> B format(final long millis, final B buf) {
      */
     @Override
     public <B extends Appendable> B format(final Date date, final B buf) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return applyRules(c, buf);
+        return applyRules(date.getTime(), buf);
     }
 
     /* (non-Javadoc)
@@ -578,6 +639,240 @@ private <B extends Appendable> B applyRules(final Calendar calendar, final B buf
         return buf;
     }
 
+    /**
+     * <p>Performs the formatting by applying the rules to the
+     * specified millis.</p>
+     *
+     * <p>For a time zone with a fixed offset and rules which only need the
+     * fields computed by {@link DateFields}, the fields are computed arithmetically,
+     * without a {@code Calendar}. The fields of the last day are kept, as
+     * consecutive calls usually format dates of the same day.</p>
+     *
+     * @param millis  the millis to format
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     */
+    private <B extends Appendable> B applyRules(final long millis, final B buf) {
+        return applyRules(millis, null, buf);
+    }
+
+    /**
+     * <p>Performs the formatting by applying the rules to the
+     * specified millis, using the specified calendar if the fields
+     * cannot be computed without a {@code Calendar}.</p>
+     *
+     * @param millis  the millis to format
+     * @param calendar  the calendar to use, null to create one when needed
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     */
+    private <B extends Appendable> B applyRules(final long millis, final Calendar calendar, final B buf) {
+        final FixedOffsetRule[] rules = mFixedOffsetRules;
+        if (rules == null || millis < FIXED_OFFSET_MIN_MILLIS || millis >= FIXED_OFFSET_MAX_MILLIS) {
+            final Calendar c = calendar == null ? newCalendar() : calendar;
+            c.setTimeInMillis(millis);
+            return applyRules(c, buf);
+        }
+        final long local = millis + mFixedOffset;
+        long epochDay = local / MILLIS_PER_DAY;
+        if (local < 0 && epochDay * MILLIS_PER_DAY != local) {
+            epochDay--;
+        }
+        final int millisOfDay = (int) (local - epochDay * MILLIS_PER_DAY);
+        DateFields date = mLastDate;
+        if (date == null || date.mEpochDay != epochDay) {
+            date = new DateFields(epochDay);
+            mLastDate = date;
+        }
+        try {
+            for (final FixedOffsetRule rule : rules) {
+                rule.appendTo(buf, date, millisOfDay, mFixedOffset);
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.rethrow(ioe);
+        }
+        return buf;
+    }
+
+    // Batches
+    //-----------------------------------------------------------------------
+    /**
+     * <p>Formats a batch of millisecond {@code long} values.</p>
+     *
+     * <p>A single {@code Calendar} and buffer are reused for the whole batch.</p>
+     *
+     * @param millis  the millis to format, not null
+     * @return the formatted dates
+     * @throws NullPointerException if the array is null
+     * @since 3.6
+     */
+    public String[] format(final long[] millis) {
+        final String[] result = new String[millis.length];
+        format(millis, 0, millis.length, result);
+        return result;
+    }
+
+    /**
+     * <p>Formats a batch of millisecond {@code long} values, splitting large batches
+     * into parts formatted in parallel by a {@code ForkJoinPool}.</p>
+     *
+     * @param millis  the millis to format, not null
+     * @param pool  the pool to format the parts of the batch in, not null
+     * @return the formatted dates
+     * @throws NullPointerException if the array or the pool is null
+     * @see #format(long[])
+     * @since 3.6
+     */
+    public String[] format(final long[] millis, final ForkJoinPool pool) {
+        final String[] result = new String[millis.length];
+        pool.invoke(new FormatTask(millis, result, 0, millis.length));
+        return result;
+    }
+
+    /**
+     * <p>Formats a batch of millisecond {@code long} values into the
+     * supplied {@code Appendable}, separated by the specified separator.</p>
+     *
+     * <p>A single {@code Calendar} is reused for the whole batch.</p>
+     *
+     * @param millis  the millis to format, not null
+     * @param separator  the text to append between the dates, null means none
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified buffer
+     * @throws NullPointerException if the array is null
+     * @since 3.6
+     */
+    public <B extends Appendable> B format(final long[] millis, final CharSequence separator, final B buf) {
+        final Calendar c = newCalendar();
+        try {
+            for (int i = 0; i < millis.length; i++) {
+                if (i > 0 && separator != null) {
+                    buf.append(separator);
+                }
+                applyRules(millis[i], c, buf);
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.rethrow(ioe);
+        }
+        return buf;
+    }
+
+    /**
+     * Formats a range of a batch of millisecond {@code long} values.
+     *
+     * @param millis  the millis to format
+     * @param from  the start of the range, inclusive
+     * @param to  the end of the range, exclusive
+     * @param result  the array to store the formatted dates into
+     */
+    private void format(final long[] millis, final int from, final int to, final String[] result) {
+        final Calendar c = newCalendar();
+        final StringBuilder buf = new StringBuilder(mMaxLengthEstimate);
+        for (int i = from; i < to; i++) {
+            buf.setLength(0);
+            result[i] = applyRules(millis[i], c, buf).toString();
+        }
+    }
+
+    /**
+     * A task formatting a range of a batch of millisecond {@code long} values.
+     */
+    private final class FormatTask extends BatchTask {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] millis;
+        private final String[] result;
+
+        /**
+         * Constructs a task.
+         *
+         * @param millis  the millis to format
+         * @param result  the array to store the formatted dates into
+         * @param from  the start of the range, inclusive
+         * @param to  the end of the range, exclusive
+         */
+        FormatTask(final long[] millis, final String[] result, final int from, final int to) {
+            super(from, to);
+            this.millis = millis;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute(final int from, final int to) {
+            format(millis, from, to, result);
+        }
+
+        @Override
+        protected BatchTask split(final int from, final int to) {
+            return new FormatTask(millis, result, from, to);
+        }
+    }
+
+    /**
+     * <p>Returns whether a rule formats the millisecond field.</p>
+     *
+     * @param rule the rule
+     * @return true if the rule formats {@code Calendar.MILLISECOND}
+     */
+    private static boolean isMillisecondRule(final Rule rule) {
+        if (rule instanceof UnpaddedNumberField) {
+            return ((UnpaddedNumberField) rule).mField == Calendar.MILLISECOND;
+        }
+        if (rule instanceof PaddedNumberField) {
+            return ((PaddedNumberField) rule).mField == Calendar.MILLISECOND;
+        }
+        if (rule instanceof TwoDigitNumberField) {
+            return ((TwoDigitNumberField) rule).mField == Calendar.MILLISECOND;
+        }
+        return false;
+    }
+
+    /**
+     * <p>Formats the specified millis, splitting the text at the millisecond fields.</p>
+     *
+     * <p>Only the millisecond fields change within a second, so the text can be reused
+     * for every millis of that second, see {@link CachingDatePrinter}.</p>
+     *
+     * @param millis  the millis to format
+     * @return the text before, between and after the millisecond fields
+     */
+    String[] formatAroundMilliseconds(final long millis) {
+        final Calendar c = newCalendar();
+        c.setTimeInMillis(millis);
+        final String[] text = new String[mMillisecondRules.length + 1];
+        final StringBuilder buf = new StringBuilder(mMaxLengthEstimate);
+        int i = 0;
+        try {
+            for (final Rule rule : mRules) {
+                if (i < mMillisecondRules.length && rule == mMillisecondRules[i]) {
+                    text[i++] = buf.toString();
+                    buf.setLength(0);
+                } else {
+                    rule.appendTo(buf, c);
+                }
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.rethrow(ioe);
+        }
+        text[i] = buf.toString();
+        return text;
+    }
+
+    /**
+     * <p>Formats one of the millisecond fields of the pattern.</p>
+     *
+     * @param buf  the buffer to format into
+     * @param index  the index of the millisecond field in the pattern
+     * @param millisecond  the millisecond of the second, from 0 to 999
+     * @throws IOException if an I/O error occurs
+     */
+    void appendMillisecond(final Appendable buf, final int index, final int millisecond) throws IOException {
+        mMillisecondRules[index].appendTo(buf, millisecond);
+    }
+
     // Accessors
     //-----------------------------------------------------------------------
     /* (non-Javadoc)
@@ -756,6 +1051,108 @@ private static void appendFullDigits(final Appendable buffer, int value, int min
         }
     }
 
+    /**
+     * <p>Inner class holding the fields of a day of the proleptic Gregorian calendar,
+     * computed arithmetically from the epoch day.</p>
+     */
+    private static final class DateFields {
+        private static final int[] DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+        final long mEpochDay;
+        private final int mYear;
+        private final int mMonth;
+        private final int mDayOfMonth;
+        private final int mDayOfYear;
+        private final int mDayOfWeek;
+
+        /**
+         * Computes the fields of a day.
+         *
+         * @param epochDay the number of days since 1970-01-01
+         */
+        DateFields(final long epochDay) {
+            mEpochDay = epochDay;
+            // days since 0000-03-01, so that the leap day ends the year
+            final long zero = epochDay + 719468;
+            final long era = (zero >= 0 ? zero : zero - 146096) / 146097;
+            final int dayOfEra = (int) (zero - era * 146097);
+            final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+            final int dayOfMarchYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            final int marchMonth = (5 * dayOfMarchYear + 2) / 153;
+            mDayOfMonth = dayOfMarchYear - (153 * marchMonth + 2) / 5 + 1;
+            mMonth = marchMonth < 10 ? marchMonth + 2 : marchMonth - 10;
+            mYear = (int) (yearOfEra + era * 400) + (mMonth <= Calendar.FEBRUARY ? 1 : 0);
+            final boolean leap = mYear % 4 == 0 && (mYear % 100 != 0 || mYear % 400 == 0);
+            mDayOfYear = DAYS_BEFORE_MONTH[mMonth] + mDayOfMonth + (leap && mMonth > Calendar.FEBRUARY ? 1 : 0);
+            // 1970-01-01 was a Thursday
+            mDayOfWeek = (int) ((epochDay % 7 + 11) % 7) + Calendar.SUNDAY;
+        }
+
+        /**
+         * Returns whether a {@code Calendar} field is computed.
+         *
+         * @param field the {@code Calendar} field
+         * @return true if {@link #get(int, int)} supports the field
+         */
+        static boolean isSupported(final int field) {
+            switch (field) {
+            case Calendar.ERA:
+            case Calendar.YEAR:
+            case Calendar.MONTH:
+            case Calendar.DAY_OF_MONTH:
+            case Calendar.DAY_OF_YEAR:
+            case Calendar.DAY_OF_WEEK:
+            case Calendar.AM_PM:
+            case Calendar.HOUR:
+            case Calendar.HOUR_OF_DAY:
+            case Calendar.MINUTE:
+            case Calendar.SECOND:
+            case Calendar.MILLISECOND:
+                return true;
+            default:
+                return false;
+            }
+        }
+
+        /**
+         * Returns the value of a {@code Calendar} field, like {@code Calendar.get(int)} does.
+         *
+         * @param field the supported {@code Calendar} field
+         * @param millisOfDay the milliseconds since the start of the day
+         * @return the value of the field
+         */
+        int get(final int field, final int millisOfDay) {
+            switch (field) {
+            case Calendar.ERA:
+                return GregorianCalendar.AD;
+            case Calendar.YEAR:
+                return mYear;
+            case Calendar.MONTH:
+                return mMonth;
+            case Calendar.DAY_OF_MONTH:
+                return mDayOfMonth;
+            case Calendar.DAY_OF_YEAR:
+                return mDayOfYear;
+            case Calendar.DAY_OF_WEEK:
+                return mDayOfWeek;
+            case Calendar.AM_PM:
+                return millisOfDay < MILLIS_PER_DAY / 2 ? Calendar.AM : Calendar.PM;
+            case Calendar.HOUR:
+                return millisOfDay / MILLIS_PER_HOUR % 12;
+            case Calendar.HOUR_OF_DAY:
+                return millisOfDay / MILLIS_PER_HOUR;
+            case Calendar.MINUTE:
+                return millisOfDay / MILLIS_PER_MINUTE % 60;
+            case Calendar.SECOND:
+                return millisOfDay / 1000 % 60;
+            case Calendar.MILLISECOND:
+                return millisOfDay % 1000;
+            default:
+                throw new IllegalArgumentException("Unsupported field: " + field);
+            }
+        }
+    }
+
     // Rules
     //-----------------------------------------------------------------------
     /**
@@ -779,6 +1176,30 @@ private interface Rule {
         void appendTo(Appendable buf, Calendar calendar) throws IOException;
     }
 
+    /**
+     * <p>Inner class defining a rule which can also be applied to the fields of a
+     * date computed without a {@code Calendar}, see {@link DateFields}.</p>
+     */
+    private interface FixedOffsetRule extends Rule {
+        /**
+         * Returns whether the rule can be applied to the fields computed by {@link DateFields}.
+         *
+         * @return true if the rule can be applied without a {@code Calendar}
+         */
+        boolean isFixedOffsetSupported();
+
+        /**
+         * Appends the value of the specified date fields to the output buffer based on the rule implementation.
+         *
+         * @param buffer the output buffer
+         * @param date the fields of the day to be appended
+         * @param millisOfDay the milliseconds since the start of the day
+         * @param offset the fixed offset of the time zone, in milliseconds
+         * @throws IOException if an I/O error occurs
+         */
+        void appendTo(Appendable buffer, DateFields date, int millisOfDay, int offset) throws IOException;
+    }
+
     /**
      * <p>Inner class defining a numeric rule.</p>
      */
@@ -796,7 +1217,7 @@ private interface NumberRule extends Rule {
     /**
      * <p>Inner class to output a constant single character.</p>
      */
-    private static class CharacterLiteral implements Rule {
+    private static class CharacterLiteral implements FixedOffsetRule {
         private final char mValue;
 
         /**
@@ -824,12 +1245,28 @@ public int estimateLength() {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(mValue);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            buffer.append(mValue);
+        }
     }
 
     /**
      * <p>Inner class to output a constant string.</p>
      */
-    private static class StringLiteral implements Rule {
+    private static class StringLiteral implements FixedOffsetRule {
         private final String mValue;
 
         /**
@@ -857,12 +1294,28 @@ public int estimateLength() {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(mValue);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            buffer.append(mValue);
+        }
     }
 
     /**
      * <p>Inner class to output one of a set of values.</p>
      */
-    private static class TextField implements Rule {
+    private static class TextField implements FixedOffsetRule {
         private final int mField;
         private final String[] mValues;
 
@@ -900,12 +1353,28 @@ public int estimateLength() {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(mValues[calendar.get(mField)]);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return DateFields.isSupported(mField);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            buffer.append(mValues[date.get(mField, millisOfDay)]);
+        }
     }
 
     /**
      * <p>Inner class to output an unpadded number.</p>
      */
-    private static class UnpaddedNumberField implements NumberRule {
+    private static class UnpaddedNumberField implements NumberRule, FixedOffsetRule {
         private final int mField;
 
         /**
@@ -946,12 +1415,28 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
                appendFullDigits(buffer, value, 1);
             }
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return DateFields.isSupported(mField);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            appendTo(buffer, date.get(mField, millisOfDay));
+        }
     }
 
     /**
      * <p>Inner class to output an unpadded month.</p>
      */
-    private static class UnpaddedMonthField implements NumberRule {
+    private static class UnpaddedMonthField implements NumberRule, FixedOffsetRule {
         static final UnpaddedMonthField INSTANCE = new UnpaddedMonthField();
 
         /**
@@ -989,12 +1474,28 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
                 appendDigits(buffer, value);
             }
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            appendTo(buffer, date.get(Calendar.MONTH, millisOfDay) + 1);
+        }
     }
 
     /**
      * <p>Inner class to output a padded number.</p>
      */
-    private static class PaddedNumberField implements NumberRule {
+    private static class PaddedNumberField implements NumberRule, FixedOffsetRule {
         private final int mField;
         private final int mSize;
 
@@ -1036,12 +1537,28 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
         public final void appendTo(final Appendable buffer, final int value) throws IOException {
             appendFullDigits(buffer, value, mSize);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return DateFields.isSupported(mField);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            appendTo(buffer, date.get(mField, millisOfDay));
+        }
     }
 
     /**
      * <p>Inner class to output a two digit number.</p>
      */
-    private static class TwoDigitNumberField implements NumberRule {
+    private static class TwoDigitNumberField implements NumberRule, FixedOffsetRule {
         private final int mField;
 
         /**
@@ -1080,12 +1597,28 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
                 appendFullDigits(buffer, value, 2);
             }
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return DateFields.isSupported(mField);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            appendTo(buffer, date.get(mField, millisOfDay));
+        }
     }
 
     /**
      * <p>Inner class to output a two digit year.</p>
      */
-    private static class TwoDigitYearField implements NumberRule {
+    private static class TwoDigitYearField implements NumberRule, FixedOffsetRule {
         static final TwoDigitYearField INSTANCE = new TwoDigitYearField();
 
         /**
@@ -1118,12 +1651,28 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
         public final void appendTo(final Appendable buffer, final int value) throws IOException {
             appendDigits(buffer, value);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            appendTo(buffer, date.get(Calendar.YEAR, millisOfDay) % 100);
+        }
     }
 
     /**
      * <p>Inner class to output a two digit month.</p>
      */
-    private static class TwoDigitMonthField implements NumberRule {
+    private static class TwoDigitMonthField implements NumberRule, FixedOffsetRule {
         static final TwoDigitMonthField INSTANCE = new TwoDigitMonthField();
 
         /**
@@ -1156,12 +1705,28 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
         public final void appendTo(final Appendable buffer, final int value) throws IOException {
             appendDigits(buffer, value);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            appendTo(buffer, date.get(Calendar.MONTH, millisOfDay) + 1);
+        }
     }
 
     /**
      * <p>Inner class to output the twelve hour field.</p>
      */
-    private static class TwelveHourField implements NumberRule {
+    private static class TwelveHourField implements NumberRule, FixedOffsetRule {
         private final NumberRule mRule;
 
         /**
@@ -1201,12 +1766,32 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
         public void appendTo(final Appendable buffer, final int value) throws IOException {
             mRule.appendTo(buffer, value);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            int value = date.get(Calendar.HOUR, millisOfDay);
+            if (value == 0) {
+                value = 12;
+            }
+            mRule.appendTo(buffer, value);
+        }
     }
 
     /**
      * <p>Inner class to output the twenty four hour field.</p>
      */
-    private static class TwentyFourHourField implements NumberRule {
+    private static class TwentyFourHourField implements NumberRule, FixedOffsetRule {
         private final NumberRule mRule;
 
         /**
@@ -1246,12 +1831,32 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
         public void appendTo(final Appendable buffer, final int value) throws IOException {
             mRule.appendTo(buffer, value);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            int value = date.get(Calendar.HOUR_OF_DAY, millisOfDay);
+            if (value == 0) {
+                value = 24;
+            }
+            mRule.appendTo(buffer, value);
+        }
     }
 
     /**
      * <p>Inner class to output the numeric day in week.</p>
      */
-    private static class DayInWeekField implements NumberRule {
+    private static class DayInWeekField implements NumberRule, FixedOffsetRule {
         private final NumberRule mRule;
 
         DayInWeekField(final NumberRule rule) {
@@ -1273,6 +1878,23 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
         public void appendTo(final Appendable buffer, final int value) throws IOException {
             mRule.appendTo(buffer, value);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            final int value = date.get(Calendar.DAY_OF_WEEK, millisOfDay);
+            mRule.appendTo(buffer, value != Calendar.SUNDAY ? value - 1 : 7);
+        }
     }
 
     /**
@@ -1381,7 +2003,7 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
      * <p>Inner class to output a time zone as a number {@code +/-HHMM}
      * or {@code +/-HH:MM}.</p>
      */
-    private static class TimeZoneNumberRule implements Rule {
+    private static class TimeZoneNumberRule implements FixedOffsetRule {
         static final TimeZoneNumberRule INSTANCE_COLON = new TimeZoneNumberRule(true);
         static final TimeZoneNumberRule INSTANCE_NO_COLON = new TimeZoneNumberRule(false);
         
@@ -1409,9 +2031,17 @@ public int estimateLength() {
          */
         @Override
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
-            
-            int offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
+            appendOffset(buffer, calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET));
+        }
 
+        /**
+         * Appends a time zone offset.
+         *
+         * @param buffer the output buffer
+         * @param offset the offset in milliseconds
+         * @throws IOException if an I/O error occurs
+         */
+        private void appendOffset(final Appendable buffer, int offset) throws IOException {
             if (offset < 0) {
                 buffer.append('-');
                 offset = -offset;
@@ -1429,13 +2059,29 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             final int minutes = offset / (60 * 1000) - 60 * hours;
             appendDigits(buffer, minutes);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            appendOffset(buffer, offset);
+        }
     }
 
     /**
      * <p>Inner class to output a time zone as a number {@code +/-HHMM}
      * or {@code +/-HH:MM}.</p>
      */
-    private static class Iso8601_Rule implements Rule {
+    private static class Iso8601_Rule implements FixedOffsetRule {
         
         // Sign TwoDigitHours or Z
         static final Iso8601_Rule ISO8601_HOURS = new Iso8601_Rule(3);       
@@ -1488,7 +2134,17 @@ public int estimateLength() {
          */
         @Override
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
-            int offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
+            appendOffset(buffer, calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET));
+        }
+
+        /**
+         * Appends a time zone offset.
+         *
+         * @param buffer the output buffer
+         * @param offset the offset in milliseconds
+         * @throws IOException if an I/O error occurs
+         */
+        private void appendOffset(final Appendable buffer, int offset) throws IOException {
             if (offset == 0) {
                 buffer.append("Z");
                 return;
@@ -1515,6 +2171,22 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             final int minutes = offset / (60 * 1000) - 60 * hours;
             appendDigits(buffer, minutes);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isFixedOffsetSupported() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final DateFields date, final int millisOfDay, final int offset) throws IOException {
+            appendOffset(buffer, offset);
+        }
     }
 
     // ----------------------------------------------------------------------
@@ -20,13 +20,19 @@
 import java.text.Format;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>FormatCache is a cache and factory for {@link Format}s.</p>
+ *
+ * <p>The cache is unbounded by default. When a maximum size is set, entries which
+ * have not been used since the last sweep are evicted, using the clock algorithm.</p>
  * 
  * @since 3.0
  */
@@ -38,9 +44,12 @@
      */
     static final int NONE= -1;
     
-    private final ConcurrentMap<MultipartKey, F> cInstanceCache 
-        = new ConcurrentHashMap<>(7);
+    private final ClockCache<F> cInstanceCache = new ClockCache<>();
     
+    /**
+     * The patterns of the date and time styles, shared by all format caches. There are
+     * a few per locale, so they are not bounded by {@link #setMaximumSize(int)}.
+     */
     private static final ConcurrentMap<MultipartKey, String> cDateTimeInstanceCache 
         = new ConcurrentHashMap<>(7);
 
@@ -79,13 +88,9 @@ public F getInstance(final String pattern, TimeZone timeZone, Locale locale) {
         final MultipartKey key = new MultipartKey(pattern, timeZone, locale);
         F format = cInstanceCache.get(key);
         if (format == null) {           
-            format = createInstance(pattern, timeZone, locale);
-            final F previousValue= cInstanceCache.putIfAbsent(key, format);
-            if (previousValue != null) {
-                // another thread snuck in and did the same work
-                // we should return the instance that is in ConcurrentMap
-                format= previousValue;              
-            }
+            // if another thread snuck in and did the same work,
+            // we should return the instance that is in the cache
+            format = cInstanceCache.putIfAbsent(key, createInstance(pattern, timeZone, locale));
         }
         return format;
     }
@@ -218,6 +223,183 @@ else if (timeStyle == null) {
         return pattern;
     }
 
+    /**
+     * <p>Sets the maximum number of formatters to cache.</p>
+     *
+     * <p>Only the formatters of this cache are bounded. The patterns of the date and
+     * time styles, which are cached per locale for all format caches, are not.</p>
+     *
+     * @param maximumSize  the maximum number of formatters, zero or negative for no maximum
+     */
+    // package protected, for access from FastDateFormat; do not make public or protected
+    void setMaximumSize(final int maximumSize) {
+        cInstanceCache.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * <p>Gets the maximum number of formatters to cache.</p>
+     *
+     * @return the maximum number of formatters, zero for no maximum
+     */
+    // package protected, for access from FastDateFormat; do not make public or protected
+    int getMaximumSize() {
+        return cInstanceCache.maximumSize;
+    }
+
+    /**
+     * <p>Gets the number of cached formatters.</p>
+     *
+     * @return the number of cached formatters
+     */
+    // package protected, for access from FastDateFormat; do not make public or protected
+    int size() {
+        return cInstanceCache.map.size();
+    }
+
+    /**
+     * <p>Gets the number of requests for a formatter which was found in the cache.</p>
+     *
+     * @return the number of cache hits
+     */
+    // package protected, for access from FastDateFormat; do not make public or protected
+    long getHitCount() {
+        return cInstanceCache.hits.get();
+    }
+
+    /**
+     * <p>Gets the number of requests for a formatter which was not found in the cache.</p>
+     *
+     * @return the number of cache misses
+     */
+    // package protected, for access from FastDateFormat; do not make public or protected
+    long getMissCount() {
+        return cInstanceCache.misses.get();
+    }
+
+    /**
+     * <p>Gets the number of formatters evicted from the cache.</p>
+     *
+     * @return the number of evictions
+     */
+    // package protected, for access from FastDateFormat; do not make public or protected
+    long getEvictionCount() {
+        return cInstanceCache.evictions.get();
+    }
+
+    // ----------------------------------------------------------------------
+    /**
+     * <p>Helper class for a concurrent cache with an optional maximum size.</p>
+     *
+     * <p>Each entry has a reference bit, set when the entry is used. When the cache
+     * is over its maximum size, a hand sweeps over the entries in turn, clearing the
+     * reference bit of used entries and evicting the others, so that entries used
+     * since the last sweep are kept.</p>
+     *
+     * @param <V> the type of the cached values
+     */
+    private static class ClockCache<V> {
+        private final ConcurrentMap<MultipartKey, Node<V>> map = new ConcurrentHashMap<>(7);
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+        private volatile int maximumSize;
+        /**
+         * The position of the sweep over the entries, guarded by this.
+         */
+        private Iterator<Map.Entry<MultipartKey, Node<V>>> hand;
+
+        /**
+         * Gets a cached value, marking it as used.
+         * @param key the key of the value
+         * @return the value, or null if it is not cached
+         */
+        V get(final MultipartKey key) {
+            final Node<V> node = map.get(key);
+            if (node == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            if (!node.referenced) {
+                node.referenced = true;
+            }
+            return node.value;
+        }
+
+        /**
+         * Caches a value unless another value is already cached for its key,
+         * evicting entries if the cache is over its maximum size.
+         * @param key the key of the value
+         * @param value the value to cache
+         * @return the cached value
+         */
+        V putIfAbsent(final MultipartKey key, final V value) {
+            final Node<V> previous = map.putIfAbsent(key, new Node<>(value));
+            if (previous != null) {
+                return previous.value;
+            }
+            evict();
+            return value;
+        }
+
+        /**
+         * Sets the maximum size, evicting entries if the cache is over it.
+         * @param maximumSize the maximum size, zero or negative for no maximum
+         */
+        void setMaximumSize(final int maximumSize) {
+            this.maximumSize = Math.max(0, maximumSize);
+            evict();
+        }
+
+        /**
+         * Evicts entries until the cache is not over its maximum size.
+         */
+        private void evict() {
+            final int max = maximumSize;
+            if (max == 0 || map.size() <= max) {
+                return;
+            }
+            synchronized (this) {
+                // after two turns of the hand every entry has been cleared once,
+                // evict regardless so that concurrent use cannot make the sweep endless
+                int budget = 2 * map.size();
+                while (map.size() > max) {
+                    if (hand == null || !hand.hasNext()) {
+                        hand = map.entrySet().iterator();
+                        if (!hand.hasNext()) {
+                            return;
+                        }
+                    }
+                    final Map.Entry<MultipartKey, Node<V>> entry = hand.next();
+                    final Node<V> node = entry.getValue();
+                    if (node.referenced && budget-- > 0) {
+                        node.referenced = false;
+                    } else if (map.remove(entry.getKey(), node)) {
+                        evictions.incrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>Helper class to hold a cached value and its reference bit.</p>
+     *
+     * @param <V> the type of the value
+     */
+    private static class Node<V> {
+        private final V value;
+        private volatile boolean referenced;
+
+        /**
+         * Constructs a node for a value which has not been used yet.
+         * @param value the value
+         */
+        Node(final V value) {
+            this.value = value;
+        }
+    }
+
     // ----------------------------------------------------------------------
     /**
      * <p>Helper class to hold multi-part Map keys</p>
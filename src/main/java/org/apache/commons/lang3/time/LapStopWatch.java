@@ -0,0 +1,374 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * <code>LapStopWatch</code> times repeated laps, such as the iterations of a hot loop,
+ * and keeps their distribution in a histogram of fixed size.
+ * </p>
+ *
+ * <p>
+ * Where a {@link StopWatch} times a single session, a LapStopWatch is started once, then
+ * {@link #lap()} ends the current lap and starts the next one. Each lap is counted in a
+ * log-linear histogram: durations are grouped by their power of two, and each power of two
+ * is split in 32 buckets, so that a percentile is within about 3% of the exact value. The
+ * histogram is allocated with the watch, so recording a lap does not allocate.
+ * </p>
+ * <pre>
+ * LapStopWatch watch = LapStopWatch.createStarted();
+ * for (Request request : requests) {
+ *     handle(request);
+ *     watch.lap();
+ * }
+ * long p99 = watch.getPercentileNanoTime(99);
+ * </pre>
+ *
+ * <p>
+ * Time is measured with {@link System#nanoTime()}, and durations are in nanoseconds.
+ * </p>
+ *
+ * <p>This class is not thread-safe. To time code run by several threads, use a watch per
+ * thread, for example in a {@code ThreadLocal}, and {@link #merge(LapStopWatch) merge} them
+ * into another watch once they are no longer updated.</p>
+ *
+ * @since 3.6
+ */
+public class LapStopWatch {
+
+    /**
+     * The number of bits of a duration kept by the buckets, after its highest bit.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+    /**
+     * The number of buckets of each power of two.
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /**
+     * The number of buckets: the durations below {@link #SUB_BUCKET_COUNT} each have a bucket,
+     * then each power of two up to 2<sup>62</sup> has {@link #SUB_BUCKET_COUNT} buckets.
+     */
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    /**
+     * The number of laps in each bucket.
+     */
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private boolean running;
+    /**
+     * The start of the current lap, in nanoseconds.
+     */
+    private long lapStart;
+
+    /**
+     * Provides a started watch for convenience.
+     *
+     * @return a watch that's already been started
+     */
+    public static LapStopWatch createStarted() {
+        final LapStopWatch watch = new LapStopWatch();
+        watch.start();
+        return watch;
+    }
+
+    /**
+     * <p>
+     * Constructor.
+     * </p>
+     */
+    public LapStopWatch() {
+        super();
+    }
+
+    /**
+     * <p>
+     * Starts the watch, and the first lap.
+     * </p>
+     *
+     * @throws IllegalStateException
+     *             if the watch is already running.
+     */
+    public void start() {
+        if (running) {
+            throw new IllegalStateException("Stopwatch already started. ");
+        }
+        running = true;
+        lapStart = System.nanoTime();
+    }
+
+    /**
+     * <p>
+     * Ends the current lap, records it, and starts the next one.
+     * </p>
+     *
+     * @return the duration of the lap in nanoseconds
+     * @throws IllegalStateException
+     *             if the watch is not running.
+     */
+    public long lap() {
+        if (!running) {
+            throw new IllegalStateException("Stopwatch is not running. ");
+        }
+        final long now = System.nanoTime();
+        final long lap = now - lapStart;
+        lapStart = now;
+        record(lap);
+        return lap;
+    }
+
+    /**
+     * <p>
+     * Ends the current lap, records it, and stops the watch. The watch can be started again,
+     * recording more laps.
+     * </p>
+     *
+     * @return the duration of the lap in nanoseconds
+     * @throws IllegalStateException
+     *             if the watch is not running.
+     */
+    public long stop() {
+        final long lap = lap();
+        running = false;
+        return lap;
+    }
+
+    /**
+     * <p>
+     * Records a duration measured elsewhere, as a lap.
+     * </p>
+     *
+     * @param nanos
+     *            the duration in nanoseconds, not negative
+     * @throws IllegalArgumentException
+     *             if the duration is negative.
+     */
+    public void record(final long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Duration must not be negative: " + nanos);
+        }
+        counts[bucketOf(nanos)]++;
+        count++;
+        total += nanos;
+        if (nanos < min) {
+            min = nanos;
+        }
+        if (nanos > max) {
+            max = nanos;
+        }
+    }
+
+    /**
+     * <p>
+     * Adds the laps recorded by another watch to the laps of this watch.
+     * </p>
+     *
+     * @param other
+     *            the watch to merge, not null, not updated while it is merged
+     */
+    public void merge(final LapStopWatch other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        total += other.total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * <p>
+     * Stops the watch and forgets the recorded laps.
+     * </p>
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = 0;
+        }
+        count = 0;
+        total = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+        running = false;
+    }
+
+    /**
+     * <p>
+     * Returns whether the watch is running.
+     * </p>
+     *
+     * @return true if the watch is started and not stopped
+     */
+    public boolean isStarted() {
+        return running;
+    }
+
+    /**
+     * <p>
+     * Gets the number of recorded laps.
+     * </p>
+     *
+     * @return the number of laps
+     */
+    public long getLapCount() {
+        return count;
+    }
+
+    /**
+     * <p>
+     * Gets the total duration of the recorded laps.
+     * </p>
+     *
+     * @return the total duration in nanoseconds
+     */
+    public long getTotalNanoTime() {
+        return total;
+    }
+
+    /**
+     * <p>
+     * Gets the total duration of the recorded laps in the specified unit.
+     * </p>
+     *
+     * @param timeUnit
+     *            the unit of time, not null
+     * @return the total duration in the specified unit
+     */
+    public long getTotalTime(final TimeUnit timeUnit) {
+        return timeUnit.convert(total, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * <p>
+     * Gets the duration of the shortest recorded lap.
+     * </p>
+     *
+     * @return the shortest duration in nanoseconds, or 0 if no lap was recorded
+     */
+    public long getMinNanoTime() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * <p>
+     * Gets the duration of the longest recorded lap.
+     * </p>
+     *
+     * @return the longest duration in nanoseconds, or 0 if no lap was recorded
+     */
+    public long getMaxNanoTime() {
+        return max;
+    }
+
+    /**
+     * <p>
+     * Gets the mean duration of the recorded laps.
+     * </p>
+     *
+     * @return the mean duration in nanoseconds, or 0 if no lap was recorded
+     */
+    public double getMeanNanoTime() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * <p>
+     * Gets a percentile of the durations of the recorded laps, for example the median
+     * for 50. The result is the upper bound of the bucket of the percentile, within about
+     * 3% of the exact percentile, and always between the minimum and the maximum.
+     * </p>
+     *
+     * @param percentile
+     *            the percentile, from 0 to 100
+     * @return the percentile in nanoseconds, or 0 if no lap was recorded
+     * @throws IllegalArgumentException
+     *             if the percentile is not between 0 and 100.
+     */
+    public long getPercentileNanoTime(final double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        // the extremes are known exactly
+        if (rank == 1) {
+            return min;
+        }
+        if (rank >= count) {
+            return max;
+        }
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, upperBoundOf(i)));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the bucket of a duration.
+     *
+     * @param nanos the duration, not negative
+     * @return the index of its bucket
+     */
+    static int bucketOf(final long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        final int sub = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + sub;
+    }
+
+    /**
+     * Gets the largest duration of a bucket.
+     *
+     * @param bucket the index of the bucket
+     * @return the largest duration in the bucket
+     */
+    static long upperBoundOf(final int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        final int exponent = (bucket - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+        final long sub = (bucket - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        final long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + sub * width + width - 1;
+    }
+
+    /**
+     * <p>
+     * Gets a summary of the recorded laps.
+     * </p>
+     *
+     * @return the number of laps and the median, 99th percentile and maximum durations in nanoseconds
+     */
+    @Override
+    public String toString() {
+        return "laps=" + count + ", p50=" + getPercentileNanoTime(50) + "ns, p99=" + getPercentileNanoTime(99)
+            + "ns, max=" + max + "ns";
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * <p>Parses strings representing dates by trying a list of patterns in turn,
+ * like {@link DateUtils#parseDate(String, Locale, String...)} and
+ * {@link DateUtils#parseDateStrictly(String, Locale, String...)} do.</p>
+ *
+ * <p>The patterns are compiled once, when the parser is constructed, so parsing
+ * does no setup beyond getting a {@code Calendar}. Use a single instance for a
+ * fixed list of patterns:</p>
+ * <code>
+ *     private static final MultiPatternDateParser PARSER =
+ *         new MultiPatternDateParser(null, null, false, "yyyy-MM-dd", "yyyy-MM-dd'T'HH:mm:ss");
+ * </code>
+ *
+ * <p>A parse is only deemed successful if it parses the whole of the input string.
+ * If no parse patterns match, a ParseException is thrown.</p>
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @since 3.6
+ */
+public class MultiPatternDateParser {
+
+    /**
+     * The patterns, in the order they are tried.
+     */
+    private final String[] patterns;
+    /**
+     * The parsers of the patterns.
+     */
+    private final DateParser[] parsers;
+    private final TimeZone timeZone;
+    private final Locale locale;
+    private final boolean lenient;
+
+    /**
+     * <p>Constructs a new MultiPatternDateParser.</p>
+     *
+     * @param timeZone the time zone to parse dates in, null means the default time zone
+     * @param locale the locale whose date format symbols should be used, null means the default locale
+     * @param lenient whether or not date/time parsing is to be lenient, see {@link Calendar#isLenient()}
+     * @param patterns the date format patterns to use, see SimpleDateFormat, not null
+     * @throws IllegalArgumentException if the pattern array or one of its patterns is null, or a pattern is invalid
+     */
+    public MultiPatternDateParser(final TimeZone timeZone, final Locale locale, final boolean lenient,
+            final String... patterns) {
+        if (patterns == null) {
+            throw new IllegalArgumentException("Patterns must not be null");
+        }
+        this.timeZone = timeZone == null ? TimeZone.getDefault() : timeZone;
+        this.locale = locale == null ? Locale.getDefault() : locale;
+        this.lenient = lenient;
+        this.patterns = patterns.clone();
+        this.parsers = new DateParser[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            if (patterns[i] == null) {
+                throw new IllegalArgumentException("Patterns must not contain null");
+            }
+            parsers[i] = new FastDateParser(patterns[i], this.timeZone, this.locale);
+        }
+    }
+
+    /**
+     * <p>Parses a string representing a date, trying each pattern in turn.</p>
+     *
+     * @param str the date to parse, not null
+     * @return the parsed date
+     * @throws IllegalArgumentException if the date string is null
+     * @throws ParseException if none of the date patterns were suitable
+     */
+    public Date parse(final String str) throws ParseException {
+        if (str == null) {
+            throw new IllegalArgumentException("Date must not be null");
+        }
+        final ParsePosition pos = new ParsePosition(0);
+        final Calendar calendar = Calendar.getInstance(timeZone, locale);
+        calendar.setLenient(lenient);
+        for (final DateParser parser : parsers) {
+            final Date date = parseFully(parser, str, pos, calendar);
+            if (date != null) {
+                return date;
+            }
+        }
+        throw new ParseException("Unable to parse the date: " + str, -1);
+    }
+
+    /**
+     * <p>Parses the whole of a string with one parser.</p>
+     *
+     * @param parser the parser to use
+     * @param str the date to parse
+     * @param pos the position to use, reset before parsing
+     * @param calendar the calendar to set the parsed fields into, cleared before parsing
+     * @return the parsed date, or null if the string was not wholly parsed
+     */
+    static Date parseFully(final DateParser parser, final String str, final ParsePosition pos,
+            final Calendar calendar) {
+        pos.setIndex(0);
+        calendar.clear();
+        try {
+            if (parser.parse(str, pos, calendar) && pos.getIndex() == str.length()) {
+                return calendar.getTime();
+            }
+        } catch (final IllegalArgumentException ignore) {
+            // leniency is preventing calendar from being set
+        }
+        return null;
+    }
+
+    /**
+     * <p>Gets the patterns, in the order they are tried.</p>
+     *
+     * @return a copy of the patterns
+     */
+    public String[] getPatterns() {
+        return patterns.clone();
+    }
+
+    /**
+     * <p>Gets the time zone dates are parsed in.</p>
+     *
+     * @return the time zone
+     */
+    public TimeZone getTimeZone() {
+        return timeZone;
+    }
+
+    /**
+     * <p>Gets the locale whose date format symbols are used.</p>
+     *
+     * @return the locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * <p>Gets whether date/time parsing is lenient.</p>
+     *
+     * @return true if parsing is lenient
+     */
+    public boolean isLenient() {
+        return lenient;
+    }
+
+    /**
+     * <p>Gets a debugging string version of this parser.</p>
+     *
+     * @return a debugging string
+     */
+    @Override
+    public String toString() {
+        return "MultiPatternDateParser[" + Arrays.toString(patterns) + "," + locale + "," + timeZone.getID()
+            + (lenient ? ",lenient" : "") + "]";
+    }
+}
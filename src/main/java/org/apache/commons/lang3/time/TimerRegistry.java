@@ -0,0 +1,584 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.concurrent.StripedCounter;
+
+/**
+ * <p>
+ * <code>TimerRegistry</code> keeps named timers which many threads can update at once,
+ * such as the timers of the operations of a service.
+ * </p>
+ *
+ * <p>
+ * A {@link StopWatch} times one session and is not thread-safe. A registry gives each
+ * thread its own {@link Timing}, with the start, split and suspend methods of a StopWatch,
+ * and {@link Timing#stop() stopping} it adds its duration to the {@link Timer} of its name:
+ * </p>
+ * <pre>
+ * private static final TimerRegistry TIMERS = new TimerRegistry();
+ * ...
+ * final TimerRegistry.Timing timing = TIMERS.start("lookup");
+ * try {
+ *     return lookup(key);
+ * } finally {
+ *     timing.stop();
+ * }
+ * </pre>
+ *
+ * <p>
+ * Timers count their durations with {@link StripedCounter}s, so threads on different
+ * processors do not contend on the same variables, and no lock is taken to start, stop or
+ * read a timer. A {@link #snapshot()} can be taken while timings are recorded; each timer
+ * of the snapshot includes the timings stopped before it is read.
+ * </p>
+ *
+ * <p>
+ * Time is measured with {@link System#nanoTime()}, and durations are in nanoseconds.
+ * </p>
+ *
+ * <p>This class is thread-safe. {@link Timing}s are not, and are meant to be used by the
+ * thread which started them.</p>
+ *
+ * @since 3.6
+ */
+public class TimerRegistry {
+
+    /**
+     * The timers by name.
+     */
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * <p>
+     * Constructor.
+     * </p>
+     */
+    public TimerRegistry() {
+        super();
+    }
+
+    /**
+     * <p>
+     * Gets the timer of a name, creating it if needed.
+     * </p>
+     *
+     * @param name
+     *            the name of the timer, not null
+     * @return the timer
+     * @throws IllegalArgumentException
+     *             if the name is null.
+     */
+    public Timer getTimer(final String name) {
+        Validate.isTrue(name != null, "Timer name must not be null");
+        Timer timer = timers.get(name);
+        if (timer == null) {
+            final Timer created = new Timer(name);
+            timer = timers.putIfAbsent(name, created);
+            if (timer == null) {
+                timer = created;
+            }
+        }
+        return timer;
+    }
+
+    /**
+     * <p>
+     * Starts timing an operation with the timer of a name.
+     * </p>
+     *
+     * @param name
+     *            the name of the timer, not null
+     * @return the started timing
+     * @throws IllegalArgumentException
+     *             if the name is null.
+     */
+    public Timing start(final String name) {
+        return getTimer(name).start();
+    }
+
+    /**
+     * <p>
+     * Removes the timer of a name. Timings of the removed timer which are stopped later
+     * are not included in the timer of the name if it is created again.
+     * </p>
+     *
+     * @param name
+     *            the name of the timer
+     * @return the removed timer, or null if there was no timer of the name
+     */
+    public Timer remove(final String name) {
+        return name == null ? null : timers.remove(name);
+    }
+
+    /**
+     * <p>
+     * Resets all the timers, without removing them.
+     * </p>
+     */
+    public void reset() {
+        for (final Timer timer : timers.values()) {
+            timer.reset();
+        }
+    }
+
+    /**
+     * <p>
+     * Takes a snapshot of all the timers, without stopping the threads updating them.
+     * </p>
+     *
+     * @return an unmodifiable map of the snapshots of the timers, sorted by name
+     */
+    public SortedMap<String, Snapshot> snapshot() {
+        final SortedMap<String, Snapshot> snapshots = new TreeMap<>();
+        for (final Map.Entry<String, Timer> entry : timers.entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return Collections.unmodifiableSortedMap(snapshots);
+    }
+
+    /**
+     * <p>
+     * Gets a summary of the timers.
+     * </p>
+     *
+     * @return the snapshots of the timers
+     */
+    @Override
+    public String toString() {
+        return snapshot().values().toString();
+    }
+
+    /**
+     * <p>
+     * A named timer, accumulating the durations of the timings stopped with it.
+     * </p>
+     *
+     * <p>This class is thread-safe.</p>
+     */
+    public static final class Timer {
+
+        private final String name;
+        private final StripedCounter count = new StripedCounter();
+        private final StripedCounter total = new StripedCounter();
+        /**
+         * The longest duration; it rarely changes, so it is not striped.
+         */
+        private final AtomicLong max = new AtomicLong();
+
+        /**
+         * Constructs a timer.
+         *
+         * @param name the name of the timer
+         */
+        Timer(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * <p>
+         * Starts timing an operation with this timer.
+         * </p>
+         *
+         * @return the started timing
+         */
+        public Timing start() {
+            return new Timing(this);
+        }
+
+        /**
+         * <p>
+         * Records a duration measured elsewhere.
+         * </p>
+         *
+         * @param nanos
+         *            the duration in nanoseconds, not negative
+         * @throws IllegalArgumentException
+         *             if the duration is negative.
+         */
+        public void record(final long nanos) {
+            if (nanos < 0) {
+                throw new IllegalArgumentException("Duration must not be negative: " + nanos);
+            }
+            count.increment();
+            total.add(nanos);
+            long current = max.get();
+            while (nanos > current && !max.compareAndSet(current, nanos)) {
+                current = max.get();
+            }
+        }
+
+        /**
+         * <p>
+         * Forgets the recorded durations. Durations recorded while the timer is reset may
+         * be partly kept.
+         * </p>
+         */
+        public void reset() {
+            count.reset();
+            total.reset();
+            max.set(0);
+        }
+
+        /**
+         * <p>
+         * Gets the name of this timer.
+         * </p>
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * <p>
+         * Gets the number of recorded durations.
+         * </p>
+         *
+         * @return the number of durations
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * <p>
+         * Gets the total of the recorded durations.
+         * </p>
+         *
+         * @return the total duration in nanoseconds
+         */
+        public long getTotalNanoTime() {
+            return total.sum();
+        }
+
+        /**
+         * <p>
+         * Gets the longest recorded duration.
+         * </p>
+         *
+         * @return the longest duration in nanoseconds, or 0 if no duration was recorded
+         */
+        public long getMaxNanoTime() {
+            return max.get();
+        }
+
+        /**
+         * <p>
+         * Takes a snapshot of this timer, without stopping the threads updating it.
+         * </p>
+         *
+         * @return the snapshot
+         */
+        public Snapshot snapshot() {
+            return new Snapshot(name, count.sum(), total.sum(), max.get());
+        }
+
+        /**
+         * <p>
+         * Gets a summary of this timer.
+         * </p>
+         *
+         * @return the snapshot of this timer as a string
+         */
+        @Override
+        public String toString() {
+            return snapshot().toString();
+        }
+    }
+
+    /**
+     * <p>
+     * The timing of one operation, with the start, split and suspend semantics of a
+     * {@link StopWatch}. A timing is started when it is created, and adds its duration to
+     * its timer when it is stopped. The time while it is suspended is not included in the
+     * duration.
+     * </p>
+     *
+     * <p>This class is not thread-safe.</p>
+     */
+    public static final class Timing {
+
+        private final Timer timer;
+        /**
+         * The start time, moved forward by the time spent suspended.
+         */
+        private long startTime;
+        private long suspendTime;
+        private long splitNanos = -1;
+        private boolean suspended;
+        private boolean stopped;
+
+        /**
+         * Starts a timing.
+         *
+         * @param timer the timer to add the duration to
+         */
+        Timing(final Timer timer) {
+            this.timer = timer;
+            this.startTime = System.nanoTime();
+        }
+
+        /**
+         * <p>
+         * Stops this timing and adds its duration to its timer.
+         * </p>
+         *
+         * @return the duration in nanoseconds
+         * @throws IllegalStateException
+         *             if the timing is already stopped.
+         */
+        public long stop() {
+            if (stopped) {
+                throw new IllegalStateException("Stopwatch is not running. ");
+            }
+            final long nanos = getNanoTime();
+            stopped = true;
+            timer.record(nanos);
+            return nanos;
+        }
+
+        /**
+         * <p>
+         * Splits this timing: the time until now is kept as the split time, and the timing
+         * goes on.
+         * </p>
+         *
+         * @return the split time in nanoseconds
+         * @throws IllegalStateException
+         *             if the timing is stopped.
+         */
+        public long split() {
+            if (stopped) {
+                throw new IllegalStateException("Stopwatch is not running. ");
+            }
+            splitNanos = getNanoTime();
+            return splitNanos;
+        }
+
+        /**
+         * <p>
+         * Suspends this timing, until it is resumed.
+         * </p>
+         *
+         * @throws IllegalStateException
+         *             if the timing is not running.
+         */
+        public void suspend() {
+            if (stopped || suspended) {
+                throw new IllegalStateException("Stopwatch must be running to suspend. ");
+            }
+            suspendTime = System.nanoTime();
+            suspended = true;
+        }
+
+        /**
+         * <p>
+         * Resumes this timing after a suspend.
+         * </p>
+         *
+         * @throws IllegalStateException
+         *             if the timing is not suspended.
+         */
+        public void resume() {
+            if (stopped || !suspended) {
+                throw new IllegalStateException("Stopwatch must be suspended to resume. ");
+            }
+            startTime += System.nanoTime() - suspendTime;
+            suspended = false;
+        }
+
+        /**
+         * <p>
+         * Gets the time of this timing so far, excluding the time spent suspended.
+         * </p>
+         *
+         * @return the time in nanoseconds
+         */
+        public long getNanoTime() {
+            return (suspended ? suspendTime : System.nanoTime()) - startTime;
+        }
+
+        /**
+         * <p>
+         * Gets the split time.
+         * </p>
+         *
+         * @return the split time in nanoseconds
+         * @throws IllegalStateException
+         *             if the timing has not been split.
+         */
+        public long getSplitNanoTime() {
+            if (splitNanos < 0) {
+                throw new IllegalStateException("Stopwatch must be split to get the split time. ");
+            }
+            return splitNanos;
+        }
+
+        /**
+         * <p>
+         * Gets the timer of this timing.
+         * </p>
+         *
+         * @return the timer
+         */
+        public Timer getTimer() {
+            return timer;
+        }
+
+        /**
+         * <p>
+         * Returns whether this timing is suspended.
+         * </p>
+         *
+         * @return true if the timing is suspended
+         */
+        public boolean isSuspended() {
+            return suspended;
+        }
+
+        /**
+         * <p>
+         * Returns whether this timing is stopped.
+         * </p>
+         *
+         * @return true if the timing is stopped
+         */
+        public boolean isStopped() {
+            return stopped;
+        }
+    }
+
+    /**
+     * <p>
+     * The values of a timer at one point, immutable.
+     * </p>
+     */
+    public static final class Snapshot {
+
+        private final String name;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        /**
+         * Constructs a snapshot.
+         *
+         * @param name the name of the timer
+         * @param count the number of durations
+         * @param totalNanos the total duration in nanoseconds
+         * @param maxNanos the longest duration in nanoseconds
+         */
+        Snapshot(final String name, final long count, final long totalNanos, final long maxNanos) {
+            this.name = name;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * <p>
+         * Gets the name of the timer.
+         * </p>
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * <p>
+         * Gets the number of recorded durations.
+         * </p>
+         *
+         * @return the number of durations
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * <p>
+         * Gets the total of the recorded durations.
+         * </p>
+         *
+         * @return the total duration in nanoseconds
+         */
+        public long getTotalNanoTime() {
+            return totalNanos;
+        }
+
+        /**
+         * <p>
+         * Gets the total of the recorded durations in the specified unit.
+         * </p>
+         *
+         * @param timeUnit
+         *            the unit of time, not null
+         * @return the total duration in the specified unit
+         */
+        public long getTotalTime(final TimeUnit timeUnit) {
+            return timeUnit.convert(totalNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * <p>
+         * Gets the longest recorded duration.
+         * </p>
+         *
+         * @return the longest duration in nanoseconds, or 0 if no duration was recorded
+         */
+        public long getMaxNanoTime() {
+            return maxNanos;
+        }
+
+        /**
+         * <p>
+         * Gets the mean of the recorded durations.
+         * </p>
+         *
+         * @return the mean duration in nanoseconds, or 0 if no duration was recorded
+         */
+        public double getMeanNanoTime() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * <p>
+         * Gets a summary of the snapshot.
+         * </p>
+         *
+         * @return the name, the number of durations, and the mean and maximum durations
+         */
+        @Override
+        public String toString() {
+            return name + "[count=" + count + ", mean=" + (long) getMeanNanoTime() + "ns, max=" + maxNanos + "ns]";
+        }
+    }
+}
@@ -19,20 +19,27 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Random;
 
 import org.apache.commons.lang3.text.translate.CharSequenceTranslator;
 import org.apache.commons.lang3.text.translate.NumericEntityEscaper;
+import org.apache.commons.lang3.text.translate.NumericEntityUnescaper;
+import org.apache.commons.lang3.text.translate.UnicodeUnescaper;
 import org.junit.Test;
 
 /**
@@ -673,4 +680,123 @@ public void testUnescapeJson() {
 
         assertEquals(expected, StringEscapeUtils.unescapeJson(input));
     }
+
+    @Test
+    public void testEscapeNothingReturnsSameInstance() {
+        final String input = "Nothing to escape in this text, but its length 0123456789";
+        assertSame(input, StringEscapeUtils.escapeHtml4(input));
+        assertSame(input, StringEscapeUtils.escapeXml10(input));
+        assertSame(input, StringEscapeUtils.escapeXml11(input));
+        assertSame(input, StringEscapeUtils.escapeJava(input));
+        assertSame(input, StringEscapeUtils.escapeEcmaScript(input));
+        assertSame(input, StringEscapeUtils.escapeJson(input));
+        final String csv = "no special chars";
+        assertSame(csv, StringEscapeUtils.escapeCsv(csv));
+        assertSame("", StringEscapeUtils.escapeJava(""));
+    }
+
+    @Test
+    public void testEscapeBulkCopyMatchesPerCharTranslation() {
+        final CharSequenceTranslator[] escapers = {
+            StringEscapeUtils.ESCAPE_HTML4, StringEscapeUtils.ESCAPE_HTML3, StringEscapeUtils.ESCAPE_XML10,
+            StringEscapeUtils.ESCAPE_XML11, StringEscapeUtils.ESCAPE_JAVA, StringEscapeUtils.ESCAPE_JSON,
+            StringEscapeUtils.ESCAPE_ECMASCRIPT, StringEscapeUtils.ESCAPE_CSV};
+        final char[] alphabet = {'a', 'Z', ' ', '&', '<', '"', '\\', '/', '\'', ',', '\n', '\u0001', '\u0080',
+            '\u00e9', '\u2122', '\ufffe', '\ud83d', '\ude00'};
+        final Random random = new Random(42);
+        for (int n = 0; n < 2000; n++) {
+            final StringBuilder input = new StringBuilder();
+            final int length = random.nextInt(40);
+            for (int i = 0; i < length; i++) {
+                input.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            for (final CharSequenceTranslator escaper : escapers) {
+                // translating one position at a time, as translators without a scan do
+                final CharSequenceTranslator perChar = new CharSequenceTranslator() {
+                    @Override
+                    public int translate(final CharSequence in, final int index, final Writer out) throws IOException {
+                        return escaper.translate(in, index, out);
+                    }
+                };
+                final String expected = perChar.translate(input.toString());
+                assertEquals(input.toString(), expected, escaper.translate(input.toString()));
+                assertEquals(input.toString(), expected, escaper.translate(input));
+            }
+        }
+    }
+
+    @Test
+    public void testTranslateReaderMatchesInMemoryTranslation() throws IOException {
+        final CharSequenceTranslator[] translators = {
+            StringEscapeUtils.ESCAPE_HTML4, StringEscapeUtils.ESCAPE_XML10, StringEscapeUtils.ESCAPE_JAVA,
+            StringEscapeUtils.ESCAPE_JSON, StringEscapeUtils.ESCAPE_CSV, StringEscapeUtils.UNESCAPE_HTML4,
+            StringEscapeUtils.UNESCAPE_XML, StringEscapeUtils.UNESCAPE_JAVA, StringEscapeUtils.UNESCAPE_CSV};
+        final String[] tokens = {"a", "bc ", "&", "&amp;", "&eacute;", "&#233;", "&#x1F600;", "\\u00e9", "\\t",
+            "\\123", "\\\\", "\"", ",", "<p>", "\u00e9", "\ud83d\ude00", "\n"};
+        final Random random = new Random(7);
+        for (int n = 0; n < 20; n++) {
+            final StringBuilder builder = new StringBuilder();
+            // longer than the window, so that it slides over tokens
+            final int length = random.nextInt(40000);
+            while (builder.length() < length) {
+                builder.append(tokens[random.nextInt(tokens.length)]);
+            }
+            final String input = builder.toString();
+            for (final CharSequenceTranslator translator : translators) {
+                final StringWriter writer = new StringWriter();
+                translator.translateStream(new StringReader(input) {
+                    @Override
+                    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+                        // short reads
+                        return super.read(cbuf, off, Math.min(len, 1 + random.nextInt(5000)));
+                    }
+                }, writer);
+                assertEquals(translator.translate(input), writer.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testTranslateReaderEscapeAcrossWindow() throws IOException {
+        final String padding = StringUtils.repeat('x', 8190);
+        final String[] inputs = {
+            padding + "&#" + StringUtils.repeat('0', 40) + "65;",
+            padding + "\\" + StringUtils.repeat('u', 41) + "0041",
+            padding + "&#" + StringUtils.repeat('0', 20000) + "65;y",
+            StringUtils.repeat("&#" + StringUtils.repeat('0', 300) + "233;", 100)};
+        final CharSequenceTranslator[] translators = {
+            StringEscapeUtils.UNESCAPE_HTML4, StringEscapeUtils.UNESCAPE_JAVA, new NumericEntityUnescaper(),
+            new UnicodeUnescaper()};
+        for (final String input : inputs) {
+            for (final CharSequenceTranslator translator : translators) {
+                final StringWriter writer = new StringWriter();
+                translator.translateStream(new StringReader(input), writer);
+                assertEquals(translator.translate(input), writer.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testTranslateReaderIncompleteEscape() throws IOException {
+        final String input = StringUtils.repeat('x', 8190) + "\\" + StringUtils.repeat('u', 41) + "004";
+        try {
+            StringEscapeUtils.UNESCAPE_JAVA.translateStream(new StringReader(input), new StringWriter());
+            fail("IllegalArgumentException expected");
+        } catch (final IllegalArgumentException e) {
+            // expected, as from translate(CharSequence)
+        }
+    }
+
+    @Test
+    public void testTranslateReaderNulls() throws IOException {
+        final StringWriter writer = new StringWriter();
+        StringEscapeUtils.ESCAPE_JAVA.translateStream(null, writer);
+        assertEquals("", writer.toString());
+        try {
+            StringEscapeUtils.ESCAPE_JAVA.translateStream(new StringReader("a"), null);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            // expected
+        }
+    }
 }
@@ -1426,6 +1426,26 @@ public void testReplace_StringStringArrayStringArray() {
         }
     }
 
+    @Test
+    public void testReplaceEachLargeText() {
+        // long enough for the search strings to be compiled into an automaton
+        final String[] searchList = {"ab", "d", "cde", "e", null, "", "q", "rs"};
+        final String[] replacementList = {"w", "t", "x", "yy", "z", "z", "v", "u"};
+        final String text = StringUtils.repeat("abcde ", 1000);
+        assertEquals(StringUtils.repeat("wx ", 1000), StringUtils.replaceEach(text, searchList, replacementList));
+        assertEquals(StringUtils.repeat("wx ", 1000),
+                StringUtils.replaceEachRepeatedly(text, searchList, replacementList));
+        final String[] nothing = {"q", "r", "s", "t", "u", "v", "w", "x"};
+        assertSame(text, StringUtils.replaceEach(text, nothing, nothing));
+        try {
+            StringUtils.replaceEachRepeatedly(text, new String[]{"ab", "d", "q", "r", "s", "t", "u", "v"},
+                    new String[]{"d", "ab", "q", "r", "s", "t", "u", "v"});
+            fail("Should be a circular reference");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
+
     /**
      * Test method for 'StringUtils.replaceEachRepeatedly(String, String[], String[])'
      */
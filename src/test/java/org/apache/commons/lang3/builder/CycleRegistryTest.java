@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.builder.CycleRegistry}.
+ */
+public class CycleRegistryTest {
+
+    private static final int DEEP = CycleRegistry.INDEX_THRESHOLD * 3;
+
+    @Test
+    public void testIdentity() {
+        final CycleRegistry registry = CycleRegistry.identityRegistry();
+        final String a = "a";
+        final String b = new String(a);
+        assertTrue(registry.isEmpty());
+        registry.add(a);
+        assertTrue(registry.contains(a));
+        assertFalse(registry.contains(b));
+        registry.remove(b);
+        assertEquals(1, registry.size());
+        registry.remove(a);
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    public void testEquality() {
+        final CycleRegistry registry = CycleRegistry.equalityRegistry();
+        final String a = "a";
+        final String b = new String(a);
+        registry.add(a);
+        assertTrue(registry.contains(b));
+        assertFalse(registry.contains(null));
+        registry.remove(b);
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    public void testPairs() {
+        final CycleRegistry registry = CycleRegistry.identityRegistry();
+        final Object a = new Object();
+        final Object b = new Object();
+        registry.add(a, b);
+        assertTrue(registry.contains(a, b));
+        assertFalse(registry.contains(b, a));
+        assertFalse(registry.contains(a));
+        assertSame(a, registry.getLeft(0));
+        assertSame(b, registry.getRight(0));
+        registry.remove(a, b);
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    public void testSetSemantics() {
+        final CycleRegistry registry = CycleRegistry.identityRegistry();
+        final Object a = new Object();
+        final Object b = new Object();
+        registry.add(a);
+        registry.add(b);
+        registry.add(a);
+        assertEquals(2, registry.size());
+        // removing an entry which is not the last one keeps the order of the others
+        registry.remove(a);
+        assertEquals(1, registry.size());
+        assertSame(b, registry.getLeft(0));
+        assertFalse(registry.contains(a));
+        registry.remove(a);
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testDeep() {
+        for (final CycleRegistry registry : new CycleRegistry[] {CycleRegistry.identityRegistry(),
+                CycleRegistry.equalityRegistry()}) {
+            final Integer[] values = new Integer[DEEP];
+            for (int i = 0; i < DEEP; i++) {
+                values[i] = Integer.valueOf(i);
+                registry.add(values[i], null);
+            }
+            assertEquals(DEEP, registry.size());
+            for (int i = DEEP - 1; i >= 0; i--) {
+                for (int j = 0; j < DEEP; j++) {
+                    assertEquals(j <= i, registry.contains(values[j]));
+                }
+                registry.remove(values[i]);
+            }
+            assertTrue(registry.isEmpty());
+            // an emptied registry can be filled again
+            registry.add(values[0]);
+            registry.add(values[1]);
+            assertTrue(registry.contains(values[1]));
+            registry.remove(values[0]);
+            assertEquals(1, registry.size());
+            assertSame(values[1], registry.getLeft(0));
+            registry.remove(values[1]);
+            assertTrue(registry.isEmpty());
+        }
+    }
+
+    static class Node {
+        Node next;
+        int value;
+    }
+
+    @Test
+    public void testDeepCycleInBuilders() {
+        final Node head = new Node();
+        Node node = head;
+        for (int i = 1; i < DEEP; i++) {
+            node.next = new Node();
+            node = node.next;
+            node.value = i;
+        }
+        node.next = head;
+
+        assertTrue(EqualsBuilder.reflectionEquals(head, head));
+        assertNull(EqualsBuilder.getRegistry());
+        HashCodeBuilder.reflectionHashCode(head);
+        assertNull(HashCodeBuilder.getRegistry());
+        final String string = new ReflectionToStringBuilder(head, new RecursiveToStringStyle()).toString();
+        assertTrue(string.contains("value=" + (DEEP - 1)));
+        assertNull(ToStringStyle.getRegistry());
+    }
+
+    @Test
+    public void testThrowingTraversalInToStringBuilder() {
+        final Node node = new Node();
+        try {
+            new ReflectionToStringBuilder(node, new RecursiveToStringStyle()) {
+                @Override
+                protected Object getValue(final Field field) {
+                    throw new IllegalStateException(field.getName());
+                }
+            }.toString();
+            fail("IllegalStateException expected");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        assertNull(ToStringStyle.getRegistry());
+    }
+}
@@ -1316,5 +1316,83 @@ public void testReflectionAppend() {
         assertFalse(new EqualsBuilder().reflectionAppend(null, o2).build());
     }
 
-}
+    static class TestPrimitivesObject {
+        int i;
+        long l;
+        boolean z;
+        double d;
+        float f;
+        char c;
+        short s;
+        byte b;
+        String str;
+        int[] array;
+        transient int t;
+        @EqualsExclude
+        int excluded;
+    }
+
+    private static TestPrimitivesObject createPrimitivesObject() {
+        final TestPrimitivesObject o = new TestPrimitivesObject();
+        o.i = 1;
+        o.l = 2L;
+        o.z = true;
+        o.d = Double.NaN;
+        o.f = -0.0f;
+        o.c = 'c';
+        o.s = 3;
+        o.b = 4;
+        o.str = "str";
+        o.array = new int[] {5, 6};
+        o.t = 7;
+        o.excluded = 8;
+        return o;
+    }
+
+    private static boolean compiledEquals(final Object lhs, final Object rhs) {
+        return new EqualsBuilder().setCompiledReflection(true).reflectionAppend(lhs, rhs).isEquals();
+    }
 
+    @Test
+    public void testCompiledReflection() {
+        final TestPrimitivesObject o1 = createPrimitivesObject();
+        final TestPrimitivesObject o2 = createPrimitivesObject();
+        assertTrue(compiledEquals(o1, o2));
+        o2.t = 0;
+        o2.excluded = 0;
+        assertTrue(compiledEquals(o1, o2));
+        assertFalse(new EqualsBuilder().setCompiledReflection(true).setTestTransients(true)
+                .reflectionAppend(o1, o2).isEquals());
+
+        o2.f = 0.0f;
+        assertFalse(compiledEquals(o1, o2));
+        assertEquals(EqualsBuilder.reflectionEquals(o1, o2), compiledEquals(o1, o2));
+        o2.f = o1.f;
+        o2.array = new int[] {5, 7};
+        assertFalse(compiledEquals(o1, o2));
+        o2.array = o1.array;
+        o2.z = false;
+        assertFalse(compiledEquals(o1, o2));
+        o2.z = true;
+        o2.str = null;
+        assertFalse(compiledEquals(o1, o2));
+        assertFalse(compiledEquals(o1, null));
+        assertFalse(compiledEquals(o1, this));
+    }
+
+    @Test
+    public void testCompiledReflectionHierarchy() {
+        final TestObject to = new TestObject(4);
+        final TestSubObject tso = new TestSubObject(4, 5);
+        final TestEmptySubObject teso = new TestEmptySubObject(4);
+        assertTrue(compiledEquals(to, teso));
+        assertTrue(compiledEquals(teso, to));
+        // the sub class declares fields the other object lacks
+        assertFalse(compiledEquals(to, tso));
+        assertFalse(compiledEquals(tso, to));
+        assertTrue(compiledEquals(tso, new TestSubObject(4, 5)));
+        assertTrue(new EqualsBuilder().setCompiledReflection(true).setReflectUpToClass(TestObject.class)
+                .setExcludeFields("b").reflectionAppend(tso, new TestSubObject(4, 6)).isEquals());
+    }
+
+}
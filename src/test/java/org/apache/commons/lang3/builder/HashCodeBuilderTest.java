@@ -610,4 +610,38 @@ public void testToHashCodeExclude() {
         assertEquals(17, HashCodeBuilder.reflectionHashCode(two));
     }
 
+    static class TestPrimitivesObject {
+        int i = -1;
+        long l = Long.MIN_VALUE;
+        boolean z = true;
+        boolean y = false;
+        double d = -0.0d;
+        float f = Float.NaN;
+        char c = 'c';
+        short s = Short.MAX_VALUE;
+        byte b = Byte.MIN_VALUE;
+        String str = "str";
+        long[] array = {1L, 2L};
+        Object nil;
+        transient int t = 3;
+        @HashCodeExclude
+        int excluded = 4;
+    }
+
+    @Test
+    public void testReflectionHashCodeCompiled() {
+        final TestPrimitivesObject object = new TestPrimitivesObject();
+        assertEquals(HashCodeBuilder.reflectionHashCode(17, 37, object, false, null),
+                HashCodeBuilder.reflectionHashCode(17, 37, object, false, null, true));
+        assertEquals(HashCodeBuilder.reflectionHashCode(17, 37, object, true, null),
+                HashCodeBuilder.reflectionHashCode(17, 37, object, true, null, true));
+        assertEquals(HashCodeBuilder.reflectionHashCode(17, 37, object, false, null, "str", "l"),
+                HashCodeBuilder.reflectionHashCode(17, 37, object, false, null, true, "str", "l"));
+        final TestSubObject sub = new TestSubObject(1, 2, 3);
+        assertEquals(HashCodeBuilder.reflectionHashCode(17, 37, sub, false, TestObject.class),
+                HashCodeBuilder.reflectionHashCode(17, 37, sub, false, TestObject.class, true));
+        assertEquals(HashCodeBuilder.reflectionHashCode(sub),
+                HashCodeBuilder.reflectionHashCode(17, 37, sub, false, null, true));
+    }
+
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.builder.ReflectionFieldCache}.
+ */
+public class ReflectionFieldCacheTest {
+
+    static class Parent {
+        static int counter;
+        int parentValue;
+        transient int parentCache;
+    }
+
+    static class Child extends Parent {
+        int childValue;
+        @EqualsExclude
+        int notForEquals;
+        String name;
+    }
+
+    private static String[] names(final Field[] fields) {
+        final String[] names = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            names[i] = fields[i].getName();
+        }
+        return names;
+    }
+
+    @Test
+    public void testDeclaredFieldsAreAccessibleAndShared() {
+        final Field[] fields = ReflectionFieldCache.getDeclaredFields(Child.class);
+        assertSame(fields, ReflectionFieldCache.getDeclaredFields(Child.class));
+        for (final Field field : fields) {
+            assertTrue(field.isAccessible());
+        }
+    }
+
+    @Test
+    public void testHierarchyOrder() {
+        final Field[] fields = ReflectionFieldCache.getFields(Child.class, null, false, false, null, null);
+        assertArrayEquals(new String[] {"childValue", "notForEquals", "name", "parentValue"}, names(fields));
+    }
+
+    @Test
+    public void testTransientsAndStatics() {
+        assertArrayEquals(new String[] {"parentValue", "parentCache"},
+                names(ReflectionFieldCache.getFields(Parent.class, null, true, false, null, null)));
+        assertArrayEquals(new String[] {"counter", "parentValue"},
+                names(ReflectionFieldCache.getFields(Parent.class, null, false, true, null, null)));
+    }
+
+    @Test
+    public void testUpToClass() {
+        assertArrayEquals(new String[] {"childValue", "notForEquals", "name"},
+                names(ReflectionFieldCache.getFields(Child.class, Child.class, false, false, null, null)));
+        // a class outside of the hierarchy is ignored
+        assertEquals(4, ReflectionFieldCache.getFields(Child.class, String.class, false, false, null, null).length);
+    }
+
+    @Test
+    public void testExcludes() {
+        final String[] excludes = {"name", "parentValue"};
+        final Field[] fields = ReflectionFieldCache.getFields(Child.class, null, false, false, excludes, EqualsExclude.class);
+        assertArrayEquals(new String[] {"childValue"}, names(fields));
+        assertSame(fields, ReflectionFieldCache.getFields(Child.class, null, false, false,
+                new String[] {"name", "parentValue"}, EqualsExclude.class));
+
+        // changing the caller's array must not corrupt the cache
+        excludes[0] = "childValue";
+        assertArrayEquals(new String[] {"childValue"}, names(ReflectionFieldCache.getFields(Child.class, null, false,
+                false, new String[] {"name", "parentValue"}, EqualsExclude.class)));
+        assertArrayEquals(new String[] {"name"}, names(ReflectionFieldCache.getFields(Child.class, null, false,
+                false, excludes, EqualsExclude.class)));
+    }
+
+    static class ManyFilters {
+        int value;
+    }
+
+    @Test
+    public void testUncachedFilters() {
+        FieldAccessor[] accessors = null;
+        for (int i = 0; i < 100 && (i == 0 || accessors != null); i++) {
+            final String[] excludes = {"excluded" + i};
+            final Field[] fields = ReflectionFieldCache.getFields(ManyFilters.class, null, false, false, excludes, null);
+            assertArrayEquals(new String[] {"value"}, names(fields));
+            accessors = ReflectionFieldCache.getAccessors(ManyFilters.class, null, false, false, excludes, null);
+        }
+        // once the filters of a class are no longer cached, accessors are not compiled on each call
+        assertNull(accessors);
+        assertNotNull(ReflectionFieldCache.getAccessors(ManyFilters.class, null, false, false,
+                new String[] {"excluded0"}, null));
+        final ManyFilters lhs = new ManyFilters();
+        final ManyFilters rhs = new ManyFilters();
+        assertTrue(new EqualsBuilder().setCompiledReflection(true).setExcludeFields("other")
+                .reflectionAppend(lhs, rhs).isEquals());
+    }
+
+    @Test
+    public void testBuildersAgreeWithCache() {
+        final Child lhs = new Child();
+        lhs.childValue = 1;
+        lhs.notForEquals = 2;
+        lhs.name = "name";
+        final Child rhs = new Child();
+        rhs.childValue = 1;
+        rhs.notForEquals = 3;
+        rhs.name = "name";
+        for (int i = 0; i < 3; i++) {
+            assertTrue(EqualsBuilder.reflectionEquals(lhs, rhs));
+            assertEquals(0, CompareToBuilder.reflectionCompare(lhs, rhs, "notForEquals"));
+            assertEquals(HashCodeBuilder.reflectionHashCode(lhs, "notForEquals"),
+                    HashCodeBuilder.reflectionHashCode(rhs, "notForEquals"));
+        }
+    }
+}
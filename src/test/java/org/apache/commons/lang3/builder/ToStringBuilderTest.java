@@ -19,8 +19,11 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeFalse;
 
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -1066,4 +1069,98 @@ public void testAppendToStringUsingMultiLineStyle() {
         assertEquals(testBuilder.toString().indexOf("testInt=31337"), -1);
     }
 
+
+    private ToStringBuilder appendValues(final ToStringBuilder builder) {
+        for (int i = 0; i < 200; i++) {
+            builder.append("field" + i, i).append("array" + i, new int[] {i, i + 1});
+        }
+        return builder.append("text", "value").appendSuper("Integer@8888[x=1]").append("none", (Object) null);
+    }
+
+    @Test
+    public void testAppendable() {
+        for (final ToStringStyle style : new ToStringStyle[] {ToStringStyle.DEFAULT_STYLE,
+                ToStringStyle.MULTI_LINE_STYLE, ToStringStyle.NO_FIELD_NAMES_STYLE, ToStringStyle.SHORT_PREFIX_STYLE,
+                ToStringStyle.SIMPLE_STYLE, ToStringStyle.NO_CLASS_NAME_STYLE, ToStringStyle.JSON_STYLE,
+                new MultilineRecursiveToStringStyle(), new StandardToStringStyle()}) {
+            final String expected = appendValues(new ToStringBuilder(base, style)).toString();
+            final StringBuilder sb = new StringBuilder("prefix:");
+            final ToStringBuilder builder = appendValues(new ToStringBuilder(base, style, sb));
+            assertSame(sb, builder.getAppendable());
+            assertTrue(builder.getStringBuffer().length() < expected.length());
+            assertSame(sb, builder.toAppendable());
+            assertEquals("prefix:" + expected, sb.toString());
+        }
+    }
+
+    @Test
+    public void testAppendableToString() {
+        final StringBuilder sb = new StringBuilder("prefix:");
+        final String expected = new ToStringBuilder(base).append("a", 1).toString();
+        final ToStringBuilder builder = new ToStringBuilder(base, null, sb).append("a", 1);
+        assertEquals(expected, builder.toString());
+        assertEquals("prefix:" + expected, sb.toString());
+        // the output is only completed once
+        assertEquals(expected, builder.toString());
+        assertSame(sb, builder.toAppendable());
+        assertEquals("prefix:" + expected, sb.toString());
+    }
+
+    @Test
+    public void testReflectionAppendableToString() {
+        final ReflectionTestFixtureA fixture = new ReflectionTestFixtureA();
+        final StringBuilder sb = new StringBuilder("prefix:");
+        final ReflectionToStringBuilder builder = new ReflectionToStringBuilder(fixture, null, sb);
+        final String expected = ReflectionToStringBuilder.toString(fixture);
+        assertEquals(expected, builder.toString());
+        assertEquals(expected, builder.toString());
+        assertEquals("prefix:" + expected, sb.toString());
+    }
+
+    @Test
+    public void testWriterToString() {
+        final StringWriter writer = new StringWriter();
+        final ToStringBuilder builder = new ToStringBuilder(base, null, writer).append("a", 1);
+        try {
+            builder.toString();
+            fail("IllegalStateException expected");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        assertSame(writer, builder.toAppendable());
+        assertEquals(new ToStringBuilder(base).append("a", 1).toString(), writer.toString());
+    }
+
+    @Test
+    public void testAppendableNullObject() {
+        final StringBuilder sb = new StringBuilder();
+        new ToStringBuilder(null, null, sb).toAppendable();
+        assertEquals("<null>", sb.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAppendableNull() {
+        new ToStringBuilder(base, null, (Appendable) null);
+    }
+
+    @Test
+    public void testToAppendableWithoutAppendable() {
+        final ToStringBuilder builder = new ToStringBuilder(base);
+        try {
+            builder.toAppendable();
+            fail("IllegalStateException expected");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        assertEquals(baseStr + "[]", builder.toString());
+    }
+
+    @Test
+    public void testReflectionAppendable() {
+        final ReflectionTestFixtureA fixture = new ReflectionTestFixtureA();
+        final StringBuilder sb = new StringBuilder();
+        new ReflectionToStringBuilder(fixture, ToStringStyle.MULTI_LINE_STYLE, sb).toAppendable();
+        assertEquals(ReflectionToStringBuilder.toString(fixture, ToStringStyle.MULTI_LINE_STYLE), sb.toString());
+    }
+
 }
@@ -17,6 +17,10 @@
 package org.apache.commons.lang3.builder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -115,6 +119,80 @@ public void testSetSummaryObjectEndText() {
         assertEquals("", style.getSummaryObjectEndText());
     }
 
+    private static class StringBufferOnlyStyle extends ToStringStyle {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void appendDetail(final StringBuffer buffer, final String fieldName, final int value) {
+            buffer.append('#').append(value);
+        }
+    }
+
+    private static class BothBuffersStyle extends RecursiveToStringStyle {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void appendDetail(final StringBuffer buffer, final String fieldName, final int value) {
+            buffer.append('#').append(value);
+        }
+
+        @Override
+        protected void appendDetail(final StringBuilder buffer, final String fieldName, final int value) {
+            buffer.append('#').append(value);
+        }
+    }
+
+    @Test
+    public void testStringBuilderSupported() {
+        assertTrue(ToStringStyle.DEFAULT_STYLE.isStringBuilderSupported());
+        assertTrue(ToStringStyle.JSON_STYLE.isStringBuilderSupported());
+        assertTrue(new StandardToStringStyle().isStringBuilderSupported());
+        assertTrue(new MultilineRecursiveToStringStyle().isStringBuilderSupported());
+        assertTrue(new ToStringStyleImpl().isStringBuilderSupported());
+        assertTrue(new BothBuffersStyle().isStringBuilderSupported());
+        assertFalse(new StringBufferOnlyStyle().isStringBuilderSupported());
+    }
+
+    @Test
+    public void testStringBufferOnlySubclass() {
+        final Person p = new Person();
+        p.name = "Jane Q. Public";
+        p.age = 47;
+        final ToStringBuilder builder = new ToStringBuilder(p, new StringBufferOnlyStyle());
+        assertNull(builder.getStringBuilder());
+        assertTrue(builder.append("age", p.age).toString().endsWith("[age=#47]"));
+        assertTrue(new ToStringBuilder(p, new BothBuffersStyle()).append("age", p.age).toString()
+                .endsWith("[age=#47]"));
+        assertTrue(new ToStringBuilder(p, new StringBufferOnlyStyle()).append("ages", new int[] {1, 2}).toString()
+                .endsWith("[ages={#1,#2}]"));
+    }
+
+    @Test
+    public void testStringBufferMethods() {
+        final StringBuffer buffer = new StringBuffer("x");
+        final ToStringStyle style = ToStringStyle.SHORT_PREFIX_STYLE;
+        style.appendStart(buffer, Integer.valueOf(1));
+        style.append(buffer, "a", 1);
+        style.append(buffer, "b", new long[] {2, 3}, null);
+        style.appendEnd(buffer, Integer.valueOf(1));
+        assertEquals("xInteger[a=1,b={2,3}]", buffer.toString());
+    }
+
+    @Test
+    public void testGetStringBufferSwitchesBuffer() {
+        final Person p = new Person();
+        final ToStringBuilder builder = new ToStringBuilder(p, ToStringStyle.SHORT_PREFIX_STYLE);
+        assertNotNull(builder.getStringBuilder());
+        builder.append("age", 1);
+        final StringBuffer buffer = builder.getStringBuffer();
+        assertNull(builder.getStringBuilder());
+        buffer.append("x=y,");
+        builder.append("smoker", true);
+        final String string = builder.toString();
+        assertEquals("ToStringStyleTest.Person[age=1,x=y,smoker=true]", string);
+        assertEquals(string, buffer.toString());
+    }
+
     /**
      * An object used to test {@link ToStringStyle}.
      * 
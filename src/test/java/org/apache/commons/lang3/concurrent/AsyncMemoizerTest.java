@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.concurrent.AsyncMemoizer}.
+ */
+public class AsyncMemoizerTest {
+
+    @Test
+    public void testComputeDoesNotBlock() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final AsyncMemoizer<Integer, Integer> memoizer = new AsyncMemoizer<>(new Computable<Integer, Integer>() {
+                @Override
+                public Integer compute(final Integer arg) throws InterruptedException {
+                    calls.incrementAndGet();
+                    release.await();
+                    return arg * 2;
+                }
+            }, executor);
+            final ListenableFutureTask<Integer> first = memoizer.compute(21);
+            final ListenableFutureTask<Integer> second = memoizer.compute(21);
+            assertSame(first, second);
+            assertFalse(first.isDone());
+            final ListenableFutureTask<String> chained = first.then(new Computable<Integer, String>() {
+                @Override
+                public String compute(final Integer arg) {
+                    return "=" + arg;
+                }
+            }, ListenableFutureTask.DIRECT_EXECUTOR);
+            release.countDown();
+            assertEquals(Integer.valueOf(42), first.get(1, TimeUnit.SECONDS));
+            assertEquals("=42", chained.get(1, TimeUnit.SECONDS));
+            assertSame(first, memoizer.compute(21));
+            assertEquals(1, calls.get());
+            assertEquals(1, memoizer.size());
+            memoizer.invalidate(21);
+            assertNotSame(first, memoizer.compute(21));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedComputationIsEvicted() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final AsyncMemoizer<Integer, Integer> memoizer = new AsyncMemoizer<>(new Computable<Integer, Integer>() {
+            @Override
+            public Integer compute(final Integer arg) {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IllegalStateException("first");
+                }
+                return arg;
+            }
+        }, ListenableFutureTask.DIRECT_EXECUTOR);
+        final ListenableFutureTask<Integer> failed = memoizer.compute(1);
+        try {
+            failed.get();
+            fail();
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(0, memoizer.size());
+        assertEquals(Integer.valueOf(1), memoizer.compute(1).get());
+        assertEquals(1, memoizer.size());
+    }
+
+    @Test
+    public void testCancelledComputationIsEvicted() {
+        final AsyncMemoizer<Integer, Integer> memoizer = new AsyncMemoizer<>(new Computable<Integer, Integer>() {
+            @Override
+            public Integer compute(final Integer arg) {
+                return arg;
+            }
+        }, new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                // never run
+            }
+        });
+        final ListenableFutureTask<Integer> task = memoizer.compute(1);
+        assertSame(task, memoizer.compute(1));
+        task.cancel(false);
+        assertNotSame(task, memoizer.compute(1));
+    }
+
+    @Test
+    public void testRejectedComputation() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        final AsyncMemoizer<Integer, Integer> memoizer = new AsyncMemoizer<>(new Computable<Integer, Integer>() {
+            @Override
+            public Integer compute(final Integer arg) {
+                return arg;
+            }
+        }, executor);
+        try {
+            memoizer.compute(1);
+            fail();
+        } catch (final RejectedExecutionException e) {
+            assertEquals(0, memoizer.size());
+        }
+    }
+
+    @Test
+    public void testRejectedComputationCompletesSharedTask() throws Exception {
+        final AtomicReference<ListenableFutureTask<Integer>> shared = new AtomicReference<>();
+        final AtomicReference<AsyncMemoizer<Integer, Integer>> memoizer = new AtomicReference<>();
+        memoizer.set(new AsyncMemoizer<>(new Computable<Integer, Integer>() {
+            @Override
+            public Integer compute(final Integer arg) {
+                return arg;
+            }
+        }, new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                // a second caller finds the cached task before it is rejected
+                shared.set(memoizer.get().compute(1));
+                throw new RejectedExecutionException("full");
+            }
+        }));
+        try {
+            memoizer.get().compute(1);
+            fail();
+        } catch (final RejectedExecutionException e) {
+            assertEquals(0, memoizer.get().size());
+        }
+        final ListenableFutureTask<Integer> task = shared.get();
+        assertTrue(task.isDone());
+        try {
+            task.get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullComputable() {
+        new AsyncMemoizer<Integer, Integer>(null, ListenableFutureTask.DIRECT_EXECUTOR);
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.concurrent.BoundedMemoizer}.
+ */
+public class BoundedMemoizerTest {
+
+    /**
+     * Counts the calls by argument, returning the argument plus the number of calls.
+     */
+    private static class CountingComputable implements Computable<Integer, Integer> {
+        private final AtomicInteger[] calls = new AtomicInteger[1000];
+
+        CountingComputable() {
+            for (int i = 0; i < calls.length; i++) {
+                calls[i] = new AtomicInteger();
+            }
+        }
+
+        @Override
+        public Integer compute(final Integer arg) {
+            return arg + calls[arg].incrementAndGet();
+        }
+
+        int getCalls(final int arg) {
+            return calls[arg].get();
+        }
+    }
+
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(final Runnable command) {
+            command.run();
+        }
+    };
+
+    @Test
+    public void testComputesOnce() throws Exception {
+        final CountingComputable computable = new CountingComputable();
+        final BoundedMemoizer<Integer, Integer> memoizer =
+            new BoundedMemoizer.Builder<Integer, Integer>().computable(computable).build();
+        assertEquals(Integer.valueOf(2), memoizer.compute(1));
+        assertEquals(Integer.valueOf(2), memoizer.compute(1));
+        assertEquals(1, computable.getCalls(1));
+        assertEquals(1, memoizer.size());
+        memoizer.invalidate(1);
+        assertEquals(Integer.valueOf(3), memoizer.compute(1));
+        memoizer.invalidateAll();
+        assertEquals(0, memoizer.size());
+    }
+
+    @Test
+    public void testMaximumSizeKeepsUsedResults() throws Exception {
+        final CountingComputable computable = new CountingComputable();
+        final BoundedMemoizer<Integer, Integer> memoizer =
+            new BoundedMemoizer.Builder<Integer, Integer>().computable(computable).maximumSize(10).build();
+        memoizer.compute(0);
+        for (int i = 1; i < 1000; i++) {
+            memoizer.compute(i);
+            memoizer.compute(0);
+            assertTrue(memoizer.size() <= 10);
+        }
+        assertEquals(1, computable.getCalls(0));
+        assertEquals(990, memoizer.getEvictionCount());
+    }
+
+    @Test
+    public void testExpireAfterWrite() throws Exception {
+        final CountingComputable computable = new CountingComputable();
+        final BoundedMemoizer<Integer, Integer> memoizer = new BoundedMemoizer.Builder<Integer, Integer>()
+            .computable(computable).expireAfterWrite(50, TimeUnit.MILLISECONDS).build();
+        assertEquals(Integer.valueOf(1), memoizer.compute(0));
+        assertEquals(Integer.valueOf(1), memoizer.compute(0));
+        Thread.sleep(100);
+        assertEquals(Integer.valueOf(2), memoizer.compute(0));
+    }
+
+    @Test
+    public void testExpireAfterAccess() throws Exception {
+        final CountingComputable computable = new CountingComputable();
+        final BoundedMemoizer<Integer, Integer> memoizer = new BoundedMemoizer.Builder<Integer, Integer>()
+            .computable(computable).expireAfterAccess(200, TimeUnit.MILLISECONDS).build();
+        assertEquals(Integer.valueOf(1), memoizer.compute(0));
+        for (int i = 0; i < 6; i++) {
+            Thread.sleep(50);
+            assertEquals(Integer.valueOf(1), memoizer.compute(0));
+        }
+        Thread.sleep(300);
+        assertEquals(Integer.valueOf(2), memoizer.compute(0));
+    }
+
+    @Test
+    public void testExpiryStartsWhenComputed() throws Exception {
+        final CountingComputable counting = new CountingComputable();
+        final BoundedMemoizer<Integer, Integer> memoizer = new BoundedMemoizer.Builder<Integer, Integer>()
+            .computable(new Computable<Integer, Integer>() {
+                @Override
+                public Integer compute(final Integer arg) throws InterruptedException {
+                    Thread.sleep(300);
+                    return counting.compute(arg);
+                }
+            }).expireAfterWrite(200, TimeUnit.MILLISECONDS).expireAfterAccess(200, TimeUnit.MILLISECONDS).build();
+        assertEquals(Integer.valueOf(1), memoizer.compute(0));
+        assertEquals(Integer.valueOf(1), memoizer.compute(0));
+        assertEquals(1, counting.getCalls(0));
+    }
+
+    @Test
+    public void testRefreshAfterWrite() throws Exception {
+        final CountingComputable computable = new CountingComputable();
+        final BoundedMemoizer<Integer, Integer> memoizer = new BoundedMemoizer.Builder<Integer, Integer>()
+            .computable(computable).refreshAfterWrite(50, TimeUnit.MILLISECONDS, DIRECT).build();
+        assertEquals(Integer.valueOf(1), memoizer.compute(0));
+        Thread.sleep(100);
+        // the current result is returned while it is refreshed
+        assertEquals(Integer.valueOf(1), memoizer.compute(0));
+        assertEquals(2, computable.getCalls(0));
+        assertEquals(Integer.valueOf(2), memoizer.compute(0));
+        assertEquals(2, computable.getCalls(0));
+    }
+
+    @Test
+    public void testFailedRefreshKeepsResult() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final BoundedMemoizer<Integer, Integer> memoizer = new BoundedMemoizer.Builder<Integer, Integer>()
+            .computable(new Computable<Integer, Integer>() {
+                @Override
+                public Integer compute(final Integer arg) {
+                    if (calls.incrementAndGet() > 1) {
+                        throw new IllegalArgumentException();
+                    }
+                    return arg;
+                }
+            }).refreshAfterWrite(1, TimeUnit.MILLISECONDS, DIRECT).build();
+        assertEquals(Integer.valueOf(5), memoizer.compute(5));
+        Thread.sleep(10);
+        assertEquals(Integer.valueOf(5), memoizer.compute(5));
+        assertEquals(Integer.valueOf(5), memoizer.compute(5));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testRecalculate() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Computable<Integer, Integer> failingOnce = new Computable<Integer, Integer>() {
+            @Override
+            public Integer compute(final Integer arg) {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IllegalArgumentException();
+                }
+                return arg;
+            }
+        };
+        final BoundedMemoizer<Integer, Integer> cached =
+            new BoundedMemoizer.Builder<Integer, Integer>().computable(failingOnce).build();
+        for (int i = 0; i < 2; i++) {
+            try {
+                cached.compute(1);
+                fail();
+            } catch (final IllegalArgumentException e) {
+                // expected
+            }
+        }
+        calls.set(0);
+        final BoundedMemoizer<Integer, Integer> recalculated =
+            new BoundedMemoizer.Builder<Integer, Integer>().computable(failingOnce).recalculate(true).build();
+        try {
+            recalculated.compute(1);
+            fail();
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(Integer.valueOf(1), recalculated.compute(1));
+    }
+
+    @Test
+    public void testConcurrentCallsShareComputation() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final BoundedMemoizer<Integer, Integer> memoizer = new BoundedMemoizer.Builder<Integer, Integer>()
+            .computable(new Computable<Integer, Integer>() {
+                @Override
+                public Integer compute(final Integer arg) throws InterruptedException {
+                    calls.incrementAndGet();
+                    release.await();
+                    return arg;
+                }
+            }).maximumSize(4).expireAfterWrite(1, TimeUnit.MINUTES).build();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws InterruptedException {
+                        return memoizer.compute(7);
+                    }
+                });
+            }
+            Thread.sleep(50);
+            release.countDown();
+            for (final Future<?> future : futures) {
+                assertEquals(Integer.valueOf(7), future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testBuildWithoutComputable() {
+        new BoundedMemoizer.Builder<Integer, Integer>().maximumSize(1).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaximumSize() {
+        new BoundedMemoizer.Builder<Integer, Integer>().maximumSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidExpiry() {
+        new BoundedMemoizer.Builder<Integer, Integer>().expireAfterWrite(-1, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullRefreshExecutor() {
+        new BoundedMemoizer.Builder<Integer, Integer>().refreshAfterWrite(1, TimeUnit.SECONDS, null);
+    }
+}
@@ -321,6 +321,136 @@ public void testChangeEventsGeneratedByAutomaticTransitions() {
         listener.verify(Boolean.TRUE, Boolean.FALSE);
     }
 
+    /**
+     * Tests that the striped mode is only used if requested.
+     */
+    @Test
+    public void testStriped() {
+        assertFalse("Striped", new EventCountCircuitBreaker(OPENING_THRESHOLD, 1, TimeUnit.SECONDS).isStriped());
+        assertTrue("Not striped", new EventCountCircuitBreaker(OPENING_THRESHOLD, 1, TimeUnit.SECONDS,
+                CLOSING_THRESHOLD, 1, TimeUnit.SECONDS, true).isStriped());
+    }
+
+    /**
+     * Tests that the circuit breaker in striped mode stays closed if there are a number of
+     * received events, but not in a single check interval.
+     */
+    @Test
+    public void testStripedNotOpeningCheckIntervalExceeded() {
+        long startTime = 0L;
+        final long timeIncrement = 3 * NANO_FACTOR / (2 * OPENING_THRESHOLD);
+        final EventCountCircuitBreakerTestImpl breaker = new EventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 1,
+                TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS, true);
+        for (int i = 0; i < 5 * OPENING_THRESHOLD; i++) {
+            assertTrue("In open state", breaker.at(startTime).incrementAndCheckState());
+            startTime += timeIncrement;
+        }
+        assertTrue("Not closed", breaker.isClosed());
+    }
+
+    /**
+     * Tests that the circuit breaker in striped mode opens when the threshold is exceeded,
+     * and not before.
+     */
+    @Test
+    public void testStripedOpeningWhenThresholdReached() {
+        long startTime = 0;
+        final long timeIncrement = NANO_FACTOR / OPENING_THRESHOLD - 1;
+        final EventCountCircuitBreakerTestImpl breaker = new EventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 1,
+                TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS, true);
+        for (int i = 0; i < OPENING_THRESHOLD; i++) {
+            assertTrue("Open before threshold", breaker.at(startTime).incrementAndCheckState());
+            startTime += timeIncrement;
+        }
+        assertFalse("Not open", breaker.at(startTime).incrementAndCheckState());
+        assertTrue("Closed", breaker.isOpen());
+    }
+
+    /**
+     * Tests that an open circuit breaker in striped mode does not close itself when the
+     * number of events received is over the threshold, and closes when it is under the
+     * threshold.
+     */
+    @Test
+    public void testStripedClosing() {
+        final EventCountCircuitBreakerTestImpl breaker = new EventCountCircuitBreakerTestImpl(OPENING_THRESHOLD,
+                10, TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS, true);
+        long startTime = 0;
+        breaker.at(startTime).open();
+        for (int i = 0; i <= CLOSING_THRESHOLD; i++) {
+            assertFalse("Not open", breaker.at(startTime).incrementAndCheckState());
+            startTime += 1000;
+        }
+        assertFalse("Closed in new interval", breaker.at(NANO_FACTOR + 1).incrementAndCheckState());
+        assertFalse("Closed at interval end", breaker.at(2 * NANO_FACTOR + 1).checkState());
+        assertTrue("Not closed after interval end", breaker.at(2 * NANO_FACTOR + 2)
+                .checkState());
+        assertTrue("Not closed at end", breaker.isClosed());
+    }
+
+    /**
+     * Tests that automatic state transitions in striped mode generate change events.
+     */
+    @Test
+    public void testStripedChangeEventsGeneratedByAutomaticTransitions() {
+        final EventCountCircuitBreakerTestImpl breaker = new EventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 2,
+                TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS, true);
+        final ChangeListener listener = new ChangeListener(breaker);
+        breaker.addChangeListener(listener);
+        long time = 0;
+        for (int i = 0; i <= OPENING_THRESHOLD; i++, time += 1000) {
+            breaker.at(time).incrementAndCheckState();
+        }
+        breaker.at(NANO_FACTOR + 1).checkState();
+        breaker.at(3 * NANO_FACTOR).checkState();
+        listener.verify(Boolean.TRUE, Boolean.FALSE);
+    }
+
+    /**
+     * Tests that concurrent events in striped mode open the circuit breaker once, at most an
+     * eighth of the threshold after it is exceeded, as the sum is not checked on every event.
+     *
+     * @throws InterruptedException so we don't have to catch it
+     */
+    @Test
+    public void testStripedConcurrentEvents() throws InterruptedException {
+        final int threshold = 10000;
+        final EventCountCircuitBreaker breaker = new EventCountCircuitBreaker(threshold, 1, TimeUnit.HOURS,
+                threshold, 1, TimeUnit.HOURS, true);
+        final ChangeListener listener = new ChangeListener(breaker);
+        breaker.addChangeListener(listener);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        latch.await();
+                    } catch (final InterruptedException iex) {
+                        return;
+                    }
+                    for (int j = 0; j < threshold / 4; j++) {
+                        breaker.incrementAndCheckState();
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        latch.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue("Open", breaker.isClosed());
+        int events = 0;
+        while (breaker.incrementAndCheckState()) {
+            events++;
+        }
+        assertTrue("Not open", breaker.isOpen());
+        assertTrue("Opened late: " + events, events < threshold / 8);
+        listener.verify(Boolean.TRUE);
+    }
+
     /**
      * A test implementation of {@code EventCountCircuitBreaker} which supports mocking the timer.
      * This is useful for the creation of deterministic tests for switching the circuit
@@ -337,6 +467,13 @@ public EventCountCircuitBreakerTestImpl(final int openingThreshold, final long o
                     closingInterval, closingUnit);
         }
 
+        public EventCountCircuitBreakerTestImpl(final int openingThreshold, final long openingInterval,
+                                                final TimeUnit openingUnit, final int closingThreshold, final long closingInterval,
+                                                final TimeUnit closingUnit, final boolean striped) {
+            super(openingThreshold, openingInterval, openingUnit, closingThreshold,
+                    closingInterval, closingUnit, striped);
+        }
+
         /**
          * Sets the current time to be used by this test object for the next operation.
          *
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.concurrent.ListenableFutureTask}.
+ */
+public class ListenableFutureTaskTest {
+
+    private static ListenableFutureTask<Integer> task(final Integer result) {
+        return new ListenableFutureTask<>(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                if (result == null) {
+                    throw new IllegalArgumentException("no result");
+                }
+                return result;
+            }
+        });
+    }
+
+    private static final Computable<Integer, String> TO_STRING = new Computable<Integer, String>() {
+        @Override
+        public String compute(final Integer arg) {
+            return "#" + arg;
+        }
+    };
+
+    @Test
+    public void testListenersRunOnCompletion() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final Runnable listener = new Runnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+            }
+        };
+        final ListenableFutureTask<Integer> task = task(1);
+        task.addListener(listener, ListenableFutureTask.DIRECT_EXECUTOR);
+        task.addListener(listener, ListenableFutureTask.DIRECT_EXECUTOR);
+        assertEquals(0, runs.get());
+        task.run();
+        assertEquals(2, runs.get());
+        task.addListener(listener, ListenableFutureTask.DIRECT_EXECUTOR);
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    public void testListenerRunsOnCancellation() {
+        final AtomicInteger runs = new AtomicInteger();
+        final ListenableFutureTask<Integer> task = task(1);
+        task.addListener(new Runnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+            }
+        }, ListenableFutureTask.DIRECT_EXECUTOR);
+        task.cancel(false);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void testRejectedListenerDoesNotStopOthers() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final Executor rejecting = new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                throw new RejectedExecutionException("shut down");
+            }
+        };
+        final ListenableFutureTask<Integer> task = task(1);
+        final ListenableFutureTask<String> next = task.then(TO_STRING, rejecting);
+        task.addListener(new Runnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+            }
+        }, ListenableFutureTask.DIRECT_EXECUTOR);
+        task.run();
+        assertEquals(Integer.valueOf(1), task.get());
+        assertEquals(1, runs.get());
+        assertTrue(next.isDone());
+        try {
+            next.get();
+            fail();
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    public void testThen() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final ListenableFutureTask<Integer> task = task(42);
+            final ListenableFutureTask<String> next = task.then(TO_STRING, executor);
+            assertFalse(next.isDone());
+            executor.execute(task);
+            assertEquals("#42", next.get(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testThenPropagatesFailure() throws Exception {
+        final ListenableFutureTask<Integer> task = task(null);
+        final ListenableFutureTask<String> next = task.then(TO_STRING, ListenableFutureTask.DIRECT_EXECUTOR);
+        task.run();
+        assertTrue(next.isDone());
+        try {
+            next.get();
+            fail();
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+            assertEquals("no result", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testThenPropagatesCancellation() throws Exception {
+        final ListenableFutureTask<Integer> task = task(1);
+        final ListenableFutureTask<String> next = task.then(TO_STRING, ListenableFutureTask.DIRECT_EXECUTOR);
+        task.cancel(false);
+        try {
+            next.get();
+            fail();
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof CancellationException);
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullListener() {
+        task(1).addListener(null, ListenableFutureTask.DIRECT_EXECUTOR);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullExecutor() {
+        task(1).then(TO_STRING, null);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Test class for SlidingWindowRateLimiter.
+ */
+public class SlidingWindowRateLimiterTest {
+
+    /**
+     * Tests creating a new instance.
+     */
+    @Test
+    public void testInit() {
+        final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, TimeUnit.SECONDS, 10);
+        assertEquals("Wrong period", 2, limiter.getPeriod());
+        assertEquals("Wrong unit", TimeUnit.SECONDS, limiter.getUnit());
+        assertEquals("Wrong limit", 10, limiter.getLimit());
+        assertEquals("Wrong available permits", 10, limiter.getAvailablePermits());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInitInvalidLimit() {
+        new SlidingWindowRateLimiter(1, TimeUnit.SECONDS, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTryAcquireMoreThanLimit() {
+        new SlidingWindowRateLimiter(1, TimeUnit.SECONDS, 10).tryAcquire(11);
+    }
+
+    /**
+     * Tests the limit within a period.
+     */
+    @Test
+    public void testLimit() {
+        final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, TimeUnit.HOURS, 5);
+        assertTrue(limiter.tryAcquire(3));
+        assertFalse(limiter.tryAcquire(3));
+        assertEquals(2, limiter.getAvailablePermits());
+        assertTrue(limiter.tryAcquire(2));
+        assertFalse(limiter.tryAcquire());
+        assertEquals(0, limiter.getAvailablePermits());
+    }
+
+    /**
+     * Tests that the permits of the previous period are released gradually, rather
+     * than all at once at the end of the period.
+     *
+     * @throws InterruptedException so we don't have to catch it
+     */
+    @Test
+    public void testSlidingWindow() throws InterruptedException {
+        final long period = 400;
+        final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(period, TimeUnit.MILLISECONDS, 10);
+        assertTrue(limiter.tryAcquire(10));
+        // a quarter into the next period three quarters of the previous count are still in the window
+        Thread.sleep(period * 5 / 4);
+        final int available = limiter.getAvailablePermits();
+        assertTrue("Available permits: " + available, available >= 1 && available <= 4);
+        assertFalse(limiter.tryAcquire(available + 2));
+        assertTrue(limiter.tryAcquire(available));
+    }
+
+    /**
+     * Tests that the count of the previous period is forgotten after two periods.
+     *
+     * @throws InterruptedException so we don't have to catch it
+     */
+    @Test
+    public void testIdlePeriods() throws InterruptedException {
+        final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(50, TimeUnit.MILLISECONDS, 4);
+        assertTrue(limiter.tryAcquire(4));
+        Thread.sleep(120);
+        assertEquals(4, limiter.getAvailablePermits());
+        assertTrue(limiter.tryAcquire(4));
+    }
+
+    /**
+     * Tests waiting for permits.
+     *
+     * @throws InterruptedException so we don't have to catch it
+     */
+    @Test
+    public void testTryAcquireTimeout() throws InterruptedException {
+        final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(100, TimeUnit.MILLISECONDS, 2);
+        assertTrue(limiter.tryAcquire(2));
+        assertFalse(limiter.tryAcquire(1, 0, TimeUnit.MILLISECONDS));
+        assertTrue(limiter.tryAcquire(1, 1, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Tests that concurrent threads get no more than the limit.
+     *
+     * @throws InterruptedException so we don't have to catch it
+     */
+    @Test
+    public void testConcurrentTryAcquire() throws InterruptedException {
+        final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, TimeUnit.HOURS, 100);
+        final AtomicInteger acquired = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        latch.await();
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < 100; j++) {
+                        if (limiter.tryAcquire()) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        latch.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(100, acquired.get());
+    }
+}
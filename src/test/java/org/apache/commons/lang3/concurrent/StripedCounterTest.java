@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.concurrent.StripedCounter}.
+ */
+public class StripedCounterTest {
+
+    @Test
+    public void testAddAndSum() {
+        final StripedCounter counter = new StripedCounter();
+        assertEquals(0, counter.sum());
+        counter.increment();
+        counter.add(41);
+        counter.add(-2);
+        assertEquals(40, counter.sum());
+        assertEquals("40", counter.toString());
+    }
+
+    @Test
+    public void testReset() {
+        final StripedCounter counter = new StripedCounter(3);
+        counter.add(5);
+        counter.reset();
+        assertEquals(0, counter.sum());
+        counter.add(7);
+        assertEquals(7, counter.sumThenReset());
+        assertEquals(0, counter.sum());
+    }
+
+    @Test
+    public void testCellCounts() {
+        for (final int cells : new int[] {1, 2, 3, 64, 65, Integer.MAX_VALUE}) {
+            final StripedCounter counter = new StripedCounter(cells);
+            counter.add(cells);
+            assertEquals(cells, counter.sum());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCellCount() {
+        new StripedCounter(0);
+    }
+
+    @Test
+    public void testConcurrentAdds() throws Exception {
+        final StripedCounter counter = new StripedCounter(4);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        for (int i = 0; i < 100000; i++) {
+                            counter.increment();
+                        }
+                        return null;
+                    }
+                });
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(800000, counter.sum());
+    }
+}
@@ -420,6 +420,71 @@ public void testTryAcquireAfterShutdown() {
         semaphore.tryAcquire();
     }
 
+    /**
+     * Tests a semaphore without a timer, whose periods end when it is used.
+     *
+     * @throws java.lang.InterruptedException so we don't have to catch it
+     */
+    @Test
+    public void testNoTimer() throws InterruptedException {
+        final TimedSemaphore semaphore = new TimedSemaphore(PERIOD / 2, UNIT, 2, false);
+        assertEquals("Wrong service", null, semaphore.getExecutorService());
+        assertTrue("Not acquired (1)", semaphore.tryAcquire());
+        assertTrue("Not acquired (2)", semaphore.tryAcquire());
+        assertFalse("Acquired over limit", semaphore.tryAcquire());
+        assertEquals("Wrong available count", 0, semaphore.getAvailablePermits());
+        Thread.sleep(PERIOD * 5 / 8);
+        assertEquals("Wrong acquire count", 0, semaphore.getAcquireCount());
+        assertEquals("Wrong last count", 2, semaphore.getLastAcquiresPerPeriod());
+        assertEquals("Wrong average", 2.0, semaphore.getAverageCallsPerPeriod(), .005);
+        assertTrue("Not acquired in new period", semaphore.tryAcquire());
+        semaphore.shutdown();
+        assertTrue("Not shutdown", semaphore.isShutdown());
+    }
+
+    /**
+     * Tests whether acquire() blocks until the end of the period if there is no
+     * timer.
+     *
+     * @throws java.lang.InterruptedException so we don't have to catch it
+     */
+    @Test
+    public void testNoTimerAcquireBlocks() throws InterruptedException {
+        final long start = System.nanoTime();
+        final TimedSemaphore semaphore = new TimedSemaphore(PERIOD / 5, UNIT, 1, false);
+        semaphore.acquire();
+        semaphore.acquire();
+        assertTrue("Not blocked", System.nanoTime() - start >= UNIT.toNanos(PERIOD / 5));
+        assertEquals("Wrong last count", 1, semaphore.getLastAcquiresPerPeriod());
+    }
+
+    /**
+     * Tests the tryAcquire() method of a semaphore without a timer with a bunch
+     * of threads.
+     *
+     * @throws java.lang.InterruptedException so we don't have to catch it
+     */
+    @Test
+    public void testNoTimerTryAcquire() throws InterruptedException {
+        final TimedSemaphore semaphore = new TimedSemaphore(PERIOD, TimeUnit.SECONDS, LIMIT, false);
+        final TryAcquireThread[] threads = new TryAcquireThread[3 * LIMIT];
+        final CountDownLatch latch = new CountDownLatch(1);
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new TryAcquireThread(semaphore, latch);
+            threads[i].start();
+        }
+
+        latch.countDown();
+        int permits = 0;
+        for (final TryAcquireThread t : threads) {
+            t.join();
+            if (t.acquired) {
+                permits++;
+            }
+        }
+        assertEquals("Wrong number of permits granted", LIMIT, permits);
+    }
+
     /**
      * A specialized implementation of {@code TimedSemaphore} that is easier to
      * test.
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Test class for TokenBucketRateLimiter.
+ */
+public class TokenBucketRateLimiterTest {
+
+    /**
+     * Tests creating a new instance.
+     */
+    @Test
+    public void testInit() {
+        final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, TimeUnit.SECONDS, 10, 5);
+        assertEquals("Wrong period", 1, limiter.getPeriod());
+        assertEquals("Wrong unit", TimeUnit.SECONDS, limiter.getUnit());
+        assertEquals("Wrong limit", 10, limiter.getLimit());
+        assertEquals("Wrong capacity", 5, limiter.getCapacity());
+        assertEquals("Wrong max permits", 5, limiter.getMaxPermits());
+        assertEquals("Bucket not full", 5, limiter.getAvailablePermits());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInitInvalidPeriod() {
+        new TokenBucketRateLimiter(0, TimeUnit.SECONDS, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInitInvalidLimit() {
+        new TokenBucketRateLimiter(1, TimeUnit.SECONDS, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInitInvalidCapacity() {
+        new TokenBucketRateLimiter(1, TimeUnit.SECONDS, 10, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTryAcquireMoreThanCapacity() {
+        new TokenBucketRateLimiter(1, TimeUnit.SECONDS, 10, 5).tryAcquire(6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTryAcquireNoPermits() {
+        new TokenBucketRateLimiter(1, TimeUnit.SECONDS, 10).tryAcquire(0);
+    }
+
+    /**
+     * Tests that a full bucket allows a burst up to its capacity, with uneven rates.
+     */
+    @Test
+    public void testBurst() {
+        final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, TimeUnit.HOURS, 3);
+        assertEquals(3, limiter.getAvailablePermits());
+        assertTrue(limiter.tryAcquire(2));
+        assertEquals(1, limiter.getAvailablePermits());
+        assertFalse(limiter.tryAcquire(2));
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(0, limiter.getAvailablePermits());
+    }
+
+    /**
+     * Tests that permits are refilled continuously.
+     *
+     * @throws InterruptedException so we don't have to catch it
+     */
+    @Test
+    public void testRefill() throws InterruptedException {
+        final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(200, TimeUnit.MILLISECONDS, 2);
+        assertTrue(limiter.tryAcquire(2));
+        assertFalse(limiter.tryAcquire());
+        Thread.sleep(150);
+        assertEquals(1, limiter.getAvailablePermits());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+
+    /**
+     * Tests waiting for permits.
+     *
+     * @throws InterruptedException so we don't have to catch it
+     */
+    @Test
+    public void testTryAcquireTimeout() throws InterruptedException {
+        final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, TimeUnit.MILLISECONDS, 1);
+        assertTrue(limiter.tryAcquire(1, 0, TimeUnit.MILLISECONDS));
+        // the next permit is 100 ms away
+        final long start = System.nanoTime();
+        assertFalse(limiter.tryAcquire(1, 10, TimeUnit.MILLISECONDS));
+        assertTrue("Waited for nothing", System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(limiter.tryAcquire(1, 1, TimeUnit.SECONDS));
+        assertTrue("Did not wait", System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(80));
+    }
+
+    /**
+     * Tests that concurrent threads get no more than the capacity.
+     *
+     * @throws InterruptedException so we don't have to catch it
+     */
+    @Test
+    public void testConcurrentTryAcquire() throws InterruptedException {
+        final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, TimeUnit.HOURS, 100);
+        final AtomicInteger acquired = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        latch.await();
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < 100; j++) {
+                        if (limiter.tryAcquire()) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        latch.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(100, acquired.get());
+    }
+}
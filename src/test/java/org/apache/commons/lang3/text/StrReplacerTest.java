@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link org.apache.commons.lang3.text.StrReplacer}.
+ */
+public class StrReplacerTest {
+
+    private static String replace(final String text, final String[] searchList, final String[] replacementList) {
+        return new StrReplacer(searchList, replacementList).replace(text);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testReplace() {
+        assertNull(replace(null, new String[]{"a"}, new String[]{"b"}));
+        assertEquals("", replace("", new String[]{"a"}, new String[]{"b"}));
+        assertEquals("aba", replace("aba", null, null));
+        assertEquals("aba", replace("aba", new String[0], null));
+        assertEquals("aba", replace("aba", new String[]{"a"}, null));
+        assertEquals("b", replace("aba", new String[]{"a"}, new String[]{""}));
+        assertEquals("aba", replace("aba", new String[]{null}, new String[]{"a"}));
+        assertEquals("aba", replace("aba", new String[]{""}, new String[]{"a"}));
+        assertEquals("aba", replace("aba", new String[]{"a"}, new String[]{null}));
+        assertEquals("cbc", replace("aba", new String[]{"a", "b"}, new String[]{"c", null}));
+        assertEquals("wcte", replace("abcde", new String[]{"ab", "d"}, new String[]{"w", "t"}));
+        assertEquals("dcte", replace("abcde", new String[]{"ab", "d"}, new String[]{"d", "t"}));
+        assertEquals("bcc", replace("abc", new String[]{"a", "b"}, new String[]{"b", "c"}));
+    }
+
+    @Test
+    public void testReplaceReturnsSameInstance() {
+        final String text = "xyz xyz";
+        assertSame(text, replace(text, new String[]{"a", "b"}, new String[]{"b", "c"}));
+    }
+
+    @Test
+    public void testLeftmostMatchWins() {
+        // the match starting first wins, even if it is longer and later in the list
+        assertEquals("Xd", replace("abcd", new String[]{"bc", "abc"}, new String[]{"Y", "X"}));
+        // matches starting at the same index: the first in the list wins
+        assertEquals("Yc", replace("abc", new String[]{"ab", "abc"}, new String[]{"Y", "X"}));
+        assertEquals("X", replace("abc", new String[]{"abc", "ab"}, new String[]{"X", "Y"}));
+        // duplicate search strings: the first wins
+        assertEquals("XX", replace("aa", new String[]{"a", "a"}, new String[]{"X", "Y"}));
+        // the search continues after the replaced text
+        assertEquals("Xa", replace("aaa", new String[]{"aa"}, new String[]{"X"}));
+        // a failed longer match does not hide a shorter one
+        assertEquals("aXcd", replace("abbcd", new String[]{"abbce", "bb"}, new String[]{"Y", "X"}));
+    }
+
+    @Test
+    public void testReplaceRepeatedly() {
+        final StrReplacer replacer = new StrReplacer(new String[]{"ab", "d"}, new String[]{"d", "t"});
+        assertNull(replacer.replaceRepeatedly(null));
+        assertEquals("", replacer.replaceRepeatedly(""));
+        assertEquals("tcte", replacer.replaceRepeatedly("abcde"));
+        assertEquals("wcte", new StrReplacer(new String[]{"ab", "d"}, new String[]{"w", "t"}).replaceRepeatedly("abcde"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReplaceRepeatedlyCircular() {
+        new StrReplacer(new String[]{"ab", "d"}, new String[]{"d", "ab"}).replaceRepeatedly("abcde");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLengthMismatch() {
+        new StrReplacer(new String[]{"a"}, new String[]{"b", "a"});
+    }
+
+    @Test
+    public void testSameAsReplaceEach() {
+        assertSameAsReplaceEach("abc");
+    }
+
+    @Test
+    public void testSameAsReplaceEachWithoutTable() {
+        // characters too large for the automaton to be compiled into a table
+        assertSameAsReplaceEach("a\u4e00\u4e01");
+    }
+
+    private static void assertSameAsReplaceEach(final String chars) {
+        // short texts, so that StringUtils scans the text for each search string
+        final Random random = new Random(42);
+        for (int n = 0; n < 10000; n++) {
+            final int length = 1 + random.nextInt(6);
+            final String[] searchList = new String[length];
+            final String[] replacementList = new String[length];
+            for (int i = 0; i < length; i++) {
+                searchList[i] = random.nextInt(20) == 0 ? null : random(random, chars, random.nextInt(4));
+                replacementList[i] = random.nextInt(20) == 0 ? null : random(random, chars + "xyz", random.nextInt(3));
+            }
+            final String text = random(random, chars, random.nextInt(30));
+            final StrReplacer replacer = new StrReplacer(searchList, replacementList);
+            assertEquals(StringUtils.replaceEach(text, searchList, replacementList), replacer.replace(text));
+            String expected;
+            try {
+                expected = StringUtils.replaceEachRepeatedly(text, searchList, replacementList);
+            } catch (final IllegalStateException e) {
+                expected = "circular";
+            }
+            String actual;
+            try {
+                actual = replacer.replaceRepeatedly(text);
+            } catch (final IllegalStateException e) {
+                actual = "circular";
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static String random(final Random random, final String chars, final int length) {
+        final StringBuilder buf = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            buf.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return buf.toString();
+    }
+}
@@ -21,6 +21,7 @@
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.Writer;
 
 import org.junit.Test;
 
@@ -48,4 +49,64 @@ public void testLang882() throws IOException {
         assertEquals("Incorrect value", "two", out.toString());
     }
 
+    @Test
+    public void testLongestMatch() throws IOException {
+        final LookupTranslator lt = new LookupTranslator(new CharSequence[][] {
+            { "a", "1" }, { "abc", "3" }, { "abcde", "5" }, { "b", "B" } });
+        assertEquals("3d", translate(lt, "abcd"));
+        assertEquals("5", translate(lt, "abcde"));
+        assertEquals("1Bx", translate(lt, "abx"));
+        assertEquals("x\u0100", translate(lt, "x\u0100"));
+        assertEquals("", translate(lt, ""));
+
+        final StringWriter out = new StringWriter();
+        assertEquals(0, lt.translate("xab", 0, out));
+        assertEquals(3, lt.translate("xabcd", 1, out));
+        assertEquals("3", out.toString());
+    }
+
+    @Test
+    public void testLaterEntryWins() throws IOException {
+        final LookupTranslator lt = new LookupTranslator(new CharSequence[][] { { "one", "two" }, { "one", "three" } });
+        assertEquals("three", translate(lt, "one"));
+    }
+
+    @Test
+    public void testNoLookup() throws IOException {
+        assertEquals("one", translate(new LookupTranslator(), "one"));
+        assertEquals("one", translate(new LookupTranslator((CharSequence[][]) null), "one"));
+    }
+
+    @Test
+    public void testEntityArrays() throws IOException {
+        final LookupTranslator escape = new LookupTranslator(EntityArrays.HTML40_EXTENDED_ESCAPE());
+        final LookupTranslator unescape = new LookupTranslator(EntityArrays.HTML40_EXTENDED_UNESCAPE());
+        for (final String[] entry : EntityArrays.HTML40_EXTENDED_ESCAPE()) {
+            assertEquals(entry[1], translate(escape, entry[0]));
+            assertEquals("x" + entry[0] + "y", translate(unescape, "x" + entry[1] + "y"));
+        }
+    }
+
+    @Test
+    public void testSubclassOverridingTranslate() throws IOException {
+        final LookupTranslator lt = new LookupTranslator(new CharSequence[][] { { "a", "A" } }) {
+            @Override
+            public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
+                if (input.charAt(index) == 'z') {
+                    out.write('Z');
+                    return 1;
+                }
+                return super.translate(input, index, out);
+            }
+        };
+        assertEquals("AbZ", lt.translate("abz"));
+        assertEquals("bZ", translate(lt, "bz"));
+    }
+
+    private static String translate(final LookupTranslator lt, final String input) throws IOException {
+        final StringWriter out = new StringWriter();
+        lt.translate(input, out);
+        return out.toString();
+    }
+
 }
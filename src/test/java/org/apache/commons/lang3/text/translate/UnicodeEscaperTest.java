@@ -19,6 +19,9 @@
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import org.junit.Test;
 
 /**
@@ -52,4 +55,19 @@ public void testAbove() {
         final String result = ue.translate(input);
         assertEquals("Failed to escape Unicode characters via the above method", "ADF\\u0047\\u005A", result);
     }
+
+    @Test
+    public void testSubclassOverridingTranslate() {
+        final UnicodeEscaper ue = new UnicodeEscaper(0, 0x7f, false) {
+            @Override
+            public boolean translate(final int codepoint, final Writer out) throws IOException {
+                if (codepoint == 'z') {
+                    out.write('Z');
+                    return true;
+                }
+                return super.translate(codepoint, out);
+            }
+        };
+        assertEquals("abZ\\u00E9", ue.translate("abz\u00e9"));
+    }
 }
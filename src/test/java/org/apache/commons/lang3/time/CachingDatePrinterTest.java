@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.text.FieldPosition;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.time.CachingDatePrinter}.
+ */
+public class CachingDatePrinterTest {
+
+    private static final String[] PATTERNS = {"yyyy-MM-dd HH:mm:ss,SSS", "S", "SS", "ss.SSSSS Z",
+        "HH:mm:ss", "SSS'Z' EEE SSS", "yyyy-MM-dd'T'HH:mm:ss.SSSZZ"};
+
+    @Test
+    public void testFormatMatchesFastDateFormat() {
+        final TimeZone[] zones = {TimeZone.getTimeZone("GMT"), TimeZone.getTimeZone("America/New_York"),
+            TimeZone.getTimeZone("Asia/Kolkata")};
+        final Random random = new Random(42);
+        for (final String pattern : PATTERNS) {
+            for (final TimeZone zone : zones) {
+                final CachingDatePrinter printer = new CachingDatePrinter(pattern, zone, Locale.US);
+                final FastDateFormat format = FastDateFormat.getInstance(pattern, zone, Locale.US);
+                long millis = -2000;
+                for (int i = 0; i < 3000; i++) {
+                    millis += i % 100 == 0 ? random.nextInt(100000000) : random.nextInt(400);
+                    assertEquals(pattern + " " + millis, format.format(millis), printer.format(millis));
+                }
+                // around DST changes, 2016-03-13 and 2016-11-06 in New York
+                for (final long start : new long[] {1457848800000L, 1478408400000L}) {
+                    for (millis = start; millis < start + 14400000L; millis += 999) {
+                        assertEquals(pattern + " " + millis, format.format(millis), printer.format(millis));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFormatVariants() {
+        final CachingDatePrinter printer = new CachingDatePrinter("yyyy-MM-dd HH:mm:ss.SSS", TimeZone.getTimeZone("GMT"), Locale.US);
+        final long millis = 1234567890123L;
+        final String expected = "2009-02-13 23:31:30.123";
+        assertEquals(expected, printer.format(millis));
+        assertEquals(expected, printer.format(new Date(millis)));
+        assertEquals(expected, printer.format(millis, new StringBuffer()).toString());
+        assertEquals(expected, printer.format(new Date(millis), new StringBuffer()).toString());
+        assertEquals(expected, printer.format(millis, new StringBuilder()).toString());
+        assertEquals(expected, printer.format(new Date(millis), new StringBuilder()).toString());
+        assertEquals(expected, printer.format(Long.valueOf(millis), new StringBuffer(), new FieldPosition(0)).toString());
+        final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
+        calendar.setTimeInMillis(millis);
+        assertEquals(expected, printer.format(calendar));
+        assertEquals(expected, printer.format(calendar, new StringBuilder()).toString());
+        assertEquals("1969-12-31 23:59:59.999", printer.format(-1L));
+        assertEquals("1970-01-01 00:00:00.000", printer.format(0L));
+    }
+
+    @Test
+    public void testAccessors() {
+        final TimeZone zone = TimeZone.getTimeZone("GMT");
+        final CachingDatePrinter printer = new CachingDatePrinter("HH:mm:ss.SSS", zone, Locale.FRANCE);
+        assertEquals("HH:mm:ss.SSS", printer.getPattern());
+        assertEquals(zone, printer.getTimeZone());
+        assertEquals(Locale.FRANCE, printer.getLocale());
+        assertTrue(printer.toString().startsWith("CachingDatePrinter["));
+        final CachingDatePrinter defaults = new CachingDatePrinter("HH:mm:ss.SSS", null, null);
+        assertEquals(TimeZone.getDefault(), defaults.getTimeZone());
+        assertEquals(Locale.getDefault(), defaults.getLocale());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormatUnknownClass() {
+        new CachingDatePrinter("HH:mm:ss.SSS", null, null).format("", new StringBuffer(), new FieldPosition(0));
+    }
+
+    @Test
+    public void testConcurrentFormatting() throws Exception {
+        final String pattern = "yyyy-MM-dd HH:mm:ss.SSS";
+        final CachingDatePrinter printer = new CachingDatePrinter(pattern, TimeZone.getTimeZone("GMT"), Locale.US);
+        final FastDateFormat format = FastDateFormat.getInstance(pattern, TimeZone.getTimeZone("GMT"), Locale.US);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Future<?>[] futures = new Future<?>[4];
+            for (int t = 0; t < futures.length; t++) {
+                final long seed = t;
+                futures[t] = executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        final Random random = new Random(seed);
+                        for (int i = 0; i < 20000; i++) {
+                            final long millis = 1450000000000L + random.nextInt(5000);
+                            assertEquals(format.format(millis), printer.format(millis));
+                        }
+                        return null;
+                    }
+                });
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -34,7 +34,9 @@
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.test.SystemDefaults;
 import org.apache.commons.lang3.test.SystemDefaultsSwitch;
@@ -1738,5 +1740,78 @@ private static void assertCalendarsEquals(final String message, final Calendar c
     public void testLANG799() throws ParseException {
         DateUtils.parseDateStrictly("09 abril 2008 23:55:38 GMT", new Locale("es"), new String[]{"dd MMM yyyy HH:mm:ss zzz"});
     }
-}
 
+    @Test
+    public void testModifyMillisMatchesCalendar() {
+        final String[] zoneIds = {"UTC", "GMT+05:30", "America/New_York", "Europe/London", "Australia/Lord_Howe",
+            "Asia/Kolkata", "America/Sao_Paulo", "Pacific/Apia", "Asia/Kathmandu", "Africa/Monrovia"};
+        final int[] fields = {Calendar.MILLISECOND, Calendar.SECOND, Calendar.MINUTE, Calendar.HOUR_OF_DAY,
+            Calendar.HOUR, Calendar.AM_PM, Calendar.DATE, Calendar.MONTH, DateUtils.SEMI_MONTH, Calendar.YEAR};
+        final Random random = new Random(18);
+        for (final String zoneId : zoneIds) {
+            final TimeZone zone = TimeZone.getTimeZone(zoneId);
+            for (int i = 0; i < 2250; i++) {
+                // random dates from 1900 to 2100, then dates in steps of about 5 hours through 2011
+                final long millis = i < 500 ? (long) ((random.nextDouble() * 200 - 70) * 365.25 * DateUtils.MILLIS_PER_DAY)
+                    : 1293840000000L + (i - 500) * 18000000L + random.nextInt(3600000);
+                final Calendar calendar = Calendar.getInstance(zone);
+                for (final int field : fields) {
+                    calendar.setTimeInMillis(millis);
+                    final String message = zoneId + " " + millis + " " + field;
+                    assertEquals(message, DateUtils.truncate(calendar, field).getTimeInMillis(),
+                        DateUtils.truncate(millis, field, zone));
+                    assertEquals(message, DateUtils.round(calendar, field).getTimeInMillis(),
+                        DateUtils.round(millis, field, zone));
+                    assertEquals(message, DateUtils.ceiling(calendar, field).getTimeInMillis(),
+                        DateUtils.ceiling(millis, field, zone));
+                }
+                for (final int fragment : new int[] {Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_YEAR, Calendar.DATE,
+                        Calendar.HOUR_OF_DAY, Calendar.MINUTE, Calendar.SECOND, Calendar.MILLISECOND}) {
+                    calendar.setTimeInMillis(millis);
+                    assertEquals(DateUtils.getFragmentInMilliseconds(calendar, fragment),
+                        DateUtils.getFragment(millis, fragment, TimeUnit.MILLISECONDS, zone));
+                    assertEquals(DateUtils.getFragmentInMinutes(calendar, fragment),
+                        DateUtils.getFragment(millis, fragment, TimeUnit.MINUTES, zone));
+                    assertEquals(DateUtils.getFragmentInDays(calendar, fragment),
+                        DateUtils.getFragment(millis, fragment, TimeUnit.DAYS, zone));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testModifyMillis() {
+        final TimeZone utc = TimeZone.getTimeZone("UTC");
+        // 2002-03-28 13:45:01.231 UTC
+        final long millis = 1017323101231L;
+        assertEquals(1017323100000L, DateUtils.truncate(millis, Calendar.MINUTE, utc));
+        assertEquals(1017323101000L, DateUtils.round(millis, Calendar.SECOND, utc));
+        assertEquals(1017324000000L, DateUtils.round(millis, Calendar.HOUR, utc));
+        assertEquals(1017324000000L, DateUtils.ceiling(millis, Calendar.HOUR_OF_DAY, utc));
+        assertEquals(1017273600000L, DateUtils.truncate(millis, Calendar.DATE, utc));
+        assertEquals(1017360000000L, DateUtils.round(millis, Calendar.DATE, utc));
+        assertEquals(1017316800000L, DateUtils.truncate(millis, Calendar.AM_PM, utc));
+        assertEquals(millis, DateUtils.ceiling(millis, Calendar.MILLISECOND, utc));
+        assertTrue(DateUtils.truncatedEquals(millis, 1017273600000L, Calendar.DATE, utc));
+        assertFalse(DateUtils.truncatedEquals(millis, 1017273600000L, Calendar.HOUR, utc));
+        assertTrue(DateUtils.truncatedCompareTo(millis, 1017273600000L, Calendar.HOUR, utc) > 0);
+        assertEquals(49501231L, DateUtils.getFragment(millis, Calendar.DATE, TimeUnit.MILLISECONDS, utc));
+        assertEquals(13L, DateUtils.getFragment(millis, Calendar.DATE, TimeUnit.HOURS, utc));
+        assertEquals(45L, DateUtils.getFragment(millis, Calendar.HOUR_OF_DAY, TimeUnit.MINUTES, utc));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncateMillisNullTimeZone() {
+        DateUtils.truncate(0L, Calendar.DATE, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncateMillisUnsupportedField() {
+        DateUtils.truncate(0L, Calendar.WEEK_OF_YEAR, TimeZone.getTimeZone("UTC"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetFragmentMillisUnsupportedFragment() {
+        DateUtils.getFragment(0L, Calendar.WEEK_OF_YEAR, TimeUnit.MILLISECONDS, TimeZone.getTimeZone("UTC"));
+    }
+}
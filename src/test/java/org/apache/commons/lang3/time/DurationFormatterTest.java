@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.time.DurationFormatter}.
+ */
+public class DurationFormatterTest {
+
+    private static final long DURATION = ((((3 * 24 + 4) * 60 + 5) * 60 + 6) * 1000L) + 7;
+
+    @Test
+    public void testFormat() {
+        assertEquals("3 4:05:06.007", new DurationFormatter("d H:mm:ss.SSS", true).format(DURATION));
+        assertEquals("3 4:5:6.007", new DurationFormatter("d H:m:s.S", false).format(DURATION));
+        assertEquals("76:05:06.007", new DurationFormatter("HH:mm:ss.SSS", true).format(DURATION));
+        assertEquals("0000-00 076h", new DurationFormatter("yyyy-MM HHH'h'", true).format(DURATION));
+        assertEquals("273906007", new DurationFormatter("S", true).format(DURATION));
+        assertEquals("00000273906", new DurationFormatter("sssssssssss", true).format(DURATION));
+        assertEquals("P3DT4H5M6.007S", new DurationFormatter("'P'd'DT'H'H'm'M's.S'S'", false).format(DURATION));
+        assertEquals("9223372036854775807", new DurationFormatter("S", false).format(Long.MAX_VALUE));
+        assertEquals("0", new DurationFormatter("S", false).format(0));
+        assertEquals("", new DurationFormatter("", true).format(DURATION));
+    }
+
+    @Test
+    public void testFormatMatchesDurationFormatUtils() {
+        final String[] formats = {"d H:mm:ss.SSS", "HH:mm:ss", "m's 'S", "s.SSSS", "'P'yyyy'Y'M'M'd'DT'H'H'm'M's.SSS'S'",
+            "d' days 'H' hours 'm' minutes 's' seconds'"};
+        for (final String format : formats) {
+            for (final boolean pad : new boolean[] {true, false}) {
+                final DurationFormatter formatter = new DurationFormatter(format, pad);
+                final StringBuilder buf = new StringBuilder();
+                for (long millis = 0; millis < 200000000000L; millis = millis * 3 + 7) {
+                    final String expected = DurationFormatUtils.format(DurationFormatUtils.lexx(format), 0, 0,
+                        millis / DateUtils.MILLIS_PER_DAY, millis / DateUtils.MILLIS_PER_HOUR % 24,
+                        millis / DateUtils.MILLIS_PER_MINUTE % 60, millis / 1000 % 60, millis % 1000, pad);
+                    if (format.indexOf('d') >= 0) {
+                        assertEquals(expected, formatter.format(millis));
+                    }
+                    buf.setLength(0);
+                    assertEquals(formatter.format(millis), formatter.format(millis, buf).toString());
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeDuration() {
+        new DurationFormatter("HH:mm", true).format(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnmatchedQuote() {
+        new DurationFormatter("HH 'text", true);
+    }
+
+    @Test
+    public void testAccessors() {
+        final DurationFormatter formatter = new DurationFormatter("HH:mm", true);
+        assertEquals("HH:mm", formatter.getFormat());
+        assertTrue(formatter.isPadWithZeros());
+        assertFalse(new DurationFormatter("HH:mm", false).isPadWithZeros());
+        assertEquals("DurationFormatter[HH:mm,padded]", formatter.toString());
+    }
+}
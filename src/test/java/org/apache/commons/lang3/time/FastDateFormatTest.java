@@ -16,6 +16,7 @@
  */
 package org.apache.commons.lang3.time;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
@@ -25,13 +26,17 @@
 
 import java.text.FieldPosition;
 import java.text.Format;
+import java.text.ParseException;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLongArray;
@@ -325,4 +330,116 @@ public void testLANG_1152() {
     public void testLANG_1267() throws Exception {
         FastDateFormat.getInstance("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
     }
+
+    @Test
+    public void testBoundedCacheEvictsUnusedFormats() {
+        final FormatCache<FastDateFormat> cache = new FormatCache<FastDateFormat>() {
+            @Override
+            protected FastDateFormat createInstance(final String pattern, final TimeZone timeZone, final Locale locale) {
+                return new FastDateFormat(pattern, timeZone, locale);
+            }
+        };
+        final TimeZone utc = TimeZone.getTimeZone("UTC");
+        cache.setMaximumSize(3);
+        assertEquals(3, cache.getMaximumSize());
+        final FastDateFormat used = cache.getInstance("yyyy", utc, Locale.US);
+        for (int i = 0; i < 10; i++) {
+            cache.getInstance("HH:mm 'x" + i + "'", utc, Locale.US);
+            assertSame(used, cache.getInstance("yyyy", utc, Locale.US));
+            assertTrue(cache.size() <= 3);
+        }
+        assertEquals(10, cache.getHitCount());
+        assertEquals(11, cache.getMissCount());
+        assertEquals(8, cache.getEvictionCount());
+
+        cache.setMaximumSize(1);
+        assertEquals(1, cache.size());
+        assertEquals(10, cache.getEvictionCount());
+
+        cache.setMaximumSize(0);
+        for (int i = 0; i < 10; i++) {
+            cache.getInstance("HH:mm 'x" + i + "'", utc, Locale.US);
+        }
+        assertEquals(11, cache.size());
+        assertEquals(10, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testCacheStatistics() {
+        final int maximumSize = FastDateFormat.getCacheMaximumSize();
+        try {
+            FastDateFormat.setCacheMaximumSize(10000);
+            assertEquals(10000, FastDateFormat.getCacheMaximumSize());
+            final long hits = FastDateFormat.getCacheHitCount();
+            final long misses = FastDateFormat.getCacheMissCount();
+            FastDateFormat.getInstance("'testCacheStatistics' yyyy");
+            FastDateFormat.getInstance("'testCacheStatistics' yyyy");
+            assertTrue(FastDateFormat.getCacheHitCount() > hits);
+            assertTrue(FastDateFormat.getCacheMissCount() > misses);
+            assertTrue(FastDateFormat.getCacheSize() > 0);
+            assertTrue(FastDateFormat.getCacheEvictionCount() >= 0);
+        } finally {
+            FastDateFormat.setCacheMaximumSize(maximumSize);
+        }
+    }
+
+    @Test
+    public void testBatchFormatAndParse() throws Exception {
+        final FastDateFormat format = FastDateFormat.getInstance("yyyy-MM-dd HH:mm:ss.SSS Z",
+            TimeZone.getTimeZone("America/New_York"), Locale.US);
+        final Random random = new Random(7);
+        final long[] millis = new long[5000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = (long) (random.nextDouble() * 4e12);
+        }
+        final String[] expected = new String[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            expected[i] = format.format(millis[i]);
+        }
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertArrayEquals(expected, format.format(millis));
+            assertArrayEquals(expected, format.format(millis, pool));
+            assertArrayEquals(millis, format.parse(expected));
+            assertArrayEquals(millis, format.parse(expected, pool));
+            assertEquals(0, format.format(new long[0]).length);
+            assertEquals(0, format.parse(new String[0], pool).length);
+        } finally {
+            pool.shutdown();
+        }
+
+        final long[] few = {millis[0], millis[1], millis[2]};
+        assertEquals(expected[0] + ", " + expected[1] + ", " + expected[2],
+            format.format(few, ", ", new StringBuilder()).toString());
+        assertEquals(expected[0] + expected[1] + expected[2], format.format(few, null, new StringBuilder()).toString());
+        final CharSequence[] builders = {new StringBuilder(expected[0]), new StringBuilder(expected[1])};
+        assertArrayEquals(new long[] {millis[0], millis[1]}, format.parse(builders));
+    }
+
+    @Test
+    public void testBatchParseReportsFirstFailure() throws Exception {
+        final FastDateFormat format = FastDateFormat.getInstance("yyyy-MM-dd", TimeZone.getTimeZone("GMT"), Locale.US);
+        final String[] sources = new String[3000];
+        Arrays.fill(sources, "2016-01-01");
+        sources[2500] = "2016-01-x2";
+        sources[1700] = "2016-xx-02";
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int sequential = 0; sequential < 2; sequential++) {
+                try {
+                    if (sequential == 0) {
+                        format.parse(sources, pool);
+                    } else {
+                        format.parse(sources);
+                    }
+                    fail();
+                } catch (final ParseException e) {
+                    assertEquals("Unparseable date: 2016-xx-02", e.getMessage());
+                    assertEquals(5, e.getErrorOffset());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -718,4 +718,61 @@ public void testDayNumberOfWeek() throws ParseException {
         calendar.setTime(parser.parse("7"));
         Assert.assertEquals(Calendar.SUNDAY, calendar.get(Calendar.DAY_OF_WEEK));
     }
+
+    @Test
+    public void testTextFieldsAreCaseInsensitiveAndLongestFirst() throws ParseException {
+        final DateParser parser = getInstance("dd MMM yyyy", GMT, Locale.US);
+        final Calendar cal = Calendar.getInstance(GMT, Locale.US);
+        cal.clear();
+        cal.set(2003, Calendar.FEBRUARY, 10);
+        Assert.assertEquals(cal.getTime(), parser.parse("10 FEBRUARY 2003"));
+        Assert.assertEquals(cal.getTime(), parser.parse("10 feb 2003"));
+        final ParsePosition pos = new ParsePosition(0);
+        Assert.assertNull(parser.parse("10 Febr 2003", pos));
+        Assert.assertEquals(6, pos.getErrorIndex());
+    }
+
+    @Test
+    public void testTimeZoneAlternatives() throws ParseException {
+        final DateParser parser = getInstance("yyyy-MM-dd HH:mm z", GMT, Locale.US);
+        final Calendar cal = Calendar.getInstance(GMT, Locale.US);
+        cal.clear();
+        cal.set(2003, Calendar.FEBRUARY, 10, 15, 0);
+        Assert.assertEquals(cal.getTime(), parser.parse("2003-02-10 15:00 GMT"));
+        Assert.assertEquals(cal.getTime(), parser.parse("2003-02-10 16:00 gmt+1:00"));
+        Assert.assertEquals(cal.getTime(), parser.parse("2003-02-10 20:30 GMT+05:30"));
+        Assert.assertEquals(cal.getTime(), parser.parse("2003-02-10 10:00 -0500"));
+        Assert.assertEquals(cal.getTime(), parser.parse("2003-02-10 10:00 EST"));
+        Assert.assertEquals(cal.getTime(), parser.parse("2003-02-10 10:00 eastern standard time"));
+    }
+
+    @Test
+    public void testIso8601TimeZones() throws ParseException {
+        final Calendar cal = Calendar.getInstance(GMT, Locale.US);
+        cal.clear();
+        cal.set(2003, Calendar.FEBRUARY, 10, 15, 0);
+        Assert.assertEquals(cal.getTime(), getInstance("yyyy-MM-dd HH:mmX", GMT).parse("2003-02-10 15:00Z"));
+        Assert.assertEquals(cal.getTime(), getInstance("yyyy-MM-dd HH:mmX", GMT).parse("2003-02-10 17:00+02"));
+        Assert.assertEquals(cal.getTime(), getInstance("yyyy-MM-dd HH:mmXX", GMT).parse("2003-02-10 13:30-0130"));
+        Assert.assertEquals(cal.getTime(), getInstance("yyyy-MM-dd HH:mmXXX", GMT).parse("2003-02-10 13:30-01:30"));
+        final ParsePosition pos = new ParsePosition(0);
+        Assert.assertNull(getInstance("yyyy-MM-dd HH:mmXXX", GMT).parse("2003-02-10 13:30-0130", pos));
+        Assert.assertEquals(16, pos.getErrorIndex());
+    }
+
+    @Test
+    public void testNumbers() throws ParseException {
+        final Calendar cal = Calendar.getInstance(GMT, Locale.US);
+        cal.clear();
+        cal.set(2015, Calendar.JULY, 4, 12, 34, 56);
+        cal.set(Calendar.MILLISECOND, 789);
+        Assert.assertEquals(cal.getTime(), getInstance("yyyyMMddHHmmssSSS", GMT).parse("20150704123456789"));
+        Assert.assertEquals(cal.getTime(), getInstance("yyyy-MM-dd'T'HH:mm:ss.SSS", GMT).parse("2015-07-04T12:34:56.789"));
+        try {
+            getInstance("S", GMT).parse("12345678901");
+            Assert.fail();
+        } catch (final NumberFormatException e) {
+            // the value does not fit in an int
+        }
+    }
 }
@@ -28,6 +28,7 @@
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 
 import org.apache.commons.lang3.SerializationUtils;
@@ -435,4 +436,40 @@ public void testDayNumberOfWeek() {
         calendar.set(Calendar.DAY_OF_WEEK, Calendar.SUNDAY);
         assertEquals("7", printer.format(calendar.getTime()));
     }
+
+    @Test
+    public void testFixedOffsetZonesMatchCalendarFormatting() {
+        final String[] patterns = {"yyyy-MM-dd'T'HH:mm:ss.SSSZZ", "yyyy-MM-dd HH:mm:ss.SSS Z", "yyMMddHHmmssSSS",
+            "G y M d D E EEEE MMM MMMM a h k K H m s S u", "yyyy-MM-dd'T'HH:mm:ssX", "dd/MM/yyyy HH:mmXXX"};
+        final TimeZone[] zones = {GMT, TimeZone.getTimeZone("UTC"), TimeZone.getTimeZone("GMT+05:30"),
+            TimeZone.getTimeZone("GMT-08:00"), TimeZone.getTimeZone("Etc/GMT+3")};
+        final Random random = new Random(1234);
+        for (final String pattern : patterns) {
+            for (final TimeZone zone : zones) {
+                final DatePrinter printer = getInstance(pattern, zone, Locale.US);
+                final Calendar calendar = Calendar.getInstance(zone, Locale.US);
+                long millis = 0;
+                for (int i = 0; i < 2000; i++) {
+                    // mostly close to the previous date, to exercise the cached day
+                    millis = i % 4 == 0 ? (long) ((random.nextDouble() - 0.5) * 2.6e13) : millis + random.nextInt(7200000);
+                    calendar.setTimeInMillis(millis);
+                    final String expected = printer.format(calendar);
+                    assertEquals(pattern + " " + zone.getID() + " " + millis, expected, printer.format(millis));
+                    assertEquals(expected, printer.format(new Date(millis)));
+                    assertEquals(expected, printer.format(millis, new StringBuilder()).toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFixedOffsetZoneBoundaries() {
+        final DatePrinter printer = getInstance("yyyy-MM-dd HH:mm:ss.SSS", GMT, Locale.US);
+        assertEquals("1970-01-01 00:00:00.000", printer.format(0L));
+        assertEquals("1969-12-31 23:59:59.999", printer.format(-1L));
+        assertEquals("2000-02-29 12:00:00.000", printer.format(951825600000L));
+        assertEquals("1600-01-01 00:00:00.000", printer.format(-11676096000000L));
+        assertEquals("1599-12-31 23:59:59.999", printer.format(-11676096000001L));
+        assertEquals("9999-12-31 23:59:59.999", printer.format(253402300799999L));
+    }
 }
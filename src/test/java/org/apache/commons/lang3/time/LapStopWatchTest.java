@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.time.LapStopWatch}.
+ */
+public class LapStopWatchTest {
+
+    @Test
+    public void testPercentiles() {
+        final LapStopWatch watch = new LapStopWatch();
+        for (long nanos = 1; nanos <= 100000; nanos++) {
+            watch.record(nanos * 1000);
+        }
+        assertEquals(100000, watch.getLapCount());
+        assertEquals(1000, watch.getMinNanoTime());
+        assertEquals(100000000, watch.getMaxNanoTime());
+        assertEquals(1000, watch.getPercentileNanoTime(0));
+        assertEquals(100000000, watch.getPercentileNanoTime(100));
+        assertEquals(50000500.0, watch.getMeanNanoTime(), 0.001);
+        assertEquals(5000050000000L, watch.getTotalNanoTime());
+        assertEquals(5000050, watch.getTotalTime(TimeUnit.MILLISECONDS));
+        for (final double percentile : new double[] {1, 10, 50, 90, 99, 99.9}) {
+            final double exact = percentile * 1000000;
+            final long estimate = watch.getPercentileNanoTime(percentile);
+            assertTrue(percentile + " " + estimate, estimate >= exact && estimate <= exact * 1.032);
+        }
+    }
+
+    @Test
+    public void testBuckets() {
+        assertEquals(0, LapStopWatch.bucketOf(0));
+        assertEquals(31, LapStopWatch.bucketOf(31));
+        assertEquals(32, LapStopWatch.bucketOf(32));
+        assertEquals(Long.MAX_VALUE, LapStopWatch.upperBoundOf(LapStopWatch.bucketOf(Long.MAX_VALUE)));
+        long previous = -1;
+        for (int bucket = 0; bucket <= LapStopWatch.bucketOf(Long.MAX_VALUE); bucket++) {
+            final long upper = LapStopWatch.upperBoundOf(bucket);
+            assertTrue(upper > previous);
+            assertEquals(bucket, LapStopWatch.bucketOf(upper));
+            assertEquals(bucket, LapStopWatch.bucketOf(previous + 1));
+            previous = upper;
+        }
+    }
+
+    @Test
+    public void testMerge() {
+        final LapStopWatch first = new LapStopWatch();
+        final LapStopWatch second = new LapStopWatch();
+        for (int i = 0; i < 100; i++) {
+            first.record(10);
+            second.record(1000);
+        }
+        first.merge(second);
+        assertEquals(200, first.getLapCount());
+        assertEquals(10, first.getMinNanoTime());
+        assertEquals(1000, first.getMaxNanoTime());
+        assertEquals(10, first.getPercentileNanoTime(50));
+        assertTrue(first.getPercentileNanoTime(51) >= 1000);
+        assertEquals(101000, first.getTotalNanoTime());
+        assertEquals(100, second.getLapCount());
+    }
+
+    @Test
+    public void testLaps() throws InterruptedException {
+        final LapStopWatch watch = LapStopWatch.createStarted();
+        assertTrue(watch.isStarted());
+        Thread.sleep(5);
+        final long first = watch.lap();
+        assertTrue(first >= TimeUnit.MILLISECONDS.toNanos(5));
+        final long second = watch.stop();
+        assertFalse(watch.isStarted());
+        assertEquals(2, watch.getLapCount());
+        assertEquals(first + second, watch.getTotalNanoTime());
+        assertEquals(Math.max(first, second), watch.getMaxNanoTime());
+        assertTrue(watch.toString().startsWith("laps=2, p50="));
+        watch.start();
+        watch.stop();
+        assertEquals(3, watch.getLapCount());
+        watch.reset();
+        assertFalse(watch.isStarted());
+        assertEquals(0, watch.getLapCount());
+        assertEquals(0, watch.getMinNanoTime());
+        assertEquals(0, watch.getMaxNanoTime());
+        assertEquals(0, watch.getPercentileNanoTime(50));
+        assertEquals(0.0, watch.getMeanNanoTime(), 0.0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStartTwice() {
+        LapStopWatch.createStarted().start();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testLapNotStarted() {
+        new LapStopWatch().lap();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRecordNegative() {
+        new LapStopWatch().record(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPercentileOutOfRange() {
+        new LapStopWatch().getPercentileNanoTime(100.5);
+    }
+}
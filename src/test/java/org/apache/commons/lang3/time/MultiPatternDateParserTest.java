@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.time.MultiPatternDateParser}.
+ */
+public class MultiPatternDateParserTest {
+
+    private static final String[] PATTERNS = {"yyyy'-'DDD", "yyyy'-'MM'-'dd", "yyyyMMdd"};
+
+    @Test
+    public void testParse() throws Exception {
+        final MultiPatternDateParser parser = new MultiPatternDateParser(null, null, true, PATTERNS);
+        final Date expected = new GregorianCalendar(1972, 11, 3).getTime();
+        assertEquals(expected, parser.parse("1972-12-03"));
+        assertEquals(expected, parser.parse("1972-338"));
+        assertEquals(expected, parser.parse("19721203"));
+        // the same as DateUtils
+        for (final String str : new String[] {"1972-12-03", "1972-338", "19721203"}) {
+            assertEquals(DateUtils.parseDate(str, PATTERNS), parser.parse(str));
+        }
+    }
+
+    @Test
+    public void testLeniency() throws Exception {
+        final MultiPatternDateParser lenient = new MultiPatternDateParser(null, null, true, "yyyy-MM-dd");
+        assertEquals(new GregorianCalendar(1973, 0, 1).getTime(), lenient.parse("1972-12-32"));
+        final MultiPatternDateParser strict = new MultiPatternDateParser(null, null, false, "yyyy-MM-dd");
+        try {
+            strict.parse("1972-12-32");
+            fail();
+        } catch (final ParseException ex) {
+            assertEquals("Unable to parse the date: 1972-12-32", ex.getMessage());
+        }
+    }
+
+    @Test(expected = ParseException.class)
+    public void testParseNoMatch() throws Exception {
+        new MultiPatternDateParser(null, null, true, PATTERNS).parse("197212AB");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseNull() throws Exception {
+        new MultiPatternDateParser(null, null, true, PATTERNS).parse(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullPatterns() {
+        new MultiPatternDateParser(null, null, true, (String[]) null);
+    }
+
+    @Test
+    public void testAccessors() {
+        final TimeZone timeZone = TimeZone.getTimeZone("GMT");
+        final MultiPatternDateParser parser = new MultiPatternDateParser(timeZone, Locale.FRANCE, false, PATTERNS);
+        assertArrayEquals(PATTERNS, parser.getPatterns());
+        assertEquals(timeZone, parser.getTimeZone());
+        assertEquals(Locale.FRANCE, parser.getLocale());
+        assertFalse(parser.isLenient());
+        assertTrue(parser.toString().startsWith("MultiPatternDateParser["));
+        final MultiPatternDateParser defaults = new MultiPatternDateParser(null, null, true, PATTERNS);
+        assertEquals(TimeZone.getDefault(), defaults.getTimeZone());
+        assertEquals(Locale.getDefault(), defaults.getLocale());
+    }
+}
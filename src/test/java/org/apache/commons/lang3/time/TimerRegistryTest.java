@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.SortedMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests {@link org.apache.commons.lang3.time.TimerRegistry}.
+ */
+public class TimerRegistryTest {
+
+    @Test
+    public void testGetTimer() {
+        final TimerRegistry registry = new TimerRegistry();
+        final TimerRegistry.Timer timer = registry.getTimer("a");
+        assertSame(timer, registry.getTimer("a"));
+        assertEquals("a", timer.getName());
+        assertEquals(0, timer.getCount());
+        assertSame(timer, registry.remove("a"));
+        assertNull(registry.remove("a"));
+        assertNull(registry.remove(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetTimerNull() {
+        new TimerRegistry().getTimer(null);
+    }
+
+    @Test
+    public void testRecord() {
+        final TimerRegistry registry = new TimerRegistry();
+        final TimerRegistry.Timer timer = registry.getTimer("op");
+        timer.record(10);
+        timer.record(30);
+        timer.record(20);
+        assertEquals(3, timer.getCount());
+        assertEquals(60, timer.getTotalNanoTime());
+        assertEquals(30, timer.getMaxNanoTime());
+        final TimerRegistry.Snapshot snapshot = timer.snapshot();
+        assertEquals("op", snapshot.getName());
+        assertEquals(3, snapshot.getCount());
+        assertEquals(60, snapshot.getTotalNanoTime());
+        assertEquals(30, snapshot.getMaxNanoTime());
+        assertEquals(20.0, snapshot.getMeanNanoTime(), 0.0);
+        assertEquals(0, snapshot.getTotalTime(TimeUnit.MICROSECONDS));
+        assertEquals("op[count=3, mean=20ns, max=30ns]", snapshot.toString());
+        timer.record(0);
+        assertEquals(3, snapshot.getCount());
+        registry.reset();
+        assertEquals(0, timer.getCount());
+        assertEquals(0, timer.getTotalNanoTime());
+        assertEquals(0, timer.getMaxNanoTime());
+        assertEquals(0.0, timer.snapshot().getMeanNanoTime(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRecordNegative() {
+        new TimerRegistry().getTimer("op").record(-1);
+    }
+
+    @Test
+    public void testTiming() throws InterruptedException {
+        final TimerRegistry registry = new TimerRegistry();
+        final TimerRegistry.Timing timing = registry.start("op");
+        assertFalse(timing.isStopped());
+        Thread.sleep(20);
+        final long split = timing.split();
+        assertTrue(split >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(split, timing.getSplitNanoTime());
+        timing.suspend();
+        assertTrue(timing.isSuspended());
+        final long suspended = timing.getNanoTime();
+        Thread.sleep(50);
+        assertEquals(suspended, timing.getNanoTime());
+        timing.resume();
+        assertFalse(timing.isSuspended());
+        final long nanos = timing.stop();
+        assertTrue(timing.isStopped());
+        assertTrue(nanos >= suspended);
+        assertTrue(nanos < suspended + TimeUnit.MILLISECONDS.toNanos(50));
+        final TimerRegistry.Timer timer = timing.getTimer();
+        assertSame(registry.getTimer("op"), timer);
+        assertEquals(1, timer.getCount());
+        assertEquals(nanos, timer.getTotalNanoTime());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTimingStopTwice() {
+        final TimerRegistry.Timing timing = new TimerRegistry().start("op");
+        timing.stop();
+        timing.stop();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTimingSuspendTwice() {
+        final TimerRegistry.Timing timing = new TimerRegistry().start("op");
+        timing.suspend();
+        timing.suspend();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTimingResumeNotSuspended() {
+        new TimerRegistry().start("op").resume();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTimingNotSplit() {
+        new TimerRegistry().start("op").getSplitNanoTime();
+    }
+
+    @Test
+    public void testConcurrentTimings() throws Exception {
+        final TimerRegistry registry = new TimerRegistry();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Future<?>[] futures = new Future<?>[4];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        for (int i = 0; i < 50000; i++) {
+                            registry.getTimer(i % 2 == 0 ? "even" : "odd").record(i);
+                            registry.snapshot();
+                        }
+                        return null;
+                    }
+                });
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final SortedMap<String, TimerRegistry.Snapshot> snapshots = registry.snapshot();
+        assertEquals("even", snapshots.firstKey());
+        assertEquals(100000, snapshots.get("even").getCount());
+        assertEquals(100000, snapshots.get("odd").getCount());
+        assertEquals(4L * 625000000, snapshots.get("odd").getTotalNanoTime());
+        assertEquals(49999, snapshots.get("odd").getMaxNanoTime());
+        assertEquals(49998, snapshots.get("even").getMaxNanoTime());
+    }
+}